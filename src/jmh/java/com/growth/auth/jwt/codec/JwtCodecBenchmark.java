@@ -0,0 +1,91 @@
+/**
+ * @description jjwt 경로와 고정 클레임 코덱(JwtCodec)의 토큰 발급/검증 비용 비교 벤치마크
+ * - 실행: ./gradlew jmh
+ * - 모든 인증 요청이 검증 경로를 타므로 decode 쪽 ns/op, gc.alloc.rate.norm 을 주로 비교
+ */
+
+package com.growth.auth.jwt.codec;
+
+import com.growth.auth.jwt.domain.EncodedToken;
+import com.growth.auth.jwt.domain.TokenType;
+import com.growth.auth.jwt.domain.UserIdentity;
+import com.growth.auth.jwt.domain.VerifiedToken;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtCodecBenchmark {
+
+  // NOTE: application.yml 의 기본 jwt.secret 과 같은 길이(HS256)의 키
+  private static final String SECRET = "PHNHLG1nm+wTX2Ktwi/0OsFwiBKS6vIek+uOtnAe1/k=";
+
+  private SecretKey key;
+  private JwtParser jjwtParser;
+  private JwtCodec jwtCodec;
+
+  private UserIdentity userIdentity;
+  private Instant issuedAt;
+  private Instant expiresAt;
+  private String jjwtToken;
+  private EncodedToken encodedToken;
+
+  @Setup
+  public void setUp() {
+    key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+    jjwtParser = Jwts.parser().verifyWith(key).build();
+    jwtCodec = new JwtCodec(SECRET);
+
+    userIdentity = UserIdentity.of(UUID.randomUUID(), "benchmark@example.com");
+    issuedAt = Instant.now();
+    expiresAt = issuedAt.plus(1, ChronoUnit.DAYS);
+
+    // NOTE: 두 경로 모두 jjwt가 발급한 동일한 토큰을 검증
+    jjwtToken = jjwtGenerate();
+    encodedToken = EncodedToken.from(jjwtToken);
+  }
+
+  @Benchmark
+  public Claims jjwtParse() {
+    return jjwtParser.parseSignedClaims(jjwtToken).getPayload();
+  }
+
+  @Benchmark
+  public VerifiedToken codecDecode() {
+    return jwtCodec.decode(encodedToken);
+  }
+
+  @Benchmark
+  public String jjwtGenerate() {
+    return Jwts.builder()
+        .subject(userIdentity.getMemberId().toString())
+        .claim("email", userIdentity.getEmail())
+        .claim("type", TokenType.ACCESS.name())
+        .issuedAt(Date.from(issuedAt))
+        .expiration(Date.from(expiresAt))
+        .signWith(key)
+        .compact();
+  }
+
+  @Benchmark
+  public EncodedToken codecEncode() {
+    return jwtCodec.encode(userIdentity, TokenType.ACCESS, issuedAt, expiresAt);
+  }
+}
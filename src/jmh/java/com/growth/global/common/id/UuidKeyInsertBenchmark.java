@@ -0,0 +1,109 @@
+package com.growth.global.common.id;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * 랜덤 UUIDv4와 시간순 UUIDv7을 BINARY(16) 기본 키로 INSERT 할 때의 처리량 비교 벤치마크
+ * - 실행: ./gradlew jmh
+ * - 테이블에 prefilledRows 만큼 미리 채운 뒤, 1,000건 batch INSERT + commit 을 반복 (결과는 행 단위 ops/s)
+ * - 기본은 H2 in-memory, 실제 InnoDB 수치는 BENCHMARK_JDBC_URL(+ BENCHMARK_JDBC_USERNAME/PASSWORD)로 MySQL을 지정해서 측정
+ *   (테이블이 buffer pool 보다 커지는 수백만 건 이상에서 v4 의 page split / 랜덤 I/O 차이가 커짐)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class UuidKeyInsertBenchmark {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    @Param({"V4_RANDOM", "V7_TIME_ORDERED"})
+    public KeyType keyType;
+
+    @Param({"1000000"})
+    public int prefilledRows;
+
+    private Connection connection;
+    private PreparedStatement insert;
+    private long sequence;
+
+    public enum KeyType {
+        V4_RANDOM(UUID::randomUUID),
+        V7_TIME_ORDERED(UuidV7Generator::generate);
+
+        private final Supplier<UUID> generator;
+
+        KeyType(Supplier<UUID> generator) {
+            this.generator = generator;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                Objects.requireNonNullElse(System.getenv("BENCHMARK_JDBC_URL"), "jdbc:h2:mem:uuid_benchmark;MODE=MySQL"),
+                Objects.requireNonNullElse(System.getenv("BENCHMARK_JDBC_USERNAME"), "sa"),
+                Objects.requireNonNullElse(System.getenv("BENCHMARK_JDBC_PASSWORD"), "")
+        );
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS uuid_key_benchmark");
+            statement.execute("""
+                    CREATE TABLE uuid_key_benchmark (
+                        id BINARY(16) NOT NULL PRIMARY KEY,
+                        seq BIGINT NOT NULL,
+                        payload VARCHAR(64) NOT NULL
+                    )""");
+        }
+        connection.commit();
+
+        insert = connection.prepareStatement("INSERT INTO uuid_key_benchmark (id, seq, payload) VALUES (?, ?, ?)");
+        // NOTE: 측정은 이미 커진 테이블에서 시작 (빈 테이블에서는 두 방식의 차이가 거의 없음)
+        for (int i = 0; i < prefilledRows; i += BATCH_SIZE) {
+            insertBatch();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS uuid_key_benchmark");
+        }
+        connection.commit();
+        insert.close();
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int[] insertBatch() throws SQLException {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            long seq = sequence++;
+            insert.setBytes(1, UuidBytes.toBytes(keyType.generator.get()));
+            insert.setLong(2, seq);
+            insert.setString(3, "member-" + seq + "@example.com");
+            insert.addBatch();
+        }
+        int[] result = insert.executeBatch();
+        connection.commit();
+        return result;
+    }
+}
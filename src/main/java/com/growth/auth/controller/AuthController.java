@@ -3,9 +3,14 @@ package com.growth.auth.controller;
 import com.growth.auth.dto.request.LoginRequestDto;
 import com.growth.auth.dto.response.LoginResponseDto;
 import com.growth.auth.dto.response.LoginResultDto;
+import com.growth.auth.dto.response.TokenResultDto;
 import com.growth.auth.service.AuthService;
+import com.growth.auth.throttle.LoginThrottle;
 import com.growth.auth.util.CookieUtil;
 import com.growth.global.common.response.ApiResponse;
+import com.growth.global.exception.BadRequestException;
+import com.growth.global.exception.GlobalExceptionHandler;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -20,17 +25,59 @@ import org.springframework.web.bind.annotation.RestController;
 public class AuthController {
   private final AuthService authService;
   private final CookieUtil cookieUtil;
+  private final LoginThrottle loginThrottle;
 
   @PostMapping("/api/auth/login")
   @ResponseStatus(HttpStatus.OK)
   public ApiResponse<LoginResponseDto> login(
     @Valid @RequestBody LoginRequestDto requestDto,
+    HttpServletRequest request,
     HttpServletResponse response
   ) {
+    // NOTE: DB 조회, BCrypt 검증 전에 이메일/클라이언트 주소별 시도 횟수 제한 (초과 시 429)
+    long remaining = loginThrottle.acquire(requestDto.email(), request.getRemoteAddr());
+    response.setHeader(GlobalExceptionHandler.RATE_LIMIT_REMAINING_HEADER, String.valueOf(remaining));
+
     LoginResultDto loginResult = authService.login(requestDto);
 
     cookieUtil.setTokenCookies(response, loginResult.accessToken(), loginResult.refreshToken());
 
     return ApiResponse.success(loginResult.loginResponseDto());
   }
+
+  @PostMapping("/api/auth/refresh")
+  @ResponseStatus(HttpStatus.OK)
+  public ApiResponse<String> refresh(
+    HttpServletRequest request,
+    HttpServletResponse response
+  ) {
+    String refreshToken = cookieUtil
+      .getRefreshTokenFromCookie(request)
+      .orElseThrow(() -> new BadRequestException("Refresh Token이 없습니다."));
+
+    TokenResultDto tokenResult = authService.refresh(refreshToken);
+
+    cookieUtil.setTokenCookies(response, tokenResult.accessToken(), tokenResult.refreshToken());
+
+    return ApiResponse.success("토큰이 재발급되었습니다.");
+  }
+
+  @PostMapping("/api/auth/logout")
+  @ResponseStatus(HttpStatus.OK)
+  public ApiResponse<String> logout(
+    HttpServletRequest request,
+    HttpServletResponse response
+  ) {
+    // NOTE: 인증 필터와 같은 순서(Authorization 헤더 -> 쿠키)로 Access Token을 찾아서 폐기
+    // - 헤더로 인증하는 클라이언트의 토큰이 로그아웃 후에도 exp까지 유효하게 남지 않도록
+    authService.logout(
+      cookieUtil.resolveAccessToken(request).orElse(null),
+      cookieUtil.getRefreshTokenFromCookie(request).orElse(null)
+    );
+
+    cookieUtil.deleteAccessTokenCookie(response);
+    cookieUtil.deleteRefreshTokenCookie(response);
+
+    return ApiResponse.success("로그아웃되었습니다.");
+  }
 }
@@ -0,0 +1,12 @@
+package com.growth.auth.dto.response;
+
+/**
+ * NOTE: Refresh Token rotation 이후 프레젠테이션 계층에서 쿠키에 기록할 토큰을 묶어 전달
+ *
+ * @param accessToken 쿠키/헤더에 기록할 JWT Access Token
+ * @param refreshToken 쿠키/헤더에 기록할 JWT Refresh Token
+ */
+public record TokenResultDto(
+  String accessToken,
+  String refreshToken
+) {}
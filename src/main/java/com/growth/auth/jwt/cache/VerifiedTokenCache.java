@@ -0,0 +1,124 @@
+/**
+ * @description 서명 검증이 끝난 JWT를 토큰 다이제스트 기준으로 보관하는 캐시 class
+ */
+
+package com.growth.auth.jwt.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.growth.auth.jwt.domain.EncodedToken;
+import com.growth.auth.jwt.domain.VerifiedToken;
+import com.growth.auth.jwt.key.SigningKeyRingChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+public class VerifiedTokenCache {
+
+  private static final String CACHE_NAME = "jwt.verified-token";
+
+  // NOTE: MessageDigest는 thread-safe 하지 않으므로 스레드별로 재사용
+  private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+    }
+  });
+
+  private final Cache<TokenDigest, VerifiedToken> cache;
+
+  public VerifiedTokenCache(
+    @Value("${jwt.verified-token-cache.maximum-size:10000}") long maximumSize,
+    @Value("${jwt.verified-token-cache.max-ttl:300000}") long maxTtlMillis,
+    MeterRegistry meterRegistry
+  ) {
+    this.cache = Caffeine.newBuilder()
+      .maximumSize(maximumSize)
+      .expireAfter(new TokenExpiry(TimeUnit.MILLISECONDS.toNanos(maxTtlMillis)))
+      .recordStats()
+      .build();
+
+    // NOTE: cache.gets(result=hit|miss), cache.evictions 등의 지표로 등록
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  /**
+   * 캐시에 검증 결과가 있으면 그대로 반환하고, 없으면 verifier로 검증한 뒤 캐시에 저장
+   * - 검증에 실패한 토큰(예외 발생)은 캐시에 저장되지 않음
+   * @param token 검증할 토큰
+   * @param verifier 서명 검증 및 클레임 파싱 함수
+   * @return 검증된 토큰 정보
+   */
+  public VerifiedToken get(EncodedToken token, Function<EncodedToken, VerifiedToken> verifier) {
+    return cache.get(digest(token), key -> verifier.apply(token));
+  }
+
+  /**
+   * 캐시된 검증 결과를 모두 제거
+   */
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  /**
+   * 서명 키 링이 바뀌면 폐기(RETIRED)된 키로 검증된 결과가 남지 않도록 캐시를 비움
+   */
+  @EventListener
+  public void onSigningKeyRingChanged(SigningKeyRingChangedEvent event) {
+    invalidateAll();
+  }
+
+  /**
+   * 히트/미스/eviction 통계
+   */
+  public CacheStats stats() {
+    return cache.stats();
+  }
+
+  // NOTE: 원본 토큰을 메모리에 들고 있지 않도록 SHA-256 다이제스트(32 bytes)를 키로 사용
+  private static TokenDigest digest(EncodedToken token) {
+    MessageDigest messageDigest = SHA_256.get();
+    ByteBuffer hash = ByteBuffer.wrap(messageDigest.digest(token.getValue().getBytes(StandardCharsets.US_ASCII)));
+    return new TokenDigest(hash.getLong(), hash.getLong(), hash.getLong(), hash.getLong());
+  }
+
+  private record TokenDigest(long h0, long h1, long h2, long h3) {}
+
+  /**
+   * 캐시 만료 시간을 토큰의 exp 까지 남은 시간과 maxTtl 중 작은 값으로 설정
+   * - 캐시가 토큰의 exp 보다 오래 살아남지 않도록 보장
+   */
+  private record TokenExpiry(long maxTtlNanos) implements Expiry<TokenDigest, VerifiedToken> {
+
+    @Override
+    public long expireAfterCreate(TokenDigest key, VerifiedToken value, long currentTime) {
+      long remainingMillis = value.getExpiresAt().toEpochMilli() - System.currentTimeMillis();
+      if (remainingMillis <= 0) {
+        return 0;
+      }
+      return Math.min(TimeUnit.MILLISECONDS.toNanos(remainingMillis), maxTtlNanos);
+    }
+
+    @Override
+    public long expireAfterUpdate(TokenDigest key, VerifiedToken value, long currentTime, long currentDuration) {
+      return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(TokenDigest key, VerifiedToken value, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
@@ -0,0 +1,58 @@
+/**
+ * @description 패딩 없는 base64url 세그먼트를 byte 배열의 일부 구간에서 바로 디코딩하는 class
+ * - 토큰 문자열을 세그먼트별 String으로 잘라내지 않기 위해 사용
+ */
+
+package com.growth.auth.jwt.codec;
+
+import java.util.Arrays;
+
+final class Base64Url {
+
+  private static final int[] DECODE_TABLE = new int[128];
+
+  static {
+    Arrays.fill(DECODE_TABLE, -1);
+    String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+    for (int i = 0; i < alphabet.length(); i++) {
+      DECODE_TABLE[alphabet.charAt(i)] = i;
+    }
+  }
+
+  private Base64Url() {
+  }
+
+  /**
+   * src[from, to) 구간을 디코딩
+   */
+  static byte[] decode(byte[] src, int from, int to) {
+    // NOTE: JWT는 패딩을 쓰지 않지만, 붙어 있으면 무시
+    while (to > from && src[to - 1] == '=') {
+      to--;
+    }
+    int length = to - from;
+    int remainder = length % 4;
+    if (remainder == 1) {
+      throw new IllegalArgumentException("JWT 형식이 올바르지 않습니다.");
+    }
+
+    byte[] out = new byte[length / 4 * 3 + (remainder == 0 ? 0 : remainder - 1)];
+    int bits = 0;
+    int bitCount = 0;
+    int outIndex = 0;
+    for (int i = from; i < to; i++) {
+      int c = src[i];
+      int value = c >= 0 && c < 128 ? DECODE_TABLE[c] : -1;
+      if (value < 0) {
+        throw new IllegalArgumentException("JWT 형식이 올바르지 않습니다.");
+      }
+      bits = (bits << 6) | value;
+      bitCount += 6;
+      if (bitCount >= 8) {
+        bitCount -= 8;
+        out[outIndex++] = (byte) (bits >> bitCount);
+      }
+    }
+    return out;
+  }
+}
@@ -0,0 +1,208 @@
+/**
+ * @description JWT header/payload 처럼 평평한(flat) JSON 객체를 UTF-8 byte 배열에서 바로 읽는 class
+ * - 필드 이름은 byte 비교로 매칭하므로 Map/문자열 키를 만들지 않음
+ * - 중첩 객체/배열은 값으로 읽지 않고 건너뜀
+ */
+
+package com.growth.auth.jwt.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+final class FlatJsonReader {
+
+  private final byte[] json;
+  private int position;
+  private int keyStart;
+  private int keyEnd;
+  private boolean first = true;
+
+  FlatJsonReader(byte[] json) {
+    this.json = json;
+    skipWhitespace();
+    expect('{');
+  }
+
+  /**
+   * 다음 필드로 이동 (키를 읽고 ':' 뒤에 위치)
+   * @return 더 이상 필드가 없으면 false
+   */
+  boolean nextField() {
+    skipWhitespace();
+    if (peek() == '}') {
+      position++;
+      return false;
+    }
+    if (!first) {
+      expect(',');
+      skipWhitespace();
+    }
+    first = false;
+
+    expect('"');
+    keyStart = position;
+    keyEnd = skipStringBody();
+    skipWhitespace();
+    expect(':');
+    skipWhitespace();
+    return true;
+  }
+
+  boolean fieldIs(byte[] name) {
+    return Arrays.equals(json, keyStart, keyEnd, name, 0, name.length);
+  }
+
+  String stringValue() {
+    expect('"');
+    int start = position;
+    StringBuilder builder = null;
+    int segmentStart = start;
+    while (true) {
+      byte b = next();
+      if (b == '"') {
+        if (builder == null) {
+          return new String(json, start, position - 1 - start, StandardCharsets.UTF_8);
+        }
+        builder.append(new String(json, segmentStart, position - 1 - segmentStart, StandardCharsets.UTF_8));
+        return builder.toString();
+      }
+      if (b == '\\') {
+        if (builder == null) {
+          builder = new StringBuilder();
+        }
+        builder.append(new String(json, segmentStart, position - 1 - segmentStart, StandardCharsets.UTF_8));
+        builder.append(unescape());
+        segmentStart = position;
+      }
+    }
+  }
+
+  long longValue() {
+    boolean negative = peek() == '-';
+    if (negative) {
+      position++;
+    }
+    int start = position;
+    long value = 0;
+    while (position < json.length && json[position] >= '0' && json[position] <= '9') {
+      value = Math.multiplyExact(value, 10) + (json[position++] - '0');
+    }
+    if (position == start) {
+      throw invalid();
+    }
+    // NOTE: NumericDate는 소수점을 허용하므로 소수부는 버림 (지수 표기는 허용하지 않음)
+    if (position < json.length && json[position] == '.') {
+      position++;
+      while (position < json.length && json[position] >= '0' && json[position] <= '9') {
+        position++;
+      }
+    }
+    return negative ? -value : value;
+  }
+
+  void skipValue() {
+    byte b = peek();
+    if (b == '"') {
+      position++;
+      skipStringBody();
+      return;
+    }
+    if (b == '{' || b == '[') {
+      int depth = 0;
+      do {
+        byte c = next();
+        if (c == '"') {
+          skipStringBody();
+        } else if (c == '{' || c == '[') {
+          depth++;
+        } else if (c == '}' || c == ']') {
+          depth--;
+        }
+      } while (depth > 0);
+      return;
+    }
+    // NOTE: 숫자, true, false, null
+    while (position < json.length) {
+      byte c = json[position];
+      if (c == ',' || c == '}' || c == ' ' || c == '\t' || c == '\r' || c == '\n') {
+        return;
+      }
+      position++;
+    }
+  }
+
+  /**
+   * 여는 따옴표 다음 위치에서 시작해 닫는 따옴표 다음으로 이동
+   * @return 닫는 따옴표 위치 (문자열 본문의 끝)
+   */
+  private int skipStringBody() {
+    while (true) {
+      byte b = next();
+      if (b == '"') {
+        return position - 1;
+      }
+      if (b == '\\') {
+        next();
+      }
+    }
+  }
+
+  private char unescape() {
+    byte b = next();
+    return switch (b) {
+      case '"' -> '"';
+      case '\\' -> '\\';
+      case '/' -> '/';
+      case 'b' -> '\b';
+      case 'f' -> '\f';
+      case 'n' -> '\n';
+      case 'r' -> '\r';
+      case 't' -> '\t';
+      case 'u' -> {
+        int code = 0;
+        for (int i = 0; i < 4; i++) {
+          int digit = Character.digit(next(), 16);
+          if (digit < 0) {
+            throw invalid();
+          }
+          code = (code << 4) | digit;
+        }
+        yield (char) code;
+      }
+      default -> throw invalid();
+    };
+  }
+
+  private void skipWhitespace() {
+    while (position < json.length) {
+      byte b = json[position];
+      if (b != ' ' && b != '\t' && b != '\r' && b != '\n') {
+        return;
+      }
+      position++;
+    }
+  }
+
+  private void expect(char expected) {
+    if (next() != expected) {
+      throw invalid();
+    }
+  }
+
+  private byte peek() {
+    if (position >= json.length) {
+      throw invalid();
+    }
+    return json[position];
+  }
+
+  private byte next() {
+    byte b = peek();
+    position++;
+    return b;
+  }
+
+  private static IllegalArgumentException invalid() {
+    return new IllegalArgumentException("JWT 형식이 올바르지 않습니다.");
+  }
+}
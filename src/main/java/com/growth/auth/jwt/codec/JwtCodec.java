@@ -0,0 +1,251 @@
+/**
+ * @description sub, email, type, jti, fam, iat, exp 고정 클레임만 다루는 JWT(HS256/384/512) 인코더/디코더 class
+ * - jjwt의 범용 빌더/Claims Map(Jackson)을 거치지 않고 base64url 세그먼트를 직접 읽고 쓴다
+ * - jjwt가 발급한 토큰과 서로 호환된다 (header: {"alg":"HS256","kid":"..."}, NumericDate: 초 단위)
+ * - 서명은 키 링의 ACTIVE 키, 검증은 헤더 kid에 해당하는 키로 수행
+ */
+
+package com.growth.auth.jwt.codec;
+
+import com.growth.auth.jwt.domain.EncodedToken;
+import com.growth.auth.jwt.domain.TokenType;
+import com.growth.auth.jwt.domain.UserIdentity;
+import com.growth.auth.jwt.domain.VerifiedToken;
+import com.growth.auth.jwt.key.SigningKey;
+import com.growth.auth.jwt.key.SigningKeyRing;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.UUID;
+import javax.crypto.Mac;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Component
+public class JwtCodec {
+
+  private static final Base64.Encoder BASE64_URL_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+  private static final byte[] ALG = ascii("alg");
+  private static final byte[] CRIT = ascii("crit");
+  private static final byte[] ZIP = ascii("zip");
+  private static final byte[] SUB = ascii("sub");
+  private static final byte[] EMAIL = ascii("email");
+  private static final byte[] TYPE = ascii("type");
+  private static final byte[] JTI = ascii("jti");
+  private static final byte[] FAM = ascii("fam");
+  private static final byte[] IAT = ascii("iat");
+  private static final byte[] EXP = ascii("exp");
+  private static final byte[] NBF = ascii("nbf");
+  private static final byte[] KID = ascii("kid");
+
+  // NOTE: kid별 키와 준비된 Mac은 키 링이 보관 (키마다 한 번만 생성)
+  private final SigningKeyRing signingKeyRing;
+
+  @Autowired
+  public JwtCodec(SigningKeyRing signingKeyRing) {
+    this.signingKeyRing = signingKeyRing;
+  }
+
+  public JwtCodec(String secret) {
+    this(secret.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public JwtCodec(byte[] secret) {
+    this(SigningKeyRing.single(secret));
+  }
+
+  public String getAlgorithm() {
+    return signingKeyRing.activeKey().getAlgorithm();
+  }
+
+  /**
+   * 고정 클레임으로 서명된 토큰 생성 (jti, fam 없음)
+   */
+  public EncodedToken encode(UserIdentity userIdentity, TokenType tokenType, Instant issuedAt, Instant expiresAt) {
+    return encode(userIdentity, tokenType, null, null, issuedAt, expiresAt);
+  }
+
+  /**
+   * 고정 클레임으로 서명된 토큰 생성
+   * - payload 클레임 순서: sub, email, type, jti, fam, iat, exp (null인 클레임은 생략)
+   * @param tokenId 토큰 ID (jti)
+   * @param familyId Refresh Token 패밀리 ID (fam) - 같은 로그인에서 rotation 된 토큰들이 공유
+   */
+  public EncodedToken encode(
+    UserIdentity userIdentity,
+    TokenType tokenType,
+    String tokenId,
+    String familyId,
+    Instant issuedAt,
+    Instant expiresAt
+  ) {
+    StringBuilder payload = new StringBuilder(224)
+      .append("{\"sub\":\"").append(userIdentity.getMemberId()).append('"');
+    if (userIdentity.getEmail() != null) {
+      payload.append(",\"email\":");
+      appendJsonString(payload, userIdentity.getEmail());
+    }
+    payload.append(",\"type\":\"").append(tokenType.name()).append('"');
+    if (tokenId != null) {
+      payload.append(",\"jti\":");
+      appendJsonString(payload, tokenId);
+    }
+    if (familyId != null) {
+      payload.append(",\"fam\":");
+      appendJsonString(payload, familyId);
+    }
+    payload
+      .append(",\"iat\":").append(issuedAt.getEpochSecond())
+      .append(",\"exp\":").append(expiresAt.getEpochSecond())
+      .append('}');
+
+    // NOTE: 현재 ACTIVE 키로 서명 (헤더에 kid 포함)
+    SigningKey key = signingKeyRing.activeKey();
+    String signingInput = key.getEncodedHeader() + '.' + base64Url(payload.toString().getBytes(StandardCharsets.UTF_8));
+    byte[] signature = key.mac().doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+
+    return EncodedToken.from(signingInput + '.' + base64Url(signature));
+  }
+
+  /**
+   * 서명과 만료 시간을 검증한 뒤 고정 클레임만 읽어서 반환
+   * @throws IllegalArgumentException 형식이 잘못되었거나, 서명이 일치하지 않거나, 만료된 경우
+   */
+  public VerifiedToken decode(EncodedToken token) {
+    return decode(token, Instant.now());
+  }
+
+  VerifiedToken decode(EncodedToken token, Instant now) {
+    String value = token.getValue();
+    int firstDot = value.indexOf('.');
+    int secondDot = firstDot < 0 ? -1 : value.indexOf('.', firstDot + 1);
+    if (firstDot <= 0 || secondDot < 0 || value.indexOf('.', secondDot + 1) >= 0) {
+      throw new IllegalArgumentException("JWT 형식이 올바르지 않습니다.");
+    }
+    byte[] raw = value.getBytes(StandardCharsets.US_ASCII);
+
+    // NOTE: 1. header - kid로 검증 키를 찾고, alg가 그 키와 같은지 확인 (alg=none, 알고리즘 혼동 공격 방지)
+    SigningKey key = readHeader(Base64Url.decode(raw, 0, firstDot));
+
+    // NOTE: 2. 서명 검증 - payload를 해석하기 전에 먼저 검증
+    Mac instance = key.mac();
+    instance.update(raw, 0, secondDot);
+    byte[] expected = instance.doFinal();
+    byte[] actual = Base64Url.decode(raw, secondDot + 1, raw.length);
+    if (!MessageDigest.isEqual(expected, actual)) {
+      throw new IllegalArgumentException("JWT 서명이 일치하지 않습니다.");
+    }
+
+    // NOTE: 3. payload - 고정 클레임만 읽기
+    VerifiedToken verifiedToken = readPayload(Base64Url.decode(raw, firstDot + 1, secondDot), now);
+    if (!now.isBefore(verifiedToken.getExpiresAt())) {
+      throw new IllegalArgumentException("만료된 JWT 토큰입니다.");
+    }
+    return verifiedToken;
+  }
+
+  private SigningKey readHeader(byte[] header) {
+    FlatJsonReader reader = new FlatJsonReader(header);
+    String kid = null;
+    byte[] algorithm = null;
+    while (reader.nextField()) {
+      if (reader.fieldIs(ALG)) {
+        algorithm = reader.stringValue().getBytes(StandardCharsets.US_ASCII);
+      } else if (reader.fieldIs(KID)) {
+        kid = reader.stringValue();
+      } else if (reader.fieldIs(CRIT) || reader.fieldIs(ZIP)) {
+        throw new IllegalArgumentException("지원하지 않는 JWT 헤더입니다.");
+      } else {
+        reader.skipValue();
+      }
+    }
+
+    SigningKey key = signingKeyRing.verificationKey(kid);
+    if (algorithm == null || !Arrays.equals(algorithm, key.getAlgorithmBytes())) {
+      throw new IllegalArgumentException("지원하지 않는 JWT 알고리즘입니다.");
+    }
+    return key;
+  }
+
+  private VerifiedToken readPayload(byte[] payload, Instant now) {
+    FlatJsonReader reader = new FlatJsonReader(payload);
+    String subject = null;
+    String email = null;
+    String type = null;
+    String tokenId = null;
+    String familyId = null;
+    long issuedAt = -1;
+    long expiresAt = -1;
+
+    while (reader.nextField()) {
+      if (reader.fieldIs(SUB)) {
+        subject = reader.stringValue();
+      } else if (reader.fieldIs(EMAIL)) {
+        email = reader.stringValue();
+      } else if (reader.fieldIs(TYPE)) {
+        type = reader.stringValue();
+      } else if (reader.fieldIs(JTI)) {
+        tokenId = reader.stringValue();
+      } else if (reader.fieldIs(FAM)) {
+        familyId = reader.stringValue();
+      } else if (reader.fieldIs(IAT)) {
+        issuedAt = reader.longValue();
+      } else if (reader.fieldIs(EXP)) {
+        expiresAt = reader.longValue();
+      } else if (reader.fieldIs(NBF)) {
+        if (now.getEpochSecond() < reader.longValue()) {
+          throw new IllegalArgumentException("아직 사용할 수 없는 JWT 토큰입니다.");
+        }
+      } else {
+        reader.skipValue();
+      }
+    }
+
+    if (subject == null || type == null || expiresAt < 0) {
+      throw new IllegalArgumentException("JWT 필수 클레임이 없습니다.");
+    }
+
+    return VerifiedToken.builder()
+      .memberId(UUID.fromString(subject))
+      .email(email)
+      .tokenType(TokenType.valueOf(type))
+      .tokenId(tokenId)
+      .familyId(familyId)
+      .issuedAt(issuedAt < 0 ? null : Instant.ofEpochSecond(issuedAt))
+      .expiresAt(Instant.ofEpochSecond(expiresAt))
+      .build();
+  }
+
+  private static void appendJsonString(StringBuilder builder, String value) {
+    builder.append('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '"' -> builder.append("\\\"");
+        case '\\' -> builder.append("\\\\");
+        case '\n' -> builder.append("\\n");
+        case '\r' -> builder.append("\\r");
+        case '\t' -> builder.append("\\t");
+        default -> {
+          if (c < 0x20) {
+            builder.append(String.format("\\u%04x", (int) c));
+          } else {
+            builder.append(c);
+          }
+        }
+      }
+    }
+    builder.append('"');
+  }
+
+  private static String base64Url(byte[] bytes) {
+    return BASE64_URL_ENCODER.encodeToString(bytes);
+  }
+
+  private static byte[] ascii(String value) {
+    return value.getBytes(StandardCharsets.US_ASCII);
+  }
+}
@@ -0,0 +1,13 @@
+/**
+ * @description Access Token과 Refresh Token 한 쌍을 저장하는 class
+ */
+
+package com.growth.auth.jwt.domain;
+
+import lombok.Value;
+
+@Value(staticConstructor = "of")
+public class TokenPair {
+  EncodedToken accessToken;
+  EncodedToken refreshToken;
+}
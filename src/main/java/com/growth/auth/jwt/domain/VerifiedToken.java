@@ -0,0 +1,29 @@
+/**
+ * @description 서명 검증이 끝난 JWT의 클레임을 저장하는 class
+ */
+
+package com.growth.auth.jwt.domain;
+
+import java.time.Instant;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class VerifiedToken {
+  UUID memberId;
+  String email;
+  TokenType tokenType;
+  // NOTE: 토큰 ID (jti) - 이전 버전에서 발급된 토큰에는 없을 수 있음
+  String tokenId;
+  // NOTE: Refresh Token 패밀리 ID (fam) - Refresh Token에만 존재
+  String familyId;
+  Instant issuedAt;
+  Instant expiresAt;
+
+  // NOTE: 토큰에 담긴 사용자 정보만 UserIdentity로 변환
+  public UserIdentity toUserIdentity() {
+    return UserIdentity.of(memberId, email);
+  }
+}
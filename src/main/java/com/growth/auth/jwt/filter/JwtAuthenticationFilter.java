@@ -1,9 +1,11 @@
 package com.growth.auth.jwt.filter;
 
 import com.growth.auth.jwt.domain.EncodedToken;
+import com.growth.auth.jwt.domain.TokenType;
+import com.growth.auth.jwt.domain.VerifiedToken;
 import com.growth.auth.jwt.service.JwtService;
 import com.growth.auth.util.CookieUtil;
-import io.jsonwebtoken.Claims;
+import com.growth.global.security.AdminMembers;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -14,7 +16,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -28,8 +29,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
   private final JwtService jwtService;
   private final CookieUtil cookieUtil;
-  private static final String AUTHORIZATION_HEADER = "Authorization";
-  private static final String BEARER_PREFIX = "Bearer ";
+  private final AdminMembers adminMembers;
 
   @Override
   protected void doFilterInternal(
@@ -37,22 +37,33 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @NonNull HttpServletResponse response,
     @NonNull FilterChain filterChain
   ) throws ServletException, IOException {
-    String token = extractToken(request);
+    // NOTE: Authorization 헤더(Bearer)를 먼저 보고, 없으면 Access Token 쿠키 사용
+    String token = cookieUtil.resolveAccessToken(request).orElse(null);
 
     if (StringUtils.hasText(token)) {
       try {
         EncodedToken encodedToken = EncodedToken.from(token);
-        Claims claims = jwtService.getClaims(encodedToken);
-        
+        // NOTE: 검증된 토큰 캐시를 거치므로 반복 요청은 HMAC 검증/JSON 파싱을 건너뜀
+        VerifiedToken verifiedToken = jwtService.getVerifiedToken(encodedToken);
+
+        // NOTE: Refresh Token으로는 API에 접근할 수 없음 (재발급 용도로만 사용)
+        if (verifiedToken.getTokenType() != TokenType.ACCESS) {
+          throw new IllegalArgumentException("Access Token이 아닙니다.");
+        }
+
+        // NOTE: 로그아웃 등으로 폐기된 토큰 거부 - 대부분 Bloom filter에서 바로 통과하므로 DB 조회 없음
+        if (jwtService.isRevoked(verifiedToken)) {
+          throw new IllegalArgumentException("폐기된 토큰입니다.");
+        }
+
         // JWT에서 memberId 추출 (subject에 저장됨)
-        String memberIdStr = claims.getSubject();
-        UUID memberId = UUID.fromString(memberIdStr);
+        UUID memberId = verifiedToken.getMemberId();
 
-        // Authentication 객체 생성
+        // Authentication 객체 생성 (관리자로 설정된 회원은 ROLE_ADMIN 추가)
         Authentication authentication = new UsernamePasswordAuthenticationToken(
           memberId,
           null,
-          java.util.Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
+          adminMembers.authoritiesOf(memberId)
         );
 
         // SecurityContext에 인증 정보 설정
@@ -66,16 +77,5 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     filterChain.doFilter(request, response);
   }
-
-  private String extractToken(HttpServletRequest request) {
-    // 1. Authorization 헤더에서 토큰 추출 시도
-    String bearerToken = request.getHeader(AUTHORIZATION_HEADER);
-    if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(BEARER_PREFIX)) {
-      return bearerToken.substring(BEARER_PREFIX.length());
-    }
-    
-    // 2. 쿠키에서 Access Token 추출 시도
-    return cookieUtil.getAccessTokenFromCookie(request).orElse(null);
-  }
 }
 
@@ -3,7 +3,16 @@ package com.growth.auth.jwt.generator;
 import com.growth.auth.jwt.domain.UserIdentity;
 import com.growth.auth.jwt.domain.EncodedToken;
 import com.growth.auth.jwt.domain.TokenType;
+import java.time.Duration;
+import java.time.Instant;
 
 public interface JwtGenerator {
     EncodedToken generateToken(UserIdentity userIdentity, TokenType tokenType);
+
+    EncodedToken generateToken(UserIdentity userIdentity, TokenType tokenType, String tokenId, String familyId);
+
+    // NOTE: 만료 시각을 직접 지정 (rotation 된 Refresh Token은 패밀리의 만료 시각을 넘지 않도록)
+    EncodedToken generateToken(UserIdentity userIdentity, TokenType tokenType, String tokenId, String familyId, Instant expiresAt);
+
+    Duration getExpiration(TokenType tokenType);
 }
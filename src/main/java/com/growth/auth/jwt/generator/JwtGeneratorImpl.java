@@ -4,49 +4,54 @@
 
 package com.growth.auth.jwt.generator;
 
+import com.growth.auth.jwt.codec.JwtCodec;
 import com.growth.auth.jwt.domain.EncodedToken;
 import com.growth.auth.jwt.domain.TokenType;
 import com.growth.auth.jwt.domain.UserIdentity;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
-import java.nio.charset.StandardCharsets;
-import java.util.Date;
-import javax.crypto.SecretKey;
-import lombok.RequiredArgsConstructor;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
-@RequiredArgsConstructor
 public class JwtGeneratorImpl implements JwtGenerator {
 
-  @Value("${jwt.secret}")
-  private String secret;
+  // NOTE: jjwt 빌더 대신 고정 클레임 전용 코덱으로 서명 (jjwt와 wire 호환)
+  private final JwtCodec jwtCodec;
 
-  @Value("${jwt.access-token-expiration}")
-  private long accessTokenExpiration;
+  private final long accessTokenExpiration;
+
+  public JwtGeneratorImpl(
+    JwtCodec jwtCodec,
+    @Value("${jwt.access-token-expiration}") long accessTokenExpiration
+  ) {
+    this.jwtCodec = jwtCodec;
+    this.accessTokenExpiration = accessTokenExpiration;
+  }
 
   @Override
   public EncodedToken generateToken(UserIdentity userIdentity, TokenType tokenType) {
-    SecretKey key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
-    
+    // NOTE: 모든 토큰에 고유한 jti 부여 (패밀리 없음)
+    return generateToken(userIdentity, tokenType, UUID.randomUUID().toString(), null);
+  }
+
+  @Override
+  public EncodedToken generateToken(UserIdentity userIdentity, TokenType tokenType, String tokenId, String familyId) {
+    return generateToken(userIdentity, tokenType, tokenId, familyId, Instant.now().plus(getExpiration(tokenType)));
+  }
+
+  @Override
+  public EncodedToken generateToken(UserIdentity userIdentity, TokenType tokenType, String tokenId, String familyId, Instant expiresAt) {
+    return jwtCodec.encode(userIdentity, tokenType, tokenId, familyId, Instant.now(), expiresAt);
+  }
+
+  @Override
+  public Duration getExpiration(TokenType tokenType) {
     long expiration = tokenType == TokenType.ACCESS 
         ? accessTokenExpiration 
         : accessTokenExpiration * 7; // Refresh token은 7일 (임시)
 
-    Date now = new Date();
-    Date expiryDate = new Date(now.getTime() + expiration);
-
-    String token = Jwts.builder()
-        .subject(userIdentity.getMemberId().toString())
-        .claim("email", userIdentity.getEmail())
-        .claim("type", tokenType.name())
-        .issuedAt(now)
-        .expiration(expiryDate)
-        .signWith(key)
-        .compact();
-
-    return EncodedToken.from(token);
+    return Duration.ofMillis(expiration);
   }
 }
-
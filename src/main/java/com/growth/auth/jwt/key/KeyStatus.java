@@ -0,0 +1,14 @@
+/**
+ * @description 서명 키의 상태를 저장하는 enum
+ */
+
+package com.growth.auth.jwt.key;
+
+public enum KeyStatus {
+  // 새 토큰 서명 + 검증 (키 링에 하나만 존재)
+  ACTIVE,
+  // 검증만 가능 - 이전 키로 발급된 토큰이 만료될 때까지 유지
+  VERIFY_ONLY,
+  // 더 이상 검증하지 않음 - 이 키로 서명된 토큰은 모두 거부
+  RETIRED
+}
@@ -0,0 +1,97 @@
+/**
+ * @description kid 하나에 해당하는 HMAC 서명 키와, 미리 준비된 서명/검증 도구를 저장하는 class
+ * - 키 링이 만들어질 때 키마다 한 번만 생성되고, 요청마다 다시 만들지 않는다
+ */
+
+package com.growth.auth.jwt.key;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+public class SigningKey {
+
+  private final String kid;
+  private final KeyStatus status;
+  private final String algorithm;
+  private final byte[] algorithmBytes;
+  private final String encodedHeader;
+  private final SecretKey secretKey;
+
+  // NOTE: Mac은 thread-safe 하지 않으므로 스레드별로 한 번만 init 후 재사용
+  private final ThreadLocal<Mac> mac;
+
+  public SigningKey(String kid, byte[] secret, KeyStatus status) {
+    // NOTE: jjwt(Keys.hmacShaKeyFor)와 동일하게 키 길이로 알고리즘 결정
+    int bits = secret.length * 8;
+    if (bits >= 512) {
+      this.algorithm = "HS512";
+    } else if (bits >= 384) {
+      this.algorithm = "HS384";
+    } else if (bits >= 256) {
+      this.algorithm = "HS256";
+    } else {
+      throw new IllegalArgumentException("JWT 서명 키는 256bit 이상이어야 합니다.");
+    }
+    this.kid = kid;
+    this.status = status;
+    this.algorithmBytes = algorithm.getBytes(StandardCharsets.US_ASCII);
+
+    // NOTE: kid가 없는 키(jwt.secret 기본 키)는 기존과 같은 헤더 {"alg":"..."} 로 발급
+    String header = kid == null
+      ? "{\"alg\":\"" + algorithm + "\"}"
+      : "{\"alg\":\"" + algorithm + "\",\"kid\":\"" + kid + "\"}";
+    this.encodedHeader = Base64.getUrlEncoder().withoutPadding()
+      .encodeToString(header.getBytes(StandardCharsets.UTF_8));
+
+    String jcaAlgorithm = "HmacSHA" + algorithm.substring(2);
+    this.secretKey = new SecretKeySpec(secret.clone(), jcaAlgorithm);
+    this.mac = ThreadLocal.withInitial(() -> {
+      try {
+        Mac instance = Mac.getInstance(jcaAlgorithm);
+        instance.init(secretKey);
+        return instance;
+      } catch (GeneralSecurityException e) {
+        throw new IllegalStateException(jcaAlgorithm + " 알고리즘을 사용할 수 없습니다.", e);
+      }
+    });
+  }
+
+  public String getKid() {
+    return kid;
+  }
+
+  public KeyStatus getStatus() {
+    return status;
+  }
+
+  public String getAlgorithm() {
+    return algorithm;
+  }
+
+  public byte[] getAlgorithmBytes() {
+    return algorithmBytes;
+  }
+
+  public String getEncodedHeader() {
+    return encodedHeader;
+  }
+
+  public SecretKey getSecretKey() {
+    return secretKey;
+  }
+
+  /**
+   * 현재 스레드에 준비된 Mac 반환 (doFinal 후 자동으로 초기 상태로 돌아감)
+   */
+  public Mac mac() {
+    return mac.get();
+  }
+
+  public boolean canVerify() {
+    return status != KeyStatus.RETIRED;
+  }
+}
@@ -0,0 +1,205 @@
+/**
+ * @description JWT 서명 키 목록(kid -> SigningKey)을 관리하는 class
+ * - 새 토큰은 ACTIVE 키로 서명하고, 검증은 RETIRED가 아닌 모든 키로 수행
+ * - kid 헤더가 없는 토큰(키 링 도입 전 발급)은 jwt.secret 기본 키로 검증
+ * - jwt.key-ring.location 파일이 바뀌면 재시작 없이 다시 로드
+ *   -> 새 키를 ACTIVE, 이전 키를 VERIFY_ONLY로 두면 기존 세션은 만료 시점에 자연스럽게 교체되므로
+ *      모든 사용자가 한꺼번에 재로그인(BCrypt)하지 않음
+ *
+ * 키 링 파일 형식 (JSON):
+ * {
+ *   "legacyStatus": "VERIFY_ONLY",
+ *   "keys": [
+ *     { "kid": "2025-12", "secret": "...", "status": "ACTIVE" },
+ *     { "kid": "2025-11", "secret": "...", "status": "VERIFY_ONLY" }
+ *   ]
+ * }
+ */
+
+package com.growth.auth.jwt.key;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+@Slf4j
+@Component
+public class SigningKeyRing {
+
+  private static final Pattern KID_PATTERN = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+  private final byte[] defaultSecret;
+  private final Path location;
+  private final ObjectMapper objectMapper;
+  private final Consumer<SigningKeyRingChangedEvent> changeListener;
+
+  // NOTE: 요청 스레드는 volatile 읽기 한 번으로 불변 스냅샷을 얻고, 재로드는 스냅샷을 통째로 교체
+  private volatile Snapshot snapshot;
+  private FileTime loadedModifiedTime;
+
+  @Autowired
+  public SigningKeyRing(
+    @Value("${jwt.secret}") String secret,
+    @Value("${jwt.key-ring.location:}") String location,
+    ObjectMapper objectMapper,
+    ApplicationEventPublisher eventPublisher
+  ) {
+    this(
+      secret.getBytes(StandardCharsets.UTF_8),
+      StringUtils.hasText(location) ? Path.of(location) : null,
+      objectMapper,
+      eventPublisher::publishEvent
+    );
+  }
+
+  private SigningKeyRing(
+    byte[] defaultSecret,
+    Path location,
+    ObjectMapper objectMapper,
+    Consumer<SigningKeyRingChangedEvent> changeListener
+  ) {
+    this.defaultSecret = defaultSecret.clone();
+    this.location = location;
+    this.objectMapper = objectMapper;
+    this.changeListener = changeListener;
+    this.snapshot = Snapshot.single(new SigningKey(null, this.defaultSecret, KeyStatus.ACTIVE));
+
+    // NOTE: 시작 시 키 링 파일을 읽지 못하면 잘못된 키로 서명하지 않도록 기동 실패
+    if (location != null) {
+      this.snapshot = load();
+    }
+  }
+
+  /**
+   * jwt.secret 키 하나만 가진 키 링 (테스트, 벤치마크용)
+   */
+  public static SigningKeyRing single(byte[] secret) {
+    return new SigningKeyRing(secret, null, null, event -> {});
+  }
+
+  /**
+   * 새 토큰 서명에 사용할 키
+   */
+  public SigningKey activeKey() {
+    return snapshot.active();
+  }
+
+  /**
+   * 토큰 헤더의 kid로 검증 키 조회
+   * @param kid 토큰 헤더의 kid (없으면 null -> jwt.secret 기본 키)
+   * @throws IllegalArgumentException 모르는 kid이거나 폐기(RETIRED)된 키인 경우
+   */
+  public SigningKey verificationKey(String kid) {
+    Snapshot current = snapshot;
+    SigningKey key = kid == null ? current.legacy() : current.byKid().get(kid);
+    if (key == null) {
+      throw new IllegalArgumentException("알 수 없는 JWT 서명 키입니다.");
+    }
+    if (!key.canVerify()) {
+      throw new IllegalArgumentException("폐기된 JWT 서명 키입니다.");
+    }
+    return key;
+  }
+
+  /**
+   * 키 링 파일이 바뀌었으면 다시 로드
+   * - 파일 형식이 잘못되었으면 기존 키 링을 그대로 유지
+   */
+  @Scheduled(
+    fixedDelayString = "${jwt.key-ring.reload-interval:60000}",
+    initialDelayString = "${jwt.key-ring.reload-interval:60000}"
+  )
+  public synchronized void reload() {
+    if (location == null) {
+      return;
+    }
+    try {
+      if (Files.getLastModifiedTime(location).equals(loadedModifiedTime)) {
+        return;
+      }
+      snapshot = load();
+      log.info("JWT 서명 키 링 재로드 (active kid={}, keys={})", snapshot.active().getKid(), snapshot.byKid().keySet());
+      changeListener.accept(new SigningKeyRingChangedEvent(snapshot.active().getKid()));
+    } catch (IOException | RuntimeException e) {
+      log.error("JWT 서명 키 링 재로드 실패 - 기존 키 링 유지: {}", e.getMessage());
+    }
+  }
+
+  private Snapshot load() {
+    try {
+      FileTime modifiedTime = Files.getLastModifiedTime(location);
+      KeyRingFile file = objectMapper.readValue(location.toFile(), KeyRingFile.class);
+      Snapshot loaded = toSnapshot(file);
+      loadedModifiedTime = modifiedTime;
+      return loaded;
+    } catch (IOException e) {
+      throw new IllegalStateException("JWT 서명 키 링 파일을 읽을 수 없습니다: " + location, e);
+    }
+  }
+
+  private Snapshot toSnapshot(KeyRingFile file) {
+    Map<String, SigningKey> byKid = new HashMap<>();
+    SigningKey active = null;
+
+    for (KeyEntry entry : file.keys() == null ? List.<KeyEntry>of() : file.keys()) {
+      if (entry.kid() == null || !KID_PATTERN.matcher(entry.kid()).matches()) {
+        throw new IllegalStateException("kid 형식이 올바르지 않습니다: " + entry.kid());
+      }
+      if (entry.secret() == null || entry.status() == null) {
+        throw new IllegalStateException("secret, status는 필수입니다: " + entry.kid());
+      }
+      SigningKey key = new SigningKey(entry.kid(), entry.secret().getBytes(StandardCharsets.UTF_8), entry.status());
+      if (byKid.put(entry.kid(), key) != null) {
+        throw new IllegalStateException("kid가 중복되었습니다: " + entry.kid());
+      }
+      if (entry.status() == KeyStatus.ACTIVE) {
+        if (active != null) {
+          throw new IllegalStateException("ACTIVE 키는 하나만 둘 수 있습니다.");
+        }
+        active = key;
+      }
+    }
+
+    // NOTE: 파일에 ACTIVE 키가 없으면 jwt.secret 기본 키로 계속 서명
+    KeyStatus legacyStatus = file.legacyStatus() != null
+      ? file.legacyStatus()
+      : active == null ? KeyStatus.ACTIVE : KeyStatus.VERIFY_ONLY;
+    SigningKey legacy = new SigningKey(null, defaultSecret, legacyStatus);
+    if (active == null) {
+      if (legacyStatus != KeyStatus.ACTIVE) {
+        throw new IllegalStateException("서명에 사용할 ACTIVE 키가 없습니다.");
+      }
+      active = legacy;
+    } else if (legacyStatus == KeyStatus.ACTIVE) {
+      throw new IllegalStateException("ACTIVE 키는 하나만 둘 수 있습니다.");
+    }
+
+    return new Snapshot(Map.copyOf(byKid), legacy, active);
+  }
+
+  private record Snapshot(Map<String, SigningKey> byKid, SigningKey legacy, SigningKey active) {
+
+    static Snapshot single(SigningKey key) {
+      return new Snapshot(Map.of(), key, key);
+    }
+  }
+
+  record KeyRingFile(KeyStatus legacyStatus, List<KeyEntry> keys) {}
+
+  record KeyEntry(String kid, String secret, KeyStatus status) {}
+}
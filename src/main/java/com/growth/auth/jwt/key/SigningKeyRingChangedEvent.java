@@ -0,0 +1,8 @@
+/**
+ * @description 서명 키 링이 다시 로드되어 키 구성이 바뀌었을 때 발행되는 이벤트
+ * - 폐기(RETIRED)된 키로 검증된 결과가 캐시에 남지 않도록 검증 캐시를 비우는 데 사용
+ */
+
+package com.growth.auth.jwt.key;
+
+public record SigningKeyRingChangedEvent(String activeKid) {}
@@ -1,8 +1,11 @@
 package com.growth.auth.jwt.parser;
 
 import com.growth.auth.jwt.domain.EncodedToken;
+import com.growth.auth.jwt.domain.VerifiedToken;
 import io.jsonwebtoken.Claims;
 
 public interface JwtParser {
     Claims parseToken(EncodedToken token);
-}
\ No newline at end of file
+
+    VerifiedToken verify(EncodedToken token);
+}
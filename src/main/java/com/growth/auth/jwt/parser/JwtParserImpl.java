@@ -1,35 +1,46 @@
-/** 
+/**
  * @description JwtParser 인터페이스를 구현하는 class
  */
 
 package com.growth.auth.jwt.parser;
 
+import com.growth.auth.jwt.codec.JwtCodec;
 import com.growth.auth.jwt.domain.EncodedToken;
+import com.growth.auth.jwt.domain.VerifiedToken;
+import com.growth.auth.jwt.key.SigningKeyRing;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
-import java.nio.charset.StandardCharsets;
-import javax.crypto.SecretKey;
-import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
+import io.jsonwebtoken.ProtectedHeader;
 import org.springframework.stereotype.Component;
 
 @Component
-@RequiredArgsConstructor
 public class JwtParserImpl implements JwtParser {
 
-  @Value("${jwt.secret}")
-  private String secret;
+  // NOTE: jjwt 파서는 불변(thread-safe)이므로 빈 생성 시 한 번만 만들어 재사용
+  // - 검증 키는 토큰 헤더의 kid로 키 링에서 찾음 (키 링이 재로드되어도 파서를 다시 만들 필요 없음)
+  private final io.jsonwebtoken.JwtParser parser;
+
+  // NOTE: 요청마다 호출되는 검증은 Claims Map을 만들지 않는 고정 클레임 코덱 사용
+  private final JwtCodec jwtCodec;
+
+  public JwtParserImpl(SigningKeyRing signingKeyRing, JwtCodec jwtCodec) {
+    this.parser = Jwts.parser()
+        .keyLocator(header -> signingKeyRing
+            .verificationKey(header instanceof ProtectedHeader protectedHeader ? protectedHeader.getKeyId() : null)
+            .getSecretKey())
+        .build();
+    this.jwtCodec = jwtCodec;
+  }
 
   @Override
   public Claims parseToken(EncodedToken token) {
-    SecretKey key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
-    
-    return Jwts.parser()
-        .verifyWith(key)
-        .build()
+    return parser
         .parseSignedClaims(token.getValue())
         .getPayload();
   }
-}
 
+  @Override
+  public VerifiedToken verify(EncodedToken token) {
+    return jwtCodec.decode(token);
+  }
+}
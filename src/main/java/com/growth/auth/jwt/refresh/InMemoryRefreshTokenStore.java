@@ -0,0 +1,90 @@
+/**
+ * @description 애플리케이션 메모리에 Refresh Token 패밀리를 보관하는 RefreshTokenStore 구현 class
+ * - 단일 인스턴스용 (기본값). 서버가 재시작되면 모든 패밀리가 사라지므로 재로그인이 필요하다
+ * - 여러 인스턴스로 운영할 때는 auth.refresh-token.store=redis 사용
+ */
+
+package com.growth.auth.jwt.refresh;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "auth.refresh-token.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+  // NOTE: 만료된 패밀리는 Caffeine이 entry별 만료 시간으로 정리, 최대 개수로 메모리 상한 보장
+  private final Cache<String, Family> families;
+
+  public InMemoryRefreshTokenStore(
+    @Value("${auth.refresh-token.memory.maximum-size:100000}") long maximumSize
+  ) {
+    this(maximumSize, Ticker.systemTicker());
+  }
+
+  InMemoryRefreshTokenStore(long maximumSize, Ticker ticker) {
+    this.families = Caffeine.newBuilder()
+      .maximumSize(maximumSize)
+      .expireAfter(new FamilyExpiry())
+      .ticker(ticker)
+      .build();
+  }
+
+  @Override
+  public void register(String familyId, String tokenId, Duration ttl) {
+    families.put(familyId, new Family(tokenId, ttl.toNanos()));
+  }
+
+  @Override
+  public RotationResult rotate(String familyId, String presentedTokenId, String nextTokenId) {
+    RotationResult[] result = {RotationResult.UNKNOWN};
+
+    // NOTE: compute는 키 단위로 원자적으로 실행되므로 같은 토큰으로 동시에 요청해도 한 번만 교체됨
+    families.asMap().compute(familyId, (key, family) -> {
+      if (family == null) {
+        return null;
+      }
+      if (family.currentTokenId().equals(presentedTokenId)) {
+        result[0] = RotationResult.ROTATED;
+        return new Family(nextTokenId, family.ttlNanos());
+      }
+      // NOTE: 이미 교체된 토큰 재사용 -> 패밀리 제거
+      result[0] = RotationResult.REUSED;
+      return null;
+    });
+
+    return result[0];
+  }
+
+  @Override
+  public void revokeFamily(String familyId) {
+    families.invalidate(familyId);
+  }
+
+  private record Family(String currentTokenId, long ttlNanos) {}
+
+  private static class FamilyExpiry implements Expiry<String, Family> {
+
+    @Override
+    public long expireAfterCreate(String key, Family value, long currentTime) {
+      return value.ttlNanos();
+    }
+
+    // NOTE: rotation은 남은 시간을 그대로 유지 (등록 시점의 만료 시각을 늘리지 않음)
+    @Override
+    public long expireAfterUpdate(String key, Family value, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+
+    @Override
+    public long expireAfterRead(String key, Family value, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
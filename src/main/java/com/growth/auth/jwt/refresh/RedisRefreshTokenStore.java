@@ -0,0 +1,77 @@
+/**
+ * @description Redis에 Refresh Token 패밀리를 보관하는 RefreshTokenStore 구현 class
+ * - 여러 인스턴스가 같은 패밀리 상태를 공유 (auth.refresh-token.store=redis)
+ * - 교체(compare-and-set)는 Lua 스크립트로 Redis에서 원자적으로 실행
+ */
+
+package com.growth.auth.jwt.refresh;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "auth.refresh-token.store", havingValue = "redis")
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+  private static final String KEY_PREFIX = "auth:refresh-family:";
+
+  // NOTE: 1 = ROTATED, 2 = REUSED(패밀리 삭제), 0 = UNKNOWN
+  // - 교체 후에도 남은 TTL(PTTL)을 그대로 다시 걸어서 등록 시점의 만료 시각을 유지
+  private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+    local current = redis.call('GET', KEYS[1])
+    if not current then
+      return 0
+    end
+    if current == ARGV[1] then
+      local remaining = redis.call('PTTL', KEYS[1])
+      if remaining <= 0 then
+        redis.call('DEL', KEYS[1])
+        return 0
+      end
+      redis.call('SET', KEYS[1], ARGV[2], 'PX', remaining)
+      return 1
+    end
+    redis.call('DEL', KEYS[1])
+    return 2
+    """, Long.class);
+
+  private final StringRedisTemplate redisTemplate;
+
+  public RedisRefreshTokenStore(StringRedisTemplate redisTemplate) {
+    this.redisTemplate = redisTemplate;
+  }
+
+  @Override
+  public void register(String familyId, String tokenId, Duration ttl) {
+    redisTemplate.opsForValue().set(key(familyId), tokenId, ttl);
+  }
+
+  @Override
+  public RotationResult rotate(String familyId, String presentedTokenId, String nextTokenId) {
+    Long result = redisTemplate.execute(
+      ROTATE_SCRIPT,
+      List.of(key(familyId)),
+      presentedTokenId,
+      nextTokenId
+    );
+
+    if (result == null || result == 0L) {
+      return RotationResult.UNKNOWN;
+    }
+    return result == 1L ? RotationResult.ROTATED : RotationResult.REUSED;
+  }
+
+  @Override
+  public void revokeFamily(String familyId) {
+    redisTemplate.delete(key(familyId));
+  }
+
+  private static String key(String familyId) {
+    return KEY_PREFIX + familyId;
+  }
+}
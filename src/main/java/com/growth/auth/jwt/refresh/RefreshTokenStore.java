@@ -0,0 +1,46 @@
+/**
+ * @description Refresh Token 패밀리별로 현재 유효한 토큰 ID(jti)를 보관하는 저장소 interface
+ * - 한 번의 로그인으로 시작된 Refresh Token들은 같은 패밀리 ID(fam)를 공유하고,
+ *   rotation 될 때마다 패밀리의 현재 토큰 ID가 새 토큰으로 교체된다
+ * - 패밀리의 만료 시각은 로그인(등록) 시점에 정해지고 rotation으로 늘어나지 않는다 (주기적인 재로그인 보장)
+ * - 이미 교체된(사용된) 토큰이 다시 들어오면 탈취로 보고 패밀리 전체를 폐기한다
+ */
+
+package com.growth.auth.jwt.refresh;
+
+import java.time.Duration;
+
+public interface RefreshTokenStore {
+
+  /**
+   * 새 패밀리 등록 (로그인 시)
+   * @param familyId 패밀리 ID
+   * @param tokenId 패밀리의 첫 Refresh Token ID
+   * @param ttl 패밀리 보관 기간 (Refresh Token 만료 시간) - 이후 rotation에서도 이 기간이 끝나면 만료됨
+   */
+  void register(String familyId, String tokenId, Duration ttl);
+
+  /**
+   * 제시된 토큰이 패밀리의 현재 토큰이면 다음 토큰으로 교체 (compare-and-set)
+   * - 패밀리의 남은 보관 기간은 그대로 유지 (등록 시점의 만료 시각)
+   * @param familyId 패밀리 ID
+   * @param presentedTokenId 클라이언트가 제시한 Refresh Token ID
+   * @param nextTokenId 새로 발급할 Refresh Token ID
+   * @return 교체 결과
+   */
+  RotationResult rotate(String familyId, String presentedTokenId, String nextTokenId);
+
+  /**
+   * 패밀리 폐기 (로그아웃, 재사용 감지 시)
+   */
+  void revokeFamily(String familyId);
+
+  enum RotationResult {
+    // 정상 교체
+    ROTATED,
+    // 이미 교체된 토큰이 다시 사용됨 -> 패밀리 폐기됨
+    REUSED,
+    // 패밀리가 없음 (만료, 폐기, 서버 재시작 등)
+    UNKNOWN
+  }
+}
@@ -0,0 +1,30 @@
+/**
+ * @description 같은 JVM 안의 구독자에게만 토큰 폐기를 전달하는 RevocationBroadcaster 구현 class
+ * - 단일 인스턴스 운영 시 기본값
+ * - 테스트에서 여러 TokenRevocationRegistry를 하나의 broadcaster에 연결하면 클러스터 전파를 흉내낼 수 있다
+ */
+
+package com.growth.auth.jwt.revocation;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "auth.revocation.broadcaster", havingValue = "memory", matchIfMissing = true)
+public class InProcessRevocationBroadcaster implements RevocationBroadcaster {
+
+  private final List<Consumer<RevokedToken>> listeners = new CopyOnWriteArrayList<>();
+
+  @Override
+  public void publish(RevokedToken revokedToken) {
+    listeners.forEach(listener -> listener.accept(revokedToken));
+  }
+
+  @Override
+  public void subscribe(Consumer<RevokedToken> listener) {
+    listeners.add(listener);
+  }
+}
@@ -0,0 +1,68 @@
+/**
+ * @description Redis pub/sub으로 토큰 폐기를 모든 인스턴스에 전파하는 RevocationBroadcaster 구현 class
+ * - 메시지 형식: "{jti} {exp epoch seconds}"
+ * - pub/sub은 구독 중이 아닌 인스턴스(재시작 중 등)에는 전달되지 않으므로,
+ *   Access Token 만료 시간을 짧게 유지하는 것이 전제다
+ */
+
+package com.growth.auth.jwt.revocation;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "auth.revocation.broadcaster", havingValue = "redis")
+public class RedisRevocationBroadcaster implements RevocationBroadcaster, DisposableBean {
+
+  private static final ChannelTopic TOPIC = new ChannelTopic("auth:revocation");
+
+  private final StringRedisTemplate redisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+
+  public RedisRevocationBroadcaster(StringRedisTemplate redisTemplate, RedisConnectionFactory connectionFactory) {
+    this.redisTemplate = redisTemplate;
+    this.listenerContainer = new RedisMessageListenerContainer();
+    this.listenerContainer.setConnectionFactory(connectionFactory);
+    this.listenerContainer.afterPropertiesSet();
+    this.listenerContainer.start();
+  }
+
+  @Override
+  public void publish(RevokedToken revokedToken) {
+    redisTemplate.convertAndSend(
+      TOPIC.getTopic(),
+      revokedToken.getTokenId() + " " + revokedToken.getExpiresAt().getEpochSecond()
+    );
+  }
+
+  @Override
+  public void subscribe(Consumer<RevokedToken> listener) {
+    listenerContainer.addMessageListener((message, pattern) -> {
+      String body = new String(message.getBody(), StandardCharsets.UTF_8);
+      int separator = body.lastIndexOf(' ');
+      if (separator <= 0) {
+        log.warn("잘못된 토큰 폐기 메시지: {}", body);
+        return;
+      }
+      listener.accept(RevokedToken.of(
+        body.substring(0, separator),
+        Instant.ofEpochSecond(Long.parseLong(body.substring(separator + 1)))
+      ));
+    }, TOPIC);
+  }
+
+  @Override
+  public void destroy() throws Exception {
+    listenerContainer.destroy();
+  }
+}
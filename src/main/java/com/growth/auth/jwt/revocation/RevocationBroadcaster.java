@@ -0,0 +1,22 @@
+/**
+ * @description 토큰 폐기를 다른 서버 인스턴스에 전파하는 채널 interface
+ * - auth.revocation.broadcaster=memory(기본값): 같은 JVM 안에서만 전달 (단일 인스턴스, 테스트용)
+ * - auth.revocation.broadcaster=redis: Redis pub/sub으로 모든 인스턴스에 전달
+ */
+
+package com.growth.auth.jwt.revocation;
+
+import java.util.function.Consumer;
+
+public interface RevocationBroadcaster {
+
+  /**
+   * 폐기된 토큰을 모든 구독자에게 전파 (발행한 인스턴스 자신도 받을 수 있음)
+   */
+  void publish(RevokedToken revokedToken);
+
+  /**
+   * 다른 인스턴스에서 폐기된 토큰을 수신할 리스너 등록
+   */
+  void subscribe(Consumer<RevokedToken> listener);
+}
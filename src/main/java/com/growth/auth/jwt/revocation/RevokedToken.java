@@ -0,0 +1,15 @@
+/**
+ * @description 폐기된 토큰의 ID(jti)와 원래 만료 시간을 저장하는 class
+ * - 만료 시간이 지나면 토큰 자체가 거부되므로 폐기 목록에서도 제거할 수 있다
+ */
+
+package com.growth.auth.jwt.revocation;
+
+import java.time.Instant;
+import lombok.Value;
+
+@Value(staticConstructor = "of")
+public class RevokedToken {
+  String tokenId;
+  Instant expiresAt;
+}
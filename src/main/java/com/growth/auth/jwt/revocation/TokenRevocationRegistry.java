@@ -0,0 +1,127 @@
+/**
+ * @description jti 기준으로 폐기된 토큰을 보관하고 조회하는 class
+ * - 요청마다 호출되는 isRevoked()는 Bloom filter를 먼저 확인하고, 필터가 "있을 수도 있음"이라고 할 때만 정확한 Map을 조회
+ * - 폐기 목록은 토큰의 원래 exp 까지만 보관 (exp 이후에는 서명 검증 단계에서 이미 거부됨)
+ * - 폐기는 RevocationBroadcaster로 다른 인스턴스에 전파
+ */
+
+package com.growth.auth.jwt.revocation;
+
+import com.growth.global.common.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class TokenRevocationRegistry {
+
+  private final RevocationBroadcaster revocationBroadcaster;
+  private final long expectedInsertions;
+  private final double falsePositiveRate;
+
+  // NOTE: jti -> 원래 만료 시간 (정확한 폐기 목록)
+  private final ConcurrentHashMap<String, Instant> revoked = new ConcurrentHashMap<>();
+
+  // NOTE: 조회는 volatile 읽기 + lock-free 비트 확인만 수행, 교체(rebuild)와 추가만 synchronized
+  private volatile BloomFilter bloomFilter;
+
+  private final Counter bloomPositiveCounter;
+  private final Counter falsePositiveCounter;
+
+  public TokenRevocationRegistry(
+    RevocationBroadcaster revocationBroadcaster,
+    @Value("${auth.revocation.expected-insertions:100000}") long expectedInsertions,
+    @Value("${auth.revocation.false-positive-rate:0.001}") double falsePositiveRate,
+    MeterRegistry meterRegistry
+  ) {
+    this.revocationBroadcaster = revocationBroadcaster;
+    this.expectedInsertions = expectedInsertions;
+    this.falsePositiveRate = falsePositiveRate;
+    this.bloomFilter = BloomFilter.create(expectedInsertions, falsePositiveRate);
+
+    // NOTE: 다른 인스턴스에서 폐기된 토큰을 로컬 목록에 반영 (자기 자신이 보낸 메시지는 중복 반영되어도 무방)
+    revocationBroadcaster.subscribe(this::apply);
+
+    Gauge.builder("auth.revocation.size", revoked, Map::size)
+      .description("만료 전인 폐기 토큰 수")
+      .register(meterRegistry);
+    this.bloomPositiveCounter = Counter.builder("auth.revocation.bloom.positive")
+      .description("Bloom filter가 폐기 가능성이 있다고 판단한 조회 수")
+      .register(meterRegistry);
+    this.falsePositiveCounter = Counter.builder("auth.revocation.bloom.false-positive")
+      .description("Bloom filter는 통과했지만 실제로는 폐기되지 않은 조회 수")
+      .register(meterRegistry);
+  }
+
+  /**
+   * 토큰을 폐기하고 다른 인스턴스에 전파
+   * @param tokenId 토큰 ID (jti)
+   * @param expiresAt 토큰의 원래 만료 시간
+   */
+  public void revoke(String tokenId, Instant expiresAt) {
+    RevokedToken revokedToken = RevokedToken.of(tokenId, expiresAt);
+    apply(revokedToken);
+    revocationBroadcaster.publish(revokedToken);
+  }
+
+  /**
+   * 폐기된 토큰인지 확인
+   * - 대부분의 정상 토큰은 Bloom filter에서 바로 false로 끝남
+   */
+  public boolean isRevoked(String tokenId) {
+    if (tokenId == null || !bloomFilter.mightContain(tokenId)) {
+      return false;
+    }
+    bloomPositiveCounter.increment();
+
+    Instant expiresAt = revoked.get(tokenId);
+    if (expiresAt == null) {
+      falsePositiveCounter.increment();
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * 만료된 폐기 토큰을 제거하고, 남은 토큰으로 Bloom filter를 다시 생성
+   * - Bloom filter는 삭제를 지원하지 않으므로 재생성해야 false positive 비율이 유지됨
+   */
+  @Scheduled(
+    fixedDelayString = "${auth.revocation.prune-interval:60000}",
+    initialDelayString = "${auth.revocation.prune-interval:60000}"
+  )
+  public void prune() {
+    prune(Instant.now());
+  }
+
+  synchronized void prune(Instant now) {
+    int before = revoked.size();
+    revoked.values().removeIf(expiresAt -> !now.isBefore(expiresAt));
+
+    // NOTE: 폐기 수가 예상보다 많아지면 필터를 키워서 false positive 비율 유지
+    BloomFilter rebuilt = BloomFilter.create(Math.max(expectedInsertions, revoked.size() * 2L), falsePositiveRate);
+    revoked.keySet().forEach(rebuilt::put);
+    bloomFilter = rebuilt;
+
+    if (before != revoked.size()) {
+      log.debug("만료된 폐기 토큰 정리: {} -> {}", before, revoked.size());
+    }
+  }
+
+  // NOTE: prune()과 동시에 실행되면 재생성 중인 필터에서 새 토큰이 빠질 수 있으므로 직렬화
+  private synchronized void apply(RevokedToken revokedToken) {
+    if (!Instant.now().isBefore(revokedToken.getExpiresAt())) {
+      return;
+    }
+    revoked.merge(revokedToken.getTokenId(), revokedToken.getExpiresAt(), (a, b) -> a.isAfter(b) ? a : b);
+    bloomFilter.put(revokedToken.getTokenId());
+  }
+}
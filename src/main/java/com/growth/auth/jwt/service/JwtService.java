@@ -1,14 +1,21 @@
 package com.growth.auth.jwt.service;
 
+import com.growth.auth.jwt.cache.VerifiedTokenCache;
 import com.growth.auth.jwt.domain.EncodedToken;
+import com.growth.auth.jwt.domain.TokenPair;
 import com.growth.auth.jwt.domain.TokenType;
 import com.growth.auth.jwt.domain.UserIdentity;
+import com.growth.auth.jwt.domain.VerifiedToken;
 import com.growth.auth.jwt.generator.JwtGenerator;
 import com.growth.auth.jwt.parser.JwtParser;
+import com.growth.auth.jwt.refresh.RefreshTokenStore;
+import com.growth.auth.jwt.refresh.RefreshTokenStore.RotationResult;
+import com.growth.auth.jwt.revocation.TokenRevocationRegistry;
 import com.growth.auth.jwt.usecase.JwtUseCase;
 import com.growth.auth.jwt.validator.JwtValidator;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletResponse;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -21,11 +28,23 @@ public class JwtService implements JwtUseCase {
   private final JwtGenerator jwtGenerator;
   private final JwtParser jwtParser;
   private final JwtValidator jwtValidator;
+  private final VerifiedTokenCache verifiedTokenCache;
+  private final RefreshTokenStore refreshTokenStore;
+  private final TokenRevocationRegistry tokenRevocationRegistry;
 
 
   @Override
   public EncodedToken generateToken(UserIdentity userIdentity, TokenType tokenType) {
-    return jwtGenerator.generateToken(userIdentity, tokenType);
+    if (tokenType == TokenType.ACCESS) {
+      return jwtGenerator.generateToken(userIdentity, tokenType);
+    }
+
+    // NOTE: Refresh Token은 로그인마다 새 패밀리를 시작하고, 첫 토큰 ID를 저장소에 등록
+    String familyId = UUID.randomUUID().toString();
+    String tokenId = UUID.randomUUID().toString();
+    refreshTokenStore.register(familyId, tokenId, jwtGenerator.getExpiration(TokenType.REFRESH));
+
+    return jwtGenerator.generateToken(userIdentity, TokenType.REFRESH, tokenId, familyId);
   }
 
   @Override
@@ -38,6 +57,59 @@ public class JwtService implements JwtUseCase {
     return jwtParser.parseToken(accessToken);
   }
 
-  // TODO: Refresh Token 추가
-}
+  @Override
+  public VerifiedToken getVerifiedToken(EncodedToken accessToken) {
+    // NOTE: 같은 토큰이 반복해서 들어오면 HMAC 검증/JSON 파싱 없이 캐시된 결과 반환
+    return verifiedTokenCache.get(accessToken, jwtParser::verify);
+  }
+
+  @Override
+  public TokenPair rotateRefreshToken(EncodedToken refreshToken) {
+    // NOTE: 서명/만료/클레임만 확인 - 회원 테이블 조회, 비밀번호 해싱 없음
+    // - Refresh Token은 한 번만 쓰이므로 검증 캐시를 거치지 않음
+    VerifiedToken verifiedToken = jwtParser.verify(refreshToken);
+    if (verifiedToken.getTokenType() != TokenType.REFRESH
+      || verifiedToken.getTokenId() == null
+      || verifiedToken.getFamilyId() == null) {
+      throw new IllegalArgumentException("Refresh Token이 아닙니다.");
+    }
+
+    String familyId = verifiedToken.getFamilyId();
+    String nextTokenId = UUID.randomUUID().toString();
+    RotationResult result = refreshTokenStore.rotate(familyId, verifiedToken.getTokenId(), nextTokenId);
+
+    if (result == RotationResult.REUSED) {
+      // NOTE: 이미 교체된 토큰이 다시 들어옴 -> 탈취 가능성, 패밀리는 저장소에서 이미 폐기됨
+      log.warn("Refresh Token 재사용 감지 - 패밀리 폐기 (memberId={}, familyId={})", verifiedToken.getMemberId(), familyId);
+      throw new IllegalArgumentException("이미 사용된 Refresh Token입니다.");
+    }
+    if (result == RotationResult.UNKNOWN) {
+      throw new IllegalArgumentException("만료되었거나 폐기된 Refresh Token입니다.");
+    }
 
+    // NOTE: 새 Refresh Token의 exp는 제시된 토큰과 같음 - 패밀리의 첫 토큰(로그인 시점) exp를 넘지 않음
+    UserIdentity userIdentity = verifiedToken.toUserIdentity();
+    return TokenPair.of(
+      jwtGenerator.generateToken(userIdentity, TokenType.ACCESS),
+      jwtGenerator.generateToken(userIdentity, TokenType.REFRESH, nextTokenId, familyId, verifiedToken.getExpiresAt())
+    );
+  }
+
+  @Override
+  public boolean isRevoked(VerifiedToken verifiedToken) {
+    return tokenRevocationRegistry.isRevoked(verifiedToken.getTokenId());
+  }
+
+  @Override
+  public void revokeToken(EncodedToken token) {
+    VerifiedToken verifiedToken = jwtParser.verify(token);
+
+    // NOTE: Refresh Token은 패밀리를 폐기해서 이후 rotation 된 토큰까지 모두 무효화
+    if (verifiedToken.getFamilyId() != null) {
+      refreshTokenStore.revokeFamily(verifiedToken.getFamilyId());
+    }
+    if (verifiedToken.getTokenId() != null) {
+      tokenRevocationRegistry.revoke(verifiedToken.getTokenId(), verifiedToken.getExpiresAt());
+    }
+  }
+}
@@ -1,8 +1,10 @@
 package com.growth.auth.jwt.usecase;
 
 import com.growth.auth.jwt.domain.EncodedToken;
+import com.growth.auth.jwt.domain.TokenPair;
 import com.growth.auth.jwt.domain.TokenType;
 import com.growth.auth.jwt.domain.UserIdentity;
+import com.growth.auth.jwt.domain.VerifiedToken;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletResponse;
 
@@ -13,6 +15,11 @@ public interface JwtUseCase {
 
   Claims getClaims(EncodedToken accessToken);
 
-  // TODO: Refresh Token 추가
-}
+  VerifiedToken getVerifiedToken(EncodedToken accessToken);
+
+  TokenPair rotateRefreshToken(EncodedToken refreshToken);
 
+  boolean isRevoked(VerifiedToken verifiedToken);
+
+  void revokeToken(EncodedToken token);
+}
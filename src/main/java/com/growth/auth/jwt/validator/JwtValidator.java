@@ -15,7 +15,7 @@ public class JwtValidator {
 
   public void validateToken(EncodedToken token) {
     try {
-      jwtParser.parseToken(token);
+      jwtParser.verify(token);
     } catch (Exception e) {
       log.error("JWT 토큰 검증 실패: {}", e.getMessage());
       throw new IllegalArgumentException("유효하지 않은 JWT 토큰입니다.", e);
@@ -3,27 +3,39 @@ package com.growth.auth.service;
 import com.growth.auth.dto.request.LoginRequestDto;
 import com.growth.auth.dto.response.LoginResponseDto;
 import com.growth.auth.dto.response.LoginResultDto;
+import com.growth.auth.dto.response.TokenResultDto;
+import com.growth.auth.jwt.domain.EncodedToken;
+import com.growth.auth.jwt.domain.TokenPair;
 import com.growth.auth.jwt.domain.TokenType;
 import com.growth.auth.jwt.domain.UserIdentity;
 import com.growth.auth.jwt.service.JwtService;
 import com.growth.auth.usecase.AuthUseCase;
 import com.growth.global.exception.BadRequestException;
+import com.growth.global.exception.ServiceUnavailableException;
+import com.growth.member.cache.EmailExistenceFilter;
 import com.growth.member.domain.Member;
+import com.growth.member.repository.LastLoginWriteBuffer;
 import com.growth.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import java.time.Clock;
 
 
+// NOTE: 클래스 레벨 @Transactional을 두지 않음
+// - BCrypt 검증(수십~수백 ms) 동안 DB 커넥션(Hikari 최대 10개)을 점유하지 않도록
+//   조회는 Repository의 짧은 읽기 전용 트랜잭션에서 실행하고, 비밀번호 검증은 그 이후에 실행
+// - 마지막 로그인 시간은 LastLoginWriteBuffer가 모아서 반영하므로 로그인 경로에는 쓰기 쿼리가 없음
+@Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class AuthService implements AuthUseCase {
   private final MemberRepository memberRepository;
   private final PasswordEncoder passwordEncoder;
   private final JwtService jwtService;
+  private final LastLoginWriteBuffer lastLoginWriteBuffer;
+  private final EmailExistenceFilter emailExistenceFilter;
   private final Clock clock;
 
   @Override
@@ -38,37 +50,93 @@ public class AuthService implements AuthUseCase {
     return new LoginResultDto(LoginResponseDto.from(member), tokens[0], tokens[1]);
   }
 
+  @Override
+  public TokenResultDto refresh(String refreshToken) {
+    // NOTE: Refresh Token의 서명과 패밀리 상태만 확인하고 새 토큰 쌍 발급
+    // - 회원 테이블 조회(SQL)와 BCrypt 검증이 없으므로 로그인보다 훨씬 가벼움
+    try {
+      TokenPair tokenPair = jwtService.rotateRefreshToken(EncodedToken.from(refreshToken));
+      return new TokenResultDto(tokenPair.getAccessToken().getValue(), tokenPair.getRefreshToken().getValue());
+    } catch (IllegalArgumentException e) {
+      throw new BadRequestException(e.getMessage());
+    }
+  }
+
+  @Override
+  public void logout(String accessToken, String refreshToken) {
+    // NOTE: 두 토큰 모두 exp 까지 폐기 목록에 등록 (Refresh Token은 패밀리까지 폐기)
+    revokeQuietly(accessToken);
+    revokeQuietly(refreshToken);
+  }
+
+  private void revokeQuietly(String token) {
+    if (token == null || token.isBlank()) {
+      return;
+    }
+    try {
+      jwtService.revokeToken(EncodedToken.from(token));
+    } catch (IllegalArgumentException e) {
+      // NOTE: 이미 만료되었거나 위조된 토큰은 폐기할 필요가 없음
+    }
+  }
+
   /**
    * 로그인 인증 및 마지막 로그인 시간 업데이트
    * @param requestDto 로그인 요청 DTO
    * @return 인증된 회원 정보
    */
   public Member authenticateAndUpdateLastLogin(LoginRequestDto requestDto) {
-    // NOTE: 이메일로 DB에서 Member 엔티티 조회 -> 조회된 엔티티는 Persistence Context에 관리됨
-    // NOTE: JPA는 Member 엔티티의 Snapshot을 Persistence Context에 보관
+    // NOTE: 가입되지 않은 것이 확실한 이메일은 SQL 없이 바로 거절 (공격 트래픽 대부분)
+    if (emailExistenceFilter.definitelyNotRegistered(requestDto.email())) {
+      throw new BadRequestException("회원 정보가 없습니다.");
+    }
+
+    // NOTE: 이메일로 DB에서 Member 엔티티 조회 -> Repository 호출이 끝나면 커넥션이 반환됨
+    // NOTE: 서비스에 트랜잭션이 없으므로 반환된 엔티티는 준영속(detached) 상태
     Member member = memberRepository
       .findByEmail(requestDto.email())
       .orElseThrow(() -> new BadRequestException("회원 정보가 없습니다."));
 
-    // NOTE: 비밀번호 검증
+    // NOTE: 비밀번호 검증 - 트랜잭션 밖에서, 전용 해싱 스레드 풀(BoundedPasswordEncoder)에서 실행
+    // - 해싱 큐가 가득 차면 DB 작업 없이 즉시 503으로 거절됨
     if (!passwordEncoder.matches(requestDto.password(), member.getPassword())) {
-      // NOTE: 비밀번호가 일치하지 않으면 예외 발생 -> 모든 작업 롤백(트랜잭션 롤백)
       throw new BadRequestException("비밀번호가 일치하지 않습니다.");
     }
 
+    // NOTE: 저장된 해시가 현재 설정보다 약하면(strength 낮음, 접두사 없음) 평문을 알고 있는 지금 재해싱
+    rehashIfNeeded(member, requestDto.password());
+
     // NOTE: 로그인 성공 시 마지막 로그인 시간 업데이트
-    // NOTE: member 엔티티 상태 변경 (Persistence Context에 관리되고 있는 엔티티의 상태를 변경 -> lastLoginAt 필드 값 업데이트되면 변경을 감지)
-    // - JPA의 변경 감지(Dirty Checking) 기능이 자동으로 동작 -> 트랜잭션 커밋 시점에 변경된 필드를 자동으로 감지하고, 자동으로 UPDATE 쿼리 실행되어 DB에 반영됨
+    // - 응답에 쓰이도록 준영속 엔티티의 값만 바꾸고, DB 반영은 write-behind 버퍼에 맡김
+    // - 같은 회원의 연속 로그인은 하나로 합쳐져 flush-interval마다 batch UPDATE로 반영됨
     member.updateLastLoginAt(clock);
+    lastLoginWriteBuffer.record(member.getMemberId(), member.getLastLoginAt());
 
-    // NOTE: member는 이미 영속 상태에 해당되고, 변경 감지가 자동으로 처리되므로 save() 호출은 불필요함
-    // NOTE: save()가 필요한 경우: 새로운 엔티티를 저장할 때 (비영속 -> 영속)
-    // memberRepository.save(member);
-
-    // NOTE: Persistence Context에 관리된 엔티티 반환
     return member;
   }
 
+  /**
+   * 저장된 비밀번호 해시가 현재 인코더 설정보다 약하면 새 해시로 교체
+   * - 해싱 스레드 풀이 포화 상태이거나 DB에 저장하지 못하면 로그인을 실패시키지 않고 다음 로그인으로 미룸
+   * @param member 로그인한 회원 정보
+   * @param rawPassword 검증이 끝난 평문 비밀번호
+   */
+  private void rehashIfNeeded(Member member, String rawPassword) {
+    if (!passwordEncoder.upgradeEncoding(member.getPassword())) {
+      return;
+    }
+    try {
+      String rehashed = passwordEncoder.encode(rawPassword);
+      memberRepository.updatePassword(member.getMemberId(), member.getPassword(), rehashed);
+    } catch (ServiceUnavailableException e) {
+      // NOTE: 재해싱은 선택 사항이므로 무시
+    } catch (RuntimeException e) {
+      // NOTE: 해시 저장 실패(락 대기 시간 초과, 커넥션 끊김 등)로 이미 검증된 로그인을 실패시키지 않음 - 다음 로그인에 다시 시도
+      log.warn("비밀번호 재해싱 저장 실패 (memberId={}): {}", member.getMemberId(), e.getMessage());
+    }
+  }
+
+
   /**
    * 로그인한 사용자의 토큰을 생성
    * @param member 로그인한 회원 정보
@@ -0,0 +1,79 @@
+/**
+ * @description 로그인 요청을 이메일, 클라이언트 주소 기준으로 제한하는 class
+ * - 로그인은 permitAll 이고 요청마다 BCrypt 검증(CPU 집약)이 실행되므로,
+ *   credential stuffing 트래픽이 DB 조회/해싱에 도달하기 전에 거절한다
+ * - 이메일 버킷: 한 계정에 대한 비밀번호 대입 방지, 주소 버킷: 한 클라이언트의 여러 계정 대입 방지
+ */
+
+package com.growth.auth.throttle;
+
+import com.growth.global.common.util.Emails;
+import com.growth.global.common.util.StripedTokenBuckets;
+import com.growth.global.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class LoginThrottle {
+
+  private static final String REJECTED_MESSAGE = "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.";
+
+  private final StripedTokenBuckets emailBuckets;
+  private final StripedTokenBuckets addressBuckets;
+  private final Counter emailShedCounter;
+  private final Counter addressShedCounter;
+
+  public LoginThrottle(
+    @Value("${auth.login-throttle.stripes:65536}") int stripes,
+    @Value("${auth.login-throttle.email.capacity:5}") int emailCapacity,
+    @Value("${auth.login-throttle.email.refill-period:60000}") long emailRefillPeriodMillis,
+    @Value("${auth.login-throttle.address.capacity:30}") int addressCapacity,
+    @Value("${auth.login-throttle.address.refill-period:60000}") long addressRefillPeriodMillis,
+    MeterRegistry meterRegistry
+  ) {
+    this.emailBuckets = new StripedTokenBuckets(stripes, emailCapacity, emailRefillPeriodMillis);
+    this.addressBuckets = new StripedTokenBuckets(stripes, addressCapacity, addressRefillPeriodMillis);
+    this.emailShedCounter = shedCounter("email", meterRegistry);
+    this.addressShedCounter = shedCounter("address", meterRegistry);
+  }
+
+  /**
+   * 로그인 시도 한 번을 허용할지 확인
+   * @param email 로그인 요청 이메일
+   * @param clientAddress 클라이언트 주소
+   * @return 남은 시도 횟수 (두 버킷 중 작은 값)
+   * @throws TooManyRequestsException 허용량을 넘은 경우
+   */
+  public long acquire(String email, String clientAddress) {
+    // NOTE: 주소 버킷을 먼저 확인 - 한 클라이언트가 여러 계정을 대입하는 경우 이메일 버킷을 소모하지 않음
+    long addressRemaining = addressBuckets.tryAcquire(clientAddress == null ? "" : clientAddress);
+    if (addressRemaining < 0) {
+      addressShedCounter.increment();
+      throw new TooManyRequestsException(REJECTED_MESSAGE, retryAfterSeconds(addressRemaining));
+    }
+
+    // NOTE: 대소문자만 다른 이메일로 제한을 우회하지 못하도록 정규화
+    String normalizedEmail = email == null ? "" : Emails.normalize(email);
+    long emailRemaining = emailBuckets.tryAcquire(normalizedEmail);
+    if (emailRemaining < 0) {
+      emailShedCounter.increment();
+      throw new TooManyRequestsException(REJECTED_MESSAGE, retryAfterSeconds(emailRemaining));
+    }
+
+    return Math.min(addressRemaining, emailRemaining);
+  }
+
+  private static long retryAfterSeconds(long negativeWaitMillis) {
+    return Math.max(1, TimeUnit.MILLISECONDS.toSeconds(-negativeWaitMillis + 999));
+  }
+
+  private static Counter shedCounter(String key, MeterRegistry meterRegistry) {
+    return Counter.builder("auth.login.throttled")
+      .description("로그인 제한으로 거절된 요청 수")
+      .tag("key", key)
+      .register(meterRegistry);
+  }
+}
@@ -2,7 +2,12 @@ package com.growth.auth.usecase;
 
 import com.growth.auth.dto.request.LoginRequestDto;
 import com.growth.auth.dto.response.LoginResultDto;
+import com.growth.auth.dto.response.TokenResultDto;
 
 public interface AuthUseCase {
   LoginResultDto login(LoginRequestDto requestDto);
+
+  TokenResultDto refresh(String refreshToken);
+
+  void logout(String accessToken, String refreshToken);
 }
@@ -11,6 +11,7 @@ import java.util.Arrays;
 import java.util.Optional;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 @Component
 public class CookieUtil {
@@ -21,6 +22,8 @@ public class CookieUtil {
   private static final String ACCESS_TOKEN_COOKIE_NAME = "accessToken";
   private static final String REFRESH_TOKEN_COOKIE_NAME = "refreshToken";
   private static final int REFRESH_TOKEN_EXPIRATION_DAYS = 7;
+  private static final String AUTHORIZATION_HEADER = "Authorization";
+  private static final String BEARER_PREFIX = "Bearer ";
 
   /**
    * Access Token을 쿠키에 설정
@@ -75,6 +78,20 @@ public class CookieUtil {
     return getCookieValue(request, ACCESS_TOKEN_COOKIE_NAME);
   }
 
+  /**
+   * 요청의 Access Token을 Authorization 헤더(Bearer), Access Token 쿠키 순서로 찾음
+   * - 인증 필터와 로그아웃이 같은 토큰을 보도록 한 곳에서 결정
+   * @param request HTTP 요청
+   * @return Access Token (없으면 Optional.empty())
+   */
+  public Optional<String> resolveAccessToken(HttpServletRequest request) {
+    String bearerToken = request.getHeader(AUTHORIZATION_HEADER);
+    if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(BEARER_PREFIX)) {
+      return Optional.of(bearerToken.substring(BEARER_PREFIX.length()));
+    }
+    return getAccessTokenFromCookie(request);
+  }
+
   /**
    * 요청에서 Refresh Token 쿠키를 읽어옴
    * @param request HTTP 요청
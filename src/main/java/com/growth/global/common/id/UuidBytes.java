@@ -0,0 +1,27 @@
+package com.growth.global.common.id;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * BINARY(16) 식별자 컬럼(member_id, room_id, host_id)과 UUID 사이의 변환입니다.
+ * - 엔티티의 @JdbcTypeCode(BINARY) 매핑과 같이 상위 64bit, 하위 64bit 순서로 기록합니다.
+ * - JPA를 거치지 않는 JDBC 코드(batch INSERT/UPDATE, 스트리밍 조회)에서 사용합니다.
+ */
+public final class UuidBytes {
+
+    private UuidBytes() {
+    }
+
+    public static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    public static UUID toUuid(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
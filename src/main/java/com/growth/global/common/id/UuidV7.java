@@ -0,0 +1,18 @@
+package com.growth.global.common.id;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * 시간순으로 정렬되는 UUIDv7(RFC 9562)을 식별자로 생성합니다.
+ * - 앞 48bit가 밀리초 타임스탬프이므로 BINARY(16)으로 저장하면 새 행이 항상 clustered index 끝에 추가됩니다.
+ * - 랜덤 v4(GenerationType.UUID)처럼 인덱스 중간에 끼워 넣지 않으므로 page split과 buffer pool 미스가 줄어듭니다.
+ */
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface UuidV7 {
+}
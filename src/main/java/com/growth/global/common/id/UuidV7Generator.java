@@ -0,0 +1,95 @@
+package com.growth.global.common.id;
+
+import java.security.SecureRandom;
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.random.RandomGenerator;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+/**
+ * {@link UuidV7} 식별자 생성기입니다.
+ * - 레이아웃: unix_ts_ms(48) | ver=7(4) | counter(12) | var=10(2) | random(62)
+ * - 같은 밀리초 안에서는 12bit 카운터를 올려서 한 JVM 안에서 항상 증가하는 값을 만듭니다 (RFC 9562 Method 1).
+ * - 카운터가 넘치거나 시계가 뒤로 가면 타임스탬프를 이어서 올리므로 순서가 뒤집히지 않습니다.
+ */
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+    private static final int COUNTER_BITS = 12;
+    // NOTE: 밀리초가 바뀔 때 카운터를 랜덤으로 시작하되, 최상위 bit는 비워서 같은 밀리초 안에 최소 2048개의 여유를 남김
+    private static final int COUNTER_SEED_BOUND = 1 << (COUNTER_BITS - 1);
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+    private static final long VARIANT_BITS = 0x8000_0000_0000_0000L;
+    private static final long VERSION_BITS = 0x7000L;
+
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+    // NOTE: Member, Room 등 엔티티마다 생성기 인스턴스가 만들어지므로 발급 상태는 JVM 전체에서 공유
+    private static final UuidV7Generator SHARED = new UuidV7Generator(System::currentTimeMillis, SECURE_RANDOM);
+
+    private final LongSupplier clockMillis;
+    private final RandomGenerator random;
+
+    // NOTE: 마지막으로 발급한 (타임스탬프 << 12 | 카운터)
+    private final AtomicLong lastState = new AtomicLong();
+
+    // NOTE: Hibernate가 @UuidV7 필드마다 생성하는 인스턴스 - 실제 발급은 SHARED에 위임
+    public UuidV7Generator() {
+        this(System::currentTimeMillis, SECURE_RANDOM);
+    }
+
+    UuidV7Generator(LongSupplier clockMillis, RandomGenerator random) {
+        this.clockMillis = clockMillis;
+        this.random = random;
+    }
+
+    /**
+     * 새 UUIDv7을 발급합니다. 엔티티 밖(예: 대량 INSERT)에서 식별자가 필요할 때 사용합니다.
+     */
+    public static UUID generate() {
+        return SHARED.next();
+    }
+
+    /**
+     * 시계와 난수 발생기를 지정한 독립 발급기를 만듭니다.
+     * 같은 시계 값과 같은 seed의 난수 발생기를 주면 같은 식별자를 순서대로 발급합니다 (재현 가능한 데이터 생성용).
+     */
+    public static UuidV7Generator withSource(LongSupplier clockMillis, RandomGenerator random) {
+        return new UuidV7Generator(clockMillis, random);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return generate();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+
+    public UUID next() {
+        long state = nextState();
+        long mostSigBits = (state >>> COUNTER_BITS) << 16 | VERSION_BITS | (state & COUNTER_MASK);
+        long leastSigBits = random.nextLong() & RANDOM_MASK | VARIANT_BITS;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    private long nextState() {
+        while (true) {
+            long previous = lastState.get();
+            long now = clockMillis.getAsLong();
+            long next = now > previous >>> COUNTER_BITS
+                    ? now << COUNTER_BITS | random.nextInt(COUNTER_SEED_BOUND)
+                    : previous + 1;
+            if (lastState.compareAndSet(previous, next)) {
+                return next;
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.growth.global.common.importer;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대량 등록 파일을 읽고, 행마다 Bean Validation으로 검증한 뒤 chunk-size 개씩 묶어서 저장하는 파이프라인입니다.
+ * - 검증에 실패하거나 저장하지 못한 행은 실패 목록에 담고 나머지 행은 계속 처리합니다 (한 행 때문에 전체가 취소되지 않음).
+ * - 메모리에는 현재 묶음(chunk)과 보고할 실패 목록(최대 max-reported-failures 개)만 유지합니다.
+ */
+@Slf4j
+@Component
+public class BulkImporter {
+
+    private final Validator validator;
+    private final int chunkSize;
+    private final int maxReportedFailures;
+
+    public BulkImporter(
+            Validator validator,
+            @Value("${bulk-import.chunk-size:500}") int chunkSize,
+            @Value("${bulk-import.max-reported-failures:1000}") int maxReportedFailures
+    ) {
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+        this.maxReportedFailures = maxReportedFailures;
+    }
+
+    public <T> ImportResult run(ImportRowReader<T> reader, ChunkWriter<T> writer) throws IOException {
+        Tally tally = new Tally();
+        List<ImportRow<T>> chunk = new ArrayList<>(chunkSize);
+
+        ImportRow<T> row;
+        while ((row = reader.next()) != null) {
+            tally.total++;
+            String error = row.error() != null ? row.error() : validate(row.value());
+            if (error != null) {
+                tally.fail(row.fail(error));
+                continue;
+            }
+            chunk.add(row);
+            if (chunk.size() == chunkSize) {
+                flush(chunk, writer, tally);
+            }
+        }
+        flush(chunk, writer, tally);
+
+        log.info("대량 등록 완료 (total={}, succeeded={}, failed={})", tally.total, tally.total - tally.failed, tally.failed);
+        tally.failures.sort(Comparator.comparingLong(ImportFailure::line));
+        return new ImportResult(tally.total, tally.total - tally.failed, tally.failed, List.copyOf(tally.failures));
+    }
+
+    private <T> void flush(List<ImportRow<T>> chunk, ChunkWriter<T> writer, Tally tally) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            writer.write(List.copyOf(chunk)).forEach(tally::fail);
+        } catch (RuntimeException e) {
+            // NOTE: 묶음 전체를 저장하지 못한 경우(DB 장애, 해싱 큐 포화 등) - 묶음의 행만 실패로 기록하고 다음 묶음으로 진행
+            log.warn("대량 등록 묶음 저장 실패 (lines={}~{}): {}", chunk.get(0).line(), chunk.get(chunk.size() - 1).line(), e.getMessage());
+            chunk.forEach(failed -> tally.fail(failed.fail(ImportFailure.SAVE_FAILED)));
+        }
+        chunk.clear();
+    }
+
+    private <T> String validate(T value) {
+        Set<ConstraintViolation<T>> violations = validator.validate(value);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .collect(Collectors.joining(", "));
+    }
+
+    private final class Tally {
+
+        private long total;
+        private long failed;
+        private final List<ImportFailure> failures = new ArrayList<>();
+
+        private void fail(ImportFailure failure) {
+            failed++;
+            if (failures.size() < maxReportedFailures) {
+                failures.add(failure);
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.growth.global.common.importer;
+
+import java.util.List;
+
+/**
+ * 검증을 통과한 행을 한 묶음(chunk)씩 저장합니다.
+ */
+@FunctionalInterface
+public interface ChunkWriter<T> {
+
+    /**
+     * @param rows 검증을 통과한 행 (최대 chunk-size 개)
+     * @return 저장하지 못한 행과 사유 (모두 저장했으면 빈 목록)
+     */
+    List<ImportFailure> write(List<ImportRow<T>> rows);
+}
@@ -0,0 +1,13 @@
+package com.growth.global.common.importer;
+
+/**
+ * 등록하지 못한 행과 사유입니다.
+ *
+ * @param line 파일에서의 행 번호
+ * @param reason 실패 사유
+ */
+public record ImportFailure(long line, String reason) {
+
+    // NOTE: DB 예외 메시지(SQL, 제약/컬럼 이름)는 응답에 담지 않고 이 문구로 대신함 (상세 사유는 서버 로그)
+    public static final String SAVE_FAILED = "저장에 실패했습니다.";
+}
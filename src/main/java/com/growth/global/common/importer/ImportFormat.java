@@ -0,0 +1,23 @@
+package com.growth.global.common.importer;
+
+import com.growth.global.exception.BadRequestException;
+import java.util.Locale;
+
+/**
+ * 대량 등록 파일 형식입니다.
+ * - NDJSON: 한 줄에 JSON 객체 하나
+ * - CSV: 첫 줄이 헤더(필드 이름)인 RFC 4180 형식
+ */
+public enum ImportFormat {
+
+    NDJSON,
+    CSV;
+
+    public static ImportFormat from(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("지원하지 않는 등록 파일 형식입니다: " + value);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.growth.global.common.importer;
+
+import java.util.List;
+
+/**
+ * 대량 등록 결과입니다.
+ * 실패한 행이 많아도 응답이 커지지 않도록 failures에는 앞에서부터 최대 개수만 담고, 전체 실패 수는 failed로 알려줍니다.
+ *
+ * @param total 읽은 행 수
+ * @param succeeded 등록한 행 수
+ * @param failed 실패한 행 수
+ * @param failures 실패한 행과 사유 (최대 개수까지)
+ */
+public record ImportResult(long total, long succeeded, long failed, List<ImportFailure> failures) {
+}
@@ -0,0 +1,23 @@
+package com.growth.global.common.importer;
+
+/**
+ * 대량 등록 파일의 한 행입니다.
+ *
+ * @param line 파일에서의 행 번호 (1부터, CSV는 헤더 다음 행부터)
+ * @param value 읽은 값 (읽지 못했으면 null)
+ * @param error 읽기 실패 사유 (읽었으면 null)
+ */
+public record ImportRow<T>(long line, T value, String error) {
+
+    public static <T> ImportRow<T> of(long line, T value) {
+        return new ImportRow<>(line, value, null);
+    }
+
+    public static <T> ImportRow<T> failed(long line, String error) {
+        return new ImportRow<>(line, null, error);
+    }
+
+    public ImportFailure fail(String reason) {
+        return new ImportFailure(line, reason);
+    }
+}
@@ -0,0 +1,109 @@
+package com.growth.global.common.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 대량 등록 파일을 한 행씩 읽어서 요청 DTO로 변환합니다.
+ * - 파일 전체를 메모리에 올리지 않고 스트림에서 필요한 만큼만 읽습니다.
+ * - 형식이 잘못된 행은 예외를 던지지 않고 실패 행(ImportRow.error)으로 반환해서 나머지 행을 계속 읽습니다.
+ */
+public class ImportRowReader<T> implements Closeable {
+
+    private final BufferedReader reader;
+    private final ImportFormat format;
+    private final Class<T> type;
+    private final ObjectMapper objectMapper;
+
+    private CsvRecordReader csv;
+    private List<String> header;
+    private long line;
+
+    public ImportRowReader(InputStream in, ImportFormat format, Class<T> type, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        this.format = format;
+        this.type = type;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 다음 행을 읽습니다. 빈 줄은 건너뜁니다.
+     *
+     * @return 다음 행, 더 이상 없으면 null
+     * @throws IOException 스트림 읽기 실패 (CSV 헤더가 없거나 따옴표가 닫히지 않은 경우 포함)
+     */
+    public ImportRow<T> next() throws IOException {
+        return switch (format) {
+            case NDJSON -> nextJson();
+            case CSV -> nextCsv();
+        };
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private ImportRow<T> nextJson() throws IOException {
+        String json;
+        do {
+            json = reader.readLine();
+            if (json == null) {
+                return null;
+            }
+            line++;
+        } while (json.isBlank());
+
+        try {
+            return ImportRow.of(line, objectMapper.readValue(json, type));
+        } catch (JsonProcessingException e) {
+            return ImportRow.failed(line, "JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage());
+        }
+    }
+
+    private ImportRow<T> nextCsv() throws IOException {
+        if (csv == null) {
+            csv = new CsvRecordReader(reader);
+            header = csv.next();
+            if (header == null) {
+                return null;
+            }
+            header = header.stream().map(String::trim).toList();
+        }
+
+        List<String> fields;
+        do {
+            fields = csv.next();
+            if (fields == null) {
+                return null;
+            }
+            line++;
+        } while (fields.size() == 1 && fields.get(0).isBlank());
+
+        if (fields.size() != header.size()) {
+            return ImportRow.failed(line, "CSV 필드 수가 헤더와 다릅니다. (expected=" + header.size() + ", actual=" + fields.size() + ")");
+        }
+        // NOTE: 빈 필드는 null로 변환해서 @NotNull/@NotBlank 검증이 그대로 적용되도록 함
+        Map<String, String> values = new LinkedHashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String value = fields.get(i);
+            values.put(header.get(i), value.isEmpty() ? null : value);
+        }
+        try {
+            return ImportRow.of(line, objectMapper.convertValue(values, type));
+        } catch (IllegalArgumentException e) {
+            // NOTE: 전체 메시지에는 DTO 클래스 이름(reference chain)이 붙으므로 JSON과 같이 원래 사유만 응답
+            String reason = e.getCause() instanceof JsonProcessingException cause ? cause.getOriginalMessage() : "값 형식이 올바르지 않습니다.";
+            return ImportRow.failed(line, "CSV 값을 변환할 수 없습니다: " + reason);
+        }
+    }
+}
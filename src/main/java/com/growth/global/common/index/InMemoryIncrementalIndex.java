@@ -0,0 +1,116 @@
+package com.growth.global.common.index;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 메모리 자료구조(T) 하나를 통째로 교체하는 IncrementalIndex입니다.
+ * - 조회는 read lock, 변경/교체는 write lock으로 보호합니다. (조회가 훨씬 많음)
+ * - 재생성은 새 자료구조에 전체를 읽은 뒤 교체하므로, 재생성 중에도 기존 색인으로 조회할 수 있습니다.
+ * - 읽는 동안에는 행마다 write lock을 잡으므로 긴 재생성 중에도 조회가 막히지 않습니다.
+ *
+ * @param <T> 색인 자료구조 타입 (스레드 안전하지 않아도 됨)
+ */
+public abstract class InMemoryIncrementalIndex<T> extends IncrementalIndex {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile T current;
+
+    // NOTE: 재생성 중에 리스너로 들어온 변경이 새 색인에서 빠지지 않도록 재생성 중인 색인에도 함께 반영
+    private T building;
+
+    protected InMemoryIncrementalIndex(String name, boolean enabled) {
+        super(name, enabled);
+    }
+
+    /**
+     * 비어 있는 색인 자료구조를 만듭니다.
+     */
+    protected abstract T newTable();
+
+    /**
+     * since 이후(null이면 전체)의 행을 읽어서 table에 추가하고, 읽은 가장 늦은 created_at을 반환합니다.
+     * 자료구조가 스레드 안전하지 않으면 행을 추가할 때 locked()로 감싸야 합니다.
+     */
+    protected abstract LocalDateTime load(T table, LocalDateTime since);
+
+    /**
+     * 색인 자료구조에 들어 있는 항목 수를 반환합니다.
+     */
+    protected abstract int count(T table);
+
+    @Override
+    protected final LocalDateTime loadAll() {
+        T rebuilt = newTable();
+        locked(() -> building = rebuilt);
+        try {
+            LocalDateTime latest = load(rebuilt, null);
+            locked(() -> current = rebuilt);
+            return latest;
+        } finally {
+            locked(() -> building = null);
+        }
+    }
+
+    @Override
+    protected final LocalDateTime loadSince(LocalDateTime since) {
+        return load(read(Function.identity()), since);
+    }
+
+    /**
+     * read lock을 잡고 현재 색인으로 조회합니다. 한 번도 만들어지지 않았으면 null이 전달됩니다.
+     */
+    protected final <R> R read(Function<T, R> query) {
+        lock.readLock().lock();
+        try {
+            return query.apply(current);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 락 없이 현재 색인을 반환합니다. 자료구조가 스스로 스레드 안전한 경우(예: BloomFilter)에만 사용합니다.
+     */
+    protected final T current() {
+        return current;
+    }
+
+    /**
+     * 현재 색인과 재생성 중인 색인에 같은 변경을 반영합니다. (엔티티 리스너 경로)
+     */
+    protected final void update(Consumer<T> change) {
+        if (!isEnabled()) {
+            return;
+        }
+        locked(() -> {
+            if (current != null) {
+                change.accept(current);
+            }
+            if (building != null) {
+                change.accept(building);
+            }
+        });
+    }
+
+    /**
+     * write lock을 잡고 실행합니다.
+     */
+    protected final void locked(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 현재 색인의 항목 수를 반환합니다. (gauge용)
+     */
+    protected final int size() {
+        return read(table -> table == null ? 0 : count(table));
+    }
+}
@@ -0,0 +1,144 @@
+package com.growth.global.common.index;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+/**
+ * 테이블을 created_at 워터마크 기준으로 이어서 읽는 in-process 색인의 공통 생명주기입니다.
+ * - 시작 시(warmUp) 전체를 읽어서 만들고(rebuild), 이후에는 마지막으로 읽은 created_at 이후의 행만 이어서 읽습니다(refresh).
+ *   이 인스턴스의 변경은 엔티티 리스너로 바로 반영하고, refresh는 다른 인스턴스에서 추가된 행을 반영하는 용도입니다.
+ * - 삭제는 created_at으로 알 수 없으므로 주기적인 rebuild 때 정리됩니다.
+ * - rebuild와 refresh는 한 번에 하나만 실행하며, refresh는 다른 작업이 실행 중이면 기다리지 않고 넘어갑니다.
+ * - 하위 클래스는 rebuild()/refresh()를 재정의해서 자신의 설정 키로 @Scheduled를 붙입니다.
+ */
+public abstract class IncrementalIndex {
+
+    // NOTE: 인스턴스 간 시계 차이와 커밋 지연으로 created_at이 워터마크보다 조금 이전인 행을 놓치지 않도록 겹쳐서 읽음
+    private static final Duration REFRESH_OVERLAP = Duration.ofMinutes(1);
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+    private final String name;
+    private final boolean enabled;
+
+    // NOTE: 재생성/이어서 읽기가 서로 겹치지 않도록 한 번에 하나만 실행 (하위 클래스의 다른 유지보수 작업도 이 락을 씀)
+    protected final ReentrantLock maintenanceLock = new ReentrantLock();
+    private volatile boolean ready;
+    private volatile LocalDateTime watermark;
+
+    /**
+     * @param name 로그에 쓸 색인 이름
+     * @param enabled 비활성이면 읽기/갱신을 모두 건너뜀
+     */
+    protected IncrementalIndex(String name, boolean enabled) {
+        this.name = name;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 처음부터 모든 행을 읽어서 색인을 만들고, 읽은 가장 늦은 created_at을 반환합니다. (행이 없으면 null)
+     */
+    protected abstract LocalDateTime loadAll();
+
+    /**
+     * since 이후에 추가된 행을 현재 색인에 이어서 반영하고, 읽은 가장 늦은 created_at을 반환합니다. (행이 없으면 null)
+     * 겹쳐 읽은 행이 다시 들어오므로 같은 행을 여러 번 반영해도 결과가 같아야 합니다.
+     */
+    protected abstract LocalDateTime loadSince(LocalDateTime since);
+
+    /**
+     * 생성 완료 로그에 붙일 색인 상태입니다. (예: rooms=123)
+     */
+    protected abstract String describe();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (ready) {
+            resume();
+        } else {
+            rebuild();
+        }
+    }
+
+    /**
+     * 전체를 다시 읽어서 색인을 만듭니다. 실패하면 기존 색인을 그대로 씁니다.
+     */
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        maintenanceLock.lock();
+        try {
+            LocalDateTime latest = loadAll();
+            // NOTE: 빈 테이블이면 지금부터 이어서 읽음 (매번 전체를 다시 읽지 않도록)
+            watermark = latest != null ? latest : LocalDateTime.now();
+            rebuilt();
+            ready = true;
+            log.info("{} 생성 완료 ({})", name, describe());
+        } catch (RuntimeException e) {
+            log.error("{} 생성 실패 - 기존 색인 유지 (ready={}): {}", name, ready, e.getMessage());
+        } finally {
+            maintenanceLock.unlock();
+        }
+    }
+
+    /**
+     * 마지막으로 읽은 created_at 이후에 추가된 행을 이어서 읽습니다. (다른 인스턴스에서 추가된 행 반영)
+     * 다른 스레드가 재생성 중이면 기다리지 않고 넘어갑니다.
+     */
+    public void refresh() {
+        if (!enabled || !ready || !maintenanceLock.tryLock()) {
+            return;
+        }
+        try {
+            LocalDateTime latest = loadSince(watermark.minus(REFRESH_OVERLAP));
+            if (latest != null && latest.isAfter(watermark)) {
+                watermark = latest;
+            }
+        } catch (RuntimeException e) {
+            log.warn("{} 갱신 실패: {}", name, e.getMessage());
+        } finally {
+            maintenanceLock.unlock();
+        }
+    }
+
+    /**
+     * 시작 전에 이전 상태를 복원(restore)했으면 warmUp에서 전체를 다시 읽는 대신 호출됩니다.
+     */
+    protected void resume() {
+        refresh();
+    }
+
+    /**
+     * rebuild에서 워터마크를 정한 뒤, 준비 완료로 바꾸기 전에 호출됩니다. (maintenanceLock을 잡은 상태)
+     */
+    protected void rebuilt() {
+    }
+
+    /**
+     * 저장해 둔 색인을 다시 열었을 때 워터마크를 복원하고 준비 완료로 바꿉니다.
+     */
+    protected final void restore(LocalDateTime watermark) {
+        this.watermark = watermark;
+        this.ready = true;
+    }
+
+    protected final boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 조회에 쓸 수 있는지 (활성이고 한 번 이상 만들어졌는지) 반환합니다.
+     */
+    protected final boolean isAvailable() {
+        return enabled && ready;
+    }
+
+    protected final LocalDateTime watermark() {
+        return watermark;
+    }
+}
@@ -0,0 +1,46 @@
+package com.growth.global.common.listener;
+
+import java.util.function.Consumer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 엔티티 변경을 메모리 색인/캐시(대상 빈)에 반영하는 JPA 엔티티 리스너의 공통 부모입니다.
+ * - 대상 빈은 ObjectProvider로 주입받습니다. JPA 슬라이스 테스트처럼 대상 빈이 없는 컨텍스트에서는 반영을 건너뜁니다.
+ * - 바로 반영할지(now), 커밋된 뒤에 반영할지(afterCommit)는 리스너마다 롤백 시 영향에 따라 고릅니다.
+ * - 커밋 후 반영은 실행 시점에 엔티티 상태가 바뀌어 있을 수 있으므로, 필요한 값은 호출 전에 지역 변수로 꺼내 둡니다.
+ *
+ * @param <T> 변경을 반영할 대상 빈 타입
+ */
+public abstract class EntityChangeListener<T> {
+
+    private final ObjectProvider<T> target;
+
+    protected EntityChangeListener(ObjectProvider<T> target) {
+        this.target = target;
+    }
+
+    /**
+     * 대상 빈에 바로 반영합니다.
+     */
+    protected final void now(Consumer<T> action) {
+        target.ifAvailable(action);
+    }
+
+    /**
+     * 트랜잭션이 있으면 커밋된 뒤에, 없으면 바로 반영합니다. (롤백되면 반영하지 않음)
+     */
+    protected final void afterCommit(Consumer<T> action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            now(action);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                now(action);
+            }
+        });
+    }
+}
@@ -0,0 +1,28 @@
+package com.growth.global.common.response;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서(keyset) 기반 페이지입니다.
+ * - 다음 페이지는 nextCursor를 그대로 넘겨서 조회합니다 (마지막 페이지면 null).
+ * - 전체 개수는 계산하지 않습니다 (깊은 페이지에서도 조회 비용이 일정하도록).
+ *
+ * @param content 현재 페이지 데이터
+ * @param nextCursor 다음 페이지 조회용 불투명(opaque) 토큰
+ * @param hasNext 다음 페이지 존재 여부
+ */
+public record CursorPage<T>(List<T> content, String nextCursor, boolean hasNext) {
+
+    public static <T> CursorPage<T> last(List<T> content) {
+        return new CursorPage<>(content, null, false);
+    }
+
+    public static <T> CursorPage<T> of(List<T> content, String nextCursor) {
+        return new CursorPage<>(content, nextCursor, true);
+    }
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new CursorPage<>(content.stream().<R>map(mapper).toList(), nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,119 @@
+package com.growth.global.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 키용 lock-free Bloom filter입니다.
+ * - mightContain()이 false면 확실히 없는 키이고, true면 있을 수도 있는 키입니다 (false positive 허용, false negative 없음).
+ * - 비트 배열은 AtomicLongArray로 관리하므로 put()/mightContain()을 여러 스레드에서 락 없이 호출할 수 있습니다.
+ * - 삭제는 지원하지 않으므로, 키가 빠져야 하면 새 필터를 만들어 교체합니다.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    private BloomFilter(long bitSize, int hashCount) {
+        int words = (int) Math.max(1, (bitSize + 63) >>> 6);
+        this.bits = new AtomicLongArray(words);
+        this.bitSize = (long) words << 6;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * 예상 원소 수와 목표 false positive 비율로 크기를 정해 생성합니다.
+     *
+     * @param expectedInsertions 예상 원소 수
+     * @param falsePositiveRate 목표 false positive 비율 (0 < fpp < 1)
+     * @return 빈 Bloom filter
+     */
+    public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate는 0과 1 사이여야 합니다.");
+        }
+        long n = Math.max(1, expectedInsertions);
+        // m = -n * ln(p) / (ln 2)^2, k = m / n * ln 2
+        long bitSize = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        if (bitSize > (long) Integer.MAX_VALUE << 6) {
+            throw new IllegalArgumentException("Bloom filter가 너무 큽니다.");
+        }
+        int hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+        return new BloomFilter(bitSize, hashCount);
+    }
+
+    public void put(String key) {
+        long hash1 = hash(key, 0x9E3779B97F4A7C15L);
+        long hash2 = hash(key, 0xC2B2AE3D27D4EB4FL) | 1L;
+        for (int i = 0; i < hashCount; i++) {
+            setBit(Math.floorMod(hash1 + i * hash2, bitSize));
+        }
+    }
+
+    public boolean mightContain(String key) {
+        long hash1 = hash(key, 0x9E3779B97F4A7C15L);
+        long hash2 = hash(key, 0xC2B2AE3D27D4EB4FL) | 1L;
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, bitSize);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 켜진 비트 수로 들어 있는 원소 수를 추정합니다. (n ≈ -m/k * ln(1 - X/m))
+     * 비트 배열 전체를 훑으므로 로그/지표용으로만 사용합니다.
+     */
+    public long approximateElementCount() {
+        long setBits = 0;
+        for (int i = 0; i < bits.length(); i++) {
+            setBits += Long.bitCount(bits.get(i));
+        }
+        if (setBits >= bitSize) {
+            return Long.MAX_VALUE;
+        }
+        return Math.round(-(double) bitSize / hashCount * Math.log1p(-(double) setBits / bitSize));
+    }
+
+    public long bitSize() {
+        return bitSize;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current = bits.get(word);
+        // NOTE: 이미 켜진 비트는 CAS 없이 건너뜀 (대부분의 조회/재삽입 경로)
+        while ((current & mask) == 0) {
+            if (bits.compareAndSet(word, current, current | mask)) {
+                return;
+            }
+            current = bits.get(word);
+        }
+    }
+
+    // NOTE: Kirsch-Mitzenmacher 방식 - 시드가 다른 64bit 해시 2개로 k개의 인덱스를 만듦
+    private static long hash(String key, long seed) {
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        long h = seed ^ bytes.length;
+        for (byte b : bytes) {
+            h ^= b & 0xFF;
+            h *= 0x100000001B3L;
+        }
+        return mix(h);
+    }
+
+    // NOTE: SplitMix64 finalizer - FNV의 하위 비트 편향을 섞어줌
+    private static long mix(long h) {
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        return h ^ (h >>> 31);
+    }
+}
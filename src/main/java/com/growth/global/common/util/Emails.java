@@ -0,0 +1,23 @@
+package com.growth.global.common.util;
+
+import java.util.Locale;
+
+/**
+ * 이메일 비교용 유틸리티입니다.
+ * - MySQL 기본 collation은 대소문자를 구분하지 않으므로, 애플리케이션에서 이메일을 키로 쓸 때도 같은 기준으로 맞춥니다.
+ */
+public final class Emails {
+
+    private Emails() {
+    }
+
+    /**
+     * 앞뒤 공백을 제거하고 소문자로 바꾼 비교용 이메일을 반환합니다.
+     *
+     * @param email 원본 이메일
+     * @return 정규화된 이메일
+     */
+    public static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
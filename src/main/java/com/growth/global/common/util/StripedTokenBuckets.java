@@ -0,0 +1,114 @@
+package com.growth.global.common.util;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * 키를 고정된 개수의 슬롯(stripe)에 해시해서 관리하는 lock-free token bucket입니다.
+ * - 키가 아무리 많아도 메모리는 stripes * 8 bytes로 고정됩니다 (키별 객체를 만들지 않음).
+ * - 해시가 충돌한 키들은 같은 버킷을 공유하므로, 허용량이 실제보다 줄어드는 쪽(보수적)으로만 틀립니다.
+ * - 각 슬롯의 상태(마지막 충전 시각 + 남은 토큰)는 long 하나에 담아 CAS로 갱신합니다.
+ */
+public class StripedTokenBuckets {
+
+    // NOTE: 하위 20bit = 남은 토큰(1/1000 단위), 상위 44bit = 마지막 충전 시각(생성 시점 기준 ms)
+    private static final int TOKEN_BITS = 20;
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+    private static final long MILLI = 1_000;
+
+    private final AtomicLongArray buckets;
+    private final int mask;
+    private final long capacityMilli;
+    private final long refillPeriodMillis;
+    private final LongSupplier clockMillis;
+    private final long origin;
+
+    // NOTE: 키의 각 문자를 시드와 섞어서 슬롯을 고름 (실행마다 다른 시드)
+    //       String.hashCode()를 거치지 않으므로 hashCode가 같은 키("Aa", "BB" 등)도 시드에 따라 다른 슬롯으로 흩어짐
+    private final long seed;
+
+    /**
+     * @param stripes 슬롯 수 (2의 거듭제곱으로 올림)
+     * @param capacity 버킷 최대 토큰 수 (연속 허용 횟수, 최대 1048)
+     * @param refillPeriodMillis 빈 버킷이 가득 찰 때까지 걸리는 시간
+     * @param clockMillis 현재 시각(ms) 공급자
+     */
+    public StripedTokenBuckets(int stripes, int capacity, long refillPeriodMillis, LongSupplier clockMillis) {
+        this(stripes, capacity, refillPeriodMillis, clockMillis, ThreadLocalRandom.current().nextLong());
+    }
+
+    StripedTokenBuckets(int stripes, int capacity, long refillPeriodMillis, LongSupplier clockMillis, long seed) {
+        if (capacity <= 0 || capacity * MILLI > TOKEN_MASK) {
+            throw new IllegalArgumentException("capacity는 1 ~ " + TOKEN_MASK / MILLI + " 사이여야 합니다.");
+        }
+        if (refillPeriodMillis <= 0) {
+            throw new IllegalArgumentException("refillPeriodMillis는 0보다 커야 합니다.");
+        }
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.buckets = new AtomicLongArray(size);
+        this.mask = size - 1;
+        this.capacityMilli = capacity * MILLI;
+        this.refillPeriodMillis = refillPeriodMillis;
+        this.clockMillis = clockMillis;
+        // NOTE: 상태 0은 "아직 사용되지 않은(가득 찬) 버킷"을 뜻하므로 경과 시간이 항상 1 이상이 되도록 설정
+        this.origin = clockMillis.getAsLong() - 1;
+        this.seed = seed;
+    }
+
+    public StripedTokenBuckets(int stripes, int capacity, long refillPeriodMillis) {
+        this(stripes, capacity, refillPeriodMillis, System::currentTimeMillis);
+    }
+
+    /**
+     * 키의 버킷에서 토큰 하나를 꺼냅니다.
+     *
+     * @param key 제한 대상 키 (이메일, 클라이언트 주소 등)
+     * @return 허용되면 남은 토큰 수(0 이상), 거절되면 다음 토큰까지 남은 시간(ms)의 음수
+     */
+    public long tryAcquire(String key) {
+        int index = index(key);
+        long now = Math.max(1, clockMillis.getAsLong() - origin);
+
+        while (true) {
+            long state = buckets.get(index);
+            long tokens = refill(state, now);
+
+            if (tokens < MILLI) {
+                // NOTE: 정수 연산으로 올림 - 안내한 시간 뒤에 다시 요청하면 반드시 토큰이 있음
+                long waitMillis = ((MILLI - tokens) * refillPeriodMillis + capacityMilli - 1) / capacityMilli;
+                return -Math.max(1, waitMillis);
+            }
+
+            long next = (now << TOKEN_BITS) | (tokens - MILLI);
+            if (buckets.compareAndSet(index, state, next)) {
+                return (tokens - MILLI) / MILLI;
+            }
+        }
+    }
+
+    private long refill(long state, long now) {
+        if (state == 0) {
+            return capacityMilli;
+        }
+        long last = state >>> TOKEN_BITS;
+        long tokens = state & TOKEN_MASK;
+        long elapsed = Math.max(0, now - last);
+        if (elapsed >= refillPeriodMillis) {
+            return capacityMilli;
+        }
+        return Math.min(capacityMilli, tokens + elapsed * capacityMilli / refillPeriodMillis);
+    }
+
+    private int index(String key) {
+        long h = seed;
+        for (int i = 0; i < key.length(); i++) {
+            h = (h ^ key.charAt(i)) * 0x9E3779B97F4A7C15L;
+            h ^= h >>> 32;
+        }
+        h ^= key.length();
+        h = (h ^ (h >>> 33)) * 0xFF51AFD7ED558CCDL;
+        h = (h ^ (h >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return (int) (h ^ (h >>> 33)) & mask;
+    }
+}
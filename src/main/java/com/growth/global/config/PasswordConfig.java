@@ -1,18 +1,63 @@
 package com.growth.global.config;
 
+import com.growth.global.security.BCryptStrengthCalibrator;
+import com.growth.global.security.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Configuration
 public class PasswordConfig {
 
+    private static final String BCRYPT_ID = "bcrypt";
+
     /**
-     * 비밀번호 암호화를 위한 BCrypt 인코더
+     * 비밀번호 암호화를 위한 인코더
+     * - 새 해시는 "{bcrypt}$2a$..." 형식으로 저장되고, 접두사가 없는 기존 해시도 BCrypt로 검증합니다
+     * - strength가 0 이하이면 시작 시 해싱 시간을 측정해서 target-latency에 맞는 strength를 고릅니다
+     * - BCrypt 연산은 전용 스레드 풀(BoundedPasswordEncoder)에서 실행됩니다
+     * - pool-size가 0 이하이면 CPU 코어 수를 사용합니다
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(
+            @Value("${password.hashing.pool-size:0}") int poolSize,
+            @Value("${password.hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${password.hashing.wait-timeout:5000}") long waitTimeoutMillis,
+            @Value("${password.hashing.bcrypt.strength:0}") int strength,
+            @Value("${password.hashing.bcrypt.target-latency:250}") long targetLatencyMillis,
+            @Value("${password.hashing.bcrypt.min-strength:10}") int minStrength,
+            @Value("${password.hashing.bcrypt.max-strength:14}") int maxStrength,
+            MeterRegistry meterRegistry
+    ) {
+        int bcryptStrength = strength > 0
+                ? strength
+                : BCryptStrengthCalibrator.calibrate(Duration.ofMillis(targetLatencyMillis), minStrength, maxStrength);
+        Gauge.builder("password.hashing.bcrypt.strength", () -> bcryptStrength)
+                .description("현재 BCrypt strength(cost)")
+                .register(meterRegistry);
+
+        // NOTE: upgradeEncoding()은 접두사가 없거나 strength가 낮은 해시에 대해 true -> 로그인 시 재해싱
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(
+                BCRYPT_ID,
+                Map.<String, PasswordEncoder>of(BCRYPT_ID, bcrypt)
+        );
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(
+                delegating,
+                threads,
+                queueCapacity,
+                waitTimeoutMillis,
+                meterRegistry
+        );
     }
 }
@@ -1,9 +1,11 @@
 package com.growth.global.config;
 
 import com.growth.auth.jwt.filter.JwtAuthenticationFilter;
+import com.growth.global.security.AdminMembers;
 import java.util.Arrays;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -42,12 +44,21 @@ public class SecurityConfig {
       .authorizeHttpRequests(
         auth ->
           auth
-            // NOTE: 회원가입, 로그인은 인증 없이 접근 가능
+            // NOTE: 회원가입, 로그인, 토큰 재발급, 로그아웃은 인증 없이 접근 가능
+            // - 토큰 재발급/로그아웃은 Access Token이 만료된 상태에서도 쿠키로 호출될 수 있음
             .requestMatchers(
               "/api/members/signup",
-              "/api/auth/login"
+              "/api/auth/login",
+              "/api/auth/refresh",
+              "/api/auth/logout"
             )
             .permitAll()
+            // NOTE: 숙소 검색은 로그인하지 않은 게스트도 사용
+            .requestMatchers(HttpMethod.GET, "/api/rooms/search", "/api/rooms/nearby", "/api/rooms/in-box", "/api/rooms/clusters", "/api/rooms/facets", "/api/rooms/text-search")
+            .permitAll()
+            // NOTE: 회원 전체 내보내기/대량 등록은 관리자만 (모든 회원의 이메일/닉네임 조회, 검증 없는 대량 가입)
+            .requestMatchers("/api/members/export", "/api/members/import")
+            .hasRole(AdminMembers.ROLE)
             // Actuator health check 허용 - CD, 모니터링에 필요함
             .requestMatchers("/actuator/health")
             .permitAll()
@@ -1,8 +1,10 @@
 package com.growth.global.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -16,6 +18,8 @@ import java.util.Map;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    public static final String RATE_LIMIT_REMAINING_HEADER = "X-RateLimit-Remaining";
+
     @ExceptionHandler(BadRequestException.class)
     ProblemDetail handleBadRequestException(final BadRequestException e) {
         log.error("BadRequestException: {}", e.getMessage());
@@ -26,6 +30,30 @@ public class GlobalExceptionHandler {
         return problemDetail;
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    ProblemDetail handleServiceUnavailableException(final ServiceUnavailableException e) {
+        log.warn("ServiceUnavailableException: {}", e.getMessage());
+
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+        problemDetail.setTitle("일시적으로 요청을 처리할 수 없습니다");
+
+        return problemDetail;
+    }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    ResponseEntity<ProblemDetail> handleTooManyRequestsException(final TooManyRequestsException e) {
+        log.warn("TooManyRequestsException: {}", e.getMessage());
+
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.TOO_MANY_REQUESTS, e.getMessage());
+        problemDetail.setTitle("요청이 너무 많습니다");
+
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .header(RATE_LIMIT_REMAINING_HEADER, "0")
+                .body(problemDetail);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     ProblemDetail handleMethodArgumentNotValidException(final MethodArgumentNotValidException e) {
         log.error("MethodArgumentNotValidException: {}", e.getMessage());
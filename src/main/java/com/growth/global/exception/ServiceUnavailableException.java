@@ -0,0 +1,8 @@
+package com.growth.global.exception;
+
+public class ServiceUnavailableException extends RuntimeException {
+
+    public ServiceUnavailableException(final String message) {
+        super(message);
+    }
+}
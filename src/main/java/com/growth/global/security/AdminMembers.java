@@ -0,0 +1,46 @@
+package com.growth.global.security;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 관리자 권한(ROLE_ADMIN)을 가진 회원 목록입니다.
+ * - 회원에는 역할 컬럼이 없으므로 auth.admin-member-ids 설정(쉼표로 구분한 회원 ID)으로 지정합니다.
+ * - 비어 있으면(기본값) 관리자가 없으므로 관리자 전용 API는 모두 403으로 거절됩니다.
+ */
+@Component
+public class AdminMembers {
+
+    public static final String ROLE = "ADMIN";
+
+    private static final List<GrantedAuthority> USER_AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+    private static final List<GrantedAuthority> ADMIN_AUTHORITIES =
+            List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_" + ROLE));
+
+    private final Set<UUID> memberIds;
+
+    public AdminMembers(@Value("${auth.admin-member-ids:}") String memberIds) {
+        this.memberIds = StringUtils.commaDelimitedListToSet(memberIds).stream()
+                .map(String::trim)
+                .filter(StringUtils::hasText)
+                .map(UUID::fromString)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * 인증된 회원에게 부여할 권한을 반환합니다.
+     *
+     * @param memberId 회원 ID
+     * @return 관리자면 ROLE_USER, ROLE_ADMIN, 아니면 ROLE_USER
+     */
+    public List<GrantedAuthority> authoritiesOf(UUID memberId) {
+        return memberIds.contains(memberId) ? ADMIN_AUTHORITIES : USER_AUTHORITIES;
+    }
+}
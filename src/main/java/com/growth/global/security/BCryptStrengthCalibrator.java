@@ -0,0 +1,70 @@
+package com.growth.global.security;
+
+import java.time.Duration;
+import java.util.Arrays;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * 현재 서버에서 BCrypt 해싱 시간을 측정해서 목표 지연 시간에 맞는 strength(cost)를 고릅니다.
+ * - strength가 1 오를 때마다 해싱 시간은 약 2배가 되므로, 낮은 strength에서 측정한 시간으로 나머지를 추정합니다.
+ * - 배포 장비의 CPU 성능이 달라도 로그인 한 번의 해싱 시간이 목표치를 넘지 않도록 하기 위함입니다.
+ */
+@Slf4j
+public final class BCryptStrengthCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "calibration-sample-password";
+    private static final int SAMPLES = 5;
+
+    private BCryptStrengthCalibrator() {
+    }
+
+    /**
+     * 목표 지연 시간 이하로 해싱되는 가장 큰 strength를 반환합니다.
+     *
+     * @param targetLatency 해싱 한 번의 목표 시간
+     * @param minStrength 최소 strength (목표를 넘더라도 이 값보다 낮추지 않음)
+     * @param maxStrength 최대 strength
+     * @return 선택된 strength
+     */
+    public static int calibrate(Duration targetLatency, int minStrength, int maxStrength) {
+        if (minStrength < 4 || maxStrength > 31 || minStrength > maxStrength) {
+            throw new IllegalArgumentException("BCrypt strength 범위가 올바르지 않습니다: " + minStrength + "~" + maxStrength);
+        }
+
+        // NOTE: JIT 워밍업 후 최소 strength의 해싱 시간(중앙값) 측정
+        long baseNanos = medianHashNanos(minStrength);
+        long targetNanos = targetLatency.toNanos();
+
+        int strength = minStrength;
+        long estimatedNanos = baseNanos;
+        while (strength < maxStrength && estimatedNanos * 2 <= targetNanos) {
+            strength++;
+            estimatedNanos *= 2;
+        }
+
+        log.info(
+                "BCrypt strength 보정: strength={}, 예상 해싱 시간={}ms (목표 {}ms, strength {} 측정값 {}ms)",
+                strength,
+                Duration.ofNanos(estimatedNanos).toMillis(),
+                targetLatency.toMillis(),
+                minStrength,
+                Duration.ofNanos(baseNanos).toMillis()
+        );
+        return strength;
+    }
+
+    private static long medianHashNanos(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        encoder.encode(SAMPLE_PASSWORD);
+
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[SAMPLES / 2];
+    }
+}
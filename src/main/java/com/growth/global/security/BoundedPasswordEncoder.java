@@ -0,0 +1,172 @@
+package com.growth.global.security;
+
+import com.growth.global.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 비밀번호 해싱을 전용 스레드 풀에서 실행하는 PasswordEncoder 데코레이터입니다.
+ * - 동시에 실행되는 해싱 수를 pool-size로, 대기 작업 수를 queue-capacity로 제한합니다.
+ * - 큐가 가득 차면 기다리지 않고 즉시 ServiceUnavailableException(503)으로 거절합니다.
+ * - 호출 측은 트랜잭션 밖에서 호출해야 해싱 시간 동안 DB 커넥션을 점유하지 않습니다.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private static final String METRIC_NAME = "password.hashing";
+    private static final String REJECTED_MESSAGE = "요청이 많아 잠시 후 다시 시도해주세요.";
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long waitTimeoutMillis;
+    private final Counter rejectedCounter;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+
+    public BoundedPasswordEncoder(
+            PasswordEncoder delegate,
+            int poolSize,
+            int queueCapacity,
+            long waitTimeoutMillis,
+            MeterRegistry meterRegistry
+    ) {
+        this.delegate = delegate;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                namedThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        // 스레드 풀 크기, 대기 중인 작업 수(queue depth), 완료 작업 수 등을 지표로 등록합니다
+        new ExecutorServiceMetrics(executor, METRIC_NAME, Tags.empty()).bindTo(meterRegistry);
+        this.rejectedCounter = Counter.builder(METRIC_NAME + ".rejected")
+                .description("해싱 큐가 가득 차서 거절된 요청 수")
+                .register(meterRegistry);
+
+        // 해싱 스레드에서 실제 해싱에 걸린 시간 (큐 대기 시간 제외) - strength 조정 시 p99 확인용
+        this.encodeTimer = hashingTimer("encode", meterRegistry);
+        this.matchesTimer = hashingTimer("matches", meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> encodeTimer.recordCallable(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> matchesTimer.recordCallable(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    /**
+     * 여러 비밀번호를 해싱 스레드 풀에서 병렬로 해싱합니다. (대량 가입 등)
+     * 한 번에 pool-size 개씩만 제출해서, 대량 작업이 큐를 채워 로그인/가입 요청이 거절되지 않도록 합니다.
+     *
+     * @param rawPasswords 원문 비밀번호 목록
+     * @return 입력과 같은 순서의 해시 목록
+     * @throws ServiceUnavailableException 큐가 가득 찼거나 대기 시간을 넘긴 경우
+     */
+    public List<String> encodeAll(List<? extends CharSequence> rawPasswords) {
+        List<String> encoded = new ArrayList<>(rawPasswords.size());
+        int window = executor.getMaximumPoolSize();
+        for (int from = 0; from < rawPasswords.size(); from += window) {
+            List<Future<String>> futures = new ArrayList<>(window);
+            try {
+                for (CharSequence rawPassword : rawPasswords.subList(from, Math.min(from + window, rawPasswords.size()))) {
+                    futures.add(submit(() -> encodeTimer.recordCallable(() -> delegate.encode(rawPassword))));
+                }
+                for (Future<String> future : futures) {
+                    encoded.add(await(future));
+                }
+            } catch (RuntimeException e) {
+                futures.forEach(future -> future.cancel(true));
+                throw e;
+            }
+        }
+        return encoded;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        // 해시 문자열의 접두사/cost만 확인하므로 호출 스레드에서 바로 실행합니다
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private <T> T execute(Callable<T> task) {
+        return await(submit(task));
+    }
+
+    private <T> Future<T> submit(Callable<T> task) {
+        try {
+            return executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("비밀번호 해싱 요청 거절 (queue={})", executor.getQueue().size());
+            throw new ServiceUnavailableException(REJECTED_MESSAGE);
+        }
+    }
+
+    private <T> T await(Future<T> future) {
+        try {
+            return future.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ServiceUnavailableException(REJECTED_MESSAGE);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 해싱 중 인터럽트가 발생했습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 해싱에 실패했습니다.", e.getCause());
+        }
+    }
+
+    private static Timer hashingTimer(String operation, MeterRegistry meterRegistry) {
+        return Timer.builder(METRIC_NAME + ".duration")
+                .description("비밀번호 해싱 시간")
+                .tag("operation", operation)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static ThreadFactory namedThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,206 @@
+package com.growth.global.seed;
+
+import com.growth.global.common.id.UuidV7Generator;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * 성능 측정용 회원/숙소 데이터를 만드는 생성기입니다.
+ * - 같은 seed와 설정이면 식별자, 시간까지 포함해서 항상 같은 순서로 같은 값을 만듭니다 (DB 접근 없음).
+ * - 회원은 start부터 span 동안 고르게 가입하고, 식별자(UUIDv7)의 시간 부분은 가입 시간을 따릅니다.
+ * - 호스트 한 명의 숙소 수는 Pareto 분포(대부분 1~2개, 소수가 수십 개)를 따릅니다.
+ * - 가격은 지역/인원에 따라 중앙값이 달라지는 로그 정규 분포를 따릅니다.
+ * - 좌표는 지역 중심 주변에 정규 분포로 흩어집니다.
+ */
+class SyntheticDataGenerator {
+
+    // NOTE: 숙소 수 분포의 꼬리 두께 - 작을수록 숙소를 많이 가진 호스트가 늘어남 (1.6이면 평균 약 2.2개)
+    private static final double ROOMS_PER_HOST_ALPHA = 1.6;
+    private static final int MAX_ROOMS_PER_HOST = 300;
+    private static final Duration MAX_ROOM_DELAY = Duration.ofDays(30);
+
+    private static final int MIN_PRICE = 10_000;
+    private static final int MAX_PRICE = 3_000_000;
+    private static final double PRICE_SIGMA = 0.55;
+
+    // NOTE: 좌표는 지역 중심에서 spread(도) 표준편차의 정규 분포 - 숙소가 도심에 몰리고 외곽으로 갈수록 드묾
+    private static final Region[] REGIONS = {
+            new Region("서울특별시", "서울", 30, 1.3, 37.5665, 126.9780, 0.06, new String[]{"강남구", "마포구", "종로구", "용산구", "송파구", "중구", "성동구"}),
+            new Region("부산광역시", "부산", 14, 1.0, 35.1796, 129.0756, 0.06, new String[]{"해운대구", "수영구", "중구", "부산진구", "기장군"}),
+            new Region("제주특별자치도", "제주", 14, 1.15, 33.3846, 126.5535, 0.15, new String[]{"제주시", "서귀포시"}),
+            new Region("경기도", "경기", 14, 0.85, 37.4138, 127.5183, 0.25, new String[]{"수원시", "가평군", "성남시", "고양시", "파주시"}),
+            new Region("강원특별자치도", "강원", 10, 0.9, 37.8228, 128.1555, 0.3, new String[]{"강릉시", "속초시", "춘천시", "양양군", "평창군"}),
+            new Region("인천광역시", "인천", 6, 0.8, 37.4563, 126.7052, 0.08, new String[]{"중구", "연수구", "강화군"}),
+            new Region("경상북도", "경북", 6, 0.75, 36.4919, 128.8889, 0.3, new String[]{"경주시", "포항시", "안동시"}),
+            new Region("전라남도", "전남", 6, 0.75, 34.8679, 126.9910, 0.3, new String[]{"여수시", "순천시", "목포시"})
+    };
+    private static final int REGION_WEIGHT_TOTAL = 100;
+
+    private static final String[] STREETS = {"중앙로", "해안로", "문화로", "공원로", "시장길", "역전로", "산책로", "바다로", "호수로", "숲길"};
+
+    // NOTE: 최대 인원수 분포 - 2인 숙소가 가장 많고 대형 숙소는 드묾
+    private static final int[] MAX_GUESTS = {1, 2, 3, 4, 5, 6, 8, 10, 12};
+    private static final int[] MAX_GUEST_WEIGHTS = {8, 34, 14, 20, 6, 9, 5, 3, 1};
+    private static final int MAX_GUEST_WEIGHT_TOTAL = 100;
+
+    private static final String[] ROOM_ADJECTIVES = {"아늑한", "오션뷰", "감성", "모던한", "조용한", "햇살 가득한", "넓은", "가성비", "신축", "전통"};
+    private static final String[] ROOM_TYPES = {"원룸", "아파트", "게스트하우스", "펜션", "한옥", "오피스텔", "빌라", "단독주택", "스테이"};
+    private static final String[] ROOM_FEATURES = {"역에서 도보 5분", "주차 가능", "반려동물 동반 가능", "바다가 보이는 테라스", "넷플릭스 제공", "셀프 체크인", "조식 제공", "바비큐 가능"};
+
+    private static final String[] NICKNAME_ADJECTIVES = {"행복한", "졸린", "용감한", "느긋한", "배고픈", "신나는", "조용한", "부지런한", "여행하는", "수줍은"};
+    private static final String[] NICKNAME_NOUNS = {"여행자", "고양이", "펭귄", "호랑이", "나그네", "다람쥐", "바다", "구름", "감자", "여우"};
+
+    private final SplittableRandom random;
+    private final UuidV7Generator memberIds;
+    private final UuidV7Generator roomIds;
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+    private final long memberCount;
+    private final double hostRatio;
+    private final String emailDomain;
+
+    private long memberIndex;
+    // NOTE: UUIDv7 발급기가 읽는 시계 - 발급 직전에 만들 행의 생성 시간으로 맞춤
+    private long memberClock;
+    private long roomClock;
+
+    SyntheticDataGenerator(long seed, LocalDateTime start, Duration span, long memberCount, double hostRatio, String emailDomain) {
+        this.random = new SplittableRandom(seed);
+        // NOTE: 식별자 난수는 별도 스트림으로 분리해서, 값 분포를 바꿔도 식별자 순서가 흔들리지 않게 함
+        this.memberIds = UuidV7Generator.withSource(() -> memberClock, random.split());
+        this.roomIds = UuidV7Generator.withSource(() -> roomClock, random.split());
+        this.start = start;
+        this.end = start.plus(span);
+        this.memberCount = memberCount;
+        this.hostRatio = hostRatio;
+        this.emailDomain = emailDomain;
+    }
+
+    boolean hasNextMember() {
+        return memberIndex < memberCount;
+    }
+
+    SeedMember nextMember() {
+        long index = memberIndex++;
+        // NOTE: 가입 시간은 index 순서대로 증가 (같은 구간 안에서만 흔들림)
+        long spanMillis = Duration.between(start, end).toMillis();
+        long step = Math.max(1, spanMillis / memberCount);
+        LocalDateTime createdAt = start.plus(Duration.ofMillis(index * spanMillis / memberCount + random.nextLong(step)));
+        memberClock = toEpochMilli(createdAt);
+
+        String nickname = pick(NICKNAME_ADJECTIVES) + pick(NICKNAME_NOUNS) + random.nextInt(10_000);
+        return new SeedMember(memberIds.next(), "user" + index + "@" + emailDomain, nickname, createdAt);
+    }
+
+    /**
+     * 회원이 호스트이면 숙소 목록을, 아니면 빈 목록을 반환합니다.
+     */
+    List<SeedRoom> roomsOf(SeedMember host) {
+        if (random.nextDouble() >= hostRatio) {
+            return List.of();
+        }
+        int count = roomCount();
+        List<SeedRoom> rooms = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rooms.add(nextRoom(host));
+        }
+        return rooms;
+    }
+
+    private SeedRoom nextRoom(SeedMember host) {
+        long remaining = Math.min(MAX_ROOM_DELAY.toMillis(), Duration.between(host.createdAt(), end).toMillis());
+        LocalDateTime createdAt = host.createdAt().plus(Duration.ofMillis(remaining > 0 ? random.nextLong(remaining) : 0));
+        roomClock = toEpochMilli(createdAt);
+
+        Region region = pickRegion();
+        String district = region.districts()[random.nextInt(region.districts().length)];
+        String address = region.name() + " " + district + " " + pick(STREETS) + " " + (1 + random.nextInt(300));
+        int maxGuest = pickMaxGuest();
+        String title = region.shortName() + " " + district + " " + pick(ROOM_ADJECTIVES) + " " + pick(ROOM_TYPES);
+        String description = maxGuest + "인까지 머물 수 있는 숙소입니다. " + pick(ROOM_FEATURES) + ", " + pick(ROOM_FEATURES) + ".";
+
+        double latitude = region.latitude() + region.spread() * random.nextGaussian();
+        double longitude = region.longitude() + region.spread() * random.nextGaussian();
+
+        return new SeedRoom(roomIds.next(), host.memberId(), title, description, address, price(region, maxGuest), maxGuest,
+                latitude, longitude, createdAt);
+    }
+
+    // NOTE: 이산 Pareto - floor(u^(-1/alpha)), 최소 1개
+    private int roomCount() {
+        double u = 1.0 - random.nextDouble();
+        return (int) Math.min(MAX_ROOMS_PER_HOST, Math.floor(Math.pow(u, -1.0 / ROOMS_PER_HOST_ALPHA)));
+    }
+
+    // NOTE: 중앙값 = 6만원 * 지역 가중치 * (1 + 인원 1명당 15%), 천원 단위로 반올림
+    private int price(Region region, int maxGuest) {
+        double median = 60_000 * region.priceFactor() * (1 + 0.15 * (maxGuest - 1));
+        double price = median * Math.exp(PRICE_SIGMA * random.nextGaussian());
+        long rounded = Math.round(price / 1_000) * 1_000;
+        return (int) Math.max(MIN_PRICE, Math.min(MAX_PRICE, rounded));
+    }
+
+    private Region pickRegion() {
+        int target = random.nextInt(REGION_WEIGHT_TOTAL);
+        for (Region region : REGIONS) {
+            target -= region.weight();
+            if (target < 0) {
+                return region;
+            }
+        }
+        return REGIONS[REGIONS.length - 1];
+    }
+
+    private int pickMaxGuest() {
+        int target = random.nextInt(MAX_GUEST_WEIGHT_TOTAL);
+        for (int i = 0; i < MAX_GUESTS.length; i++) {
+            target -= MAX_GUEST_WEIGHTS[i];
+            if (target < 0) {
+                return MAX_GUESTS[i];
+            }
+        }
+        return MAX_GUESTS[MAX_GUESTS.length - 1];
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    record SeedMember(UUID memberId, String email, String nickname, LocalDateTime createdAt) {
+    }
+
+    record SeedRoom(
+            UUID roomId,
+            UUID hostId,
+            String title,
+            String description,
+            String address,
+            int price,
+            int maxGuest,
+            double latitude,
+            double longitude,
+            LocalDateTime createdAt
+    ) {
+    }
+
+    private record Region(
+            String name,
+            String shortName,
+            int weight,
+            double priceFactor,
+            double latitude,
+            double longitude,
+            double spread,
+            String[] districts
+    ) {
+    }
+}
@@ -0,0 +1,183 @@
+package com.growth.global.seed;
+
+import com.growth.global.common.id.UuidBytes;
+import com.growth.global.seed.SyntheticDataGenerator.SeedMember;
+import com.growth.global.seed.SyntheticDataGenerator.SeedRoom;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * 성능 측정용 회원/숙소 데이터를 DB에 채우는 도구입니다. seed 프로필에서만 등록됩니다.
+ * - 실행: ./gradlew bootRun --args='--spring.profiles.active=seed --seed.members=1000000'
+ * - 값은 {@link SyntheticDataGenerator}가 seed.random-seed로 만들므로, 같은 설정이면 어느 환경에서나 같은 데이터가 만들어집니다.
+ * - batch-size 개의 회원과 그 회원들의 숙소를 한 트랜잭션의 JDBC batch INSERT로 저장합니다 (엔티티/리스너를 거치지 않음).
+ * - 첫 번째 회원 이메일이 이미 있으면 이미 채운 것으로 보고 건너뜁니다.
+ */
+@Slf4j
+@Profile("seed")
+@Component
+public class SyntheticDataSeeder implements ApplicationRunner {
+
+    private static final String INSERT_MEMBER_SQL = "INSERT INTO member "
+            + "(member_id, email, password, nickname, created_at, updated_at, is_deleted) "
+            + "VALUES (?, ?, ?, ?, ?, ?, false)";
+    private static final String INSERT_ROOM_SQL = "INSERT INTO room "
+            + "(room_id, title, description, address, price, max_guest, latitude, longitude, host_id, created_at, updated_at, is_deleted) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, false)";
+    private static final String EXISTS_EMAIL_SQL = "SELECT COUNT(*) FROM member WHERE email = ?";
+    private static final long PROGRESS_INTERVAL = 100_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOperations transactionOperations;
+    private final PasswordEncoder passwordEncoder;
+    private final ApplicationContext applicationContext;
+
+    private final long members;
+    private final double hostRatio;
+    private final long randomSeed;
+    private final int batchSize;
+    private final LocalDate startDate;
+    private final int days;
+    private final String emailDomain;
+    private final String password;
+    private final boolean exitOnComplete;
+
+    public SyntheticDataSeeder(
+            JdbcTemplate jdbcTemplate,
+            TransactionOperations transactionOperations,
+            PasswordEncoder passwordEncoder,
+            ApplicationContext applicationContext,
+            @Value("${seed.members:1000000}") long members,
+            @Value("${seed.host-ratio:0.2}") double hostRatio,
+            @Value("${seed.random-seed:42}") long randomSeed,
+            @Value("${seed.batch-size:1000}") int batchSize,
+            @Value("${seed.start-date:2024-01-01}") LocalDate startDate,
+            @Value("${seed.days:365}") int days,
+            @Value("${seed.email-domain:seed.example.com}") String emailDomain,
+            @Value("${seed.password:password123}") String password,
+            @Value("${seed.exit-on-complete:false}") boolean exitOnComplete
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionOperations = transactionOperations;
+        this.passwordEncoder = passwordEncoder;
+        this.applicationContext = applicationContext;
+        this.members = members;
+        this.hostRatio = hostRatio;
+        this.randomSeed = randomSeed;
+        this.batchSize = batchSize;
+        this.startDate = startDate;
+        this.days = days;
+        this.emailDomain = emailDomain;
+        this.password = password;
+        this.exitOnComplete = exitOnComplete;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        seed();
+        if (exitOnComplete) {
+            System.exit(SpringApplication.exit(applicationContext));
+        }
+    }
+
+    /**
+     * 설정한 수만큼 회원과 숙소를 저장합니다. 이미 채워져 있으면 아무것도 하지 않습니다.
+     */
+    public void seed() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(
+                randomSeed, startDate.atStartOfDay(), Duration.ofDays(days), members, hostRatio, emailDomain);
+        if (!generator.hasNextMember()) {
+            return;
+        }
+        SeedMember first = generator.nextMember();
+        Integer existing = jdbcTemplate.queryForObject(EXISTS_EMAIL_SQL, Integer.class, first.email());
+        if (existing != null && existing > 0) {
+            log.info("시드 데이터가 이미 있어서 건너뜁니다 (email={})", first.email());
+            return;
+        }
+
+        // NOTE: BCrypt는 느리므로 모든 회원이 같은 해시를 공유 (로그인 테스트는 seed.password로 가능)
+        String passwordHash = passwordEncoder.encode(password);
+        long startedAt = System.nanoTime();
+        long memberTotal = 0;
+        long roomTotal = 0;
+        long nextProgress = PROGRESS_INTERVAL;
+
+        List<SeedMember> memberBatch = new ArrayList<>(batchSize);
+        List<SeedRoom> roomBatch = new ArrayList<>(batchSize);
+        SeedMember member = first;
+        while (member != null) {
+            memberBatch.add(member);
+            roomBatch.addAll(generator.roomsOf(member));
+            if (memberBatch.size() >= batchSize || roomBatch.size() >= batchSize) {
+                write(memberBatch, roomBatch, passwordHash);
+                memberTotal += memberBatch.size();
+                roomTotal += roomBatch.size();
+                memberBatch.clear();
+                roomBatch.clear();
+                if (memberTotal >= nextProgress) {
+                    logProgress(memberTotal, roomTotal, startedAt);
+                    nextProgress += PROGRESS_INTERVAL;
+                }
+            }
+            member = generator.hasNextMember() ? generator.nextMember() : null;
+        }
+        write(memberBatch, roomBatch, passwordHash);
+        memberTotal += memberBatch.size();
+        roomTotal += roomBatch.size();
+
+        log.info("시드 데이터 생성 완료 (members={}, rooms={}, elapsed={}s)",
+                memberTotal, roomTotal, Duration.ofNanos(System.nanoTime() - startedAt).toSeconds());
+    }
+
+    // NOTE: 숙소가 호스트를 참조하므로 같은 트랜잭션에서 회원을 먼저 저장
+    private void write(List<SeedMember> memberBatch, List<SeedRoom> roomBatch, String passwordHash) {
+        if (memberBatch.isEmpty()) {
+            return;
+        }
+        transactionOperations.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_MEMBER_SQL, memberBatch, memberBatch.size(), (statement, member) -> {
+                statement.setBytes(1, UuidBytes.toBytes(member.memberId()));
+                statement.setString(2, member.email());
+                statement.setString(3, passwordHash);
+                statement.setString(4, member.nickname());
+                statement.setObject(5, member.createdAt());
+                statement.setObject(6, member.createdAt());
+            });
+            if (!roomBatch.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_ROOM_SQL, roomBatch, roomBatch.size(), (statement, room) -> {
+                    statement.setBytes(1, UuidBytes.toBytes(room.roomId()));
+                    statement.setString(2, room.title());
+                    statement.setString(3, room.description());
+                    statement.setString(4, room.address());
+                    statement.setInt(5, room.price());
+                    statement.setInt(6, room.maxGuest());
+                    statement.setDouble(7, room.latitude());
+                    statement.setDouble(8, room.longitude());
+                    statement.setBytes(9, UuidBytes.toBytes(room.hostId()));
+                    statement.setObject(10, room.createdAt());
+                    statement.setObject(11, room.createdAt());
+                });
+            }
+        });
+    }
+
+    private void logProgress(long memberTotal, long roomTotal, long startedAt) {
+        double seconds = Math.max(1e-3, (System.nanoTime() - startedAt) / 1e9);
+        log.info("시드 데이터 생성 중 (members={}/{}, rooms={}, {} rows/s)",
+                memberTotal, members, roomTotal, Math.round((memberTotal + roomTotal) / seconds));
+    }
+}
@@ -0,0 +1,154 @@
+package com.growth.member.cache;
+
+import com.growth.global.common.index.InMemoryIncrementalIndex;
+import com.growth.global.common.util.BloomFilter;
+import com.growth.global.common.util.Emails;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가입된 이메일의 Bloom filter입니다.
+ * - definitelyNotRegistered()가 true면 가입되지 않은 이메일이 확실하므로 SQL 없이 바로 응답할 수 있습니다.
+ *   (로그인 공격 트래픽의 대부분은 가입되지 않은 이메일입니다)
+ * - 시작 시 member 테이블의 이메일을 스트리밍으로 읽어서 채우고, 이 인스턴스의 가입은 엔티티 리스너로 바로 추가합니다.
+ * - 다른 인스턴스에서 가입한 이메일은 refresh-interval마다 created_at 기준으로 이어서 읽습니다.
+ *   필터에 없는 이메일은 로그인이 거절되므로, refresh-interval은 가입 직후 다른 인스턴스로 로그인할 때까지 걸리는 시간보다 짧게 둡니다.
+ * - Bloom filter는 삭제를 지원하지 않으므로 주기적으로 다시 만들어 false positive 비율을 유지합니다.
+ * - 채워지기 전(시작 직후, DB 오류)에는 항상 false를 반환해서 DB 조회로 넘어갑니다.
+ */
+@Component
+public class EmailExistenceFilter extends InMemoryIncrementalIndex<BloomFilter> {
+
+    private static final String SELECT_EMAILS = "SELECT email, created_at FROM member";
+    private static final String SELECT_EMAILS_SINCE = SELECT_EMAILS + " WHERE created_at >= ?";
+    private static final String COUNT_MEMBERS = "SELECT COUNT(*) FROM member";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long minExpectedInsertions;
+    private final double falsePositiveRate;
+    private final int fetchSize;
+
+    private final Counter shortCircuitCounter;
+
+    public EmailExistenceFilter(
+            JdbcTemplate jdbcTemplate,
+            @Value("${member.email-filter.expected-insertions:100000}") long minExpectedInsertions,
+            @Value("${member.email-filter.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${member.email-filter.fetch-size:1000}") int fetchSize,
+            MeterRegistry meterRegistry
+    ) {
+        super("이메일 필터", true);
+        this.jdbcTemplate = jdbcTemplate;
+        this.minExpectedInsertions = minExpectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.fetchSize = fetchSize;
+        this.shortCircuitCounter = Counter.builder("member.email-filter.short-circuit")
+                .description("가입되지 않은 이메일로 판단되어 DB 조회 없이 응답한 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 가입되지 않은 것이 확실한 이메일인지 확인합니다.
+     *
+     * @param email 이메일
+     * @return 확실히 가입되지 않았으면 true, 가입되었을 수도 있으면 false
+     */
+    public boolean definitelyNotRegistered(String email) {
+        if (!isAvailable() || email == null) {
+            return false;
+        }
+        // NOTE: 조회는 락 없이 비트만 확인 (BloomFilter는 lock-free)
+        boolean notRegistered = !current().mightContain(Emails.normalize(email));
+        if (notRegistered) {
+            shortCircuitCounter.increment();
+        }
+        return notRegistered;
+    }
+
+    /**
+     * 새로 가입한 이메일을 추가합니다.
+     */
+    public void add(String email) {
+        String key = Emails.normalize(email);
+        update(filter -> filter.put(key));
+    }
+
+    /**
+     * member 테이블 전체를 스트리밍으로 읽어서 필터를 다시 만듭니다.
+     * - findAll()처럼 엔티티를 한꺼번에 메모리에 올리지 않고 이메일 컬럼만 fetch-size 단위로 읽습니다.
+     */
+    @Override
+    @Scheduled(cron = "${member.email-filter.rebuild-cron:0 30 4 * * *}")
+    public void rebuild() {
+        super.rebuild();
+    }
+
+    /**
+     * 마지막으로 읽은 created_at 이후에 가입한 이메일을 이어서 추가합니다. (다른 인스턴스에서 가입한 회원 반영)
+     */
+    @Override
+    @Scheduled(
+            fixedDelayString = "${member.email-filter.refresh-interval:1000}",
+            initialDelayString = "${member.email-filter.refresh-interval:1000}"
+    )
+    public void refresh() {
+        super.refresh();
+    }
+
+    @Override
+    protected BloomFilter newTable() {
+        Long count = jdbcTemplate.queryForObject(COUNT_MEMBERS, Long.class);
+        // NOTE: 다음 재생성 전까지 가입이 늘어나도 false positive 비율이 유지되도록 여유를 둠
+        long expected = Math.max(minExpectedInsertions, (count == null ? 0 : count) * 2);
+        return BloomFilter.create(expected, falsePositiveRate);
+    }
+
+    /**
+     * 이메일을 fetch-size 단위로 읽어서 필터에 추가하고, 읽은 가장 늦은 created_at을 반환합니다.
+     */
+    @Override
+    protected LocalDateTime load(BloomFilter filter, LocalDateTime since) {
+        LocalDateTime[] latest = new LocalDateTime[1];
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(
+                            since == null ? SELECT_EMAILS : SELECT_EMAILS_SINCE,
+                            ResultSet.TYPE_FORWARD_ONLY,
+                            ResultSet.CONCUR_READ_ONLY
+                    );
+                    statement.setFetchSize(fetchSize);
+                    if (since != null) {
+                        statement.setTimestamp(1, Timestamp.valueOf(since));
+                    }
+                    return statement;
+                },
+                resultSet -> {
+                    filter.put(Emails.normalize(resultSet.getString(1)));
+                    LocalDateTime createdAt = resultSet.getTimestamp(2).toLocalDateTime();
+                    if (latest[0] == null || createdAt.isAfter(latest[0])) {
+                        latest[0] = createdAt;
+                    }
+                }
+        );
+        return latest[0];
+    }
+
+    @Override
+    protected int count(BloomFilter filter) {
+        return (int) Math.min(Integer.MAX_VALUE, filter.approximateElementCount());
+    }
+
+    @Override
+    protected String describe() {
+        BloomFilter filter = current();
+        return "members~" + size() + ", bits=" + filter.bitSize() + ", hashes=" + filter.hashCount();
+    }
+}
@@ -0,0 +1,77 @@
+package com.growth.member.cache;
+
+import static org.springframework.util.StringUtils.hasText;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.growth.member.dto.request.MemberSearchCondition;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원 검색의 전체 개수(count)를 조건별로 짧게 보관하는 캐시입니다.
+ * - 전체 조회와 생성일 범위만 있는 조회만 캐시합니다 (이메일/닉네임 LIKE 조건은 조합이 많아 적중률이 낮음).
+ * - TTL 동안 가입/탈퇴가 반영되지 않으므로 화면의 "전체 N명"처럼 근사값이어도 되는 곳에만 사용합니다.
+ * - 비활성화(enabled=false)하면 항상 바로 count 합니다.
+ */
+@Component
+public class MemberCountCache {
+
+    private static final String CACHE_NAME = "member.search-count";
+
+    private final boolean enabled;
+    private final Cache<CountKey, Long> cache;
+
+    public MemberCountCache(
+            @Value("${member.search.count-cache.enabled:false}") boolean enabled,
+            @Value("${member.search.count-cache.ttl:30s}") Duration ttl,
+            @Value("${member.search.count-cache.maximum-size:1000}") long maximumSize,
+            MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시할 수 있는 조건이면 캐시된 개수를, 아니면 counter로 바로 센 개수를 반환합니다.
+     *
+     * @param condition 검색 조건
+     * @param counter 실제 count 쿼리
+     * @return 전체 개수 (캐시된 경우 최대 TTL만큼 오래된 값)
+     */
+    public long get(MemberSearchCondition condition, LongSupplier counter) {
+        if (!isCacheable(condition)) {
+            return counter.getAsLong();
+        }
+        return cache.get(new CountKey(condition.getStartDate(), condition.getEndDate()), key -> counter.getAsLong());
+    }
+
+    public boolean isCacheable(MemberSearchCondition condition) {
+        return enabled && !hasText(condition.getEmail()) && !hasText(condition.getNickname());
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    // NOTE: 날짜 범위는 둘 다 있을 때만 조건이 되므로(createdAtBetween) 한쪽만 있으면 전체 조회와 같은 키로 취급
+    private record CountKey(String startDate, String endDate) {
+
+        private CountKey {
+            if (!hasText(startDate) || !hasText(endDate)) {
+                startDate = null;
+                endDate = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.growth.member.cache;
+
+import com.growth.global.common.listener.EntityChangeListener;
+import com.growth.member.domain.Member;
+import jakarta.persistence.PrePersist;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Member가 저장될 때 이메일을 EmailExistenceFilter에 추가하는 JPA 엔티티 리스너입니다.
+ * - 가입 경로와 관계없이 persist 되는 모든 회원이 반영됩니다.
+ * - INSERT가 flush 될 때까지 기다리지 않도록 @PrePersist에서 추가합니다.
+ *   (롤백되면 필터에 남지만, Bloom filter에서는 false positive일 뿐이라 안전합니다)
+ */
+@Component
+public class MemberEmailListener extends EntityChangeListener<EmailExistenceFilter> {
+
+    public MemberEmailListener(ObjectProvider<EmailExistenceFilter> emailExistenceFilter) {
+        super(emailExistenceFilter);
+    }
+
+    @PrePersist
+    public void onPrePersist(Member member) {
+        now(filter -> filter.add(member.getEmail()));
+    }
+}
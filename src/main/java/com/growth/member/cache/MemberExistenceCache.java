@@ -0,0 +1,63 @@
+package com.growth.member.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.growth.member.repository.MemberRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 탈퇴하지 않은 회원인지를 기억하는 캐시입니다. 숙소 생성처럼 호스트 참조만 필요한 곳에서 회원 조회를 생략합니다.
+ * - 존재하는 회원(positive)만 보관하고, 없는 회원은 매번 DB로 확인합니다 (가입 직후에도 바로 true).
+ * - 같은 인스턴스의 탈퇴(soft delete)는 MemberExistenceListener가 즉시 무효화합니다.
+ *   다른 인스턴스의 탈퇴는 ttl 이후에 반영되므로 ttl이 곧 탈퇴 반영 지연의 상한입니다.
+ */
+@Component
+public class MemberExistenceCache {
+
+    private static final String CACHE_NAME = "member.existence";
+
+    private final MemberRepository memberRepository;
+    private final Cache<UUID, Boolean> cache;
+
+    public MemberExistenceCache(
+            MemberRepository memberRepository,
+            @Value("${member.existence-cache.ttl:5m}") Duration ttl,
+            @Value("${member.existence-cache.maximum-size:100000}") long maximumSize,
+            MeterRegistry meterRegistry
+    ) {
+        this.memberRepository = memberRepository;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 탈퇴하지 않은 회원인지 확인합니다. 캐시에 없으면 DB에서 확인하고, 존재할 때만 캐시합니다.
+     *
+     * @param memberId 회원 ID
+     * @return 탈퇴하지 않은 회원이면 true
+     */
+    public boolean exists(UUID memberId) {
+        if (cache.getIfPresent(memberId) != null) {
+            return true;
+        }
+        boolean exists = memberRepository.existsActiveById(memberId);
+        if (exists) {
+            cache.put(memberId, Boolean.TRUE);
+        }
+        return exists;
+    }
+
+    public void invalidate(UUID memberId) {
+        cache.invalidate(memberId);
+    }
+}
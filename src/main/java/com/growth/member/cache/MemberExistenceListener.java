@@ -0,0 +1,30 @@
+package com.growth.member.cache;
+
+import com.growth.global.common.listener.EntityChangeListener;
+import com.growth.member.domain.Member;
+import jakarta.persistence.PostUpdate;
+import java.util.UUID;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Member의 탈퇴(soft delete)를 MemberExistenceCache에 반영하는 JPA 엔티티 리스너입니다.
+ * - UPDATE 직후(@PostUpdate)에 무효화하고, 커밋 전에 다른 요청이 다시 캐시했을 수 있으므로 커밋 후에 한 번 더 무효화합니다.
+ */
+@Component
+public class MemberExistenceListener extends EntityChangeListener<MemberExistenceCache> {
+
+    public MemberExistenceListener(ObjectProvider<MemberExistenceCache> memberExistenceCache) {
+        super(memberExistenceCache);
+    }
+
+    @PostUpdate
+    public void onPostUpdate(Member member) {
+        if (!Boolean.TRUE.equals(member.getIsDeleted())) {
+            return;
+        }
+        UUID memberId = member.getMemberId();
+        now(cache -> cache.invalidate(memberId));
+        afterCommit(cache -> cache.invalidate(memberId));
+    }
+}
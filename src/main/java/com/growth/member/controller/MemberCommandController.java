@@ -1,14 +1,20 @@
 package com.growth.member.controller;
 
+import com.growth.global.common.importer.ImportFormat;
+import com.growth.global.common.importer.ImportResult;
 import com.growth.global.common.response.ApiResponse;
 import com.growth.member.dto.request.SignUpMemberRequestDto;
 import com.growth.member.dto.response.SignUpMemberResponseDto;
+import com.growth.member.usecase.ImportMembersUseCase;
 import com.growth.member.usecase.SignUpMemberUseCase;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -17,6 +23,7 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class MemberCommandController {
   private final SignUpMemberUseCase signUpMemberUseCase;
+  private final ImportMembersUseCase importMembersUseCase;
 
   @PostMapping("/api/members/signup")
   @ResponseStatus(HttpStatus.CREATED)
@@ -26,4 +33,17 @@ public class MemberCommandController {
     SignUpMemberResponseDto response = signUpMemberUseCase.signUp(requestDto);
     return ApiResponse.created(response, "회원가입이 완료되었습니다");
   }
+
+  /**
+   * 회원 대량 등록 - 요청 본문(NDJSON 또는 헤더가 있는 CSV)을 스트리밍으로 읽어서 chunk 단위로 저장
+   * - 잘못된 행은 건너뛰고 행 번호와 사유를 응답에 담음
+   */
+  @PostMapping("/api/members/import")
+  public ApiResponse<ImportResult> importMembers(
+    @RequestParam(defaultValue = "ndjson") String format,
+    InputStream body
+  ) throws IOException {
+    ImportResult result = importMembersUseCase.importMembers(body, ImportFormat.from(format));
+    return ApiResponse.success(result);
+  }
 }
@@ -0,0 +1,39 @@
+package com.growth.member.controller;
+
+import com.growth.member.dto.request.MemberExportFormat;
+import com.growth.member.dto.request.MemberSearchCondition;
+import com.growth.member.usecase.ExportMembersUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequiredArgsConstructor
+public class MemberQueryController {
+  private final ExportMembersUseCase exportMembersUseCase;
+
+  // NOTE: 결과를 메모리에 모으지 않고 DB 커서에서 읽는 대로 응답에 바로 씀 (요청 스레드가 아닌 MVC async 스레드에서 실행)
+  @GetMapping("/api/members/export")
+  public ResponseEntity<StreamingResponseBody> export(
+    @ModelAttribute MemberSearchCondition condition,
+    @RequestParam(defaultValue = "ndjson") String format
+  ) {
+    MemberExportFormat exportFormat = MemberExportFormat.from(format);
+    StreamingResponseBody body = out -> exportMembersUseCase.export(condition, exportFormat, out);
+
+    return ResponseEntity.ok()
+      .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+      .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+        .filename("members." + exportFormat.getExtension())
+        .build()
+        .toString())
+      .body(body);
+  }
+}
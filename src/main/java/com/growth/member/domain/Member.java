@@ -1,7 +1,11 @@
 package com.growth.member.domain;
 
 import com.growth.global.common.entity.BaseEntity;
+import com.growth.global.common.id.UuidV7;
+import com.growth.member.cache.MemberEmailListener;
+import com.growth.member.cache.MemberExistenceListener;
 import com.growth.member.dto.request.SignUpMemberRequestDto;
+import com.growth.member.search.MemberNgramIndexListener;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -9,19 +13,36 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import java.time.Clock;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "member")
+@EntityListeners({MemberEmailListener.class, MemberNgramIndexListener.class, MemberExistenceListener.class})
+@Table(
+  name = "member",
+  uniqueConstraints = @UniqueConstraint(name = Member.EMAIL_UNIQUE_CONSTRAINT, columnNames = "email"),
+  // NOTE: 회원 목록 keyset 페이징의 seek/정렬 순서와 같은 (정렬 키, member_id) 인덱스
+  //       email 정렬은 이메일 유니크 키를 그대로 사용 (InnoDB 보조 인덱스 끝에 기본 키가 포함됨)
+  indexes = {
+    @Index(name = "idx_member_created_at_member_id", columnList = "created_at, member_id"),
+    @Index(name = "idx_member_nickname_member_id", columnList = "nickname, member_id")
+  }
+)
 public class Member extends BaseEntity {
+  // NOTE: 새로 만드는 스키마의 이메일 유니크 키 이름 (회원가입 중복 판단은 이름이 아닌 중복 키 오류 코드로 함)
+  public static final String EMAIL_UNIQUE_CONSTRAINT = "uk_member_email";
+
+  // NOTE: 시간순 UUIDv7을 BINARY(16)으로 저장 (랜덤 v4 대비 clustered index 끝에만 추가됨)
   @Id
-  @Column(name = "member_id", nullable = false)
-  @GeneratedValue(strategy = GenerationType.UUID)
+  @UuidV7
+  @JdbcTypeCode(SqlTypes.BINARY)
+  @Column(name = "member_id", nullable = false, length = 16)
   private UUID memberId;
 
-  @Column(name = "email", nullable = false, unique = true)
+  @Column(name = "email", nullable = false)
   private String email;
 
   @Column(name = "password", nullable = false)
@@ -0,0 +1,20 @@
+package com.growth.member.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 회원 목록 조회용 읽기 전용 요약입니다.
+ * QueryDSL Projections.constructor로 필요한 컬럼만 바로 담으므로 비밀번호 해시를 읽지 않고,
+ * 영속성 컨텍스트에 엔티티/스냅샷이 생기지 않습니다.
+ */
+public record MemberSummaryDto(
+
+        UUID memberId,
+        String email,
+        String nickname,
+        LocalDateTime createdAt,
+        LocalDateTime lastLoginAt
+
+) {
+}
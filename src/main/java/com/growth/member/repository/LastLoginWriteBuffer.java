@@ -0,0 +1,178 @@
+package com.growth.member.repository;
+
+import com.growth.global.common.id.UuidBytes;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원의 마지막 로그인 시간을 메모리에 모았다가 주기적으로 한 번에 반영하는 write-behind 버퍼입니다.
+ * - 같은 회원의 로그인은 가장 최근 시간 하나로 합쳐지므로, 로그인 횟수가 아닌 회원 수만큼만 UPDATE 합니다.
+ * - 보관 개수는 max-pending으로 제한되며, 가득 차면 로그인 스레드가 아닌 flush 전용 스레드에서 바로 flush 합니다.
+ *   그 flush가 끝나기 전까지 들어오는 새 회원의 로그인만 버립니다.
+ * - 반영 지연(staleness)은 flush-interval 이하이며, 애플리케이션 종료 시에도 남은 값을 flush 합니다.
+ */
+@Slf4j
+@Component
+public class LastLoginWriteBuffer {
+
+    private static final String UPDATE_SQL = "UPDATE member SET last_login_at = ? WHERE member_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxPending;
+    private final int batchSize;
+
+    private final ConcurrentHashMap<UUID, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    // NOTE: 스케줄러와 요청 스레드가 동시에 flush 하지 않도록 한 번에 하나만 실행
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    // NOTE: 버퍼가 가득 찼을 때의 flush는 로그인 응답을 DB UPDATE만큼 늦추지 않도록 이 스레드에서 실행
+    private final ExecutorService flushExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "last-login-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    private final Counter flushedCounter;
+    private final Counter droppedCounter;
+
+    public LastLoginWriteBuffer(
+            JdbcTemplate jdbcTemplate,
+            @Value("${member.last-login.max-pending:10000}") int maxPending,
+            @Value("${member.last-login.batch-size:500}") int batchSize,
+            MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxPending = maxPending;
+        this.batchSize = batchSize;
+
+        Gauge.builder("member.last-login.pending", pending, Map::size)
+                .description("DB에 아직 반영되지 않은 마지막 로그인 시간 수")
+                .register(meterRegistry);
+        this.flushedCounter = Counter.builder("member.last-login.flushed")
+                .description("DB에 반영된 마지막 로그인 시간 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("member.last-login.dropped")
+                .description("버퍼가 가득 차서 버려진 마지막 로그인 시간 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 마지막 로그인 시간을 기록합니다. DB에는 다음 flush 때 반영됩니다.
+     *
+     * @param memberId 회원 ID
+     * @param lastLoginAt 마지막 로그인 시간
+     */
+    public void record(UUID memberId, LocalDateTime lastLoginAt) {
+        if (pending.size() >= maxPending && !pending.containsKey(memberId)) {
+            // NOTE: 요청한 flush가 버퍼를 비우기 전까지는 메모리를 더 쓰지 않고 버림 (마지막 로그인 시간은 best-effort)
+            requestFlush();
+            droppedCounter.increment();
+            return;
+        }
+        pending.merge(memberId, lastLoginAt, (previous, current) -> current.isAfter(previous) ? current : previous);
+    }
+
+    /**
+     * 모아둔 마지막 로그인 시간을 batch UPDATE로 반영합니다.
+     * 다른 스레드가 이미 flush 중이면 기다리지 않고 넘어갑니다.
+     */
+    @Scheduled(
+            fixedDelayString = "${member.last-login.flush-interval:5000}",
+            initialDelayString = "${member.last-login.flush-interval:5000}"
+    )
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            drainAndWrite();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() throws InterruptedException {
+        flushExecutor.shutdown();
+        flushExecutor.awaitTermination(10, TimeUnit.SECONDS);
+        flushLock.lock();
+        try {
+            drainAndWrite();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * flush 전용 스레드에 flush를 요청합니다. 이미 요청한 flush가 끝나지 않았으면 다시 요청하지 않습니다.
+     * 스케줄러가 flush 중이면 그 flush가 끝난 뒤에 남은 값을 이어서 반영합니다.
+     */
+    private void requestFlush() {
+        if (!flushRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            flushExecutor.execute(() -> {
+                flushLock.lock();
+                try {
+                    drainAndWrite();
+                } finally {
+                    flushLock.unlock();
+                    flushRequested.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중 - flushOnShutdown()이 남은 값을 반영함
+            flushRequested.set(false);
+        }
+    }
+
+    private void drainAndWrite() {
+        // NOTE: remove()로 꺼낸 값만 반영하므로, 꺼낸 뒤 들어온 로그인은 다음 flush에 반영됨
+        List<Map.Entry<UUID, LocalDateTime>> drained = new ArrayList<>(Math.min(pending.size(), maxPending));
+        for (UUID memberId : pending.keySet()) {
+            LocalDateTime lastLoginAt = pending.remove(memberId);
+            if (lastLoginAt != null) {
+                drained.add(Map.entry(memberId, lastLoginAt));
+            }
+        }
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, drained, batchSize, (ps, entry) -> {
+                ps.setObject(1, entry.getValue());
+                ps.setBytes(2, UuidBytes.toBytes(entry.getKey()));
+            });
+            flushedCounter.increment(drained.size());
+        } catch (RuntimeException e) {
+            // NOTE: 실패한 값은 버퍼에 되돌려서 다음 flush 때 다시 시도
+            log.error("마지막 로그인 시간 반영 실패 (count={})", drained.size(), e);
+            for (Map.Entry<UUID, LocalDateTime> entry : drained) {
+                pending.merge(entry.getKey(), entry.getValue(), (current, failed) -> current.isAfter(failed) ? current : failed);
+            }
+        }
+    }
+}
@@ -2,6 +2,10 @@ package com.growth.member.repository;
 
 import com.growth.member.domain.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -22,11 +26,30 @@ public interface MemberRepository extends JpaRepository<Member, UUID>, MemberRep
     Optional<Member> findByEmail(String email);
 
     /**
-     * 이메일 존재 여부를 확인합니다.
-     * 회원가입 시 이메일 중복 검사에 사용됩니다.
+     * 탈퇴하지 않은 회원인지 확인합니다.
+     * 엔티티를 읽지 않고 존재 여부만 조회하므로, 숙소 호스트처럼 참조만 필요한 경우에 사용합니다.
      *
-     * @param email 확인할 이메일
-     * @return 이메일이 존재하면 true, 아니면 false
+     * @param memberId 회원 ID
+     * @return 탈퇴하지 않은 회원이면 true
      */
-    boolean existsByEmail(String email);
-}
\ No newline at end of file
+    @Query("SELECT COUNT(m) > 0 FROM Member m WHERE m.memberId = :memberId AND m.isDeleted = false")
+    boolean existsActiveById(@Param("memberId") UUID memberId);
+
+    /**
+     * 비밀번호 해시를 교체합니다.
+     * 로그인 시 더 높은 strength로 재해싱할 때 사용하며, 그 사이 비밀번호가 바뀌었으면 덮어쓰지 않습니다.
+     *
+     * @param memberId 회원 ID
+     * @param currentPassword 재해싱 전 저장되어 있던 해시
+     * @param newPassword 새 해시
+     * @return 갱신된 행 수 (비밀번호가 이미 바뀌었으면 0)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Member m SET m.password = :newPassword WHERE m.memberId = :memberId AND m.password = :currentPassword")
+    int updatePassword(
+            @Param("memberId") UUID memberId,
+            @Param("currentPassword") String currentPassword,
+            @Param("newPassword") String newPassword
+    );
+}
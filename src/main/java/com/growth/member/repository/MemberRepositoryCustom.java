@@ -1,11 +1,16 @@
 package com.growth.member.repository;
 
+import com.growth.global.common.response.CursorPage;
 import com.growth.member.domain.Member;
 import com.growth.member.dto.request.MemberSearchCondition;
+import com.growth.member.dto.response.MemberSummaryDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Member 엔티티의 QueryDSL 기반 Custom Repository 인터페이스입니다.
@@ -23,6 +28,27 @@ public interface MemberRepositoryCustom {
      */
     List<Member> findByCondition(MemberSearchCondition condition);
 
+    /**
+     * 검색 조건에 따른 회원 요약 목록을 조회합니다.
+     * findByCondition과 같은 조건/정렬이지만 엔티티 대신 필요한 컬럼만 DTO로 읽습니다.
+     *
+     * @param condition 검색 조건 (이메일, 닉네임, 생성일 범위)
+     * @return 조건에 맞는 회원 요약 목록 (생성일 내림차순 정렬)
+     */
+    List<MemberSummaryDto> findSummariesByCondition(MemberSearchCondition condition);
+
+    /**
+     * 검색 조건에 맞는 회원을 한 건씩 consumer에 전달합니다.
+     * findByCondition과 달리 결과 전체를 List로 만들지 않고 forward-only 커서로 fetchSize 단위씩 읽으며,
+     * 전달한 엔티티는 바로 영속성 컨텍스트에서 분리하므로 결과 크기와 관계없이 메모리 사용량이 일정합니다.
+     * 호출하는 쪽에서 (읽기 전용) 트랜잭션을 열어야 합니다.
+     *
+     * @param condition 검색 조건 (이메일, 닉네임, 생성일 범위)
+     * @param fetchSize 한 번에 가져올 행 수
+     * @param consumer 회원을 처리할 함수 (반환 후에는 분리된 엔티티이므로 참조를 보관하지 않아야 함)
+     */
+    void streamByCondition(MemberSearchCondition condition, int fetchSize, Consumer<Member> consumer);
+
     /**
      * 검색 조건에 따른 회원 목록을 페이징하여 조회합니다.
      * 페이징 정보와 정렬 조건을 함께 적용할 수 있습니다.
@@ -32,4 +58,48 @@ public interface MemberRepositoryCustom {
      * @return 페이징된 회원 목록
      */
     Page<Member> searchMembers(MemberSearchCondition condition, Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * 검색 조건에 따른 회원 요약 목록을 페이징하여 조회합니다.
+     * searchMembers와 같은 조건/정렬/개수 계산이지만 엔티티 대신 필요한 컬럼만 DTO로 읽습니다.
+     *
+     * @param condition 검색 조건 (이메일, 닉네임, 생성일 범위)
+     * @param pageable 페이징 및 정렬 정보
+     * @return 페이징된 회원 요약 목록
+     */
+    Page<MemberSummaryDto> searchMemberSummaries(MemberSearchCondition condition, Pageable pageable);
+
+    /**
+     * 검색 조건에 따른 회원 목록을 Slice로 조회합니다.
+     * 전체 개수가 필요 없는 화면(더 보기, 무한 스크롤)에서 count 쿼리 없이 사용합니다.
+     *
+     * @param condition 검색 조건 (이메일, 닉네임, 생성일 범위)
+     * @param pageable 페이징 및 정렬 정보
+     * @return 다음 페이지 여부를 포함한 회원 목록
+     */
+    Slice<Member> searchMembersSlice(MemberSearchCondition condition, Pageable pageable);
+
+    /**
+     * 검색 조건에 따른 회원 목록을 커서(keyset) 방식으로 조회합니다.
+     * OFFSET 없이 마지막으로 읽은 행 다음부터 찾으므로, 페이지가 깊어져도 조회 비용이 일정합니다.
+     * 정렬은 첫 번째 정렬 조건(email, nickname, createdAt) 하나와 memberId(tie-breaker)로 고정됩니다.
+     *
+     * @param condition 검색 조건 (이메일, 닉네임, 생성일 범위)
+     * @param sort 정렬 조건 (없으면 생성일 내림차순)
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param size 페이지 크기
+     * @return 커서 페이지
+     * @throws IllegalArgumentException 커서 형식이 잘못되었거나 정렬 조건과 맞지 않는 경우
+     */
+    CursorPage<Member> searchMembersByCursor(MemberSearchCondition condition, Sort sort, String cursor, int size);
+
+    /**
+     * 새 회원을 INSERT 한 번으로 저장합니다.
+     * 이메일 중복은 미리 조회하지 않고 이메일 유니크 키의 중복 키 오류로 감지합니다.
+     *
+     * @param member 저장할 회원 (ID가 없는 새 엔티티)
+     * @return 저장된 회원
+     * @throws org.springframework.dao.DataIntegrityViolationException 유니크 제약을 위반한 경우
+     */
+    Member insert(Member member);
+}
@@ -1,20 +1,39 @@
 package com.growth.member.repository;
 
+import com.growth.global.common.response.CursorPage;
+import com.growth.member.cache.MemberCountCache;
 import com.growth.member.domain.Member;
 import com.growth.member.dto.request.MemberSearchCondition;
+import com.growth.member.dto.response.MemberSummaryDto;
+import com.growth.member.search.MemberNgramIndex;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.query.Query;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
 
 import static com.growth.member.domain.QMember.member;
 import static org.springframework.util.StringUtils.hasText;
@@ -27,6 +46,30 @@ import static org.springframework.util.StringUtils.hasText;
 public class MemberRepositoryImpl implements MemberRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
+    private final MemberCountCache memberCountCache;
+    private final MemberNgramIndex memberNgramIndex;
+
+    /**
+     * 새 회원을 persist 후 바로 flush 해서 INSERT를 실행합니다.
+     * save()와 달리 INSERT를 커밋 시점까지 미루지 않으므로 제약 위반이 이 메서드에서 바로 드러납니다.
+     *
+     * @param member 저장할 회원 (ID가 없는 새 엔티티)
+     * @return 저장된 회원
+     */
+    @Override
+    @Transactional
+    public Member insert(Member member) {
+        try {
+            entityManager.persist(member);
+            entityManager.flush();
+            return member;
+        } catch (PersistenceException e) {
+            // INSERT에 실패한 엔티티가 영속성 컨텍스트에 남아 이후 flush에서 다시 실패하지 않도록 분리합니다
+            entityManager.detach(member);
+            throw e;
+        }
+    }
 
     /**
      * 검색 조건에 따른 회원 목록을 조회합니다.
@@ -39,18 +82,64 @@ public class MemberRepositoryImpl implements MemberRepositoryCustom {
     public List<Member> findByCondition(MemberSearchCondition condition) {
         return queryFactory
                 .selectFrom(member)
-                .where(
-                        emailContains(condition.getEmail()),
-                        nicknameContains(condition.getNickname()),
-                        createdAtBetween(condition.getStartDate(), condition.getEndDate())
-                )
+                .where(searchConditions(condition))
+                .orderBy(member.createdAt.desc())
+                .fetch();
+    }
+
+    /**
+     * 검색 조건에 따른 회원 요약 목록을 조회합니다.
+     * 필요한 컬럼만 생성자 projection으로 읽어서 엔티티/스냅샷을 만들지 않습니다.
+     *
+     * @param condition 검색 조건 (이메일, 닉네임, 생성일 범위)
+     * @return 조건에 맞는 회원 요약 목록 (생성일 내림차순 정렬)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<MemberSummaryDto> findSummariesByCondition(MemberSearchCondition condition) {
+        return queryFactory
+                .select(memberSummary())
+                .from(member)
+                .where(searchConditions(condition))
                 .orderBy(member.createdAt.desc())
                 .fetch();
     }
 
+    /**
+     * 검색 조건에 맞는 회원을 Hibernate scroll(FORWARD_ONLY)로 한 건씩 읽어서 consumer에 전달합니다.
+     * 읽기 전용 쿼리라 스냅샷을 만들지 않고, 전달한 엔티티는 바로 detach 해서 영속성 컨텍스트가 커지지 않습니다.
+     * (MySQL은 useCursorFetch=true일 때 fetchSize 단위로 서버 커서에서 가져옵니다)
+     *
+     * @param condition 검색 조건 (이메일, 닉네임, 생성일 범위)
+     * @param fetchSize 한 번에 가져올 행 수
+     * @param consumer 회원을 처리할 함수
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void streamByCondition(MemberSearchCondition condition, int fetchSize, Consumer<Member> consumer) {
+        Query<Member> query = queryFactory
+                .selectFrom(member)
+                .where(searchConditions(condition))
+                .orderBy(member.createdAt.desc())
+                .createQuery()
+                .unwrap(Query.class);
+
+        query.setFetchSize(fetchSize);
+        query.setReadOnly(true);
+        try (ScrollableResults<Member> results = query.scroll(ScrollMode.FORWARD_ONLY)) {
+            while (results.next()) {
+                Member found = results.get();
+                consumer.accept(found);
+                entityManager.detach(found);
+            }
+        }
+    }
+
     /**
      * 검색 조건에 따른 회원 목록을 페이징하여 조회합니다.
      * 페이징 정보와 정렬 조건을 함께 처리합니다.
+     * 전체 개수는 결과만으로 알 수 없을 때만 조회합니다 (첫 페이지가 가득 차지 않았거나 마지막 페이지면 생략).
+     * 이메일/닉네임 조건이 없는 검색은 MemberCountCache에 보관된 근사 개수를 사용할 수 있습니다.
      *
      * @param condition 검색 조건 (이메일, 닉네임, 생성일 범위)
      * @param pageable 페이징 및 정렬 정보
@@ -61,52 +150,205 @@ public class MemberRepositoryImpl implements MemberRepositoryCustom {
         // 페이징된 데이터를 조회합니다
         List<Member> content = queryFactory
                 .selectFrom(member)
-                .where(
-                        emailContains(condition.getEmail()),
-                        nicknameContains(condition.getNickname()),
-                        createdAtBetween(condition.getStartDate(), condition.getEndDate())
-                )
+                .where(searchConditions(condition))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .orderBy(getOrderSpecifiers(pageable.getSort()))
                 .fetch();
 
-        // 전체 개수를 조회합니다
-        long total = Optional.ofNullable(
+        // 전체 개수는 필요할 때만 조회합니다
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> memberCountCache.get(condition, () -> countMembers(condition)));
+    }
+
+    /**
+     * 검색 조건에 따른 회원 요약 목록을 페이징하여 조회합니다.
+     * 전체 개수 처리는 searchMembers와 같습니다.
+     *
+     * @param condition 검색 조건 (이메일, 닉네임, 생성일 범위)
+     * @param pageable 페이징 및 정렬 정보
+     * @return 페이징된 회원 요약 목록
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<MemberSummaryDto> searchMemberSummaries(MemberSearchCondition condition, Pageable pageable) {
+        List<MemberSummaryDto> content = queryFactory
+                .select(memberSummary())
+                .from(member)
+                .where(searchConditions(condition))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .orderBy(getOrderSpecifiers(pageable.getSort()))
+                .fetch();
+
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> memberCountCache.get(condition, () -> countMembers(condition)));
+    }
+
+    /**
+     * 검색 조건에 따른 회원 목록을 Slice로 조회합니다.
+     * 전체 개수를 조회하지 않고 pageSize + 1개를 읽어서 다음 페이지 존재 여부만 판단합니다.
+     *
+     * @param condition 검색 조건 (이메일, 닉네임, 생성일 범위)
+     * @param pageable 페이징 및 정렬 정보
+     * @return 다음 페이지 여부를 포함한 회원 목록
+     */
+    @Override
+    public Slice<Member> searchMembersSlice(MemberSearchCondition condition, Pageable pageable) {
+        List<Member> content = queryFactory
+                .selectFrom(member)
+                .where(searchConditions(condition))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1L)
+                .orderBy(getOrderSpecifiers(pageable.getSort()))
+                .fetch();
+
+        boolean hasNext = content.size() > pageable.getPageSize();
+        if (hasNext) {
+            content = content.subList(0, pageable.getPageSize());
+        }
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    /**
+     * 검색 조건에 맞는 전체 회원 수를 조회합니다.
+     *
+     * @param condition 검색 조건 (이메일, 닉네임, 생성일 범위)
+     * @return 전체 회원 수
+     */
+    private long countMembers(MemberSearchCondition condition) {
+        return Optional.ofNullable(
                 queryFactory
                         .select(member.count())
                         .from(member)
-                        .where(
-                                emailContains(condition.getEmail()),
-                                nicknameContains(condition.getNickname()),
-                                createdAtBetween(condition.getStartDate(), condition.getEndDate())
-                        )
+                        .where(searchConditions(condition))
                         .fetchOne()
         ).orElse(0L);
+    }
+
+    /**
+     * 검색 조건에 따른 회원 목록을 커서(keyset) 방식으로 조회합니다.
+     * 정렬 키와 memberId가 커서 값 다음인 행부터 size + 1개를 읽어서 다음 페이지 존재 여부를 판단합니다.
+     * (created_at, member_id) 등 정렬 키 인덱스를 그대로 따라가므로 앞 페이지의 행을 읽고 버리지 않습니다.
+     *
+     * @param condition 검색 조건 (이메일, 닉네임, 생성일 범위)
+     * @param sort 정렬 조건 (첫 번째 조건만 사용, 없으면 생성일 내림차순)
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param size 페이지 크기
+     * @return 커서 페이지
+     */
+    @Override
+    public CursorPage<Member> searchMembersByCursor(MemberSearchCondition condition, Sort sort, String cursor, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상이어야 합니다.");
+        }
+        Sort.Order keysetOrder = getKeysetOrder(sort);
+        MemberCursor after = hasText(cursor) ? MemberCursor.decode(cursor) : null;
+        if (after != null && (!after.sortProperty().equals(keysetOrder.getProperty())
+                || after.ascending() != keysetOrder.isAscending())) {
+            throw new IllegalArgumentException("커서의 정렬 조건이 요청과 다릅니다.");
+        }
+
+        Order direction = keysetOrder.isAscending() ? Order.ASC : Order.DESC;
+        List<Member> rows = queryFactory
+                .selectFrom(member)
+                .where(searchConditions(condition))
+                .where(seekAfter(after))
+                .orderBy(
+                        new OrderSpecifier<>(direction, sortKey(keysetOrder.getProperty())),
+                        new OrderSpecifier<>(direction, member.memberId)
+                )
+                .limit(size + 1L)
+                .fetch();
+
+        if (rows.size() <= size) {
+            return CursorPage.last(rows);
+        }
 
-        return new PageImpl<>(content, pageable, total);
+        // 한 개 더 읽힌 행은 버리고, 이번 페이지의 마지막 행으로 다음 커서를 만듭니다
+        List<Member> content = rows.subList(0, size);
+        Member last = content.get(size - 1);
+        String nextCursor = new MemberCursor(
+                keysetOrder.getProperty(),
+                keysetOrder.isAscending(),
+                sortValueOf(last, keysetOrder.getProperty()),
+                last.getMemberId()
+        ).encode();
+        return CursorPage.of(List.copyOf(content), nextCursor);
+    }
+
+    /**
+     * 회원 요약 DTO 생성자 projection입니다. (password 컬럼은 SELECT 하지 않음)
+     */
+    private static ConstructorExpression<MemberSummaryDto> memberSummary() {
+        return Projections.constructor(
+                MemberSummaryDto.class,
+                member.memberId,
+                member.email,
+                member.nickname,
+                member.createdAt,
+                member.lastLoginAt
+        );
+    }
+
+    /**
+     * 검색 조건(이메일, 닉네임, 생성일 범위)을 where 절 조건 배열로 만듭니다.
+     * 값이 없는 조건은 null이 되어 QueryDSL where 절에서 제외됩니다.
+     *
+     * @param condition 검색 조건
+     * @return where 절 조건 배열
+     */
+    private BooleanExpression[] searchConditions(MemberSearchCondition condition) {
+        return new BooleanExpression[]{
+                emailContains(condition.getEmail()),
+                nicknameContains(condition.getNickname()),
+                createdAtBetween(condition.getStartDate(), condition.getEndDate())
+        };
     }
 
     /**
      * 이메일 포함 조건을 생성합니다.
      * 이메일이 null이거나 빈 문자열이면 null을 반환하여 조건에서 제외됩니다.
+     * n-gram 색인으로 후보를 좁힐 수 있으면 후보 ID 조건을 함께 걸어서 후보 행만 LIKE로 확인합니다.
      *
      * @param email 검색할 이메일
      * @return 이메일 포함 조건 또는 null
      */
     private BooleanExpression emailContains(String email) {
-        return hasText(email) ? member.email.contains(email) : null;
+        if (!hasText(email)) {
+            return null;
+        }
+        return narrowByNgram(MemberNgramIndex.Field.EMAIL, email, member.email.contains(email));
     }
 
     /**
      * 닉네임 포함 조건을 생성합니다.
      * 닉네임이 null이거나 빈 문자열이면 null을 반환하여 조건에서 제외됩니다.
+     * n-gram 색인으로 후보를 좁힐 수 있으면 후보 ID 조건을 함께 걸어서 후보 행만 LIKE로 확인합니다.
      *
      * @param nickname 검색할 닉네임
      * @return 닉네임 포함 조건 또는 null
      */
     private BooleanExpression nicknameContains(String nickname) {
-        return hasText(nickname) ? member.nickname.contains(nickname) : null;
+        if (!hasText(nickname)) {
+            return null;
+        }
+        return narrowByNgram(MemberNgramIndex.Field.NICKNAME, nickname, member.nickname.contains(nickname));
+    }
+
+    /**
+     * LIKE 조건 앞에 n-gram 색인 후보 ID 조건(member_id IN (...))을 붙입니다.
+     * 후보가 없으면 IN 조건이 항상 거짓이 되어 DB는 행을 읽지 않고, 색인으로 좁힐 수 없으면 LIKE 조건만 사용합니다.
+     *
+     * @param field 검색 필드
+     * @param keyword 검색어
+     * @param contains LIKE 조건 (색인 후보의 false positive를 거르고 DB collation 기준 결과를 유지)
+     * @return 검색 조건
+     */
+    private BooleanExpression narrowByNgram(MemberNgramIndex.Field field, String keyword, BooleanExpression contains) {
+        return memberNgramIndex.candidates(field, keyword)
+                .map(candidates -> member.memberId.in(candidates).and(contains))
+                .orElse(contains);
     }
 
     /**
@@ -129,6 +371,78 @@ public class MemberRepositoryImpl implements MemberRepositoryCustom {
         return member.createdAt.between(start, end);
     }
 
+    /**
+     * 커서가 가리키는 행 다음부터 조회하는 조건을 생성합니다.
+     * (key > v) OR (key = v AND member_id > id) 형태이며, 내림차순이면 부등호가 반대입니다.
+     * 앞에 붙인 key >= v(내림차순이면 key <= v)는 결과를 바꾸지 않고 인덱스 range scan 시작점을 알려줍니다.
+     *
+     * @param cursor 이전 페이지의 커서
+     * @return seek 조건 또는 null (첫 페이지)
+     */
+    private BooleanExpression seekAfter(MemberCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        boolean ascending = cursor.ascending();
+        UUID memberId = cursor.memberId();
+        BooleanExpression tieBreaker = ascending ? member.memberId.gt(memberId) : member.memberId.lt(memberId);
+        try {
+            return switch (cursor.sortProperty()) {
+                case "email" -> seek(member.email, cursor.sortValue(), ascending, tieBreaker);
+                case "nickname" -> seek(member.nickname, cursor.sortValue(), ascending, tieBreaker);
+                default -> seek(member.createdAt, LocalDateTime.parse(cursor.sortValue()), ascending, tieBreaker);
+            };
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("커서 형식이 올바르지 않습니다.", e);
+        }
+    }
+
+    private static <T extends Comparable<?>> BooleanExpression seek(
+            ComparableExpression<T> key,
+            T value,
+            boolean ascending,
+            BooleanExpression tieBreaker
+    ) {
+        return ascending
+                ? key.goe(value).and(key.gt(value).or(key.eq(value).and(tieBreaker)))
+                : key.loe(value).and(key.lt(value).or(key.eq(value).and(tieBreaker)));
+    }
+
+    /**
+     * keyset 페이징에 사용할 정렬 조건을 결정합니다.
+     * 첫 번째 정렬 조건만 사용하며, 지원하지 않는 필드는 getOrderSpecifiers와 같이 생성일로 처리합니다.
+     *
+     * @param sort Spring Data Sort 객체
+     * @return 정렬 필드와 방향 (기본: 생성일 내림차순)
+     */
+    private Sort.Order getKeysetOrder(Sort sort) {
+        Sort.Order first = sort.stream().findFirst().orElse(null);
+        if (first == null) {
+            return Sort.Order.desc("createdAt");
+        }
+        return switch (first.getProperty()) {
+            case "email", "nickname", "createdAt" -> first;
+            default -> new Sort.Order(first.getDirection(), "createdAt");
+        };
+    }
+
+    private ComparableExpression<?> sortKey(String property) {
+        return switch (property) {
+            case "email" -> member.email;
+            case "nickname" -> member.nickname;
+            default -> member.createdAt;
+        };
+    }
+
+    private static String sortValueOf(Member found, String property) {
+        return switch (property) {
+            case "email" -> found.getEmail();
+            case "nickname" -> found.getNickname();
+            default -> found.getCreatedAt().toString();
+        };
+    }
+
     /**
      * Spring Data의 Sort를 QueryDSL의 OrderSpecifier로 변환합니다.
      * 지원하는 정렬 필드: email, nickname, createdAt
@@ -0,0 +1,172 @@
+package com.growth.member.search;
+
+import com.growth.global.common.id.UuidBytes;
+import com.growth.global.common.index.InMemoryIncrementalIndex;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원 이메일/닉네임 부분 문자열 검색용 in-process trigram 색인입니다.
+ * - LIKE '%x%'는 인덱스를 쓸 수 없어 전체 스캔이 되므로, 색인으로 후보 회원 ID를 먼저 좁힌 뒤 그 행만 조회합니다.
+ * - 시작 시 member 테이블을 스트리밍으로 읽어서 만들고, 이 인스턴스의 가입/탈퇴는 엔티티 리스너로 바로 반영합니다.
+ * - 다른 인스턴스에서 가입한 회원은 refresh-interval마다 created_at 기준으로 이어서 읽고, 탈퇴는 rebuild-cron 재생성 때 반영합니다.
+ * - 색인으로 좁힐 수 없으면(준비 전, 검색어가 3자 미만, 후보가 너무 많음) 비어 있는 Optional을 반환해서 LIKE 검색으로 넘어갑니다.
+ */
+@Component
+public class MemberNgramIndex extends InMemoryIncrementalIndex<NgramTable> {
+
+    public enum Field {
+        EMAIL,
+        NICKNAME
+    }
+
+    private static final String SELECT_MEMBERS =
+            "SELECT member_id, email, nickname, created_at FROM member WHERE is_deleted = false";
+    private static final String SELECT_MEMBERS_SINCE = SELECT_MEMBERS + " AND created_at >= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxCandidates;
+    private final int fetchSize;
+
+    private final Counter hitCounter;
+    private final Counter fallbackCounter;
+
+    public MemberNgramIndex(
+            JdbcTemplate jdbcTemplate,
+            @Value("${member.search.ngram.enabled:true}") boolean enabled,
+            @Value("${member.search.ngram.max-candidates:1000}") int maxCandidates,
+            @Value("${member.search.ngram.fetch-size:1000}") int fetchSize,
+            MeterRegistry meterRegistry
+    ) {
+        super("회원 n-gram 색인", enabled);
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxCandidates = maxCandidates;
+        this.fetchSize = fetchSize;
+
+        Gauge.builder("member.ngram-index.size", this, MemberNgramIndex::size)
+                .description("n-gram 색인에 들어 있는 회원 수")
+                .register(meterRegistry);
+        this.hitCounter = Counter.builder("member.ngram-index.lookups")
+                .tag("result", "hit")
+                .description("n-gram 색인으로 후보를 좁힌 검색 수")
+                .register(meterRegistry);
+        this.fallbackCounter = Counter.builder("member.ngram-index.lookups")
+                .tag("result", "fallback")
+                .description("n-gram 색인으로 좁히지 못해 LIKE로 검색한 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 검색어를 부분 문자열로 포함할 수 있는 회원 ID를 반환합니다.
+     * 후보에는 false positive가 있을 수 있으므로 LIKE 조건과 함께 사용해야 합니다.
+     *
+     * @param field 검색 필드
+     * @param keyword 검색어
+     * @return 후보 회원 ID, 색인으로 좁힐 수 없으면 빈 Optional
+     */
+    public Optional<List<UUID>> candidates(Field field, String keyword) {
+        if (!isAvailable()) {
+            fallbackCounter.increment();
+            return Optional.empty();
+        }
+        List<UUID> candidates = read(table -> table.candidates(field, keyword, maxCandidates));
+        (candidates == null ? fallbackCounter : hitCounter).increment();
+        return Optional.ofNullable(candidates);
+    }
+
+    /**
+     * 새로 가입한 회원을 색인에 추가합니다.
+     */
+    public void add(UUID memberId, String email, String nickname) {
+        update(table -> table.add(memberId, email, nickname));
+    }
+
+    /**
+     * 탈퇴한 회원을 검색 후보에서 제외합니다.
+     */
+    public void remove(UUID memberId) {
+        update(table -> table.remove(memberId));
+    }
+
+    /**
+     * member 테이블 전체를 스트리밍으로 읽어서 색인을 다시 만듭니다.
+     * 탈퇴 회원의 postings도 이때 정리됩니다.
+     */
+    @Override
+    @Scheduled(cron = "${member.search.ngram.rebuild-cron:0 45 4 * * *}")
+    public void rebuild() {
+        super.rebuild();
+    }
+
+    /**
+     * 마지막으로 읽은 created_at 이후에 가입한 회원을 이어서 색인합니다. (다른 인스턴스에서 가입한 회원 반영)
+     */
+    @Override
+    @Scheduled(
+            fixedDelayString = "${member.search.ngram.refresh-interval:5000}",
+            initialDelayString = "${member.search.ngram.refresh-interval:5000}"
+    )
+    public void refresh() {
+        super.refresh();
+    }
+
+    @Override
+    protected NgramTable newTable() {
+        return new NgramTable();
+    }
+
+    /**
+     * 회원을 fetch-size 단위로 읽어서 색인에 추가하고, 읽은 가장 늦은 created_at을 반환합니다.
+     */
+    @Override
+    protected LocalDateTime load(NgramTable table, LocalDateTime since) {
+        LocalDateTime[] latest = new LocalDateTime[1];
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(
+                            since == null ? SELECT_MEMBERS : SELECT_MEMBERS_SINCE,
+                            ResultSet.TYPE_FORWARD_ONLY,
+                            ResultSet.CONCUR_READ_ONLY
+                    );
+                    statement.setFetchSize(fetchSize);
+                    if (since != null) {
+                        statement.setTimestamp(1, Timestamp.valueOf(since));
+                    }
+                    return statement;
+                },
+                resultSet -> {
+                    UUID memberId = UuidBytes.toUuid(resultSet.getBytes(1));
+                    String email = resultSet.getString(2);
+                    String nickname = resultSet.getString(3);
+                    locked(() -> table.add(memberId, email, nickname));
+                    LocalDateTime createdAt = resultSet.getTimestamp(4).toLocalDateTime();
+                    if (latest[0] == null || createdAt.isAfter(latest[0])) {
+                        latest[0] = createdAt;
+                    }
+                }
+        );
+        return latest[0];
+    }
+
+    @Override
+    protected int count(NgramTable table) {
+        return table.size();
+    }
+
+    @Override
+    protected String describe() {
+        return "members=" + size();
+    }
+}
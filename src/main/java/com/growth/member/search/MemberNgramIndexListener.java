@@ -0,0 +1,37 @@
+package com.growth.member.search;
+
+import com.growth.global.common.listener.EntityChangeListener;
+import com.growth.member.domain.Member;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import java.util.UUID;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Member의 가입/탈퇴를 MemberNgramIndex에 반영하는 JPA 엔티티 리스너입니다.
+ * - memberId가 생성된 뒤여야 하므로 INSERT 이후(@PostPersist)에 추가합니다.
+ *   (롤백되면 색인에 남지만, 후보 ID는 DB 조회로 다시 거르므로 결과에는 나타나지 않습니다)
+ * - 탈퇴(soft delete)는 UPDATE 이후(@PostUpdate)에 등록하고, 트랜잭션이 커밋된 뒤에 후보에서 제외합니다.
+ *   (제외는 재생성 전까지 되돌릴 수 없으므로, 롤백된 탈퇴가 회원을 검색에서 숨기지 않도록)
+ */
+@Component
+public class MemberNgramIndexListener extends EntityChangeListener<MemberNgramIndex> {
+
+    public MemberNgramIndexListener(ObjectProvider<MemberNgramIndex> memberNgramIndex) {
+        super(memberNgramIndex);
+    }
+
+    @PostPersist
+    public void onPostPersist(Member member) {
+        now(index -> index.add(member.getMemberId(), member.getEmail(), member.getNickname()));
+    }
+
+    @PostUpdate
+    public void onPostUpdate(Member member) {
+        if (Boolean.TRUE.equals(member.getIsDeleted())) {
+            UUID memberId = member.getMemberId();
+            afterCommit(index -> index.remove(memberId));
+        }
+    }
+}
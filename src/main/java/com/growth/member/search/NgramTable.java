@@ -0,0 +1,166 @@
+package com.growth.member.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 회원 이메일/닉네임의 trigram 역색인(inverted index)입니다.
+ * - 회원마다 0부터 증가하는 내부 번호(doc)를 붙이고, trigram별로 doc 번호를 오름차순 int 배열에 모읍니다.
+ * - 검색어의 모든 trigram이 포함된 회원만 후보로 반환합니다 (부분 문자열 일치의 필요조건이므로 누락 없음).
+ * - 후보에는 trigram은 모두 있지만 연속되지 않은 false positive가 있을 수 있으므로 호출 측에서 LIKE로 다시 거릅니다.
+ * - thread-safe 하지 않습니다. 동기화는 MemberNgramIndex가 담당합니다.
+ */
+final class NgramTable {
+
+    static final int GRAM_LENGTH = 3;
+
+    private final Map<UUID, Integer> docIds = new HashMap<>();
+    private final List<UUID> docs = new ArrayList<>();
+    private final BitSet removed = new BitSet();
+    private final EnumMap<MemberNgramIndex.Field, Map<Long, Postings>> postings = new EnumMap<>(MemberNgramIndex.Field.class);
+
+    NgramTable() {
+        for (MemberNgramIndex.Field field : MemberNgramIndex.Field.values()) {
+            postings.put(field, new HashMap<>());
+        }
+    }
+
+    /**
+     * 회원을 색인합니다. 이미 색인된(삭제된 경우 포함) 회원은 무시합니다.
+     */
+    void add(UUID memberId, String email, String nickname) {
+        if (docIds.containsKey(memberId)) {
+            return;
+        }
+        int doc = docs.size();
+        docIds.put(memberId, doc);
+        docs.add(memberId);
+        index(MemberNgramIndex.Field.EMAIL, email, doc);
+        index(MemberNgramIndex.Field.NICKNAME, nickname, doc);
+    }
+
+    /**
+     * 탈퇴한 회원을 후보에서 제외합니다. postings는 다음 재생성 때 정리됩니다.
+     */
+    void remove(UUID memberId) {
+        Integer doc = docIds.get(memberId);
+        if (doc != null) {
+            removed.set(doc);
+        }
+    }
+
+    int size() {
+        return docs.size() - removed.cardinality();
+    }
+
+    /**
+     * 검색어를 부분 문자열로 포함할 수 있는 회원 ID를 반환합니다.
+     *
+     * @param field 검색 필드
+     * @param keyword 검색어
+     * @param maxCandidates 후보 수 상한
+     * @return 후보 회원 ID, 검색어가 trigram보다 짧거나 후보가 상한을 넘으면 null (색인으로 좁힐 수 없음)
+     */
+    List<UUID> candidates(MemberNgramIndex.Field field, String keyword, int maxCandidates) {
+        long[] grams = grams(keyword);
+        if (grams.length == 0) {
+            return null;
+        }
+
+        Map<Long, Postings> fieldPostings = postings.get(field);
+        Postings[] lists = new Postings[grams.length];
+        for (int i = 0; i < grams.length; i++) {
+            lists[i] = fieldPostings.get(grams[i]);
+            if (lists[i] == null) {
+                return List.of();
+            }
+        }
+        // NOTE: 가장 짧은 목록을 기준으로 나머지 목록에서 이진 탐색 (교집합 크기 ≤ 가장 짧은 목록)
+        Arrays.sort(lists, Comparator.comparingInt(Postings::size));
+
+        List<UUID> result = new ArrayList<>();
+        Postings smallest = lists[0];
+        for (int i = 0; i < smallest.size(); i++) {
+            int doc = smallest.get(i);
+            if (removed.get(doc) || !containsInAll(lists, doc)) {
+                continue;
+            }
+            if (result.size() == maxCandidates) {
+                return null;
+            }
+            result.add(docs.get(doc));
+        }
+        return result;
+    }
+
+    private void index(MemberNgramIndex.Field field, String value, int doc) {
+        Map<Long, Postings> fieldPostings = postings.get(field);
+        for (long gram : grams(value)) {
+            fieldPostings.computeIfAbsent(gram, key -> new Postings()).add(doc);
+        }
+    }
+
+    private static boolean containsInAll(Postings[] lists, int doc) {
+        for (int i = 1; i < lists.length; i++) {
+            if (!lists[i].contains(doc)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 소문자로 바꾼 문자열의 서로 다른 trigram을 반환합니다. (문자 3개를 16bit씩 long 하나에 담음)
+     */
+    static long[] grams(String value) {
+        if (value == null) {
+            return new long[0];
+        }
+        String normalized = value.toLowerCase(Locale.ROOT);
+        if (normalized.length() < GRAM_LENGTH) {
+            return new long[0];
+        }
+        long[] grams = new long[normalized.length() - GRAM_LENGTH + 1];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = (long) normalized.charAt(i) << 32 | (long) normalized.charAt(i + 1) << 16 | normalized.charAt(i + 2);
+        }
+        return Arrays.stream(grams).distinct().toArray();
+    }
+
+    // NOTE: doc 번호는 증가하는 순서로만 추가되므로 항상 정렬된 상태
+    private static final class Postings {
+
+        private int[] docs = new int[4];
+        private int size;
+
+        void add(int doc) {
+            if (size > 0 && docs[size - 1] == doc) {
+                return;
+            }
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            docs[size++] = doc;
+        }
+
+        int get(int index) {
+            return docs[index];
+        }
+
+        int size() {
+            return size;
+        }
+
+        boolean contains(int doc) {
+            return Arrays.binarySearch(docs, 0, size, doc) >= 0;
+        }
+    }
+}
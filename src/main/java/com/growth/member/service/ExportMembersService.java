@@ -0,0 +1,170 @@
+package com.growth.member.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.growth.global.exception.ServiceUnavailableException;
+import com.growth.member.domain.Member;
+import com.growth.member.dto.request.MemberExportFormat;
+import com.growth.member.dto.request.MemberSearchCondition;
+import com.growth.member.repository.MemberRepository;
+import com.growth.member.usecase.ExportMembersUseCase;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 회원 검색 결과를 NDJSON/CSV로 내보내는 서비스입니다.
+ * - 결과를 List로 모으지 않고 DB 커서에서 읽는 대로 한 줄씩 바로 써서, 결과 크기와 관계없이 메모리 사용량이 일정합니다.
+ * - 내보내는 동안 DB 커넥션을 계속 점유하므로 동시에 실행할 수 있는 내보내기 수를 제한합니다 (초과 시 503).
+ * - 비밀번호 해시는 내보내지 않습니다.
+ */
+@Slf4j
+@Service
+public class ExportMembersService implements ExportMembersUseCase {
+
+    private static final String CSV_HEADER = "memberId,email,nickname,createdAt,lastLoginAt";
+
+    private final MemberRepository memberRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Semaphore permits;
+    private final int fetchSize;
+
+    public ExportMembersService(
+            MemberRepository memberRepository,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${member.export.max-concurrent:2}") int maxConcurrent,
+            @Value("${member.export.fetch-size:1000}") int fetchSize
+    ) {
+        this.memberRepository = memberRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.permits = new Semaphore(maxConcurrent);
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * 검색 조건에 맞는 회원을 out에 씁니다. out은 닫지 않습니다.
+     *
+     * @return 내보낸 회원 수
+     */
+    @Override
+    public long export(MemberSearchCondition condition, MemberExportFormat format, OutputStream out) throws IOException {
+        if (!permits.tryAcquire()) {
+            throw new ServiceUnavailableException("진행 중인 내보내기가 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        long startedAt = System.nanoTime();
+        try {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            long count = switch (format) {
+                case NDJSON -> writeNdjson(condition, writer);
+                case CSV -> writeCsv(condition, writer);
+            };
+            writer.flush();
+            log.info("회원 내보내기 완료 (format={}, rows={}, elapsed={}ms)",
+                    format, count, (System.nanoTime() - startedAt) / 1_000_000);
+            return count;
+        } catch (UncheckedIOException e) {
+            // NOTE: 클라이언트가 연결을 끊은 경우 등 - 커서를 닫고 트랜잭션을 끝낸 뒤 원래 예외로 전달
+            throw e.getCause();
+        } finally {
+            permits.release();
+        }
+    }
+
+    private long writeNdjson(MemberSearchCondition condition, Writer writer) throws IOException {
+        // NOTE: 줄마다 Map/DTO를 만들지 않도록 JsonGenerator로 필드를 바로 씀
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
+        generator.setRootValueSeparator(null);
+        long count = stream(condition, found -> {
+            try {
+                generator.writeStartObject();
+                generator.writeStringField("memberId", found.getMemberId().toString());
+                generator.writeStringField("email", found.getEmail());
+                generator.writeStringField("nickname", found.getNickname());
+                generator.writeStringField("createdAt", format(found.getCreatedAt()));
+                generator.writeStringField("lastLoginAt", format(found.getLastLoginAt()));
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        generator.flush();
+        return count;
+    }
+
+    private long writeCsv(MemberSearchCondition condition, Writer writer) throws IOException {
+        writer.write(CSV_HEADER);
+        writer.write("\r\n");
+        return stream(condition, found -> {
+            try {
+                writer.write(found.getMemberId().toString());
+                writer.write(',');
+                writeCsvField(writer, found.getEmail());
+                writer.write(',');
+                writeCsvField(writer, found.getNickname());
+                writer.write(',');
+                writeCsvField(writer, format(found.getCreatedAt()));
+                writer.write(',');
+                writeCsvField(writer, format(found.getLastLoginAt()));
+                writer.write("\r\n");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private long stream(MemberSearchCondition condition, Consumer<Member> writer) {
+        long[] count = new long[1];
+        readOnlyTransaction.executeWithoutResult(status ->
+                memberRepository.streamByCondition(condition, fetchSize, found -> {
+                    writer.accept(found);
+                    count[0]++;
+                })
+        );
+        return count[0];
+    }
+
+    /**
+     * RFC 4180 규칙으로 CSV 필드를 씁니다.
+     * - 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번 씁니다.
+     * - 스프레드시트가 수식으로 실행하지 않도록 =, +, -, @ 로 시작하는 값 앞에 ' 를 붙입니다 (CSV injection 방지).
+     */
+    static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        String safe = switch (value.charAt(0)) {
+            case '=', '+', '-', '@', '\t', '\r' -> "'" + value;
+            default -> value;
+        };
+        boolean quote = safe.indexOf(',') >= 0 || safe.indexOf('"') >= 0
+                || safe.indexOf('\n') >= 0 || safe.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(safe);
+            return;
+        }
+        writer.write('"');
+        writer.write(safe.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static String format(LocalDateTime dateTime) {
+        return dateTime == null ? null : dateTime.toString();
+    }
+}
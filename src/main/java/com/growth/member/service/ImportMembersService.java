@@ -0,0 +1,170 @@
+package com.growth.member.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.growth.global.common.id.UuidBytes;
+import com.growth.global.common.id.UuidV7Generator;
+import com.growth.global.common.importer.BulkImporter;
+import com.growth.global.common.importer.ImportFailure;
+import com.growth.global.common.importer.ImportFormat;
+import com.growth.global.common.importer.ImportResult;
+import com.growth.global.common.importer.ImportRow;
+import com.growth.global.common.importer.ImportRowReader;
+import com.growth.global.common.util.Emails;
+import com.growth.global.security.BoundedPasswordEncoder;
+import com.growth.member.cache.EmailExistenceFilter;
+import com.growth.member.dto.request.SignUpMemberRequestDto;
+import com.growth.member.search.MemberNgramIndex;
+import com.growth.member.usecase.ImportMembersUseCase;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * 회원 대량 가입 서비스입니다.
+ * - 행마다 SignUpMemberRequestDto 제약으로 검증하고, chunk-size 개씩 묶어서 batch INSERT 합니다.
+ * - 파일 안의 중복 이메일과 이미 가입된 이메일은 묶음마다 SELECT 한 번으로 걸러냅니다.
+ *   (EmailExistenceFilter가 가입되지 않았다고 확신하는 이메일은 조회하지 않음)
+ * - 비밀번호는 트랜잭션 밖에서 해싱 스레드 풀로 병렬 해싱합니다.
+ * - JDBC로 직접 저장하므로 엔티티 리스너 대신 이메일 필터와 n-gram 색인에 직접 반영합니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ImportMembersService implements ImportMembersUseCase {
+
+    private static final String INSERT_SQL = "INSERT INTO member "
+            + "(member_id, email, password, nickname, created_at, updated_at, is_deleted) "
+            + "VALUES (?, ?, ?, ?, ?, ?, false)";
+    private static final String SELECT_EXISTING_EMAILS = "SELECT email FROM member WHERE email IN (:emails)";
+    private static final String DUPLICATE_EMAIL = "이미 존재하는 이메일입니다";
+
+    private final BulkImporter bulkImporter;
+    private final BoundedPasswordEncoder passwordEncoder;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionOperations transactionOperations;
+    private final ObjectMapper objectMapper;
+    private final EmailExistenceFilter emailExistenceFilter;
+    private final MemberNgramIndex memberNgramIndex;
+    private final Clock clock;
+
+    @Override
+    public ImportResult importMembers(InputStream in, ImportFormat format) throws IOException {
+        try (ImportRowReader<SignUpMemberRequestDto> reader =
+                     new ImportRowReader<>(in, format, SignUpMemberRequestDto.class, objectMapper)) {
+            return bulkImporter.run(reader, this::writeChunk);
+        }
+    }
+
+    private List<ImportFailure> writeChunk(List<ImportRow<SignUpMemberRequestDto>> rows) {
+        List<ImportFailure> failures = new ArrayList<>();
+
+        // 1. 파일 안에서 중복되거나 이미 가입된 이메일 제외
+        Set<String> existing = findExistingEmails(rows);
+        Set<String> seen = new HashSet<>();
+        List<ImportRow<SignUpMemberRequestDto>> accepted = new ArrayList<>(rows.size());
+        for (ImportRow<SignUpMemberRequestDto> row : rows) {
+            String email = Emails.normalize(row.value().email());
+            if (existing.contains(email) || !seen.add(email)) {
+                failures.add(row.fail(DUPLICATE_EMAIL));
+            } else {
+                accepted.add(row);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return failures;
+        }
+
+        // 2. 비밀번호 병렬 해싱 (DB 커넥션 점유 전)
+        List<String> hashes = passwordEncoder.encodeAll(accepted.stream().map(row -> row.value().password()).toList());
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<NewMember> members = new ArrayList<>(accepted.size());
+        for (int i = 0; i < accepted.size(); i++) {
+            members.add(new NewMember(UuidV7Generator.generate(), accepted.get(i), hashes.get(i), now));
+        }
+
+        // 3. batch INSERT
+        List<NewMember> inserted = insert(members, failures);
+
+        // 4. 엔티티 리스너를 거치지 않으므로 직접 반영
+        for (NewMember member : inserted) {
+            SignUpMemberRequestDto value = member.row().value();
+            emailExistenceFilter.add(value.email());
+            memberNgramIndex.add(member.memberId(), value.email(), value.nickname());
+        }
+        return failures;
+    }
+
+    /**
+     * 묶음 전체를 한 트랜잭션의 batch INSERT로 저장합니다.
+     * 사전 확인 이후 다른 요청이 같은 이메일로 가입했다면 묶음을 되돌리고 한 행씩 다시 저장해서 실패한 행만 골라냅니다.
+     */
+    private List<NewMember> insert(List<NewMember> members, List<ImportFailure> failures) {
+        try {
+            transactionOperations.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(INSERT_SQL, members, members.size(), ImportMembersService::bind));
+            return members;
+        } catch (DataIntegrityViolationException e) {
+            List<NewMember> inserted = new ArrayList<>(members.size());
+            for (NewMember member : members) {
+                try {
+                    jdbcTemplate.update(INSERT_SQL, statement -> bind(statement, member));
+                    inserted.add(member);
+                } catch (DuplicateKeyException duplicate) {
+                    failures.add(member.row().fail(DUPLICATE_EMAIL));
+                } catch (DataIntegrityViolationException violation) {
+                    log.warn("회원 대량 등록 행 저장 실패 (line={}): {}", member.row().line(), violation.getMostSpecificCause().getMessage());
+                    failures.add(member.row().fail(ImportFailure.SAVE_FAILED));
+                }
+            }
+            return inserted;
+        }
+    }
+
+    private Set<String> findExistingEmails(List<ImportRow<SignUpMemberRequestDto>> rows) {
+        List<String> candidates = rows.stream()
+                .map(row -> row.value().email())
+                .filter(email -> !emailExistenceFilter.definitelyNotRegistered(email))
+                .distinct()
+                .toList();
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+        return namedParameterJdbcTemplate.queryForList(SELECT_EXISTING_EMAILS, Map.of("emails", candidates), String.class)
+                .stream()
+                .map(Emails::normalize)
+                .collect(Collectors.toSet());
+    }
+
+    private static void bind(PreparedStatement statement, NewMember member) throws SQLException {
+        SignUpMemberRequestDto value = member.row().value();
+        statement.setBytes(1, UuidBytes.toBytes(member.memberId()));
+        statement.setString(2, value.email());
+        statement.setString(3, member.passwordHash());
+        statement.setString(4, value.nickname());
+        statement.setObject(5, member.createdAt());
+        statement.setObject(6, member.createdAt());
+    }
+
+
+    private record NewMember(UUID memberId, ImportRow<SignUpMemberRequestDto> row, String passwordHash, LocalDateTime createdAt) {
+    }
+}
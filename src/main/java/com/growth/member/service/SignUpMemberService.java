@@ -6,33 +6,62 @@ import com.growth.member.dto.request.SignUpMemberRequestDto;
 import com.growth.member.dto.response.SignUpMemberResponseDto;
 import com.growth.member.repository.MemberRepository;
 import com.growth.member.usecase.SignUpMemberUseCase;
+import java.sql.SQLException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+// 클래스 레벨 트랜잭션을 두지 않습니다
+// - BCrypt 해싱 동안 DB 커넥션을 점유하지 않도록 저장은 Repository 트랜잭션에서 실행합니다
 @RequiredArgsConstructor
 @Service
-@Transactional
 public class SignUpMemberService implements SignUpMemberUseCase {
 
+    // MySQL ER_DUP_ENTRY, SQL 표준 unique violation (H2 등)
+    private static final int MYSQL_DUPLICATE_ENTRY = 1062;
+    private static final String DUPLICATE_KEY_SQL_STATE = "23505";
+
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
 
     @Override
     public SignUpMemberResponseDto signUp(SignUpMemberRequestDto requestDto) {
-        if (memberRepository.existsByEmail(requestDto.email())) {
-            throw new BadRequestException("이미 존재하는 이메일입니다");
-        }
-
-        // 비밀번호 암호화
+        // 비밀번호 암호화 (트랜잭션 밖에서 전용 해싱 스레드 풀로 실행)
         String encryptedPassword = passwordEncoder.encode(requestDto.password());
 
         // Member 엔티티 생성 및 저장
+        // - 이메일 중복을 미리 조회하지 않고 INSERT 한 번으로 처리합니다 (조회 후 저장 사이의 경쟁 조건도 없음)
         Member member = Member.from(requestDto, encryptedPassword);
-        Member savedMember = memberRepository.save(member);
+        Member savedMember;
+        try {
+            savedMember = memberRepository.insert(member);
+        } catch (DataIntegrityViolationException e) {
+            if (isEmailDuplicate(e)) {
+                throw new BadRequestException("이미 존재하는 이메일입니다");
+            }
+            throw e;
+        }
 
         // 응답 DTO 변환 후 반환
         return SignUpMemberResponseDto.from(savedMember);
     }
+
+    // 이메일 유니크 키 위반인지 확인합니다
+    // - 제약 이름은 보지 않습니다 (예전 ddl-auto로 만든 DB에는 Hibernate가 생성한 UK 이름이 남아 있음)
+    // - member의 유니크 키는 이메일과 생성된 UUIDv7 기본 키뿐이므로, 이 INSERT의 중복 키 오류는 이메일 중복입니다
+    // - MySQL의 SQLState 23000은 NOT NULL/외래 키 위반도 포함하므로 벤더 오류 코드(1062)로 구분합니다
+    private static boolean isEmailDuplicate(DataIntegrityViolationException e) {
+        if (e instanceof DuplicateKeyException) {
+            return true;
+        }
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException) {
+                return sqlException.getErrorCode() == MYSQL_DUPLICATE_ENTRY
+                        || DUPLICATE_KEY_SQL_STATE.equals(sqlException.getSQLState());
+            }
+        }
+        return false;
+    }
 }
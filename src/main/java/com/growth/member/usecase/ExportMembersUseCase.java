@@ -0,0 +1,10 @@
+package com.growth.member.usecase;
+
+import com.growth.member.dto.request.MemberExportFormat;
+import com.growth.member.dto.request.MemberSearchCondition;
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface ExportMembersUseCase {
+    long export(MemberSearchCondition condition, MemberExportFormat format, OutputStream out) throws IOException;
+}
@@ -0,0 +1,10 @@
+package com.growth.member.usecase;
+
+import com.growth.global.common.importer.ImportFormat;
+import com.growth.global.common.importer.ImportResult;
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface ImportMembersUseCase {
+    ImportResult importMembers(InputStream in, ImportFormat format) throws IOException;
+}
@@ -0,0 +1,152 @@
+package com.growth.room.catalog;
+
+import com.growth.global.common.index.InMemoryIncrementalIndex;
+import com.growth.room.repository.RoomRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 숙소 필터 UI용 in-process 열(column) 카탈로그입니다.
+ * - 가격/인원/지역 조건과 facet 분포(가격 히스토그램, 인원 구간, 지역별 수)를 SQL 없이 메모리에서 셉니다.
+ * - 시작 시 RoomRepository로 숙소를 스트리밍해서 만들고, 이 인스턴스의 숙소 등록/삭제는 커밋 후 엔티티 리스너로 반영합니다.
+ * - 다른 인스턴스에서 등록한 숙소는 refresh-interval마다 created_at 기준으로 이어서 읽고, 삭제는 rebuild-cron 재생성 때 반영합니다.
+ * - 준비되지 않았거나 비활성이면 비어 있는 Optional을 반환합니다.
+ */
+@Component
+public class RoomCatalog extends InMemoryIncrementalIndex<RoomColumns> {
+
+  private final RoomRepository roomRepository;
+  private final TransactionTemplate readOnlyTransaction;
+  private final int fetchSize;
+  private final int priceBucketWidth;
+  private final int priceBucketCount;
+  private final int guestBucketCount;
+  private final int maxRegions;
+
+  private final Timer facetTimer;
+
+  public RoomCatalog(
+    RoomRepository roomRepository,
+    PlatformTransactionManager transactionManager,
+    @Value("${room.catalog.enabled:true}") boolean enabled,
+    @Value("${room.catalog.fetch-size:1000}") int fetchSize,
+    @Value("${room.catalog.price-bucket-width:20000}") int priceBucketWidth,
+    @Value("${room.catalog.price-bucket-count:25}") int priceBucketCount,
+    @Value("${room.catalog.guest-bucket-count:10}") int guestBucketCount,
+    @Value("${room.catalog.max-regions:64}") int maxRegions,
+    MeterRegistry meterRegistry
+  ) {
+    super("숙소 카탈로그", enabled);
+    this.roomRepository = roomRepository;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+    this.fetchSize = fetchSize;
+    this.priceBucketWidth = priceBucketWidth;
+    this.priceBucketCount = priceBucketCount;
+    this.guestBucketCount = guestBucketCount;
+    this.maxRegions = maxRegions;
+
+    Gauge.builder("room.catalog.size", this, RoomCatalog::size)
+      .description("카탈로그에 들어 있는 숙소 수")
+      .register(meterRegistry);
+    this.facetTimer = Timer.builder("room.catalog.facets")
+      .description("카탈로그 필터/facet 계산 시간")
+      .register(meterRegistry);
+  }
+
+  /**
+   * 조건에 맞는 숙소 수와 facet 분포를 반환합니다.
+   *
+   * @param filter 필터 조건
+   * @return 필터 결과, 카탈로그를 쓸 수 없으면 빈 Optional
+   */
+  public Optional<RoomFacets> facets(RoomFacetFilter filter) {
+    if (!isAvailable()) {
+      return Optional.empty();
+    }
+    long startedAt = System.nanoTime();
+    try {
+      return Optional.of(read(columns -> columns.facets(filter)));
+    } finally {
+      facetTimer.record(Duration.ofNanos(System.nanoTime() - startedAt));
+    }
+  }
+
+  /**
+   * 새로 등록한 숙소를 카탈로그에 추가합니다.
+   */
+  public void add(UUID roomId, int price, int maxGuest, String address) {
+    update(columns -> columns.add(roomId, price, maxGuest, address));
+  }
+
+  /**
+   * 삭제된 숙소를 결과에서 제외합니다.
+   */
+  public void remove(UUID roomId) {
+    update(columns -> columns.remove(roomId));
+  }
+
+  /**
+   * 삭제되지 않은 숙소 전체를 스트리밍으로 읽어서 카탈로그를 다시 만듭니다.
+   * 삭제된 숙소의 행도 이때 정리됩니다.
+   */
+  @Override
+  @Scheduled(cron = "${room.catalog.rebuild-cron:0 15 5 * * *}")
+  public void rebuild() {
+    super.rebuild();
+  }
+
+  /**
+   * 마지막으로 읽은 created_at 이후에 등록된 숙소를 이어서 추가합니다. (다른 인스턴스에서 등록한 숙소 반영)
+   */
+  @Override
+  @Scheduled(
+    fixedDelayString = "${room.catalog.refresh-interval:5000}",
+    initialDelayString = "${room.catalog.refresh-interval:5000}"
+  )
+  public void refresh() {
+    super.refresh();
+  }
+
+  @Override
+  protected RoomColumns newTable() {
+    return new RoomColumns(priceBucketWidth, priceBucketCount, guestBucketCount, maxRegions);
+  }
+
+  /**
+   * 숙소를 fetch-size 단위로 읽어서 카탈로그에 추가하고, 읽은 가장 늦은 created_at을 반환합니다.
+   */
+  @Override
+  protected LocalDateTime load(RoomColumns columns, LocalDateTime since) {
+    LocalDateTime[] latest = new LocalDateTime[1];
+    readOnlyTransaction.executeWithoutResult(status ->
+      roomRepository.streamCatalogRows(since, fetchSize, row -> {
+        locked(() -> columns.add(row.roomId(), row.price(), row.maxGuest(), row.address()));
+        if (latest[0] == null || row.createdAt().isAfter(latest[0])) {
+          latest[0] = row.createdAt();
+        }
+      })
+    );
+    return latest[0];
+  }
+
+  @Override
+  protected int count(RoomColumns columns) {
+    return columns.size();
+  }
+
+  @Override
+  protected String describe() {
+    return "rooms=" + size();
+  }
+}
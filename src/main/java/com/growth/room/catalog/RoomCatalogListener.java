@@ -0,0 +1,39 @@
+package com.growth.room.catalog;
+
+import com.growth.global.common.listener.EntityChangeListener;
+import com.growth.room.domain.Room;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import java.util.UUID;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 숙소 등록/삭제를 RoomCatalog에 반영하는 JPA 엔티티 리스너입니다.
+ * - 등록은 INSERT 이후(@PostPersist), 삭제(soft delete)는 UPDATE 이후(@PostUpdate)에 등록하고,
+ *   트랜잭션이 있으면 커밋된 뒤에 반영합니다. (롤백된 숙소가 facet 수에 남지 않도록)
+ */
+@Component
+public class RoomCatalogListener extends EntityChangeListener<RoomCatalog> {
+
+  public RoomCatalogListener(ObjectProvider<RoomCatalog> roomCatalog) {
+    super(roomCatalog);
+  }
+
+  @PostPersist
+  public void onPostPersist(Room room) {
+    UUID roomId = room.getRoomId();
+    int price = room.getPrice();
+    int maxGuest = room.getMaxGuest();
+    String address = room.getAddress();
+    afterCommit(catalog -> catalog.add(roomId, price, maxGuest, address));
+  }
+
+  @PostUpdate
+  public void onPostUpdate(Room room) {
+    if (Boolean.TRUE.equals(room.getIsDeleted())) {
+      UUID roomId = room.getRoomId();
+      afterCommit(catalog -> catalog.remove(roomId));
+    }
+  }
+}
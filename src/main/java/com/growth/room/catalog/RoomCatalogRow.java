@@ -0,0 +1,16 @@
+package com.growth.room.catalog;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 숙소 카탈로그를 만들 때 읽는 숙소 한 건입니다.
+ *
+ * @param roomId 숙소 ID
+ * @param price 가격
+ * @param maxGuest 최대 인원수
+ * @param address 주소 (첫 단어를 지역으로 사용)
+ * @param createdAt 생성 시간 (이어서 읽기 위한 워터마크)
+ */
+public record RoomCatalogRow(UUID roomId, int price, int maxGuest, String address, LocalDateTime createdAt) {
+}
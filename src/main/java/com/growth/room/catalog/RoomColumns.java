@@ -0,0 +1,201 @@
+package com.growth.room.catalog;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 숙소의 가격, 최대 인원수, 지역을 열(column)마다 원시 타입 배열에 담은 카탈로그입니다.
+ * - 숙소마다 0부터 증가하는 행 번호를 붙이고, 같은 행 번호로 price[], maxGuest[], region[]을 읽습니다.
+ * - 조건마다 맞는 행을 bit mask로 만들고 AND로 합쳐서 결과 수와 facet 분포를 셉니다 (boxing 없음).
+ * - 지역은 주소의 첫 단어이며, max-regions개까지 번호를 붙이고 넘치면 기타(0번)로 모읍니다.
+ * - thread-safe 하지 않습니다. 동기화는 RoomCatalog가 담당합니다.
+ */
+final class RoomColumns {
+
+  static final String OTHER_REGION = "기타";
+
+  private final int priceBucketWidth;
+  private final int priceBucketCount;
+  private final int guestBucketCount;
+  private final int maxRegions;
+
+  private final Map<UUID, Integer> rows = new HashMap<>();
+  private final BitSet removed = new BitSet();
+  private int[] prices = new int[1024];
+  private int[] maxGuests = new int[1024];
+  private int[] regions = new int[1024];
+  private int size;
+
+  private final Map<String, Integer> regionCodes = new HashMap<>();
+  private final List<String> regionNames = new ArrayList<>();
+  // NOTE: 지역 조건은 행마다 비교하지 않도록 지역별 행 BitSet을 미리 만들어 둠
+  private final List<BitSet> regionRows = new ArrayList<>();
+
+  RoomColumns(int priceBucketWidth, int priceBucketCount, int guestBucketCount, int maxRegions) {
+    if (priceBucketWidth < 1 || priceBucketCount < 1 || guestBucketCount < 1 || maxRegions < 1) {
+      throw new IllegalArgumentException("카탈로그 설정 값은 1 이상이어야 합니다.");
+    }
+    this.priceBucketWidth = priceBucketWidth;
+    this.priceBucketCount = priceBucketCount;
+    this.guestBucketCount = guestBucketCount;
+    this.maxRegions = maxRegions;
+    regionCode(OTHER_REGION);
+  }
+
+  /**
+   * 숙소를 추가합니다. 이미 추가된(삭제된 경우 포함) 숙소는 무시합니다.
+   */
+  void add(UUID roomId, int price, int maxGuest, String address) {
+    if (rows.containsKey(roomId)) {
+      return;
+    }
+    if (size == prices.length) {
+      int capacity = size * 2;
+      prices = Arrays.copyOf(prices, capacity);
+      maxGuests = Arrays.copyOf(maxGuests, capacity);
+      regions = Arrays.copyOf(regions, capacity);
+    }
+    int row = size++;
+    rows.put(roomId, row);
+    prices[row] = price;
+    maxGuests[row] = maxGuest;
+    int region = regionCode(regionOf(address));
+    regions[row] = region;
+    regionRows.get(region).set(row);
+  }
+
+  /**
+   * 삭제된 숙소를 결과에서 제외합니다. 행은 다음 재생성 때 정리됩니다.
+   */
+  void remove(UUID roomId) {
+    Integer row = rows.get(roomId);
+    if (row != null) {
+      removed.set(row);
+    }
+  }
+
+  int size() {
+    return size - removed.cardinality();
+  }
+
+  /**
+   * 조건에 맞는 숙소 수와 facet 분포를 셉니다.
+   * - 가격/인원 조건은 열을 한 번 훑어서 64행씩 long 하나에 담은 bit mask로 만들고, 지역 조건은 미리 만든 BitSet을 씁니다.
+   * - 그 다음 64행 단위로 mask를 AND 해서, 각 facet에 들어갈 행만 골라 셉니다.
+   */
+  RoomFacets facets(RoomFacetFilter filter) {
+    int words = (size + 63) >>> 6;
+    long[] live = liveWords(words);
+    long[] price = filter.minPrice() == null && filter.maxPrice() == null
+      ? null
+      : between(prices, filter.minPrice() == null ? Integer.MIN_VALUE : filter.minPrice(),
+        filter.maxPrice() == null ? Integer.MAX_VALUE : filter.maxPrice(), words);
+    long[] guests = filter.guests() == null ? null : between(maxGuests, filter.guests(), Integer.MAX_VALUE, words);
+    long[] region = regionWords(filter.region(), words);
+
+    int total = 0;
+    int[] priceCounts = new int[priceBucketCount];
+    int[] guestCounts = new int[guestBucketCount];
+    int[] regionCounts = new int[regionNames.size()];
+    for (int w = 0; w < words; w++) {
+      long l = live[w];
+      long p = price == null ? -1L : price[w];
+      long g = guests == null ? -1L : guests[w];
+      long r = region == null ? -1L : region[w];
+      int base = w << 6;
+
+      // NOTE: 각 facet은 자기 조건을 뺀 나머지 조건으로 셈
+      for (long bits = l & g & r; bits != 0; bits &= bits - 1) {
+        int row = base + Long.numberOfTrailingZeros(bits);
+        priceCounts[bucket(prices[row] / priceBucketWidth, priceBucketCount)]++;
+      }
+      for (long bits = l & p & r; bits != 0; bits &= bits - 1) {
+        int row = base + Long.numberOfTrailingZeros(bits);
+        guestCounts[bucket(maxGuests[row] - 1, guestBucketCount)]++;
+      }
+      long regionFacet = l & p & g;
+      for (long bits = regionFacet; bits != 0; bits &= bits - 1) {
+        regionCounts[regions[base + Long.numberOfTrailingZeros(bits)]]++;
+      }
+      total += Long.bitCount(regionFacet & r);
+    }
+
+    return new RoomFacets(total, priceBucketWidth, priceCounts, guestCounts, List.copyOf(regionNames), regionCounts);
+  }
+
+  private long[] liveWords(int words) {
+    long[] live = new long[words];
+    Arrays.fill(live, -1L);
+    if ((size & 63) != 0) {
+      live[words - 1] = (1L << size) - 1;
+    }
+    long[] removedWords = removed.toLongArray();
+    for (int w = 0; w < removedWords.length && w < words; w++) {
+      live[w] &= ~removedWords[w];
+    }
+    return live;
+  }
+
+  /**
+   * 열 값이 [min, max] 안에 있는 행의 bit mask를 만듭니다.
+   * 값 분포가 고르면 분기 예측이 자주 빗나가므로, 범위 밖이면 음수가 되는 차이의 부호 bit로 분기 없이 계산합니다.
+   */
+  private long[] between(int[] column, int min, int max, int words) {
+    long[] mask = new long[words];
+    for (int w = 0; w < words; w++) {
+      int base = w << 6;
+      int end = Math.min(64, size - base);
+      long word = 0;
+      for (int i = 0; i < end; i++) {
+        long value = column[base + i];
+        long outside = ((value - min) | (max - value)) >>> 63;
+        word |= (outside ^ 1L) << i;
+      }
+      mask[w] = word;
+    }
+    return mask;
+  }
+
+  private long[] regionWords(String region, int words) {
+    if (region == null || region.isBlank()) {
+      return null;
+    }
+    Integer code = regionCodes.get(region.trim());
+    // NOTE: 모르는 지역이면 빈 mask (결과 0건)
+    return code == null ? new long[words] : Arrays.copyOf(regionRows.get(code).toLongArray(), words);
+  }
+
+  private static int bucket(int index, int count) {
+    return Math.max(0, Math.min(count - 1, index));
+  }
+
+  private int regionCode(String name) {
+    Integer code = regionCodes.get(name);
+    if (code != null) {
+      return code;
+    }
+    if (regionNames.size() >= maxRegions) {
+      return 0;
+    }
+    int created = regionNames.size();
+    regionCodes.put(name, created);
+    regionNames.add(name);
+    regionRows.add(new BitSet());
+    return created;
+  }
+
+  static String regionOf(String address) {
+    if (address == null) {
+      return OTHER_REGION;
+    }
+    String trimmed = address.strip();
+    int space = trimmed.indexOf(' ');
+    String first = space < 0 ? trimmed : trimmed.substring(0, space);
+    return first.isEmpty() ? OTHER_REGION : first;
+  }
+}
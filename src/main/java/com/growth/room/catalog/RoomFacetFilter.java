@@ -0,0 +1,12 @@
+package com.growth.room.catalog;
+
+/**
+ * 카탈로그 필터 조건입니다. null인 조건은 적용하지 않습니다.
+ *
+ * @param minPrice 최소 가격
+ * @param maxPrice 최대 가격
+ * @param guests 숙박 인원 (최대 인원수가 이 값 이상인 숙소)
+ * @param region 지역 (주소의 첫 단어, 예: 서울특별시)
+ */
+public record RoomFacetFilter(Integer minPrice, Integer maxPrice, Integer guests, String region) {
+}
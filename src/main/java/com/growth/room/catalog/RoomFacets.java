@@ -0,0 +1,25 @@
+package com.growth.room.catalog;
+
+import java.util.List;
+
+/**
+ * 카탈로그 필터 결과입니다.
+ * 각 facet은 자기 조건을 뺀 나머지 조건으로 셉니다 (예: 가격 분포는 가격 조건 없이 인원/지역 조건만 적용).
+ * 그래야 필터 UI가 조건을 바꿨을 때의 결과 수를 미리 보여줄 수 있습니다.
+ *
+ * @param total 모든 조건에 맞는 숙소 수
+ * @param priceBucketWidth 가격 분포 한 칸의 폭
+ * @param priceCounts 가격 분포 - i번째 칸은 [i * width, (i + 1) * width), 마지막 칸은 그 이상 전부
+ * @param guestCounts 최대 인원수 분포 - i번째 칸은 (i + 1)명, 마지막 칸은 그 이상 전부
+ * @param regions 지역 이름 (regionCounts와 같은 순서)
+ * @param regionCounts 지역별 숙소 수
+ */
+public record RoomFacets(
+  int total,
+  int priceBucketWidth,
+  int[] priceCounts,
+  int[] guestCounts,
+  List<String> regions,
+  int[] regionCounts
+) {
+}
@@ -1,16 +1,22 @@
 package com.growth.room.controller;
 
+import com.growth.global.common.importer.ImportFormat;
+import com.growth.global.common.importer.ImportResult;
 import com.growth.global.common.response.ApiResponse;
 import com.growth.room.dto.request.CreateRoomRequestDto;
 import com.growth.room.dto.response.CreateRoomResponseDto;
 import com.growth.room.usecase.CreateRoomUseCase;
+import com.growth.room.usecase.ImportRoomsUseCase;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -18,6 +24,7 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class RoomCommandController {
   private final CreateRoomUseCase createRoomUseCase;
+  private final ImportRoomsUseCase importRoomsUseCase;
 
   @PostMapping("/api/rooms/create")
   @ResponseStatus(HttpStatus.CREATED)
@@ -31,5 +38,19 @@ public class RoomCommandController {
     CreateRoomResponseDto response = createRoomUseCase.createRoom(requestDto, hostId);
     return ApiResponse.created(response, "숙소가 생성되었습니다");
   }
-}
 
+  /**
+   * 숙소 대량 등록 - 모든 숙소의 호스트는 현재 인증된 회원
+   */
+  @PostMapping("/api/rooms/import")
+  public ApiResponse<ImportResult> importRooms(
+    @RequestParam(defaultValue = "ndjson") String format,
+    InputStream body,
+    Authentication authentication
+  ) throws IOException {
+    UUID hostId = (UUID) authentication.getPrincipal();
+
+    ImportResult result = importRoomsUseCase.importRooms(body, ImportFormat.from(format), hostId);
+    return ApiResponse.success(result);
+  }
+}
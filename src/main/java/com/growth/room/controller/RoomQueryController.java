@@ -0,0 +1,102 @@
+package com.growth.room.controller;
+
+import com.growth.global.common.response.ApiResponse;
+import com.growth.global.common.response.CursorPage;
+import com.growth.room.dto.request.RoomFacetCondition;
+import com.growth.room.dto.request.RoomSearchCondition;
+import com.growth.room.dto.response.NearbyRoomDto;
+import com.growth.room.dto.response.RoomClusterDto;
+import com.growth.room.dto.response.RoomFacetsDto;
+import com.growth.room.dto.response.RoomSummaryDto;
+import com.growth.room.dto.response.TextSearchRoomDto;
+import com.growth.room.usecase.FindNearbyRoomsUseCase;
+import com.growth.room.usecase.FindRoomClustersUseCase;
+import com.growth.room.usecase.FindRoomFacetsUseCase;
+import com.growth.room.usecase.SearchRoomsByTextUseCase;
+import com.growth.room.usecase.SearchRoomsUseCase;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.SortDefault;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class RoomQueryController {
+  private final SearchRoomsUseCase searchRoomsUseCase;
+  private final FindNearbyRoomsUseCase findNearbyRoomsUseCase;
+  private final FindRoomClustersUseCase findRoomClustersUseCase;
+  private final FindRoomFacetsUseCase findRoomFacetsUseCase;
+  private final SearchRoomsByTextUseCase searchRoomsByTextUseCase;
+
+  // NOTE: sort=price,asc 또는 sort=createdAt,desc (기본: 최신순), 다음 페이지는 응답의 nextCursor를 cursor로 전달
+  @GetMapping("/api/rooms/search")
+  public ApiResponse<CursorPage<RoomSummaryDto>> search(
+    @ModelAttribute RoomSearchCondition condition,
+    @SortDefault(sort = "createdAt", direction = Sort.Direction.DESC) Sort sort,
+    @RequestParam(required = false) String cursor,
+    @RequestParam(defaultValue = "20") int size
+  ) {
+    CursorPage<RoomSummaryDto> response = searchRoomsUseCase.searchRooms(condition, sort, cursor, size);
+    return ApiResponse.success(response);
+  }
+
+  // NOTE: (lat, lon)에서 radiusKm 이내의 숙소를 가까운 순서로 size개
+  @GetMapping("/api/rooms/nearby")
+  public ApiResponse<List<NearbyRoomDto>> nearby(
+    @RequestParam double lat,
+    @RequestParam double lon,
+    @RequestParam(defaultValue = "5") double radiusKm,
+    @RequestParam(defaultValue = "20") int size
+  ) {
+    List<NearbyRoomDto> response = findNearbyRoomsUseCase.findNearby(lat, lon, radiusKm, size);
+    return ApiResponse.success(response);
+  }
+
+  // NOTE: 지도 화면 영역(남서쪽, 북동쪽 좌표) 안의 숙소를 영역 중심에서 가까운 순서로 size개
+  @GetMapping("/api/rooms/in-box")
+  public ApiResponse<List<NearbyRoomDto>> inBox(
+    @RequestParam double south,
+    @RequestParam double west,
+    @RequestParam double north,
+    @RequestParam double east,
+    @RequestParam(defaultValue = "20") int size
+  ) {
+    List<NearbyRoomDto> response = findNearbyRoomsUseCase.findInBox(south, west, north, east, size);
+    return ApiResponse.success(response);
+  }
+
+  // NOTE: 지도 화면 영역의 타일(z/x/y)별 숙소 수, 무게중심, 가격 범위 - 숙소 목록은 nearby/in-box로 조회
+  @GetMapping("/api/rooms/clusters")
+  public ApiResponse<List<RoomClusterDto>> clusters(
+    @RequestParam int zoom,
+    @RequestParam double south,
+    @RequestParam double west,
+    @RequestParam double north,
+    @RequestParam double east
+  ) {
+    List<RoomClusterDto> response = findRoomClustersUseCase.findClusters(zoom, south, west, north, east);
+    return ApiResponse.success(response);
+  }
+
+  // NOTE: 필터 조건에 맞는 숙소 수와 가격/인원/지역 분포 (숙소 목록은 /api/rooms/search)
+  @GetMapping("/api/rooms/facets")
+  public ApiResponse<RoomFacetsDto> facets(@ModelAttribute RoomFacetCondition condition) {
+    RoomFacetsDto response = findRoomFacetsUseCase.findFacets(condition);
+    return ApiResponse.success(response);
+  }
+
+  // NOTE: 제목/설명 텍스트 검색 (관련도순) - q="오션뷰 해운대", "\"바다 전망\"" (구문), 해운* (접두어), 다음 페이지는 응답의 nextCursor를 cursor로 전달
+  @GetMapping("/api/rooms/text-search")
+  public ApiResponse<CursorPage<TextSearchRoomDto>> textSearch(
+    @RequestParam String q,
+    @RequestParam(required = false) String cursor,
+    @RequestParam(defaultValue = "20") int size
+  ) {
+    CursorPage<TextSearchRoomDto> response = searchRoomsByTextUseCase.searchByText(q, cursor, size);
+    return ApiResponse.success(response);
+  }
+}
@@ -1,23 +1,42 @@
 package com.growth.room.domain;
 
 import com.growth.global.common.entity.BaseEntity;
+import com.growth.global.common.id.UuidV7;
 import com.growth.member.domain.Member;
+import com.growth.room.catalog.RoomCatalogListener;
 import com.growth.room.dto.request.CreateRoomRequestDto;
+import com.growth.room.geo.RoomGeoIndexListener;
+import com.growth.room.text.RoomTextIndexListener;
 import jakarta.persistence.*;
 import java.util.UUID;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "room")
+@EntityListeners({RoomGeoIndexListener.class, RoomCatalogListener.class, RoomTextIndexListener.class})
+@Table(
+  name = "room",
+  // NOTE: 숙소 검색 keyset 페이징의 (정렬 키, room_id) 순서에 max_guest를 붙여서 인원 조건을 인덱스에서 거름 (ICP)
+  indexes = {
+    @Index(name = "idx_room_price_room_id", columnList = "price, room_id, max_guest"),
+    @Index(name = "idx_room_created_at_room_id", columnList = "created_at, room_id, max_guest"),
+    @Index(name = "idx_room_address_price", columnList = "address, price"),
+    // NOTE: 위치 검색 색인이 준비되지 않았을 때의 DB 검색(위도 range + 경도 조건)용
+    @Index(name = "idx_room_latitude_longitude", columnList = "latitude, longitude")
+  }
+)
 public class Room extends BaseEntity {
+  // NOTE: 시간순 UUIDv7을 BINARY(16)으로 저장 (랜덤 v4 대비 clustered index 끝에만 추가됨)
   @Id
-  @Column(name = "room_id", nullable = false)
-  @GeneratedValue(strategy = GenerationType.UUID)
+  @UuidV7
+  @JdbcTypeCode(SqlTypes.BINARY)
+  @Column(name = "room_id", nullable = false, length = 16)
   private UUID roomId;
 
   @Column(name = "title", nullable = false)
@@ -35,10 +54,21 @@ public class Room extends BaseEntity {
   @Column(name = "max_guest", nullable = false)
   private Integer maxGuest;
 
+  // NOTE: 위치를 등록하지 않은 숙소는 위도/경도 모두 null (위치 검색 결과에서 제외)
+  @Column(name = "latitude")
+  private Double latitude;
+
+  @Column(name = "longitude")
+  private Double longitude;
+
   @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "host_id", nullable = false)
   private Member host;
 
+  public boolean hasLocation() {
+    return latitude != null && longitude != null;
+  }
+
   public static Room from(CreateRoomRequestDto requestDto, Member host) {
     return Room
       .builder()
@@ -47,6 +77,8 @@ public class Room extends BaseEntity {
       .address(requestDto.address())
       .price(requestDto.price())
       .maxGuest(requestDto.maxGuest())
+      .latitude(requestDto.latitude())
+      .longitude(requestDto.longitude())
       .host(host)
       .build();
   }
@@ -58,6 +90,8 @@ public class Room extends BaseEntity {
     String address,
     Integer price,
     Integer maxGuest,
+    Double latitude,
+    Double longitude,
     Member host
   ) {
     this.title = title;
@@ -65,6 +99,8 @@ public class Room extends BaseEntity {
     this.address = address;
     this.price = price;
     this.maxGuest = maxGuest;
+    this.latitude = latitude;
+    this.longitude = longitude;
     this.host = host;
   }
 }
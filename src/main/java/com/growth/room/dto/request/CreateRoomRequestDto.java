@@ -1,18 +1,25 @@
 package com.growth.room.dto.request;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import lombok.Builder;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 
 @Builder
 public record CreateRoomRequestDto(
   @NotBlank(message = "숙소 이름은 필수 값입니다.")
+  @Size(max = 255, message = "숙소 이름은 255자 이하여야 합니다.")
   String title,
 
   String description,
 
   @NotBlank(message = "주소는 필수 값입니다.")
+  @Size(max = 255, message = "주소는 255자 이하여야 합니다.")
   String address,
 
   @NotNull(message = "가격은 필수 값입니다.")
@@ -21,6 +28,21 @@ public record CreateRoomRequestDto(
 
   @NotNull(message = "최대 인원수는 필수 값입니다.")
   @Min(value = 1, message = "최대 인원수는 1 이상이어야 합니다.")
-  Integer maxGuest
-) {}
+  Integer maxGuest,
 
+  @DecimalMin(value = "-90", message = "위도는 -90 이상 90 이하여야 합니다.")
+  @DecimalMax(value = "90", message = "위도는 -90 이상 90 이하여야 합니다.")
+  Double latitude,
+
+  @DecimalMin(value = "-180", message = "경도는 -180 이상 180 이하여야 합니다.")
+  @DecimalMax(value = "180", message = "경도는 -180 이상 180 이하여야 합니다.")
+  Double longitude
+) {
+
+  // NOTE: 위치는 선택 값이지만 위도/경도 중 하나만 보내면 거부
+  @JsonIgnore
+  @AssertTrue(message = "위도와 경도는 함께 입력해야 합니다.")
+  public boolean isLocationPaired() {
+    return (latitude == null) == (longitude == null);
+  }
+}
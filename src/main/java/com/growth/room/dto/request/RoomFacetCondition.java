@@ -0,0 +1,25 @@
+package com.growth.room.dto.request;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class RoomFacetCondition {
+
+  private Integer minPrice;
+  private Integer maxPrice;
+  private Integer guests;   // 숙박 인원 (최대 인원수가 이 값 이상인 숙소)
+  private String region;    // 지역 - 주소의 첫 단어와 일치 (예: "서울특별시")
+
+  @Builder
+  public RoomFacetCondition(Integer minPrice, Integer maxPrice, Integer guests, String region) {
+    this.minPrice = minPrice;
+    this.maxPrice = maxPrice;
+    this.guests = guests;
+    this.region = region;
+  }
+}
@@ -0,0 +1,25 @@
+package com.growth.room.dto.request;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class RoomSearchCondition {
+
+  private Integer minPrice;
+  private Integer maxPrice;
+  private Integer guests;   // 숙박 인원 (최대 인원수가 이 값 이상인 숙소)
+  private String address;   // 주소 앞부분 (예: "서울특별시 강남구")
+
+  @Builder
+  public RoomSearchCondition(Integer minPrice, Integer maxPrice, Integer guests, String address) {
+    this.minPrice = minPrice;
+    this.maxPrice = maxPrice;
+    this.guests = guests;
+    this.address = address;
+  }
+}
@@ -0,0 +1,35 @@
+package com.growth.room.dto.response;
+
+import com.growth.room.geo.GeoHit;
+import java.util.UUID;
+
+/**
+ * 위치 검색 결과 한 건입니다.
+ * 숙소 요약에 좌표와 검색 중심에서의 거리(미터)를 더합니다.
+ */
+public record NearbyRoomDto(
+  UUID roomId,
+  String title,
+  String address,
+  Integer price,
+  Integer maxGuest,
+  UUID hostId,
+  double latitude,
+  double longitude,
+  long distanceMeters
+) {
+
+  public static NearbyRoomDto of(RoomSummaryDto summary, GeoHit hit) {
+    return new NearbyRoomDto(
+      summary.roomId(),
+      summary.title(),
+      summary.address(),
+      summary.price(),
+      summary.maxGuest(),
+      summary.hostId(),
+      hit.latitude(),
+      hit.longitude(),
+      Math.round(hit.distanceMeters())
+    );
+  }
+}
@@ -0,0 +1,32 @@
+package com.growth.room.dto.response;
+
+import com.growth.room.geo.TileCluster;
+
+/**
+ * 지도 클러스터 한 건입니다. (Web Mercator 타일 z/x/y 하나의 집계)
+ * 숙소 목록은 담지 않고, 숙소 수와 무게중심 좌표, 가격 범위만 담습니다.
+ */
+public record RoomClusterDto(
+  int zoom,
+  int x,
+  int y,
+  int count,
+  double latitude,
+  double longitude,
+  int minPrice,
+  int maxPrice
+) {
+
+  public static RoomClusterDto from(TileCluster cluster) {
+    return new RoomClusterDto(
+      cluster.zoom(),
+      cluster.x(),
+      cluster.y(),
+      cluster.count(),
+      cluster.latitude(),
+      cluster.longitude(),
+      cluster.minPrice(),
+      cluster.maxPrice()
+    );
+  }
+}
@@ -0,0 +1,53 @@
+package com.growth.room.dto.response;
+
+import com.growth.room.catalog.RoomFacets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 숙소 필터 결과 수와 facet 분포입니다.
+ * 각 분포는 자기 조건을 뺀 나머지 조건으로 센 값이며, 숙소가 없는 구간도 0으로 포함합니다.
+ *
+ * @param total 모든 조건에 맞는 숙소 수
+ * @param prices 가격 구간별 숙소 수 (마지막 구간은 maxPrice가 null)
+ * @param guests 최대 인원수별 숙소 수 (마지막 구간은 그 이상 전부, orMore가 true)
+ * @param regions 지역별 숙소 수 (숙소가 있는 지역만)
+ */
+public record RoomFacetsDto(
+  int total,
+  List<PriceBucket> prices,
+  List<GuestBucket> guests,
+  List<RegionBucket> regions
+) {
+
+  public record PriceBucket(int minPrice, Integer maxPrice, int count) {}
+
+  public record GuestBucket(int maxGuest, boolean orMore, int count) {}
+
+  public record RegionBucket(String region, int count) {}
+
+  public static RoomFacetsDto from(RoomFacets facets) {
+    int[] priceCounts = facets.priceCounts();
+    int width = facets.priceBucketWidth();
+    List<PriceBucket> prices = new ArrayList<>(priceCounts.length);
+    for (int i = 0; i < priceCounts.length; i++) {
+      boolean last = i == priceCounts.length - 1;
+      prices.add(new PriceBucket(i * width, last ? null : (i + 1) * width - 1, priceCounts[i]));
+    }
+
+    int[] guestCounts = facets.guestCounts();
+    List<GuestBucket> guests = new ArrayList<>(guestCounts.length);
+    for (int i = 0; i < guestCounts.length; i++) {
+      guests.add(new GuestBucket(i + 1, i == guestCounts.length - 1, guestCounts[i]));
+    }
+
+    int[] regionCounts = facets.regionCounts();
+    List<RegionBucket> regions = new ArrayList<>();
+    for (int i = 0; i < regionCounts.length; i++) {
+      if (regionCounts[i] > 0) {
+        regions.add(new RegionBucket(facets.regions().get(i), regionCounts[i]));
+      }
+    }
+    return new RoomFacetsDto(facets.total(), prices, guests, regions);
+  }
+}
@@ -0,0 +1,18 @@
+package com.growth.room.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 숙소 검색 결과 한 건입니다.
+ * description(TEXT)은 읽지 않고, 호스트는 host_id 컬럼 값만 담습니다 (Member 프록시/조인 없음).
+ */
+public record RoomSummaryDto(
+  UUID roomId,
+  String title,
+  String address,
+  Integer price,
+  Integer maxGuest,
+  UUID hostId,
+  LocalDateTime createdAt
+) {}
@@ -0,0 +1,31 @@
+package com.growth.room.dto.response;
+
+import com.growth.room.text.RoomTextHit;
+import java.util.UUID;
+
+/**
+ * 텍스트 검색 결과 한 건입니다.
+ * 숙소 요약에 검색어와의 관련도 점수를 더합니다. (점수는 같은 검색 결과 안에서만 비교 가능)
+ */
+public record TextSearchRoomDto(
+  UUID roomId,
+  String title,
+  String address,
+  Integer price,
+  Integer maxGuest,
+  UUID hostId,
+  float score
+) {
+
+  public static TextSearchRoomDto of(RoomSummaryDto summary, RoomTextHit hit) {
+    return new TextSearchRoomDto(
+      summary.roomId(),
+      summary.title(),
+      summary.address(),
+      summary.price(),
+      summary.maxGuest(),
+      summary.hostId(),
+      hit.score()
+    );
+  }
+}
@@ -0,0 +1,46 @@
+package com.growth.room.geo;
+
+/**
+ * 위경도 사각 영역입니다. (날짜변경선을 넘는 영역은 지원하지 않음)
+ *
+ * @param south 최소 위도
+ * @param west 최소 경도
+ * @param north 최대 위도
+ * @param east 최대 경도
+ */
+public record GeoBox(double south, double west, double north, double east) {
+
+  public GeoBox {
+    if (south > north || west > east) {
+      throw new IllegalArgumentException("영역의 최소 좌표가 최대 좌표보다 클 수 없습니다.");
+    }
+  }
+
+  /**
+   * 중심에서 반경 radiusMeters 원을 포함하는 최소 사각 영역을 만듭니다. 위경도 범위를 넘는 부분은 잘라냅니다.
+   */
+  public static GeoBox around(double latitude, double longitude, double radiusMeters) {
+    double dLatitude = radiusMeters / GeoDistance.METERS_PER_DEGREE;
+    // NOTE: 극 근처에서 cos이 0에 가까워지면 경도 범위가 전체가 되도록 하한을 둠
+    double cos = Math.max(Math.cos(Math.toRadians(latitude)), 1e-6);
+    double dLongitude = radiusMeters / (GeoDistance.METERS_PER_DEGREE * cos);
+    return new GeoBox(
+      Math.max(-90, latitude - dLatitude),
+      Math.max(-180, longitude - dLongitude),
+      Math.min(90, latitude + dLatitude),
+      Math.min(180, longitude + dLongitude)
+    );
+  }
+
+  public boolean contains(double latitude, double longitude) {
+    return latitude >= south && latitude <= north && longitude >= west && longitude <= east;
+  }
+
+  public double centerLatitude() {
+    return (south + north) / 2;
+  }
+
+  public double centerLongitude() {
+    return (west + east) / 2;
+  }
+}
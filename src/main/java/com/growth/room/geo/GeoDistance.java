@@ -0,0 +1,27 @@
+package com.growth.room.geo;
+
+/**
+ * 위경도 좌표 사이의 거리 계산입니다.
+ */
+public final class GeoDistance {
+
+  // NOTE: 지구 평균 반지름 (IUGG)
+  static final double EARTH_RADIUS_METERS = 6_371_008.8;
+  // NOTE: 위도 1도의 길이 (경도 1도는 cos(위도)만큼 짧아짐)
+  static final double METERS_PER_DEGREE = Math.PI * EARTH_RADIUS_METERS / 180;
+
+  private GeoDistance() {
+  }
+
+  /**
+   * 두 좌표 사이의 대권 거리(haversine)를 미터 단위로 반환합니다.
+   */
+  public static double meters(double latitude1, double longitude1, double latitude2, double longitude2) {
+    double dLatitude = Math.toRadians(latitude2 - latitude1);
+    double dLongitude = Math.toRadians(longitude2 - longitude1);
+    double a = Math.sin(dLatitude / 2) * Math.sin(dLatitude / 2)
+      + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+      * Math.sin(dLongitude / 2) * Math.sin(dLongitude / 2);
+    return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+  }
+}
@@ -0,0 +1,228 @@
+package com.growth.room.geo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+
+/**
+ * 숙소 좌표를 고정 크기 격자(cell) 단위로 나눠 담는 공간 색인입니다.
+ * - 위경도를 cellSizeDegrees 단위로 자른 (행, 열)을 키로, 칸마다 ID/좌표를 원시 타입 배열에 모읍니다 (숙소당 약 32byte).
+ * - 영역 검색은 영역에 걸친 칸만 훑고, 칸 안의 점은 영역/거리 조건으로 다시 거릅니다.
+ * - thread-safe 하지 않습니다. 동기화는 RoomGeoIndex가 담당합니다.
+ */
+final class GeoGrid {
+
+  // NOTE: 평면 근사 거리로 반경 밖을 거를 때 근사 오차만큼 여유를 둠 (정확한 반경 판정은 haversine)
+  private static final double PLANAR_TOLERANCE = 1.01;
+
+  private final double cellSizeDegrees;
+  private final Map<Long, Cell> cells = new HashMap<>();
+  private int size;
+
+  GeoGrid(double cellSizeDegrees) {
+    if (!(cellSizeDegrees > 0)) {
+      throw new IllegalArgumentException("격자 크기는 0보다 커야 합니다.");
+    }
+    this.cellSizeDegrees = cellSizeDegrees;
+  }
+
+  /**
+   * 좌표를 추가합니다. 같은 칸에 이미 있는 숙소는 다시 추가하지 않습니다.
+   *
+   * @return 새로 추가했으면 true
+   */
+  boolean add(UUID roomId, double latitude, double longitude) {
+    Cell cell = cells.computeIfAbsent(key(row(latitude), column(longitude)), ignored -> new Cell());
+    if (cell.indexOf(roomId) >= 0) {
+      return false;
+    }
+    cell.append(roomId, latitude, longitude);
+    size++;
+    return true;
+  }
+
+  /**
+   * 중복 확인 없이 좌표를 추가합니다. 테이블 전체를 처음부터 읽어서 만들 때처럼 ID가 겹치지 않는 경우에만 사용합니다.
+   */
+  void append(UUID roomId, double latitude, double longitude) {
+    cells.computeIfAbsent(key(row(latitude), column(longitude)), ignored -> new Cell())
+      .append(roomId, latitude, longitude);
+    size++;
+  }
+
+  int size() {
+    return size;
+  }
+
+  /**
+   * 영역 안에서 (centerLatitude, centerLongitude)와 가까운 순서로 최대 limit개를 반환합니다.
+   * 중심이 있는 칸부터 바깥쪽 고리(ring) 순서로 훑고, 다음 고리의 가장 가까운 점도 지금까지 찾은 limit번째보다 멀면 멈춥니다.
+   *
+   * @param box 검색 영역
+   * @param maxDistanceMeters 최대 거리 (반경 검색이 아니면 Double.POSITIVE_INFINITY)
+   * @param limit 최대 개수
+   * @return 가까운 순서의 검색 결과
+   */
+  List<GeoHit> nearest(GeoBox box, double centerLatitude, double centerLongitude, double maxDistanceMeters, int limit) {
+    Search search = new Search(box, centerLatitude, centerLongitude, maxDistanceMeters, limit);
+
+    long fromRow = row(box.south());
+    long toRow = row(box.north());
+    long fromColumn = column(box.west());
+    long toColumn = column(box.east());
+    long centerRow = Math.max(fromRow, Math.min(toRow, row(centerLatitude)));
+    long centerColumn = Math.max(fromColumn, Math.min(toColumn, column(centerLongitude)));
+    long maxRing = Math.max(Math.max(centerRow - fromRow, toRow - centerRow), Math.max(centerColumn - fromColumn, toColumn - centerColumn));
+
+    for (long ring = 0; ring <= maxRing; ring++) {
+      // NOTE: ring번째 고리의 점은 중심에서 적어도 (ring - 1)칸 떨어져 있음 (경도 방향이 cos(위도)만큼 짧으므로 그 길이로 계산)
+      double nearestInRing = Math.max(0, ring - 1) * cellSizeDegrees * search.cos;
+      if (search.isFull() && nearestInRing * nearestInRing > search.worstPlanarSquared()) {
+        break;
+      }
+      for (long row = Math.max(fromRow, centerRow - ring); row <= Math.min(toRow, centerRow + ring); row++) {
+        boolean edgeRow = Math.abs(row - centerRow) == ring;
+        // NOTE: 고리의 위/아래 행은 모든 열, 나머지 행은 양 끝 열만 훑음
+        long step = edgeRow || ring == 0 ? 1 : 2 * ring;
+        for (long column = centerColumn - ring; column <= centerColumn + ring; column += step) {
+          if (column < fromColumn || column > toColumn) {
+            continue;
+          }
+          Cell cell = cells.get(key(row, column));
+          if (cell != null) {
+            search.visit(cell);
+          }
+        }
+      }
+    }
+    return search.hits();
+  }
+
+  private long row(double latitude) {
+    return (long) Math.floor((latitude + 90) / cellSizeDegrees);
+  }
+
+  private long column(double longitude) {
+    return (long) Math.floor((longitude + 180) / cellSizeDegrees);
+  }
+
+  private static long key(long row, long column) {
+    return row << 32 | column;
+  }
+
+  private record Candidate(double planarSquared, GeoHit hit) {
+  }
+
+  /**
+   * 한 번의 검색에서 지금까지 찾은 가장 가까운 limit개를 유지합니다.
+   * - 칸 안의 점은 평면 근사(equirectangular) 거리의 제곱(도 단위)으로 먼저 거르고,
+   *   결과에 들어갈 후보만 haversine으로 계산합니다. (반경 50km 이내에서 근사 오차 1% 미만)
+   */
+  private static final class Search {
+
+    private final GeoBox box;
+    private final double centerLatitude;
+    private final double centerLongitude;
+    private final double maxDistanceMeters;
+    private final int limit;
+    private final double cos;
+    private final double maxPlanarSquared;
+
+    // NOTE: 가장 먼 후보가 머리에 오는 max-heap - limit개를 넘으면 가장 먼 것부터 버림
+    private final PriorityQueue<Candidate> heap;
+
+    private Search(GeoBox box, double centerLatitude, double centerLongitude, double maxDistanceMeters, int limit) {
+      this.box = box;
+      this.centerLatitude = centerLatitude;
+      this.centerLongitude = centerLongitude;
+      this.maxDistanceMeters = maxDistanceMeters;
+      this.limit = limit;
+      this.cos = Math.cos(Math.toRadians(centerLatitude));
+      double maxPlanar = maxDistanceMeters * PLANAR_TOLERANCE / GeoDistance.METERS_PER_DEGREE;
+      this.maxPlanarSquared = maxPlanar * maxPlanar;
+      this.heap = new PriorityQueue<>(limit + 1, Comparator.comparingDouble(Candidate::planarSquared).reversed());
+    }
+
+    private boolean isFull() {
+      return heap.size() == limit;
+    }
+
+    private double worstPlanarSquared() {
+      return heap.peek().planarSquared();
+    }
+
+    private void visit(Cell cell) {
+      for (int i = 0; i < cell.size; i++) {
+        double latitude = cell.latitudes[i];
+        double longitude = cell.longitudes[i];
+        if (!box.contains(latitude, longitude)) {
+          continue;
+        }
+        double dLatitude = latitude - centerLatitude;
+        double dLongitude = (longitude - centerLongitude) * cos;
+        double planarSquared = dLatitude * dLatitude + dLongitude * dLongitude;
+        if (planarSquared > maxPlanarSquared || isFull() && planarSquared >= worstPlanarSquared()) {
+          continue;
+        }
+        double distance = GeoDistance.meters(centerLatitude, centerLongitude, latitude, longitude);
+        if (distance > maxDistanceMeters) {
+          continue;
+        }
+        UUID roomId = new UUID(cell.mostSigBits[i], cell.leastSigBits[i]);
+        heap.add(new Candidate(planarSquared, new GeoHit(roomId, latitude, longitude, distance)));
+        if (heap.size() > limit) {
+          heap.poll();
+        }
+      }
+    }
+
+    private List<GeoHit> hits() {
+      List<GeoHit> hits = new ArrayList<>(heap.size());
+      for (Candidate candidate : heap) {
+        hits.add(candidate.hit());
+      }
+      hits.sort(Comparator.comparingDouble(GeoHit::distanceMeters));
+      return hits;
+    }
+  }
+
+  private static final class Cell {
+
+    private long[] mostSigBits = new long[4];
+    private long[] leastSigBits = new long[4];
+    private double[] latitudes = new double[4];
+    private double[] longitudes = new double[4];
+    private int size;
+
+    private void append(UUID roomId, double latitude, double longitude) {
+      if (size == latitudes.length) {
+        int capacity = size * 2;
+        mostSigBits = Arrays.copyOf(mostSigBits, capacity);
+        leastSigBits = Arrays.copyOf(leastSigBits, capacity);
+        latitudes = Arrays.copyOf(latitudes, capacity);
+        longitudes = Arrays.copyOf(longitudes, capacity);
+      }
+      mostSigBits[size] = roomId.getMostSignificantBits();
+      leastSigBits[size] = roomId.getLeastSignificantBits();
+      latitudes[size] = latitude;
+      longitudes[size] = longitude;
+      size++;
+    }
+
+    private int indexOf(UUID roomId) {
+      long most = roomId.getMostSignificantBits();
+      long least = roomId.getLeastSignificantBits();
+      for (int i = 0; i < size; i++) {
+        if (mostSigBits[i] == most && leastSigBits[i] == least) {
+          return i;
+        }
+      }
+      return -1;
+    }
+  }
+}
@@ -0,0 +1,14 @@
+package com.growth.room.geo;
+
+import java.util.UUID;
+
+/**
+ * 위치 검색 결과 한 건입니다.
+ *
+ * @param roomId 숙소 ID
+ * @param latitude 위도
+ * @param longitude 경도
+ * @param distanceMeters 검색 중심에서의 거리 (미터)
+ */
+public record GeoHit(UUID roomId, double latitude, double longitude, double distanceMeters) {
+}
@@ -0,0 +1,70 @@
+package com.growth.room.geo;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 같은 숙소 집합으로 만든 격자 색인과 타일 집계입니다. 재생성 시 함께 교체됩니다.
+ * - 격자에 새로 들어간 숙소만 타일 집계에 더하므로, 같은 숙소가 타일 수에 두 번 세어지지 않습니다.
+ * - thread-safe 하지 않습니다. 동기화는 RoomGeoIndex가 담당합니다.
+ */
+final class GeoLayers {
+
+  private final GeoGrid grid;
+  private final TilePyramid tiles;
+
+  // NOTE: 전체 재생성 중에 리스너로 먼저 들어온 숙소 - DB에서 다시 읽어도 중복 확인 없이 추가(append)하지 않도록 기억
+  //       (재생성이 끝나면 비움)
+  private Set<UUID> addedWhileLoading = new HashSet<>();
+
+  GeoLayers(GeoGrid grid, TilePyramid tiles) {
+    this.grid = grid;
+    this.tiles = tiles;
+  }
+
+  /**
+   * 숙소를 추가합니다. 이미 있는 숙소는 다시 추가하지 않습니다. (리스너, 이어서 읽기 경로)
+   */
+  void add(UUID roomId, double latitude, double longitude, int price) {
+    if (!grid.add(roomId, latitude, longitude)) {
+      return;
+    }
+    tiles.add(latitude, longitude, price);
+    if (addedWhileLoading != null) {
+      addedWhileLoading.add(roomId);
+    }
+  }
+
+  /**
+   * 전체를 처음부터 읽을 때 중복 확인 없이 숙소를 추가합니다.
+   * 읽는 동안 add()로 먼저 들어온 숙소는 건너뜁니다.
+   */
+  void append(UUID roomId, double latitude, double longitude, int price) {
+    if (addedWhileLoading != null && addedWhileLoading.contains(roomId)) {
+      return;
+    }
+    grid.append(roomId, latitude, longitude);
+    tiles.add(latitude, longitude, price);
+  }
+
+  /**
+   * 전체 읽기가 끝났음을 표시합니다. 이후에는 append()를 쓰지 않습니다.
+   */
+  void finishLoading() {
+    addedWhileLoading = null;
+  }
+
+  List<GeoHit> nearest(GeoBox box, double centerLatitude, double centerLongitude, double maxDistanceMeters, int limit) {
+    return grid.nearest(box, centerLatitude, centerLongitude, maxDistanceMeters, limit);
+  }
+
+  List<TileCluster> clusters(int zoom, GeoBox box, int maxTiles) {
+    return tiles.clusters(zoom, box, maxTiles);
+  }
+
+  int size() {
+    return grid.size();
+  }
+}
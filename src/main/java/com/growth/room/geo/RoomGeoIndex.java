@@ -0,0 +1,212 @@
+package com.growth.room.geo;
+
+import com.growth.global.common.id.UuidBytes;
+import com.growth.global.common.index.InMemoryIncrementalIndex;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 숙소 위치 검색용 in-process 격자(grid) 색인과 지도 타일 집계입니다.
+ * - MySQL 공간 함수 없이, 위경도를 cell-size-degrees 크기의 칸으로 나눠서 검색 영역에 걸친 칸의 숙소만 거리 계산합니다.
+ * - 같은 숙소를 읽을 때 줌 레벨별 타일 집계(숙소 수, 무게중심, 가격 범위)도 함께 갱신해서 지도 클러스터 조회에 사용합니다.
+ *   (격자에 새로 추가된 숙소만 집계하므로 겹쳐 읽은 숙소가 두 번 세어지지 않음)
+ * - 시작 시 room 테이블에서 좌표가 있는 숙소를 스트리밍으로 읽어서 만들고, 이 인스턴스의 숙소 등록은 커밋 후 엔티티 리스너로 반영합니다.
+ * - 다른 인스턴스에서 등록한 숙소는 refresh-interval마다 created_at 기준으로 이어서 읽고, 삭제는 rebuild-cron 재생성 때 반영합니다.
+ * - 색인을 쓸 수 없으면(비활성, 준비 전) 비어 있는 Optional을 반환해서 DB 검색으로 넘어갑니다.
+ * - 검색 결과는 ID와 좌표뿐이므로, 호출하는 쪽에서 삭제되지 않은 숙소만 다시 조회해야 합니다.
+ */
+@Component
+public class RoomGeoIndex extends InMemoryIncrementalIndex<GeoLayers> {
+
+  private static final String SELECT_LOCATIONS =
+    "SELECT room_id, latitude, longitude, price, created_at FROM room "
+      + "WHERE is_deleted = false AND latitude IS NOT NULL AND longitude IS NOT NULL";
+  private static final String SELECT_LOCATIONS_SINCE = SELECT_LOCATIONS + " AND created_at >= ?";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final double cellSizeDegrees;
+  private final int minZoom;
+  private final int maxZoom;
+  private final int fetchSize;
+
+  private final Counter hitCounter;
+  private final Counter fallbackCounter;
+  private final Counter clusterCounter;
+
+  public RoomGeoIndex(
+    JdbcTemplate jdbcTemplate,
+    @Value("${room.geo.enabled:true}") boolean enabled,
+    @Value("${room.geo.cell-size-degrees:0.02}") double cellSizeDegrees,
+    @Value("${room.geo.tiles.min-zoom:4}") int minZoom,
+    @Value("${room.geo.tiles.max-zoom:14}") int maxZoom,
+    @Value("${room.geo.fetch-size:1000}") int fetchSize,
+    MeterRegistry meterRegistry
+  ) {
+    super("숙소 위치 색인", enabled);
+    this.jdbcTemplate = jdbcTemplate;
+    this.cellSizeDegrees = cellSizeDegrees;
+    this.minZoom = minZoom;
+    this.maxZoom = maxZoom;
+    this.fetchSize = fetchSize;
+
+    Gauge.builder("room.geo-index.size", this, RoomGeoIndex::size)
+      .description("위치 색인에 들어 있는 숙소 수")
+      .register(meterRegistry);
+    this.hitCounter = Counter.builder("room.geo-index.lookups")
+      .tag("result", "hit")
+      .description("위치 색인으로 처리한 위치 검색 수")
+      .register(meterRegistry);
+    this.fallbackCounter = Counter.builder("room.geo-index.lookups")
+      .tag("result", "fallback")
+      .description("위치 색인을 쓸 수 없어 DB로 처리한 위치 검색 수")
+      .register(meterRegistry);
+    this.clusterCounter = Counter.builder("room.geo-index.cluster-lookups")
+      .description("타일 집계로 처리한 지도 클러스터 조회 수")
+      .register(meterRegistry);
+  }
+
+  /**
+   * 영역 안의 숙소를 (centerLatitude, centerLongitude)에서 가까운 순서로 최대 limit개 반환합니다.
+   *
+   * @param box 검색 영역
+   * @param centerLatitude 거리 기준 위도
+   * @param centerLongitude 거리 기준 경도
+   * @param maxDistanceMeters 최대 거리 (영역 검색이면 Double.POSITIVE_INFINITY)
+   * @param limit 최대 개수
+   * @return 가까운 순서의 검색 결과, 색인을 쓸 수 없으면 빈 Optional
+   */
+  public Optional<List<GeoHit>> nearest(
+    GeoBox box,
+    double centerLatitude,
+    double centerLongitude,
+    double maxDistanceMeters,
+    int limit
+  ) {
+    if (!isAvailable()) {
+      fallbackCounter.increment();
+      return Optional.empty();
+    }
+    List<GeoHit> hits = read(layers -> layers.nearest(box, centerLatitude, centerLongitude, maxDistanceMeters, limit));
+    hitCounter.increment();
+    return Optional.of(hits);
+  }
+
+  /**
+   * 지도 영역에 걸친 타일 중 숙소가 있는 타일의 집계를 반환합니다.
+   * 요청한 줌 레벨이 집계 범위(min-zoom ~ max-zoom)를 벗어나면 가장 가까운 레벨의 타일로 답합니다.
+   *
+   * @param zoom 지도 줌 레벨
+   * @param box 지도 화면 영역
+   * @param maxTiles 한 번에 읽을 수 있는 최대 타일 수
+   * @return 타일 집계, 색인을 쓸 수 없으면 빈 Optional
+   * @throws IllegalArgumentException 영역에 걸친 타일이 maxTiles보다 많은 경우
+   */
+  public Optional<List<TileCluster>> clusters(int zoom, GeoBox box, int maxTiles) {
+    if (!isAvailable()) {
+      return Optional.empty();
+    }
+    List<TileCluster> clusters = read(layers -> layers.clusters(zoom, box, maxTiles));
+    clusterCounter.increment();
+    return Optional.of(clusters);
+  }
+
+  /**
+   * 새로 등록한 숙소를 색인과 타일 집계에 추가합니다.
+   */
+  public void add(UUID roomId, double latitude, double longitude, int price) {
+    update(layers -> layers.add(roomId, latitude, longitude, price));
+  }
+
+  /**
+   * room 테이블에서 좌표가 있는 숙소를 스트리밍으로 읽어서 색인을 다시 만듭니다.
+   * 삭제된 숙소도 이때 정리됩니다.
+   */
+  @Override
+  @Scheduled(cron = "${room.geo.rebuild-cron:0 0 5 * * *}")
+  public void rebuild() {
+    super.rebuild();
+  }
+
+  /**
+   * 마지막으로 읽은 created_at 이후에 등록된 숙소를 이어서 색인합니다. (다른 인스턴스에서 등록한 숙소 반영)
+   */
+  @Override
+  @Scheduled(
+    fixedDelayString = "${room.geo.refresh-interval:5000}",
+    initialDelayString = "${room.geo.refresh-interval:5000}"
+  )
+  public void refresh() {
+    super.refresh();
+  }
+
+  @Override
+  protected GeoLayers newTable() {
+    return new GeoLayers(new GeoGrid(cellSizeDegrees), new TilePyramid(minZoom, maxZoom));
+  }
+
+  /**
+   * 숙소 좌표를 fetch-size 단위로 읽어서 색인에 추가하고, 읽은 가장 늦은 created_at을 반환합니다.
+   * - 처음부터 읽을 때는 ID가 겹치지 않으므로 중복 확인 없이 추가하고, 이어서 읽을 때는 겹쳐 읽은 행을 거릅니다.
+   */
+  @Override
+  protected LocalDateTime load(GeoLayers layers, LocalDateTime since) {
+    LocalDateTime[] latest = new LocalDateTime[1];
+    jdbcTemplate.query(
+      connection -> {
+        PreparedStatement statement = connection.prepareStatement(
+          since == null ? SELECT_LOCATIONS : SELECT_LOCATIONS_SINCE,
+          ResultSet.TYPE_FORWARD_ONLY,
+          ResultSet.CONCUR_READ_ONLY
+        );
+        statement.setFetchSize(fetchSize);
+        if (since != null) {
+          statement.setTimestamp(1, Timestamp.valueOf(since));
+        }
+        return statement;
+      },
+      resultSet -> {
+        UUID roomId = UuidBytes.toUuid(resultSet.getBytes(1));
+        double latitude = resultSet.getDouble(2);
+        double longitude = resultSet.getDouble(3);
+        int price = resultSet.getInt(4);
+        locked(() -> {
+          if (since == null) {
+            layers.append(roomId, latitude, longitude, price);
+          } else {
+            layers.add(roomId, latitude, longitude, price);
+          }
+        });
+        LocalDateTime createdAt = resultSet.getTimestamp(5).toLocalDateTime();
+        if (latest[0] == null || createdAt.isAfter(latest[0])) {
+          latest[0] = createdAt;
+        }
+      }
+    );
+    if (since == null) {
+      locked(layers::finishLoading);
+    }
+    return latest[0];
+  }
+
+  @Override
+  protected int count(GeoLayers layers) {
+    return layers.size();
+  }
+
+  @Override
+  protected String describe() {
+    return "rooms=" + size();
+  }
+}
@@ -0,0 +1,34 @@
+package com.growth.room.geo;
+
+import com.growth.global.common.listener.EntityChangeListener;
+import com.growth.room.domain.Room;
+import jakarta.persistence.PostPersist;
+import java.util.UUID;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 숙소 등록을 RoomGeoIndex에 반영하는 JPA 엔티티 리스너입니다.
+ * - roomId가 생성된 뒤여야 하므로 INSERT 이후(@PostPersist)에 등록하고, 트랜잭션이 있으면 커밋된 뒤에 추가합니다.
+ *   (롤백된 숙소가 색인에 남아서 가까운 숙소 자리를 차지하지 않도록)
+ * - 위치를 등록하지 않은 숙소는 추가하지 않습니다.
+ */
+@Component
+public class RoomGeoIndexListener extends EntityChangeListener<RoomGeoIndex> {
+
+  public RoomGeoIndexListener(ObjectProvider<RoomGeoIndex> roomGeoIndex) {
+    super(roomGeoIndex);
+  }
+
+  @PostPersist
+  public void onPostPersist(Room room) {
+    if (!room.hasLocation()) {
+      return;
+    }
+    UUID roomId = room.getRoomId();
+    double latitude = room.getLatitude();
+    double longitude = room.getLongitude();
+    int price = room.getPrice();
+    afterCommit(index -> index.add(roomId, latitude, longitude, price));
+  }
+}
@@ -0,0 +1,13 @@
+package com.growth.room.geo;
+
+import java.util.UUID;
+
+/**
+ * 숙소 ID와 좌표입니다.
+ *
+ * @param roomId 숙소 ID
+ * @param latitude 위도
+ * @param longitude 경도
+ */
+public record RoomLocation(UUID roomId, double latitude, double longitude) {
+}
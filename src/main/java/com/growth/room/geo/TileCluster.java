@@ -0,0 +1,25 @@
+package com.growth.room.geo;
+
+/**
+ * 지도 타일(Web Mercator, z/x/y) 하나에 들어 있는 숙소의 집계입니다.
+ *
+ * @param zoom 줌 레벨
+ * @param x 타일 열
+ * @param y 타일 행
+ * @param count 숙소 수
+ * @param latitude 숙소 위도 평균 (무게중심)
+ * @param longitude 숙소 경도 평균 (무게중심)
+ * @param minPrice 최저 가격
+ * @param maxPrice 최고 가격
+ */
+public record TileCluster(
+  int zoom,
+  int x,
+  int y,
+  int count,
+  double latitude,
+  double longitude,
+  int minPrice,
+  int maxPrice
+) {
+}
@@ -0,0 +1,121 @@
+package com.growth.room.geo;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 줌 레벨별 지도 타일(Web Mercator, z/x/y)마다 숙소 수, 좌표 합, 가격 범위를 미리 모아두는 집계입니다.
+ * - 숙소를 추가할 때 min-zoom ~ max-zoom 모든 레벨의 타일 하나씩을 갱신하므로, 조회는 화면에 걸친 타일 수만큼만 읽습니다.
+ * - 타일마다 고정 크기 집계만 보관하며, 숙소 ID는 보관하지 않습니다 (중복 확인은 GeoGrid가 담당).
+ * - thread-safe 하지 않습니다. 동기화는 RoomGeoIndex가 담당합니다.
+ */
+final class TilePyramid {
+
+  // NOTE: Web Mercator가 표현할 수 있는 위도 범위
+  private static final double MAX_LATITUDE = 85.05112878;
+
+  private final int minZoom;
+  private final int maxZoom;
+  private final List<Map<Long, Tile>> levels;
+  private int size;
+
+  TilePyramid(int minZoom, int maxZoom) {
+    if (minZoom < 0 || maxZoom > 22 || minZoom > maxZoom) {
+      throw new IllegalArgumentException("줌 레벨 범위가 올바르지 않습니다.");
+    }
+    this.minZoom = minZoom;
+    this.maxZoom = maxZoom;
+    this.levels = new ArrayList<>(maxZoom - minZoom + 1);
+    for (int zoom = minZoom; zoom <= maxZoom; zoom++) {
+      levels.add(new HashMap<>());
+    }
+  }
+
+  void add(double latitude, double longitude, int price) {
+    for (int zoom = minZoom; zoom <= maxZoom; zoom++) {
+      levels.get(zoom - minZoom)
+        .computeIfAbsent(key(tileX(longitude, zoom), tileY(latitude, zoom)), ignored -> new Tile())
+        .add(latitude, longitude, price);
+    }
+    size++;
+  }
+
+  int size() {
+    return size;
+  }
+
+  /**
+   * 영역에 걸친 타일 중 숙소가 있는 타일의 집계를 반환합니다.
+   * 요청한 줌 레벨이 집계 범위를 벗어나면 가장 가까운 레벨의 타일로 답합니다.
+   *
+   * @param zoom 지도 줌 레벨
+   * @param box 지도 화면 영역
+   * @param maxTiles 한 번에 읽을 수 있는 최대 타일 수
+   * @return 숙소가 있는 타일의 집계
+   * @throws IllegalArgumentException 영역에 걸친 타일이 maxTiles보다 많은 경우
+   */
+  List<TileCluster> clusters(int zoom, GeoBox box, int maxTiles) {
+    int level = Math.max(minZoom, Math.min(maxZoom, zoom));
+    int fromX = tileX(box.west(), level);
+    int toX = tileX(box.east(), level);
+    // NOTE: 타일 행(y)은 북쪽이 0
+    int fromY = tileY(box.north(), level);
+    int toY = tileY(box.south(), level);
+    if ((long) (toX - fromX + 1) * (toY - fromY + 1) > maxTiles) {
+      throw new IllegalArgumentException("지도 영역에 비해 줌 레벨이 너무 높습니다.");
+    }
+
+    Map<Long, Tile> tiles = levels.get(level - minZoom);
+    List<TileCluster> clusters = new ArrayList<>();
+    for (int y = fromY; y <= toY; y++) {
+      for (int x = fromX; x <= toX; x++) {
+        Tile tile = tiles.get(key(x, y));
+        if (tile != null) {
+          clusters.add(tile.toCluster(level, x, y));
+        }
+      }
+    }
+    return clusters;
+  }
+
+  static int tileX(double longitude, int zoom) {
+    int tiles = 1 << zoom;
+    int x = (int) Math.floor((longitude + 180) / 360 * tiles);
+    return Math.max(0, Math.min(tiles - 1, x));
+  }
+
+  static int tileY(double latitude, int zoom) {
+    int tiles = 1 << zoom;
+    double radians = Math.toRadians(Math.max(-MAX_LATITUDE, Math.min(MAX_LATITUDE, latitude)));
+    double mercator = Math.log(Math.tan(radians) + 1 / Math.cos(radians));
+    int y = (int) Math.floor((1 - mercator / Math.PI) / 2 * tiles);
+    return Math.max(0, Math.min(tiles - 1, y));
+  }
+
+  private static long key(int x, int y) {
+    return (long) x << 32 | y;
+  }
+
+  private static final class Tile {
+
+    private int count;
+    private double latitudeSum;
+    private double longitudeSum;
+    private int minPrice = Integer.MAX_VALUE;
+    private int maxPrice = Integer.MIN_VALUE;
+
+    private void add(double latitude, double longitude, int price) {
+      count++;
+      latitudeSum += latitude;
+      longitudeSum += longitude;
+      minPrice = Math.min(minPrice, price);
+      maxPrice = Math.max(maxPrice, price);
+    }
+
+    private TileCluster toCluster(int zoom, int x, int y) {
+      return new TileCluster(zoom, x, y, count, latitudeSum / count, longitudeSum / count, minPrice, maxPrice);
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package com.growth.room.repository;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 숙소 keyset 페이징의 커서입니다. 마지막으로 읽은 행의 (정렬 키, roomId)를 담습니다.
+ * - 클라이언트에는 base64url 문자열(불투명 토큰)로만 노출합니다.
+ * - 정렬 기준이 다른 요청에 커서를 재사용하지 못하도록 정렬 필드와 방향도 함께 담습니다.
+ *
+ * @param sortProperty 정렬 필드 (price, createdAt)
+ * @param ascending 오름차순 여부
+ * @param sortValue 마지막 행의 정렬 키 값 (createdAt은 ISO-8601 문자열)
+ * @param roomId 마지막 행의 숙소 ID (정렬 키가 같은 행의 순서를 정하는 tie-breaker)
+ */
+record RoomCursor(String sortProperty, boolean ascending, String sortValue, UUID roomId) {
+
+  private static final byte VERSION = 1;
+  private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+  private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+  String encode() {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      out.writeByte(VERSION);
+      out.writeUTF(sortProperty);
+      out.writeBoolean(ascending);
+      out.writeUTF(sortValue);
+      out.writeLong(roomId.getMostSignificantBits());
+      out.writeLong(roomId.getLeastSignificantBits());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return ENCODER.encodeToString(bytes.toByteArray());
+  }
+
+  /**
+   * @throws IllegalArgumentException 형식이 잘못된 커서인 경우
+   */
+  static RoomCursor decode(String token) {
+    try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(DECODER.decode(token)))) {
+      if (in.readByte() != VERSION) {
+        throw new IllegalArgumentException("지원하지 않는 커서입니다.");
+      }
+      RoomCursor cursor = new RoomCursor(
+        in.readUTF(),
+        in.readBoolean(),
+        in.readUTF(),
+        new UUID(in.readLong(), in.readLong())
+      );
+      if (in.available() > 0) {
+        throw new IllegalArgumentException("커서 형식이 올바르지 않습니다.");
+      }
+      return cursor;
+    } catch (IOException e) {
+      // NOTE: 잘려서 EOF가 난 경우 등
+      throw new IllegalArgumentException("커서 형식이 올바르지 않습니다.", e);
+    }
+  }
+}
@@ -12,9 +12,9 @@ import org.springframework.data.repository.query.Param;
 /**
  * Room 엔티티의 JPA Repository입니다.
  * JpaRepository의 기본 CRUD 기능과 간단한 쿼리 메서드를 제공합니다.
- * 복잡한 동적 쿼리는 RoomRepositoryCustom을 통해 처리됩니다.
+ * 복잡한 동적 쿼리는 RoomRepositoryCoustom을 통해 처리됩니다.
  */
-public interface RoomRepository extends JpaRepository<Room, UUID> {
+public interface RoomRepository extends JpaRepository<Room, UUID>, RoomRepositoryCoustom {
   /**
    * 방 ID로 방을 조회합니다.
    * 
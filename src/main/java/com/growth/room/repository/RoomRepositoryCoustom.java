@@ -1,31 +1,75 @@
 package com.growth.room.repository;
 
+import com.growth.global.common.response.CursorPage;
+import com.growth.room.catalog.RoomCatalogRow;
+import com.growth.room.dto.request.RoomSearchCondition;
+import com.growth.room.dto.response.RoomSummaryDto;
+import com.growth.room.geo.GeoBox;
+import com.growth.room.geo.RoomLocation;
+import com.growth.room.text.RoomTextRow;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.springframework.data.domain.Sort;
 
-import com.growth.room.domain.Room;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-
-// TODO: 검색 조건 추가 시 사용
-// import com.growth.room.dto.request.RoomSearchCondition;
-
+/**
+ * Room 엔티티의 QueryDSL 기반 Custom Repository 인터페이스입니다.
+ * 구현체는 RoomRepositoryImpl입니다.
+ */
 public interface RoomRepositoryCoustom {
   /**
-   * 검색 조건에 따른 방 목록을 조회합니다.
-   * 
+   * 검색 조건에 따른 숙소 요약 목록을 커서(keyset) 방식으로 조회합니다.
+   * 가격 범위, 숙박 인원, 주소 앞부분으로 검색하며 삭제 처리(soft delete)된 숙소는 제외합니다.
+   *
    * @param condition 검색 조건
-   * @return 조건에 맞는 방 목록
+   * @param sort 정렬 조건 (price 또는 createdAt, 첫 번째 조건만 사용, 없으면 생성일 내림차순)
+   * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+   * @param size 페이지 크기
+   * @return 커서 페이지
+   * @throws IllegalArgumentException 커서 형식이 잘못되었거나 정렬 조건이 커서와 다른 경우
    */
-  // TODO: 검색 조건 추가 시 사용
-  // List<Room> findByCondition(RoomSearchCondition condition);
+  CursorPage<RoomSummaryDto> searchRoomsByCursor(RoomSearchCondition condition, Sort sort, String cursor, int size);
 
   /**
-   * 검색 조건에 따른 방 목록을 페이징하여 조회합니다.
-   * 
-   * @param condition 검색 조건
-   * @param pageable 페이징 정보
-   * @return 페이징된 방 목록
+   * 숙소 ID 목록으로 숙소 요약을 조회합니다. 순서는 보장하지 않으며, 삭제 처리된 숙소는 제외합니다.
+   *
+   * @param roomIds 숙소 ID 목록
+   * @return 숙소 요약 목록
+   */
+  List<RoomSummaryDto> findSummariesByIds(Collection<UUID> roomIds);
+
+  /**
+   * 영역 안에 있는 숙소의 좌표를 (centerLatitude, centerLongitude)에서 가까운 순서로 최대 limit개 조회합니다.
+   * 위치 색인을 쓸 수 없을 때의 DB 검색용이며, 거리는 평면 근사(equirectangular)로 정렬하므로 정확한 거리는 호출하는 쪽에서 계산합니다.
+   *
+   * @param box 검색 영역
+   * @param centerLatitude 거리 기준 위도
+   * @param centerLongitude 거리 기준 경도
+   * @param limit 최대 개수
+   * @return 숙소 좌표 목록
+   */
+  List<RoomLocation> findLocationsInBox(GeoBox box, double centerLatitude, double centerLongitude, int limit);
+
+  /**
+   * 삭제되지 않은 숙소의 카탈로그 값(가격, 인원, 주소)을 한 건씩 consumer에 전달합니다.
+   * 엔티티를 만들지 않고 필요한 컬럼만 forward-only 커서로 fetchSize 단위씩 읽으므로, 결과 크기와 관계없이 메모리 사용량이 일정합니다.
+   * 호출하는 쪽에서 (읽기 전용) 트랜잭션을 열어야 합니다.
+   *
+   * @param since 이 시간 이후(포함)에 생성된 숙소만 (null이면 전체)
+   * @param fetchSize 한 번에 가져올 행 수
+   * @param consumer 숙소를 처리할 함수
+   */
+  void streamCatalogRows(LocalDateTime since, int fetchSize, Consumer<RoomCatalogRow> consumer);
+
+  /**
+   * 삭제되지 않은 숙소의 제목과 설명을 한 건씩 consumer에 전달합니다. (검색 색인용)
+   * streamCatalogRows와 같이 forward-only 커서로 fetchSize 단위씩 읽으며, 호출하는 쪽에서 (읽기 전용) 트랜잭션을 열어야 합니다.
+   *
+   * @param since 이 시간 이후(포함)에 생성된 숙소만 (null이면 전체)
+   * @param fetchSize 한 번에 가져올 행 수
+   * @param consumer 숙소를 처리할 함수
    */
-  // TODO: 검색 조건 추가 시 사용
-  // Page<Room> findByCondition(RoomSearchCondition condition, Pageable pageable);
+  void streamTextRows(LocalDateTime since, int fetchSize, Consumer<RoomTextRow> consumer);
 }
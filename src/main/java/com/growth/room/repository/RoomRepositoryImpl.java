@@ -0,0 +1,306 @@
+package com.growth.room.repository;
+
+import static com.growth.room.domain.QRoom.room;
+import static org.springframework.util.StringUtils.hasText;
+
+import com.growth.global.common.response.CursorPage;
+import com.growth.room.catalog.RoomCatalogRow;
+import com.growth.room.dto.request.RoomSearchCondition;
+import com.growth.room.dto.response.RoomSummaryDto;
+import com.growth.room.geo.GeoBox;
+import com.growth.room.geo.RoomLocation;
+import com.growth.room.text.RoomTextRow;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.query.Query;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Room 도메인의 QueryDSL 구현체입니다.
+ * 검색 결과는 생성자 projection으로 읽어서 description, host(Member)는 읽지 않습니다.
+ */
+@RequiredArgsConstructor
+public class RoomRepositoryImpl implements RoomRepositoryCoustom {
+
+  private final JPAQueryFactory queryFactory;
+
+  /**
+   * 검색 조건에 따른 숙소 요약 목록을 커서(keyset) 방식으로 조회합니다.
+   * 정렬 키와 roomId가 커서 값 다음인 행부터 size + 1개를 읽어서 다음 페이지 존재 여부를 판단합니다.
+   * (price, room_id) / (created_at, room_id) 인덱스를 그대로 따라가므로 앞 페이지의 행을 읽고 버리지 않습니다.
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public CursorPage<RoomSummaryDto> searchRoomsByCursor(RoomSearchCondition condition, Sort sort, String cursor, int size) {
+    if (size < 1) {
+      throw new IllegalArgumentException("페이지 크기는 1 이상이어야 합니다.");
+    }
+    Sort.Order keysetOrder = getKeysetOrder(sort);
+    RoomCursor after = hasText(cursor) ? RoomCursor.decode(cursor) : null;
+    if (after != null && (!after.sortProperty().equals(keysetOrder.getProperty())
+      || after.ascending() != keysetOrder.isAscending())) {
+      throw new IllegalArgumentException("커서의 정렬 조건이 요청과 다릅니다.");
+    }
+
+    Order direction = keysetOrder.isAscending() ? Order.ASC : Order.DESC;
+    List<RoomSummaryDto> rows = queryFactory
+      .select(roomSummary())
+      .from(room)
+      .where(
+        room.isDeleted.isFalse(),
+        priceGoe(condition.getMinPrice()),
+        priceLoe(condition.getMaxPrice()),
+        maxGuestGoe(condition.getGuests()),
+        addressStartsWith(condition.getAddress()),
+        seekAfter(after)
+      )
+      .orderBy(
+        new OrderSpecifier<>(direction, sortKey(keysetOrder.getProperty())),
+        new OrderSpecifier<>(direction, room.roomId)
+      )
+      .limit(size + 1L)
+      .fetch();
+
+    if (rows.size() <= size) {
+      return CursorPage.last(rows);
+    }
+
+    // 한 개 더 읽힌 행은 버리고, 이번 페이지의 마지막 행으로 다음 커서를 만듭니다
+    List<RoomSummaryDto> content = rows.subList(0, size);
+    RoomSummaryDto last = content.get(size - 1);
+    String nextCursor = new RoomCursor(
+      keysetOrder.getProperty(),
+      keysetOrder.isAscending(),
+      sortValueOf(last, keysetOrder.getProperty()),
+      last.roomId()
+    ).encode();
+    return CursorPage.of(List.copyOf(content), nextCursor);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<RoomSummaryDto> findSummariesByIds(Collection<UUID> roomIds) {
+    if (roomIds.isEmpty()) {
+      return List.of();
+    }
+    return queryFactory
+      .select(roomSummary())
+      .from(room)
+      .where(room.roomId.in(roomIds), room.isDeleted.isFalse())
+      .fetch();
+  }
+
+  /**
+   * 영역 안의 숙소 좌표를 평면 근사 거리순으로 조회합니다.
+   * 위도 BETWEEN 조건은 (latitude, longitude) 인덱스 range scan으로, 경도 조건은 같은 인덱스에서 거릅니다 (ICP).
+   * 경도 차이에 cos(위도)를 곱해서 위도/경도 1도의 길이 차이를 맞춥니다.
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public List<RoomLocation> findLocationsInBox(GeoBox box, double centerLatitude, double centerLongitude, int limit) {
+    NumberExpression<Double> dLatitude = room.latitude.subtract(centerLatitude);
+    NumberExpression<Double> dLongitude = room.longitude.subtract(centerLongitude)
+      .multiply(Math.cos(Math.toRadians(centerLatitude)));
+
+    return queryFactory
+      .select(Projections.constructor(RoomLocation.class, room.roomId, room.latitude, room.longitude))
+      .from(room)
+      .where(
+        room.latitude.between(box.south(), box.north()),
+        room.longitude.between(box.west(), box.east()),
+        room.isDeleted.isFalse()
+      )
+      .orderBy(dLatitude.multiply(dLatitude).add(dLongitude.multiply(dLongitude)).asc())
+      .limit(limit)
+      .fetch();
+  }
+
+  /**
+   * 카탈로그 컬럼만 스칼라로 읽으므로 엔티티/영속성 컨텍스트에 쌓이는 것이 없습니다.
+   */
+  @Override
+  public void streamCatalogRows(LocalDateTime since, int fetchSize, Consumer<RoomCatalogRow> consumer) {
+    Query<?> query = queryFactory
+      .select(room.roomId, room.price, room.maxGuest, room.address, room.createdAt)
+      .from(room)
+      .where(
+        room.isDeleted.isFalse(),
+        since != null ? room.createdAt.goe(since) : null
+      )
+      .createQuery()
+      .unwrap(Query.class);
+
+    query.setFetchSize(fetchSize);
+    query.setReadOnly(true);
+    try (ScrollableResults<?> results = query.scroll(ScrollMode.FORWARD_ONLY)) {
+      while (results.next()) {
+        Object[] row = (Object[]) results.get();
+        consumer.accept(new RoomCatalogRow(
+          (UUID) row[0],
+          (Integer) row[1],
+          (Integer) row[2],
+          (String) row[3],
+          (LocalDateTime) row[4]
+        ));
+      }
+    }
+  }
+
+  @Override
+  public void streamTextRows(LocalDateTime since, int fetchSize, Consumer<RoomTextRow> consumer) {
+    Query<?> query = queryFactory
+      .select(room.roomId, room.title, room.description, room.createdAt)
+      .from(room)
+      .where(
+        room.isDeleted.isFalse(),
+        since != null ? room.createdAt.goe(since) : null
+      )
+      .createQuery()
+      .unwrap(Query.class);
+
+    query.setFetchSize(fetchSize);
+    query.setReadOnly(true);
+    try (ScrollableResults<?> results = query.scroll(ScrollMode.FORWARD_ONLY)) {
+      while (results.next()) {
+        Object[] row = (Object[]) results.get();
+        consumer.accept(new RoomTextRow(
+          (UUID) row[0],
+          (String) row[1],
+          (String) row[2],
+          (LocalDateTime) row[3]
+        ));
+      }
+    }
+  }
+
+  /**
+   * 숙소 요약 DTO 생성자 projection입니다.
+   * room.host.memberId는 host_id FK 컬럼으로 바로 읽히므로 member 조인이 생기지 않습니다.
+   */
+  private static ConstructorExpression<RoomSummaryDto> roomSummary() {
+    return Projections.constructor(
+      RoomSummaryDto.class,
+      room.roomId,
+      room.title,
+      room.address,
+      room.price,
+      room.maxGuest,
+      room.host.memberId,
+      room.createdAt
+    );
+  }
+
+  private BooleanExpression priceGoe(Integer minPrice) {
+    return minPrice != null ? room.price.goe(minPrice) : null;
+  }
+
+  private BooleanExpression priceLoe(Integer maxPrice) {
+    return maxPrice != null ? room.price.loe(maxPrice) : null;
+  }
+
+  private BooleanExpression maxGuestGoe(Integer guests) {
+    return guests != null ? room.maxGuest.goe(guests) : null;
+  }
+
+  /**
+   * 주소 앞부분 조건을 생성합니다. LIKE 'prefix%' 형태라 address 인덱스로 range scan 할 수 있습니다.
+   */
+  private BooleanExpression addressStartsWith(String address) {
+    return hasText(address) ? room.address.startsWith(address.trim()) : null;
+  }
+
+  /**
+   * 커서가 가리키는 행 다음부터 조회하는 조건을 생성합니다.
+   * (key > v) OR (key = v AND room_id > id) 형태이며, 내림차순이면 부등호가 반대입니다.
+   * 앞에 붙인 key >= v(내림차순이면 key <= v)는 결과를 바꾸지 않고 인덱스 range scan 시작점을 알려줍니다.
+   */
+  private BooleanExpression seekAfter(RoomCursor cursor) {
+    if (cursor == null) {
+      return null;
+    }
+
+    boolean ascending = cursor.ascending();
+    UUID roomId = cursor.roomId();
+    BooleanExpression tieBreaker = ascending ? room.roomId.gt(roomId) : room.roomId.lt(roomId);
+    try {
+      return switch (cursor.sortProperty()) {
+        case "price" -> seek(room.price, Integer.valueOf(cursor.sortValue()), ascending, tieBreaker);
+        default -> seek(room.createdAt, LocalDateTime.parse(cursor.sortValue()), ascending, tieBreaker);
+      };
+    } catch (NumberFormatException | DateTimeParseException e) {
+      throw new IllegalArgumentException("커서 형식이 올바르지 않습니다.", e);
+    }
+  }
+
+  private static <T extends Comparable<?>> BooleanExpression seek(
+    ComparableExpression<T> key,
+    T value,
+    boolean ascending,
+    BooleanExpression tieBreaker
+  ) {
+    return ascending
+      ? key.goe(value).and(key.gt(value).or(key.eq(value).and(tieBreaker)))
+      : key.loe(value).and(key.lt(value).or(key.eq(value).and(tieBreaker)));
+  }
+
+  // NOTE: 숫자 경로(NumberExpression)는 ComparableExpression이 아니므로 같은 조건을 따로 생성
+  private static BooleanExpression seek(
+    NumberExpression<Integer> key,
+    Integer value,
+    boolean ascending,
+    BooleanExpression tieBreaker
+  ) {
+    return ascending
+      ? key.goe(value).and(key.gt(value).or(key.eq(value).and(tieBreaker)))
+      : key.loe(value).and(key.lt(value).or(key.eq(value).and(tieBreaker)));
+  }
+
+  /**
+   * keyset 페이징에 사용할 정렬 조건을 결정합니다.
+   * 첫 번째 정렬 조건만 사용하며, 지원하지 않는 필드는 생성일로 처리합니다.
+   *
+   * @param sort Spring Data Sort 객체
+   * @return 정렬 필드와 방향 (기본: 생성일 내림차순)
+   */
+  private Sort.Order getKeysetOrder(Sort sort) {
+    Sort.Order first = sort.stream().findFirst().orElse(null);
+    if (first == null) {
+      return Sort.Order.desc("createdAt");
+    }
+    return switch (first.getProperty()) {
+      case "price", "createdAt" -> first;
+      default -> new Sort.Order(first.getDirection(), "createdAt");
+    };
+  }
+
+  private ComparableExpressionBase<?> sortKey(String property) {
+    return switch (property) {
+      case "price" -> room.price;
+      default -> room.createdAt;
+    };
+  }
+
+  private static String sortValueOf(RoomSummaryDto found, String property) {
+    return switch (property) {
+      case "price" -> String.valueOf(found.price());
+      default -> found.createdAt().toString();
+    };
+  }
+}
@@ -1,6 +1,7 @@
 package com.growth.room.service;
 
 import com.growth.global.exception.BadRequestException;
+import com.growth.member.cache.MemberExistenceCache;
 import com.growth.member.domain.Member;
 import com.growth.member.repository.MemberRepository;
 import com.growth.room.domain.Room;
@@ -20,13 +21,16 @@ public class CreateRoomService implements CreateRoomUseCase {
 
   private final RoomRepository roomRepository;
   private final MemberRepository memberRepository;
+  private final MemberExistenceCache memberExistenceCache;
 
   @Override
   public CreateRoomResponseDto createRoom(CreateRoomRequestDto requestDto, UUID memberId) {
-    // NOTE: 회원 엔티티 조회
-    Member member = memberRepository
-      .findById(memberId)
-      .orElseThrow(() -> new BadRequestException("존재하지 않는 회원입니다."));
+    // NOTE: 탈퇴하지 않은 회원인지만 확인 (캐시 적중 시 SELECT 없음)
+    if (!memberExistenceCache.exists(memberId)) {
+      throw new BadRequestException("존재하지 않는 회원입니다.");
+    }
+    // NOTE: host_id FK만 필요하므로 회원 행을 읽지 않고 프록시로 참조
+    Member member = memberRepository.getReferenceById(memberId);
 
     // NOTE: Room 엔티티 생성 및 저장
     Room room = Room.from(requestDto, member);
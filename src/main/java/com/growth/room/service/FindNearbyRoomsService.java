@@ -0,0 +1,129 @@
+package com.growth.room.service;
+
+import com.growth.global.exception.BadRequestException;
+import com.growth.room.dto.response.NearbyRoomDto;
+import com.growth.room.dto.response.RoomSummaryDto;
+import com.growth.room.geo.GeoBox;
+import com.growth.room.geo.GeoDistance;
+import com.growth.room.geo.GeoHit;
+import com.growth.room.geo.RoomGeoIndex;
+import com.growth.room.geo.RoomLocation;
+import com.growth.room.repository.RoomRepository;
+import com.growth.room.usecase.FindNearbyRoomsUseCase;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 위치 기반 숙소 검색 서비스입니다.
+ * - 위치 색인(RoomGeoIndex)으로 가까운 숙소 ID를 먼저 고르고, 그 숙소만 ID로 조회해서 요약을 채웁니다.
+ * - 색인을 쓸 수 없으면 위경도 범위 조건으로 DB에서 후보를 읽고 거리를 직접 계산합니다.
+ * - 결과는 검색 중심(영역 검색이면 영역 중심)에서 가까운 순서입니다.
+ */
+@Service
+public class FindNearbyRoomsService implements FindNearbyRoomsUseCase {
+
+  private static final int MAX_SIZE = 100;
+
+  private final RoomGeoIndex roomGeoIndex;
+  private final RoomRepository roomRepository;
+  private final double maxRadiusKm;
+  private final double maxBoxSpanDegrees;
+
+  public FindNearbyRoomsService(
+    RoomGeoIndex roomGeoIndex,
+    RoomRepository roomRepository,
+    @Value("${room.geo.max-radius-km:50}") double maxRadiusKm,
+    @Value("${room.geo.max-box-span-degrees:1.0}") double maxBoxSpanDegrees
+  ) {
+    this.roomGeoIndex = roomGeoIndex;
+    this.roomRepository = roomRepository;
+    this.maxRadiusKm = maxRadiusKm;
+    this.maxBoxSpanDegrees = maxBoxSpanDegrees;
+  }
+
+  @Override
+  public List<NearbyRoomDto> findNearby(double latitude, double longitude, double radiusKm, int size) {
+    validateSize(size);
+    validateCoordinate(latitude, longitude);
+    if (!(radiusKm > 0) || radiusKm > maxRadiusKm) {
+      throw new BadRequestException("반경은 0km 초과 " + maxRadiusKm + "km 이하여야 합니다.");
+    }
+
+    double radiusMeters = radiusKm * 1_000;
+    return search(GeoBox.around(latitude, longitude, radiusMeters), latitude, longitude, radiusMeters, size);
+  }
+
+  @Override
+  public List<NearbyRoomDto> findInBox(double south, double west, double north, double east, int size) {
+    validateSize(size);
+    validateCoordinate(south, west);
+    validateCoordinate(north, east);
+    if (south > north || west > east) {
+      throw new BadRequestException("남서쪽 좌표가 북동쪽 좌표보다 클 수 없습니다.");
+    }
+    // NOTE: 지도를 크게 축소한 영역은 격자 칸 수와 후보가 너무 많아지므로 제한
+    if (north - south > maxBoxSpanDegrees || east - west > maxBoxSpanDegrees) {
+      throw new BadRequestException("검색 영역은 위도/경도 " + maxBoxSpanDegrees + "도 이하여야 합니다.");
+    }
+
+    GeoBox box = new GeoBox(south, west, north, east);
+    return search(box, box.centerLatitude(), box.centerLongitude(), Double.POSITIVE_INFINITY, size);
+  }
+
+  private List<NearbyRoomDto> search(GeoBox box, double latitude, double longitude, double maxDistanceMeters, int size) {
+    List<GeoHit> hits = roomGeoIndex.nearest(box, latitude, longitude, maxDistanceMeters, size)
+      .orElseGet(() -> findInDatabase(box, latitude, longitude, maxDistanceMeters, size));
+    if (hits.isEmpty()) {
+      return List.of();
+    }
+
+    // NOTE: 색인에는 롤백/삭제된 숙소가 남아 있을 수 있으므로 조회되지 않은 ID는 건너뜀
+    Map<UUID, RoomSummaryDto> summaries = roomRepository
+      .findSummariesByIds(hits.stream().map(GeoHit::roomId).toList())
+      .stream()
+      .collect(Collectors.toMap(RoomSummaryDto::roomId, Function.identity()));
+
+    List<NearbyRoomDto> rooms = new ArrayList<>(hits.size());
+    for (GeoHit hit : hits) {
+      RoomSummaryDto summary = summaries.get(hit.roomId());
+      if (summary != null) {
+        rooms.add(NearbyRoomDto.of(summary, hit));
+      }
+    }
+    return rooms;
+  }
+
+  /**
+   * 색인을 쓸 수 없을 때 DB에서 영역 안의 숙소를 근사 거리순으로 읽고, 정확한 거리(haversine)로 다시 거르고 정렬합니다.
+   */
+  private List<GeoHit> findInDatabase(GeoBox box, double latitude, double longitude, double maxDistanceMeters, int size) {
+    List<GeoHit> hits = new ArrayList<>(size);
+    for (RoomLocation location : roomRepository.findLocationsInBox(box, latitude, longitude, size)) {
+      double distance = GeoDistance.meters(latitude, longitude, location.latitude(), location.longitude());
+      if (distance <= maxDistanceMeters) {
+        hits.add(new GeoHit(location.roomId(), location.latitude(), location.longitude(), distance));
+      }
+    }
+    hits.sort(Comparator.comparingDouble(GeoHit::distanceMeters));
+    return hits;
+  }
+
+  private static void validateSize(int size) {
+    if (size < 1 || size > MAX_SIZE) {
+      throw new BadRequestException("조회 개수는 1 이상 " + MAX_SIZE + " 이하여야 합니다.");
+    }
+  }
+
+  private static void validateCoordinate(double latitude, double longitude) {
+    if (!(latitude >= -90 && latitude <= 90) || !(longitude >= -180 && longitude <= 180)) {
+      throw new BadRequestException("위도는 -90 이상 90 이하, 경도는 -180 이상 180 이하여야 합니다.");
+    }
+  }
+}
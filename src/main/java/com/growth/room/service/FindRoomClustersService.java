@@ -0,0 +1,57 @@
+package com.growth.room.service;
+
+import com.growth.global.exception.BadRequestException;
+import com.growth.global.exception.ServiceUnavailableException;
+import com.growth.room.dto.response.RoomClusterDto;
+import com.growth.room.geo.GeoBox;
+import com.growth.room.geo.RoomGeoIndex;
+import com.growth.room.usecase.FindRoomClustersUseCase;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 지도 화면 영역의 숙소 클러스터 조회 서비스입니다.
+ * - 위치 색인이 미리 모아둔 줌 레벨별 타일 집계만 읽으므로, 영역 안의 숙소 수와 관계없이 타일 수만큼만 응답합니다.
+ * - 집계가 준비되기 전에는 DB로 전체 숙소를 묶지 않고 503으로 응답합니다.
+ */
+@Service
+public class FindRoomClustersService implements FindRoomClustersUseCase {
+
+  private static final int MAX_ZOOM = 22;
+
+  private final RoomGeoIndex roomGeoIndex;
+  private final int maxTiles;
+
+  public FindRoomClustersService(
+    RoomGeoIndex roomGeoIndex,
+    @Value("${room.geo.tiles.max-tiles:1024}") int maxTiles
+  ) {
+    this.roomGeoIndex = roomGeoIndex;
+    this.maxTiles = maxTiles;
+  }
+
+  @Override
+  public List<RoomClusterDto> findClusters(int zoom, double south, double west, double north, double east) {
+    if (zoom < 0 || zoom > MAX_ZOOM) {
+      throw new BadRequestException("줌 레벨은 0 이상 " + MAX_ZOOM + " 이하여야 합니다.");
+    }
+    if (!(south >= -90 && north <= 90) || !(west >= -180 && east <= 180)) {
+      throw new BadRequestException("위도는 -90 이상 90 이하, 경도는 -180 이상 180 이하여야 합니다.");
+    }
+    if (south > north || west > east) {
+      throw new BadRequestException("남서쪽 좌표가 북동쪽 좌표보다 클 수 없습니다.");
+    }
+
+    try {
+      return roomGeoIndex.clusters(zoom, new GeoBox(south, west, north, east), maxTiles)
+        .orElseThrow(() -> new ServiceUnavailableException("지도 집계를 준비 중입니다. 잠시 후 다시 시도해주세요."))
+        .stream()
+        .map(RoomClusterDto::from)
+        .toList();
+    } catch (IllegalArgumentException e) {
+      // NOTE: 영역에 걸친 타일이 max-tiles보다 많음
+      throw new BadRequestException(e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,42 @@
+package com.growth.room.service;
+
+import com.growth.global.exception.BadRequestException;
+import com.growth.global.exception.ServiceUnavailableException;
+import com.growth.room.catalog.RoomCatalog;
+import com.growth.room.catalog.RoomFacetFilter;
+import com.growth.room.dto.request.RoomFacetCondition;
+import com.growth.room.dto.response.RoomFacetsDto;
+import com.growth.room.usecase.FindRoomFacetsUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 숙소 필터 UI의 결과 수/facet 분포 조회 서비스입니다.
+ * - 입력할 때마다 호출되므로 SQL을 쓰지 않고 메모리의 열 카탈로그(RoomCatalog)로만 셉니다.
+ * - 카탈로그가 준비되기 전에는 전체 숙소를 SQL로 집계하지 않고 503으로 응답합니다.
+ * - 숙소 목록은 같은 조건으로 GET /api/rooms/search에서 조회합니다.
+ */
+@RequiredArgsConstructor
+@Service
+public class FindRoomFacetsService implements FindRoomFacetsUseCase {
+
+  private final RoomCatalog roomCatalog;
+
+  @Override
+  public RoomFacetsDto findFacets(RoomFacetCondition condition) {
+    if (condition.getMinPrice() != null && condition.getMaxPrice() != null
+      && condition.getMinPrice() > condition.getMaxPrice()) {
+      throw new BadRequestException("최소 가격이 최대 가격보다 클 수 없습니다.");
+    }
+
+    RoomFacetFilter filter = new RoomFacetFilter(
+      condition.getMinPrice(),
+      condition.getMaxPrice(),
+      condition.getGuests(),
+      condition.getRegion()
+    );
+    return roomCatalog.facets(filter)
+      .map(RoomFacetsDto::from)
+      .orElseThrow(() -> new ServiceUnavailableException("숙소 카탈로그를 준비 중입니다. 잠시 후 다시 시도해주세요."));
+  }
+}
@@ -0,0 +1,138 @@
+package com.growth.room.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.growth.global.common.id.UuidBytes;
+import com.growth.global.common.id.UuidV7Generator;
+import com.growth.global.common.importer.BulkImporter;
+import com.growth.global.common.importer.ImportFailure;
+import com.growth.global.common.importer.ImportFormat;
+import com.growth.global.common.importer.ImportResult;
+import com.growth.global.common.importer.ImportRow;
+import com.growth.global.common.importer.ImportRowReader;
+import com.growth.global.exception.BadRequestException;
+import com.growth.member.cache.MemberExistenceCache;
+import com.growth.room.catalog.RoomCatalog;
+import com.growth.room.dto.request.CreateRoomRequestDto;
+import com.growth.room.geo.RoomGeoIndex;
+import com.growth.room.text.RoomTextIndex;
+import com.growth.room.usecase.ImportRoomsUseCase;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * 숙소 대량 등록 서비스입니다.
+ * - 행마다 CreateRoomRequestDto 제약으로 검증하고, chunk-size 개씩 묶어서 한 트랜잭션의 batch INSERT로 저장합니다.
+ *   DB 제약을 위반한 행이 있으면 그 chunk만 한 행씩 다시 저장해서, 실패한 행만 실패로 보고합니다.
+ * - 모든 숙소의 호스트는 요청한 회원이며, 회원 존재 여부는 시작할 때 한 번만 확인합니다.
+ * - JDBC로 직접 INSERT 하므로 엔티티 리스너가 동작하지 않아, 위치 색인, 카탈로그, 검색 색인에는 chunk가 커밋된 뒤에 직접 추가합니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ImportRoomsService implements ImportRoomsUseCase {
+
+  private static final String INSERT_SQL = "INSERT INTO room "
+    + "(room_id, title, description, address, price, max_guest, latitude, longitude, host_id, created_at, updated_at, is_deleted) "
+    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, false)";
+
+  private final BulkImporter bulkImporter;
+  private final MemberExistenceCache memberExistenceCache;
+  private final RoomGeoIndex roomGeoIndex;
+  private final RoomCatalog roomCatalog;
+  private final RoomTextIndex roomTextIndex;
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionOperations transactionOperations;
+  private final ObjectMapper objectMapper;
+  private final Clock clock;
+
+  @Override
+  public ImportResult importRooms(InputStream in, ImportFormat format, UUID hostId) throws IOException {
+    if (!memberExistenceCache.exists(hostId)) {
+      throw new BadRequestException("존재하지 않는 회원입니다.");
+    }
+    byte[] host = UuidBytes.toBytes(hostId);
+
+    try (ImportRowReader<CreateRoomRequestDto> reader =
+           new ImportRowReader<>(in, format, CreateRoomRequestDto.class, objectMapper)) {
+      return bulkImporter.run(reader, rows -> writeChunk(rows, host));
+    }
+  }
+
+  private List<ImportFailure> writeChunk(List<ImportRow<CreateRoomRequestDto>> rows, byte[] host) {
+    LocalDateTime now = LocalDateTime.now(clock);
+    List<NewRoom> rooms = new ArrayList<>(rows.size());
+    for (ImportRow<CreateRoomRequestDto> row : rows) {
+      rooms.add(new NewRoom(UuidV7Generator.generate(), row));
+    }
+
+    List<ImportFailure> failures = new ArrayList<>();
+    List<NewRoom> inserted = insert(rooms, host, now, failures);
+
+    // NOTE: 커밋된 숙소만 추가 (실패한 행은 색인에 남지 않음)
+    for (NewRoom room : inserted) {
+      CreateRoomRequestDto value = room.row().value();
+      roomCatalog.add(room.roomId(), value.price(), value.maxGuest(), value.address());
+      roomTextIndex.add(room.roomId(), value.title(), value.description());
+      if (value.latitude() != null && value.longitude() != null) {
+        roomGeoIndex.add(room.roomId(), value.latitude(), value.longitude(), value.price());
+      }
+    }
+    return failures;
+  }
+
+  /**
+   * 묶음 전체를 한 트랜잭션의 batch INSERT로 저장합니다.
+   * 검증을 통과했지만 DB 제약을 위반한 행이 있으면 묶음을 되돌리고 한 행씩 다시 저장해서 실패한 행만 골라냅니다.
+   */
+  private List<NewRoom> insert(List<NewRoom> rooms, byte[] host, LocalDateTime now, List<ImportFailure> failures) {
+    try {
+      transactionOperations.executeWithoutResult(status ->
+        jdbcTemplate.batchUpdate(INSERT_SQL, rooms, rooms.size(), (statement, room) -> bind(statement, room, host, now)));
+      return rooms;
+    } catch (DataIntegrityViolationException e) {
+      List<NewRoom> inserted = new ArrayList<>(rooms.size());
+      for (NewRoom room : rooms) {
+        try {
+          jdbcTemplate.update(INSERT_SQL, statement -> bind(statement, room, host, now));
+          inserted.add(room);
+        } catch (DataIntegrityViolationException violation) {
+          log.warn("숙소 대량 등록 행 저장 실패 (line={}): {}", room.row().line(), violation.getMostSpecificCause().getMessage());
+          failures.add(room.row().fail(ImportFailure.SAVE_FAILED));
+        }
+      }
+      return inserted;
+    }
+  }
+
+  private static void bind(PreparedStatement statement, NewRoom room, byte[] host, LocalDateTime now) throws SQLException {
+    CreateRoomRequestDto value = room.row().value();
+    statement.setBytes(1, UuidBytes.toBytes(room.roomId()));
+    statement.setString(2, value.title());
+    statement.setString(3, value.description());
+    statement.setString(4, value.address());
+    statement.setInt(5, value.price());
+    statement.setInt(6, value.maxGuest());
+    statement.setObject(7, value.latitude(), Types.DOUBLE);
+    statement.setObject(8, value.longitude(), Types.DOUBLE);
+    statement.setBytes(9, host);
+    statement.setObject(10, now);
+    statement.setObject(11, now);
+  }
+
+  private record NewRoom(UUID roomId, ImportRow<CreateRoomRequestDto> row) {
+  }
+}
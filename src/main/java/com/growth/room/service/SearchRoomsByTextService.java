@@ -0,0 +1,107 @@
+package com.growth.room.service;
+
+import com.growth.global.common.response.CursorPage;
+import com.growth.global.exception.BadRequestException;
+import com.growth.global.exception.ServiceUnavailableException;
+import com.growth.room.dto.response.RoomSummaryDto;
+import com.growth.room.dto.response.TextSearchRoomDto;
+import com.growth.room.repository.RoomRepository;
+import com.growth.room.text.RoomTextHit;
+import com.growth.room.text.RoomTextIndex;
+import com.growth.room.usecase.SearchRoomsByTextUseCase;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 숙소 제목/설명 텍스트 검색 서비스입니다.
+ * - 검색 색인(RoomTextIndex)으로 관련도 순서의 숙소 ID와 점수를 먼저 고르고, 한 페이지의 숙소만 ID로 한 번에 조회해서 요약을 채웁니다.
+ * - TEXT 컬럼 LIKE 검색은 전체 테이블을 읽으므로, 색인이 준비되기 전에는 DB로 검색하지 않고 503으로 응답합니다.
+ * - 다음 페이지 커서는 다음 결과의 순위(offset)이며, 깊은 페이지는 앞 결과를 모두 점수 계산해야 하므로 max-results까지만 조회합니다.
+ */
+@Service
+public class SearchRoomsByTextService implements SearchRoomsByTextUseCase {
+
+  private static final int MAX_PAGE_SIZE = 100;
+  private static final int MAX_QUERY_LENGTH = 100;
+
+  private final RoomTextIndex roomTextIndex;
+  private final RoomRepository roomRepository;
+  private final int maxResults;
+
+  public SearchRoomsByTextService(
+    RoomTextIndex roomTextIndex,
+    RoomRepository roomRepository,
+    @Value("${room.text.max-results:1000}") int maxResults
+  ) {
+    this.roomTextIndex = roomTextIndex;
+    this.roomRepository = roomRepository;
+    this.maxResults = maxResults;
+  }
+
+  @Override
+  public CursorPage<TextSearchRoomDto> searchByText(String query, String cursor, int size) {
+    if (size < 1 || size > MAX_PAGE_SIZE) {
+      throw new BadRequestException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+    }
+    if (query == null || query.isBlank() || query.length() > MAX_QUERY_LENGTH) {
+      throw new BadRequestException("검색어는 1자 이상 " + MAX_QUERY_LENGTH + "자 이하여야 합니다.");
+    }
+    int offset = parseCursor(cursor);
+    int limit = Math.min(size, maxResults - offset);
+
+    // NOTE: 다음 페이지가 있는지 알기 위해 하나 더 조회
+    List<RoomTextHit> hits = roomTextIndex.search(query, offset, limit + 1)
+      .orElseThrow(() -> new ServiceUnavailableException("숙소 검색 색인을 준비 중입니다. 잠시 후 다시 시도해주세요."));
+    boolean hasNext = hits.size() > limit && offset + limit < maxResults;
+    List<RoomTextHit> page = hits.size() > limit ? hits.subList(0, limit) : hits;
+
+    List<TextSearchRoomDto> rooms = hydrate(page);
+    return hasNext ? CursorPage.of(rooms, Integer.toString(offset + limit)) : CursorPage.last(rooms);
+  }
+
+  /**
+   * 한 페이지의 숙소 요약을 ID 목록 한 번으로 조회해서 점수 순서대로 채웁니다.
+   */
+  private List<TextSearchRoomDto> hydrate(List<RoomTextHit> hits) {
+    if (hits.isEmpty()) {
+      return List.of();
+    }
+
+    // NOTE: 색인에는 다른 인스턴스에서 삭제된 숙소가 재생성 전까지 남아 있으므로 조회되지 않은 ID는 건너뜀
+    Map<UUID, RoomSummaryDto> summaries = roomRepository
+      .findSummariesByIds(hits.stream().map(RoomTextHit::roomId).toList())
+      .stream()
+      .collect(Collectors.toMap(RoomSummaryDto::roomId, Function.identity()));
+
+    List<TextSearchRoomDto> rooms = new ArrayList<>(hits.size());
+    for (RoomTextHit hit : hits) {
+      RoomSummaryDto summary = summaries.get(hit.roomId());
+      if (summary != null) {
+        rooms.add(TextSearchRoomDto.of(summary, hit));
+      }
+    }
+    return rooms;
+  }
+
+  private int parseCursor(String cursor) {
+    if (cursor == null) {
+      return 0;
+    }
+    int offset;
+    try {
+      offset = Integer.parseInt(cursor);
+    } catch (NumberFormatException e) {
+      throw new BadRequestException("커서 형식이 올바르지 않습니다.");
+    }
+    if (offset < 0 || offset >= maxResults) {
+      throw new BadRequestException("검색 결과는 " + maxResults + "번째까지만 조회할 수 있습니다.");
+    }
+    return offset;
+  }
+}
@@ -0,0 +1,38 @@
+package com.growth.room.service;
+
+import com.growth.global.common.response.CursorPage;
+import com.growth.global.exception.BadRequestException;
+import com.growth.room.dto.request.RoomSearchCondition;
+import com.growth.room.dto.response.RoomSummaryDto;
+import com.growth.room.repository.RoomRepository;
+import com.growth.room.usecase.SearchRoomsUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+@RequiredArgsConstructor
+@Service
+public class SearchRoomsService implements SearchRoomsUseCase {
+
+  private static final int MAX_PAGE_SIZE = 100;
+
+  private final RoomRepository roomRepository;
+
+  @Override
+  public CursorPage<RoomSummaryDto> searchRooms(RoomSearchCondition condition, Sort sort, String cursor, int size) {
+    if (size < 1 || size > MAX_PAGE_SIZE) {
+      throw new BadRequestException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+    }
+    if (condition.getMinPrice() != null && condition.getMaxPrice() != null
+      && condition.getMinPrice() > condition.getMaxPrice()) {
+      throw new BadRequestException("최소 가격이 최대 가격보다 클 수 없습니다.");
+    }
+
+    try {
+      return roomRepository.searchRoomsByCursor(condition, sort, cursor, size);
+    } catch (IllegalArgumentException e) {
+      // NOTE: 커서 형식 오류, 커서와 다른 정렬 조건
+      throw new BadRequestException(e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,12 @@
+package com.growth.room.text;
+
+import java.util.UUID;
+
+/**
+ * 숙소 텍스트 검색 결과 한 건입니다.
+ *
+ * @param roomId 숙소 ID
+ * @param score 관련도 점수 (BM25, 같은 검색 결과 안에서만 비교 가능)
+ */
+public record RoomTextHit(UUID roomId, float score) {
+}
@@ -0,0 +1,327 @@
+package com.growth.room.text;
+
+import com.growth.global.common.index.IncrementalIndex;
+import com.growth.room.repository.RoomRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.store.AlreadyClosedException;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 숙소 제목/설명 전문 검색용 로컬 디스크 색인입니다.
+ * - 색인은 directory에 저장되고, 커밋할 때 마지막으로 읽은 created_at(워터마크)도 함께 저장합니다.
+ *   재시작하면 디스크 색인을 그대로 열고 워터마크 이후에 등록된 숙소만 DB에서 이어서 읽습니다. (전체 재색인 없음)
+ * - 디스크 색인이 없거나 색인 형식(SCHEMA_VERSION)이 다르면 시작 시 전체 숙소를 스트리밍으로 읽어서 만듭니다.
+ * - 이 인스턴스의 숙소 등록/삭제는 커밋 후 엔티티 리스너로 반영하고, reopen-interval 이내에 검색 결과에 보입니다.
+ * - 다른 인스턴스에서 등록한 숙소는 refresh-interval마다 이어서 읽고, 삭제는 rebuild-cron 재생성 때 반영합니다.
+ * - 디스크 커밋은 commit-interval마다 하며, 비정상 종료로 잃은 변경은 다음 시작 때 워터마크 이후를 다시 읽어서 채웁니다.
+ * - 준비되지 않았거나 비활성이면 비어 있는 Optional을 반환합니다.
+ */
+@Slf4j
+@Component
+public class RoomTextIndex extends IncrementalIndex {
+
+  // NOTE: 색인 필드나 분석기를 바꾸면 올려서 기존 디스크 색인을 버리고 다시 만듦
+  private static final String SCHEMA_VERSION = "1";
+  private static final String SCHEMA_KEY = "schema";
+  private static final String WATERMARK_KEY = "watermark";
+  private static final String GENERATION_KEY = "generation";
+
+  private final RoomRepository roomRepository;
+  private final TransactionTemplate readOnlyTransaction;
+  private final int fetchSize;
+  private final RoomTextStore store;
+
+  // NOTE: 커밋도 maintenanceLock으로 재생성/이어서 읽기와 겹치지 않게 함 (색인 쓰기와 검색은 Lucene이 동기화)
+  private volatile boolean closing;
+  private volatile long generation;
+
+  private final Timer searchTimer;
+
+  public RoomTextIndex(
+    RoomRepository roomRepository,
+    PlatformTransactionManager transactionManager,
+    @Value("${room.text.enabled:true}") boolean enabled,
+    @Value("${room.text.directory:data/room-text-index}") String directory,
+    @Value("${room.text.fetch-size:1000}") int fetchSize,
+    MeterRegistry meterRegistry
+  ) {
+    super("숙소 검색 색인", enabled);
+    this.roomRepository = roomRepository;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+    this.fetchSize = fetchSize;
+    this.store = enabled ? open(directory) : null;
+    if (store != null) {
+      reopenCommitted(store.committedData());
+    }
+
+    Gauge.builder("room.text.size", this, RoomTextIndex::size)
+      .description("검색 색인에 들어 있는 숙소 수")
+      .register(meterRegistry);
+    this.searchTimer = Timer.builder("room.text.search")
+      .description("숙소 텍스트 검색 시간 (DB 조회 제외)")
+      .register(meterRegistry);
+  }
+
+  /**
+   * 검색어와 일치하는 숙소 ID를 관련도 점수가 높은 순서로 offset번째부터 최대 limit개 반환합니다.
+   *
+   * @param query 검색어 (공백은 AND, "..."는 구문, 끝의 *는 접두어)
+   * @param offset 건너뛸 결과 수
+   * @param limit 최대 개수
+   * @return 검색 결과, 색인을 쓸 수 없으면 빈 Optional
+   */
+  public Optional<List<RoomTextHit>> search(String query, int offset, int limit) {
+    if (!isAvailable()) {
+      return Optional.empty();
+    }
+    long startedAt = System.nanoTime();
+    try {
+      return Optional.of(store.search(query, offset, limit));
+    } finally {
+      searchTimer.record(Duration.ofNanos(System.nanoTime() - startedAt));
+    }
+  }
+
+  /**
+   * 숙소를 색인합니다. 이미 색인된 숙소는 새 제목/설명으로 바꿉니다.
+   * 색인에 실패해도 예외를 던지지 않습니다. (숙소 등록은 이미 커밋됨, 다음 재생성 때 반영)
+   */
+  public void add(UUID roomId, String title, String description) {
+    if (!isEnabled()) {
+      return;
+    }
+    try {
+      store.upsert(roomId, title, description, generation);
+    } catch (UncheckedIOException | AlreadyClosedException e) {
+      log.warn("숙소 검색 색인 추가 실패 (roomId={}): {}", roomId, e.getMessage());
+    }
+  }
+
+  /**
+   * 삭제된 숙소를 색인에서 지웁니다.
+   */
+  public void remove(UUID roomId) {
+    if (!isEnabled()) {
+      return;
+    }
+    try {
+      store.delete(roomId);
+    } catch (UncheckedIOException | AlreadyClosedException e) {
+      log.warn("숙소 검색 색인 삭제 실패 (roomId={}): {}", roomId, e.getMessage());
+    }
+  }
+
+  /**
+   * 디스크 색인을 그대로 쓰고, 내려가 있던 동안 등록된 숙소만 이어서 읽습니다.
+   */
+  @Override
+  protected void resume() {
+    log.info("숙소 검색 색인을 디스크에서 열었습니다 (rooms={}, watermark={})", size(), watermark());
+    super.resume();
+    reopen();
+  }
+
+  /**
+   * 삭제되지 않은 숙소 전체를 새 세대로 다시 색인하고, 이번 세대에 색인되지 않은 (삭제된) 숙소를 지운 뒤 커밋합니다.
+   * 재생성 중에도 기존 문서는 남아 있으므로 검색 결과가 비지 않습니다.
+   */
+  @Override
+  @Scheduled(cron = "${room.text.rebuild-cron:0 30 5 * * *}")
+  public void rebuild() {
+    super.rebuild();
+  }
+
+  /**
+   * 마지막으로 읽은 created_at 이후에 등록된 숙소를 이어서 색인합니다. (다른 인스턴스에서 등록한 숙소, 재시작 전 커밋되지 않은 변경 반영)
+   */
+  @Override
+  @Scheduled(
+    fixedDelayString = "${room.text.refresh-interval:5000}",
+    initialDelayString = "${room.text.refresh-interval:5000}"
+  )
+  public void refresh() {
+    super.refresh();
+  }
+
+  /**
+   * 색인에 쓴 변경(등록/삭제)을 검색 결과에 반영합니다.
+   * 숙소마다 reopen 하지 않고 reopen-interval마다 모아서 반영합니다.
+   */
+  @Scheduled(
+    fixedDelayString = "${room.text.reopen-interval:1000}",
+    initialDelayString = "${room.text.reopen-interval:1000}"
+  )
+  public void reopen() {
+    if (!isEnabled() || closing) {
+      return;
+    }
+    try {
+      store.refresh(false);
+    } catch (UncheckedIOException | AlreadyClosedException e) {
+      log.warn("숙소 검색 색인 reopen 실패: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * 색인 변경과 워터마크를 디스크에 커밋합니다. 재시작하면 마지막 커밋 시점부터 이어서 읽습니다.
+   */
+  @Scheduled(
+    fixedDelayString = "${room.text.commit-interval:30000}",
+    initialDelayString = "${room.text.commit-interval:30000}"
+  )
+  public void commit() {
+    if (!isAvailable() || !maintenanceLock.tryLock()) {
+      return;
+    }
+    try {
+      store.commit(commitData());
+    } catch (RuntimeException e) {
+      log.warn("숙소 검색 색인 커밋 실패: {}", e.getMessage());
+    } finally {
+      maintenanceLock.unlock();
+    }
+  }
+
+  @PreDestroy
+  public void close() {
+    if (!isEnabled()) {
+      return;
+    }
+    // NOTE: 진행 중인 재생성은 다음 행에서 멈추게 하고, 준비된 색인만 커밋 (준비 전 색인은 다음 시작 때 다시 만듦)
+    closing = true;
+    maintenanceLock.lock();
+    try {
+      if (isAvailable()) {
+        store.commit(commitData());
+      }
+    } catch (RuntimeException e) {
+      log.warn("숙소 검색 색인 종료 전 커밋 실패: {}", e.getMessage());
+    } finally {
+      try {
+        store.close();
+      } catch (IOException e) {
+        log.warn("숙소 검색 색인 닫기 실패: {}", e.getMessage());
+      }
+      maintenanceLock.unlock();
+    }
+  }
+
+  @Override
+  protected LocalDateTime loadAll() {
+    // NOTE: 세대를 먼저 올려서, 재생성 중에 리스너로 추가된 숙소도 새 세대로 남김
+    long rebuilt = generation + 1;
+    generation = rebuilt;
+    LocalDateTime latest = load(null, rebuilt);
+    store.deleteOlderThan(rebuilt);
+    return latest;
+  }
+
+  @Override
+  protected LocalDateTime loadSince(LocalDateTime since) {
+    return load(since, generation);
+  }
+
+  @Override
+  protected void rebuilt() {
+    store.commit(commitData());
+    store.refresh(true);
+  }
+
+  @Override
+  protected String describe() {
+    return "rooms=" + store.size() + ", generation=" + generation;
+  }
+
+  /**
+   * 숙소를 fetch-size 단위로 읽어서 색인하고, 읽은 가장 늦은 created_at을 반환합니다.
+   */
+  private LocalDateTime load(LocalDateTime since, long generation) {
+    LocalDateTime[] latest = new LocalDateTime[1];
+    readOnlyTransaction.executeWithoutResult(status ->
+      roomRepository.streamTextRows(since, fetchSize, row -> {
+        if (closing) {
+          throw new CancellationException("애플리케이션 종료로 숙소 검색 색인 읽기를 중단합니다.");
+        }
+        store.upsert(row.roomId(), row.title(), row.description(), generation);
+        if (latest[0] == null || row.createdAt().isAfter(latest[0])) {
+          latest[0] = row.createdAt();
+        }
+      })
+    );
+    return latest[0];
+  }
+
+  private void reopenCommitted(Map<String, String> committed) {
+    if (committed.isEmpty()) {
+      return;
+    }
+    if (!SCHEMA_VERSION.equals(committed.get(SCHEMA_KEY)) || committed.get(WATERMARK_KEY) == null) {
+      log.info("숙소 검색 색인 형식이 달라서 다시 만듭니다 (schema={})", committed.get(SCHEMA_KEY));
+      store.deleteAll();
+      return;
+    }
+    generation = Long.parseLong(committed.getOrDefault(GENERATION_KEY, "0"));
+    restore(LocalDateTime.parse(committed.get(WATERMARK_KEY)));
+  }
+
+  private Map<String, String> commitData() {
+    Map<String, String> data = new HashMap<>();
+    data.put(SCHEMA_KEY, SCHEMA_VERSION);
+    data.put(GENERATION_KEY, Long.toString(generation));
+    if (watermark() != null) {
+      data.put(WATERMARK_KEY, watermark().toString());
+    }
+    return data;
+  }
+
+  private int size() {
+    if (store == null || closing) {
+      return 0;
+    }
+    return store.size();
+  }
+
+  /**
+   * directory가 비어 있으면 메모리 색인(테스트용), 아니면 로컬 디스크 색인을 엽니다.
+   * - 같은 directory는 한 프로세스만 열 수 있으므로 (Lucene write.lock), 한 서버에서 여러 인스턴스를 띄우면 directory를 나눠야 합니다.
+   */
+  private static RoomTextStore open(String directory) {
+    try {
+      Directory storage;
+      if (directory == null || directory.isBlank()) {
+        storage = new ByteBuffersDirectory();
+      } else {
+        Path path = Path.of(directory);
+        Files.createDirectories(path);
+        storage = FSDirectory.open(path);
+      }
+      return new RoomTextStore(storage);
+    } catch (IOException e) {
+      throw new UncheckedIOException("숙소 검색 색인을 열 수 없습니다: " + directory, e);
+    }
+  }
+}
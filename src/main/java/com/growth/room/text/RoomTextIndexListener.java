@@ -0,0 +1,45 @@
+package com.growth.room.text;
+
+import com.growth.global.common.listener.EntityChangeListener;
+import com.growth.room.domain.Room;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import java.util.UUID;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 숙소 등록/수정/삭제를 RoomTextIndex에 반영하는 JPA 엔티티 리스너입니다.
+ * - 등록은 INSERT 이후(@PostPersist), 수정과 삭제(soft delete)는 UPDATE 이후(@PostUpdate)에 등록하고,
+ *   트랜잭션이 있으면 커밋된 뒤에 반영합니다. (롤백된 숙소가 검색 결과에 남지 않도록)
+ * - 수정은 같은 숙소 문서를 새 제목/설명으로 바꿉니다.
+ */
+@Component
+public class RoomTextIndexListener extends EntityChangeListener<RoomTextIndex> {
+
+  public RoomTextIndexListener(ObjectProvider<RoomTextIndex> roomTextIndex) {
+    super(roomTextIndex);
+  }
+
+  @PostPersist
+  public void onPostPersist(Room room) {
+    index(room);
+  }
+
+  @PostUpdate
+  public void onPostUpdate(Room room) {
+    if (Boolean.TRUE.equals(room.getIsDeleted())) {
+      UUID roomId = room.getRoomId();
+      afterCommit(index -> index.remove(roomId));
+      return;
+    }
+    index(room);
+  }
+
+  private void index(Room room) {
+    UUID roomId = room.getRoomId();
+    String title = room.getTitle();
+    String description = room.getDescription();
+    afterCommit(index -> index.add(roomId, title, description));
+  }
+}
@@ -0,0 +1,15 @@
+package com.growth.room.text;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 숙소 검색 색인을 만들 때 읽는 숙소 한 건입니다.
+ *
+ * @param roomId 숙소 ID
+ * @param title 제목
+ * @param description 설명 (없으면 null)
+ * @param createdAt 생성 시간 (이어서 읽기 위한 워터마크)
+ */
+public record RoomTextRow(UUID roomId, String title, String description, LocalDateTime createdAt) {
+}
@@ -0,0 +1,242 @@
+package com.growth.room.text;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+
+/**
+ * 숙소 제목/설명의 Lucene 역색인입니다.
+ * - nori(KoreanAnalyzer)로 형태소 단위로 나누고 조사/어미는 버리므로, "해운대에서"도 "해운대"로 찾습니다.
+ * - 검색어는 SimpleQueryParser 문법을 씁니다: 공백은 AND, "..."는 구문(phrase), 끝의 *는 접두어, |는 OR, -는 제외.
+ * - 점수는 BM25이며 제목 일치에 가중치를 더 줍니다.
+ * - 문서마다 색인 세대(generation)를 기록해서, 재생성 때 이번 세대에 다시 색인되지 않은 (삭제된) 숙소를 한 번에 지웁니다.
+ * - 커밋할 때 함께 저장한 값(commit user data)은 다시 열 때 committedData()로 읽을 수 있습니다.
+ * - 색인 쓰기와 검색은 thread-safe 합니다. 커밋/재생성 순서는 RoomTextIndex가 관리합니다.
+ */
+final class RoomTextStore implements Closeable {
+
+  static final String ID = "id";
+  static final String TITLE = "title";
+  static final String DESCRIPTION = "description";
+  static final String GENERATION = "generation";
+
+  private static final Map<String, Float> FIELD_WEIGHTS = Map.of(TITLE, 2.0f, DESCRIPTION, 1.0f);
+  private static final Set<String> ID_ONLY = Set.of(ID);
+
+  // NOTE: 퍼지(~)/근접 검색은 후보 term이 많아서 비싸므로 허용하지 않음
+  private static final int QUERY_OPERATORS = SimpleQueryParser.AND_OPERATOR
+    | SimpleQueryParser.OR_OPERATOR
+    | SimpleQueryParser.NOT_OPERATOR
+    | SimpleQueryParser.PHRASE_OPERATOR
+    | SimpleQueryParser.PREFIX_OPERATOR
+    | SimpleQueryParser.PRECEDENCE_OPERATORS
+    | SimpleQueryParser.ESCAPE_OPERATOR
+    | SimpleQueryParser.WHITESPACE_OPERATOR;
+
+  // NOTE: 한 글자 접두어("a*")는 펼쳐지는 term이 너무 많으므로 일반 검색어로 처리
+  private static final int MIN_PREFIX_LENGTH = 2;
+
+  private final Analyzer analyzer = new KoreanAnalyzer();
+  private final IndexWriter writer;
+  private final SearcherManager searcherManager;
+  private Map<String, String> committedData;
+
+  RoomTextStore(Directory directory) throws IOException {
+    this.committedData = DirectoryReader.indexExists(directory)
+      ? Map.copyOf(SegmentInfos.readLatestCommit(directory).getUserData())
+      : Map.of();
+    // NOTE: 커밋은 commit()으로만 (닫을 때 커밋 데이터 없이 커밋되지 않도록)
+    IndexWriterConfig config = new IndexWriterConfig(analyzer)
+      .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND)
+      .setCommitOnClose(false);
+    this.writer = new IndexWriter(directory, config);
+    this.searcherManager = new SearcherManager(writer, null);
+  }
+
+  /**
+   * 마지막 커밋에 함께 저장한 값을 반환합니다. 커밋된 적이 없으면 빈 Map입니다.
+   */
+  synchronized Map<String, String> committedData() {
+    return committedData;
+  }
+
+  /**
+   * 숙소를 색인합니다. 이미 색인된 숙소는 새 내용으로 바꿉니다.
+   * 검색 결과에는 다음 refresh() 이후에 반영됩니다.
+   */
+  void upsert(UUID roomId, String title, String description, long generation) {
+    Document document = new Document();
+    document.add(new StringField(ID, roomId.toString(), Field.Store.YES));
+    document.add(new TextField(TITLE, title, Field.Store.NO));
+    if (description != null) {
+      document.add(new TextField(DESCRIPTION, description, Field.Store.NO));
+    }
+    document.add(new LongPoint(GENERATION, generation));
+    try {
+      writer.updateDocument(new Term(ID, roomId.toString()), document);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  void delete(UUID roomId) {
+    try {
+      writer.deleteDocuments(new Term(ID, roomId.toString()));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * generation보다 이전 세대에 색인된 숙소를 모두 지웁니다.
+   */
+  void deleteOlderThan(long generation) {
+    try {
+      writer.deleteDocuments(LongPoint.newRangeQuery(GENERATION, Long.MIN_VALUE, generation - 1));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  void deleteAll() {
+    try {
+      writer.deleteAll();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * 마지막 refresh 이후의 변경을 검색 결과에 반영합니다. (NRT reopen, 디스크 커밋 아님)
+   *
+   * @param blocking true면 다른 스레드가 reopen 중일 때 기다림
+   */
+  void refresh(boolean blocking) {
+    try {
+      if (blocking) {
+        searcherManager.maybeRefreshBlocking();
+      } else {
+        searcherManager.maybeRefresh();
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * 변경 사항을 userData와 함께 디스크에 커밋합니다. 변경도 없고 userData도 같으면 아무것도 하지 않습니다.
+   */
+  synchronized void commit(Map<String, String> userData) {
+    if (!writer.hasUncommittedChanges() && userData.equals(committedData)) {
+      return;
+    }
+    Map<String, String> data = Map.copyOf(userData);
+    writer.setLiveCommitData(data.entrySet());
+    try {
+      writer.commit();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    committedData = data;
+  }
+
+  /**
+   * 검색어와 일치하는 숙소를 점수가 높은 순서로 offset번째부터 최대 limit개 반환합니다.
+   */
+  List<RoomTextHit> search(String text, int offset, int limit) {
+    Query query = new RoomQueryParser(analyzer).parse(text);
+    try {
+      IndexSearcher searcher = searcherManager.acquire();
+      try {
+        TopDocs topDocs = searcher.search(query, offset + limit);
+        ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+        if (scoreDocs.length <= offset) {
+          return List.of();
+        }
+
+        StoredFields storedFields = searcher.storedFields();
+        List<RoomTextHit> hits = new ArrayList<>(scoreDocs.length - offset);
+        for (int i = offset; i < scoreDocs.length; i++) {
+          String roomId = storedFields.document(scoreDocs[i].doc, ID_ONLY).get(ID);
+          hits.add(new RoomTextHit(UUID.fromString(roomId), scoreDocs[i].score));
+        }
+        return hits;
+      } finally {
+        searcherManager.release(searcher);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * 현재 검색 결과에 보이는 숙소 수를 반환합니다.
+   */
+  int size() {
+    try {
+      IndexSearcher searcher = searcherManager.acquire();
+      try {
+        return searcher.getIndexReader().numDocs();
+      } finally {
+        searcherManager.release(searcher);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      searcherManager.close();
+    } finally {
+      writer.close();
+    }
+  }
+
+  /**
+   * 제목/설명 두 필드를 함께 찾는 검색어 파서입니다.
+   * - 검색어마다 두 필드 중 하나에만 있어도 일치하고, 검색어끼리는 AND로 묶습니다.
+   */
+  private static final class RoomQueryParser extends SimpleQueryParser {
+
+    RoomQueryParser(Analyzer analyzer) {
+      super(analyzer, FIELD_WEIGHTS, QUERY_OPERATORS);
+      setDefaultOperator(BooleanClause.Occur.MUST);
+    }
+
+    @Override
+    protected Query newPrefixQuery(String text) {
+      if (text.codePointCount(0, text.length()) < MIN_PREFIX_LENGTH) {
+        return newDefaultQuery(text);
+      }
+      return super.newPrefixQuery(text);
+    }
+  }
+}
@@ -0,0 +1,10 @@
+package com.growth.room.usecase;
+
+import com.growth.room.dto.response.NearbyRoomDto;
+import java.util.List;
+
+public interface FindNearbyRoomsUseCase {
+  List<NearbyRoomDto> findNearby(double latitude, double longitude, double radiusKm, int size);
+
+  List<NearbyRoomDto> findInBox(double south, double west, double north, double east, int size);
+}
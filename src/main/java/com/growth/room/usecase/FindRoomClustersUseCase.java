@@ -0,0 +1,8 @@
+package com.growth.room.usecase;
+
+import com.growth.room.dto.response.RoomClusterDto;
+import java.util.List;
+
+public interface FindRoomClustersUseCase {
+  List<RoomClusterDto> findClusters(int zoom, double south, double west, double north, double east);
+}
@@ -0,0 +1,8 @@
+package com.growth.room.usecase;
+
+import com.growth.room.dto.request.RoomFacetCondition;
+import com.growth.room.dto.response.RoomFacetsDto;
+
+public interface FindRoomFacetsUseCase {
+  RoomFacetsDto findFacets(RoomFacetCondition condition);
+}
@@ -0,0 +1,11 @@
+package com.growth.room.usecase;
+
+import com.growth.global.common.importer.ImportFormat;
+import com.growth.global.common.importer.ImportResult;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.UUID;
+
+public interface ImportRoomsUseCase {
+  ImportResult importRooms(InputStream in, ImportFormat format, UUID hostId) throws IOException;
+}
@@ -0,0 +1,8 @@
+package com.growth.room.usecase;
+
+import com.growth.global.common.response.CursorPage;
+import com.growth.room.dto.response.TextSearchRoomDto;
+
+public interface SearchRoomsByTextUseCase {
+  CursorPage<TextSearchRoomDto> searchByText(String query, String cursor, int size);
+}
@@ -0,0 +1,10 @@
+package com.growth.room.usecase;
+
+import com.growth.global.common.response.CursorPage;
+import com.growth.room.dto.request.RoomSearchCondition;
+import com.growth.room.dto.response.RoomSummaryDto;
+import org.springframework.data.domain.Sort;
+
+public interface SearchRoomsUseCase {
+  CursorPage<RoomSummaryDto> searchRooms(RoomSearchCondition condition, Sort sort, String cursor, int size);
+}
@@ -0,0 +1,80 @@
+package com.growth.auth.controller;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.growth.auth.jwt.domain.EncodedToken;
+import com.growth.auth.jwt.domain.TokenType;
+import com.growth.auth.jwt.domain.UserIdentity;
+import com.growth.auth.jwt.service.JwtService;
+import com.growth.support.IntegrationTestBase;
+import jakarta.servlet.http.Cookie;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+@DisplayName("AuthController 통합 테스트")
+class AuthControllerTest extends IntegrationTestBase {
+
+  @Autowired
+  private WebApplicationContext webApplicationContext;
+
+  @Autowired
+  private JwtService jwtService;
+
+  private MockMvc mockMvc;
+
+  @BeforeEach
+  void setUp() {
+    // MockMvc 설정 (Spring Security 필터 적용)
+    this.mockMvc = MockMvcBuilders
+      .webAppContextSetup(webApplicationContext)
+      .apply(springSecurity())
+      .build();
+  }
+
+  @Test
+  @DisplayName("Authorization 헤더로 보낸 Access Token은 로그아웃 시 폐기된다")
+  void logout_BearerHeader_RevokesHeaderToken() throws Exception {
+    // given
+    String accessToken = accessToken();
+
+    // when
+    mockMvc.perform(post("/api/auth/logout")
+        .header("Authorization", "Bearer " + accessToken))
+      .andExpect(status().isOk());
+
+    // then
+    assertThat(jwtService.isRevoked(jwtService.getVerifiedToken(EncodedToken.from(accessToken)))).isTrue();
+  }
+
+  @Test
+  @DisplayName("헤더와 쿠키에 모두 Access Token이 있으면 인증 필터와 같이 헤더의 토큰을 폐기한다")
+  void logout_HeaderAndCookie_RevokesHeaderToken() throws Exception {
+    // given
+    String headerToken = accessToken();
+    String cookieToken = accessToken();
+
+    // when
+    mockMvc.perform(post("/api/auth/logout")
+        .header("Authorization", "Bearer " + headerToken)
+        .cookie(new Cookie("accessToken", cookieToken)))
+      .andExpect(status().isOk());
+
+    // then
+    assertThat(jwtService.isRevoked(jwtService.getVerifiedToken(EncodedToken.from(headerToken)))).isTrue();
+    assertThat(jwtService.isRevoked(jwtService.getVerifiedToken(EncodedToken.from(cookieToken)))).isFalse();
+  }
+
+  private String accessToken() {
+    UUID memberId = UUID.randomUUID();
+    return jwtService.generateToken(UserIdentity.of(memberId, memberId + "@example.com"), TokenType.ACCESS).getValue();
+  }
+}
@@ -0,0 +1,93 @@
+package com.growth.auth.jwt.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.growth.auth.jwt.domain.EncodedToken;
+import com.growth.auth.jwt.domain.TokenType;
+import com.growth.auth.jwt.domain.VerifiedToken;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("VerifiedTokenCache 단위 테스트")
+class VerifiedTokenCacheTest {
+
+  private VerifiedTokenCache verifiedTokenCache;
+  private AtomicInteger verifyCount;
+
+  @BeforeEach
+  void setUp() {
+    verifiedTokenCache = new VerifiedTokenCache(100, 300_000, new SimpleMeterRegistry());
+    verifyCount = new AtomicInteger();
+  }
+
+  @Test
+  @DisplayName("같은 토큰을 반복 조회하면 검증은 한 번만 수행된다")
+  void get_SameToken_VerifiesOnce() {
+    // given
+    EncodedToken token = EncodedToken.from("header.payload.signature");
+    Function<EncodedToken, VerifiedToken> verifier = countingVerifier(Instant.now().plus(1, ChronoUnit.HOURS));
+
+    // when
+    VerifiedToken first = verifiedTokenCache.get(token, verifier);
+    VerifiedToken second = verifiedTokenCache.get(EncodedToken.from("header.payload.signature"), verifier);
+
+    // then
+    assertThat(second).isSameAs(first);
+    assertThat(verifyCount.get()).isEqualTo(1);
+    assertThat(verifiedTokenCache.stats().hitCount()).isEqualTo(1);
+    assertThat(verifiedTokenCache.stats().missCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("이미 만료된 토큰은 캐시에 남지 않는다")
+  void get_ExpiredToken_IsNotRetained() {
+    // given
+    EncodedToken token = EncodedToken.from("expired.payload.signature");
+    Function<EncodedToken, VerifiedToken> verifier = countingVerifier(Instant.now().minusSeconds(1));
+
+    // when
+    verifiedTokenCache.get(token, verifier);
+    verifiedTokenCache.get(token, verifier);
+
+    // then
+    assertThat(verifyCount.get()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("검증에 실패한 토큰은 캐시되지 않는다")
+  void get_InvalidToken_IsNotCached() {
+    // given
+    EncodedToken token = EncodedToken.from("invalid.payload.signature");
+    Function<EncodedToken, VerifiedToken> verifier = t -> {
+      verifyCount.incrementAndGet();
+      throw new IllegalArgumentException("유효하지 않은 JWT 토큰입니다.");
+    };
+
+    // when & then
+    assertThatThrownBy(() -> verifiedTokenCache.get(token, verifier))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> verifiedTokenCache.get(token, verifier))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertThat(verifyCount.get()).isEqualTo(2);
+  }
+
+  private Function<EncodedToken, VerifiedToken> countingVerifier(Instant expiresAt) {
+    return token -> {
+      verifyCount.incrementAndGet();
+      return VerifiedToken.builder()
+        .memberId(UUID.randomUUID())
+        .email("test@example.com")
+        .tokenType(TokenType.ACCESS)
+        .issuedAt(expiresAt.minus(1, ChronoUnit.HOURS))
+        .expiresAt(expiresAt)
+        .build();
+    };
+  }
+}
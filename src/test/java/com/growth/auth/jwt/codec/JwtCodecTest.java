@@ -0,0 +1,135 @@
+package com.growth.auth.jwt.codec;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.growth.auth.jwt.domain.EncodedToken;
+import com.growth.auth.jwt.domain.TokenType;
+import com.growth.auth.jwt.domain.UserIdentity;
+import com.growth.auth.jwt.domain.VerifiedToken;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.UUID;
+import javax.crypto.SecretKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("JwtCodec 단위 테스트")
+class JwtCodecTest {
+
+  private static final String SECRET = "PHNHLG1nm+wTX2Ktwi/0OsFwiBKS6vIek+uOtnAe1/k=";
+
+  private final SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+  private final JwtCodec jwtCodec = new JwtCodec(SECRET);
+
+  private final UUID memberId = UUID.randomUUID();
+  private final Instant issuedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+  private final Instant expiresAt = issuedAt.plus(1, ChronoUnit.HOURS);
+
+  @Test
+  @DisplayName("jjwt가 발급한 토큰을 코덱으로 검증할 수 있다")
+  void decode_JjwtToken_Success() {
+    // given
+    String token = Jwts.builder()
+      .subject(memberId.toString())
+      .claim("email", "test@example.com")
+      .claim("type", TokenType.ACCESS.name())
+      .issuedAt(Date.from(issuedAt))
+      .expiration(Date.from(expiresAt))
+      .signWith(key)
+      .compact();
+
+    // when
+    VerifiedToken verifiedToken = jwtCodec.decode(EncodedToken.from(token));
+
+    // then
+    assertThat(verifiedToken.getMemberId()).isEqualTo(memberId);
+    assertThat(verifiedToken.getEmail()).isEqualTo("test@example.com");
+    assertThat(verifiedToken.getTokenType()).isEqualTo(TokenType.ACCESS);
+    assertThat(verifiedToken.getIssuedAt()).isEqualTo(issuedAt);
+    assertThat(verifiedToken.getExpiresAt()).isEqualTo(expiresAt);
+  }
+
+  @Test
+  @DisplayName("코덱이 발급한 토큰을 jjwt로 검증할 수 있다")
+  void encode_ParsedByJjwt_Success() {
+    // given
+    UserIdentity userIdentity = UserIdentity.of(memberId, "quote\"and\\slash@example.com");
+
+    // when
+    EncodedToken token = jwtCodec.encode(userIdentity, TokenType.REFRESH, issuedAt, expiresAt);
+    Claims claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token.getValue()).getPayload();
+
+    // then
+    assertThat(claims.getSubject()).isEqualTo(memberId.toString());
+    assertThat(claims.get("email", String.class)).isEqualTo("quote\"and\\slash@example.com");
+    assertThat(claims.get("type", String.class)).isEqualTo("REFRESH");
+    assertThat(claims.getIssuedAt().toInstant()).isEqualTo(issuedAt);
+    assertThat(claims.getExpiration().toInstant()).isEqualTo(expiresAt);
+    assertThat(jwtCodec.decode(token).getEmail()).isEqualTo("quote\"and\\slash@example.com");
+  }
+
+  @Test
+  @DisplayName("jti, fam 클레임을 담아 발급하고 다시 읽을 수 있다")
+  void encode_TokenIdAndFamily_RoundTrip() {
+    // given
+    UserIdentity userIdentity = UserIdentity.of(memberId, "test@example.com");
+
+    // when
+    EncodedToken token = jwtCodec.encode(userIdentity, TokenType.REFRESH, "token-id", "family-id", issuedAt, expiresAt);
+    VerifiedToken verifiedToken = jwtCodec.decode(token);
+    Claims claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token.getValue()).getPayload();
+
+    // then
+    assertThat(verifiedToken.getTokenId()).isEqualTo("token-id");
+    assertThat(verifiedToken.getFamilyId()).isEqualTo("family-id");
+    assertThat(claims.getId()).isEqualTo("token-id");
+    assertThat(claims.get("fam", String.class)).isEqualTo("family-id");
+  }
+
+  @Test
+  @DisplayName("서명이 변조된 토큰은 검증에 실패한다")
+  void decode_TamperedSignature_ThrowsException() {
+    // given
+    String token = jwtCodec.encode(UserIdentity.of(memberId, "test@example.com"), TokenType.ACCESS, issuedAt, expiresAt).getValue();
+    // NOTE: 마지막 문자는 패딩 비트를 포함하므로 서명 중간 문자를 변조
+    int index = token.length() - 5;
+    char original = token.charAt(index);
+    String tampered = token.substring(0, index) + (original == 'A' ? 'B' : 'A') + token.substring(index + 1);
+
+    // when & then
+    assertThatThrownBy(() -> jwtCodec.decode(EncodedToken.from(tampered)))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("alg가 none인 토큰은 검증에 실패한다")
+  void decode_AlgNone_ThrowsException() {
+    // given
+    String token = jwtCodec.encode(UserIdentity.of(memberId, "test@example.com"), TokenType.ACCESS, issuedAt, expiresAt).getValue();
+    String noneHeader = java.util.Base64.getUrlEncoder().withoutPadding()
+      .encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.US_ASCII));
+    String forged = noneHeader + token.substring(token.indexOf('.'));
+
+    // when & then
+    assertThatThrownBy(() -> jwtCodec.decode(EncodedToken.from(forged)))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("지원하지 않는 JWT 알고리즘입니다.");
+  }
+
+  @Test
+  @DisplayName("만료된 토큰은 검증에 실패한다")
+  void decode_ExpiredToken_ThrowsException() {
+    // given
+    EncodedToken token = jwtCodec.encode(UserIdentity.of(memberId, "test@example.com"), TokenType.ACCESS, issuedAt, expiresAt);
+
+    // when & then
+    assertThatThrownBy(() -> jwtCodec.decode(token, expiresAt.plusSeconds(1)))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("만료된 JWT 토큰입니다.");
+  }
+}
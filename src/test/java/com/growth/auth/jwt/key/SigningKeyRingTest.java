@@ -0,0 +1,148 @@
+package com.growth.auth.jwt.key;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.growth.auth.jwt.codec.JwtCodec;
+import com.growth.auth.jwt.domain.EncodedToken;
+import com.growth.auth.jwt.domain.TokenType;
+import com.growth.auth.jwt.domain.UserIdentity;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("SigningKeyRing 단위 테스트")
+class SigningKeyRingTest {
+
+  private static final String DEFAULT_SECRET = "PHNHLG1nm+wTX2Ktwi/0OsFwiBKS6vIek+uOtnAe1/k=";
+  private static final String SECRET_2025_11 = "2025-11-secret-2025-11-secret-2025-11-secret";
+  private static final String SECRET_2025_12 = "2025-12-secret-2025-12-secret-2025-12-secret";
+
+  @TempDir
+  Path tempDir;
+
+  private Path keyRingFile;
+  private final List<SigningKeyRingChangedEvent> events = new ArrayList<>();
+
+  private final UserIdentity userIdentity = UserIdentity.of(UUID.randomUUID(), "test@example.com");
+  private final Instant issuedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+  private final Instant expiresAt = issuedAt.plus(1, ChronoUnit.HOURS);
+
+  @BeforeEach
+  void setUp() {
+    keyRingFile = tempDir.resolve("jwt-key-ring.json");
+  }
+
+  @Test
+  @DisplayName("새 키로 교체한 뒤에도 이전 키(VERIFY_ONLY)로 발급된 토큰은 검증된다")
+  void reload_NewActiveKey_OldTokensStillValid() throws IOException {
+    // given
+    writeKeyRing("""
+      { "keys": [ { "kid": "2025-11", "secret": "%s", "status": "ACTIVE" } ] }
+      """.formatted(SECRET_2025_11), 1);
+    SigningKeyRing signingKeyRing = createKeyRing();
+    JwtCodec jwtCodec = new JwtCodec(signingKeyRing);
+    EncodedToken oldToken = jwtCodec.encode(userIdentity, TokenType.ACCESS, issuedAt, expiresAt);
+
+    // when
+    writeKeyRing("""
+      { "keys": [
+        { "kid": "2025-12", "secret": "%s", "status": "ACTIVE" },
+        { "kid": "2025-11", "secret": "%s", "status": "VERIFY_ONLY" }
+      ] }
+      """.formatted(SECRET_2025_12, SECRET_2025_11), 2);
+    signingKeyRing.reload();
+    EncodedToken newToken = jwtCodec.encode(userIdentity, TokenType.ACCESS, issuedAt, expiresAt);
+
+    // then
+    assertThat(signingKeyRing.activeKey().getKid()).isEqualTo("2025-12");
+    assertThat(jwtCodec.decode(oldToken).getMemberId()).isEqualTo(userIdentity.getMemberId());
+    assertThat(jwtCodec.decode(newToken).getMemberId()).isEqualTo(userIdentity.getMemberId());
+    assertThat(events).extracting(SigningKeyRingChangedEvent::activeKid).containsExactly("2025-12");
+  }
+
+  @Test
+  @DisplayName("RETIRED 키로 발급된 토큰은 검증에 실패한다")
+  void reload_RetiredKey_TokensRejected() throws IOException {
+    // given
+    writeKeyRing("""
+      { "keys": [ { "kid": "2025-11", "secret": "%s", "status": "ACTIVE" } ] }
+      """.formatted(SECRET_2025_11), 1);
+    SigningKeyRing signingKeyRing = createKeyRing();
+    JwtCodec jwtCodec = new JwtCodec(signingKeyRing);
+    EncodedToken oldToken = jwtCodec.encode(userIdentity, TokenType.ACCESS, issuedAt, expiresAt);
+
+    // when
+    writeKeyRing("""
+      { "keys": [
+        { "kid": "2025-12", "secret": "%s", "status": "ACTIVE" },
+        { "kid": "2025-11", "secret": "%s", "status": "RETIRED" }
+      ] }
+      """.formatted(SECRET_2025_12, SECRET_2025_11), 2);
+    signingKeyRing.reload();
+
+    // then
+    assertThatThrownBy(() -> jwtCodec.decode(oldToken))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("폐기된 JWT 서명 키입니다.");
+  }
+
+  @Test
+  @DisplayName("kid가 없는 기존 토큰은 jwt.secret 기본 키로 검증된다")
+  void verificationKey_LegacyToken_UsesDefaultSecret() throws IOException {
+    // given
+    EncodedToken legacyToken = new JwtCodec(DEFAULT_SECRET).encode(userIdentity, TokenType.ACCESS, issuedAt, expiresAt);
+    writeKeyRing("""
+      { "keys": [ { "kid": "2025-11", "secret": "%s", "status": "ACTIVE" } ] }
+      """.formatted(SECRET_2025_11), 1);
+
+    // when
+    JwtCodec jwtCodec = new JwtCodec(createKeyRing());
+
+    // then
+    assertThat(jwtCodec.decode(legacyToken).getMemberId()).isEqualTo(userIdentity.getMemberId());
+  }
+
+  @Test
+  @DisplayName("잘못된 키 링 파일로 재로드하면 기존 키 링을 유지한다")
+  void reload_InvalidFile_KeepsPreviousRing() throws IOException {
+    // given
+    writeKeyRing("""
+      { "keys": [ { "kid": "2025-11", "secret": "%s", "status": "ACTIVE" } ] }
+      """.formatted(SECRET_2025_11), 1);
+    SigningKeyRing signingKeyRing = createKeyRing();
+
+    // when - ACTIVE 키가 두 개
+    writeKeyRing("""
+      { "keys": [
+        { "kid": "2025-12", "secret": "%s", "status": "ACTIVE" },
+        { "kid": "2025-11", "secret": "%s", "status": "ACTIVE" }
+      ] }
+      """.formatted(SECRET_2025_12, SECRET_2025_11), 2);
+    signingKeyRing.reload();
+
+    // then
+    assertThat(signingKeyRing.activeKey().getKid()).isEqualTo("2025-11");
+    assertThat(events).isEmpty();
+  }
+
+  private SigningKeyRing createKeyRing() {
+    return new SigningKeyRing(DEFAULT_SECRET, keyRingFile.toString(), new ObjectMapper(), event -> events.add((SigningKeyRingChangedEvent) event));
+  }
+
+  // NOTE: 파일 수정 시간으로 변경을 감지하므로 버전마다 수정 시간을 명시적으로 바꿈
+  private void writeKeyRing(String json, int version) throws IOException {
+    Files.writeString(keyRingFile, json);
+    Files.setLastModifiedTime(keyRingFile, FileTime.fromMillis(version * 1_000L));
+  }
+}
@@ -0,0 +1,81 @@
+package com.growth.auth.jwt.refresh;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.growth.auth.jwt.refresh.RefreshTokenStore.RotationResult;
+import com.github.benmanes.caffeine.cache.Ticker;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("InMemoryRefreshTokenStore 단위 테스트")
+class InMemoryRefreshTokenStoreTest {
+
+  private static final Duration TTL = Duration.ofDays(7);
+
+  // NOTE: 만료 시간을 검증하기 위해 Caffeine 시계를 직접 움직임
+  private final AtomicLong nanos = new AtomicLong();
+  private final Ticker ticker = nanos::get;
+
+  private final InMemoryRefreshTokenStore refreshTokenStore = new InMemoryRefreshTokenStore(1_000, ticker);
+
+  @Test
+  @DisplayName("패밀리의 현재 토큰으로 요청하면 다음 토큰으로 교체된다")
+  void rotate_CurrentToken_Rotated() {
+    // given
+    refreshTokenStore.register("family", "token-1", TTL);
+
+    // when
+    RotationResult first = refreshTokenStore.rotate("family", "token-1", "token-2");
+    RotationResult second = refreshTokenStore.rotate("family", "token-2", "token-3");
+
+    // then
+    assertThat(first).isEqualTo(RotationResult.ROTATED);
+    assertThat(second).isEqualTo(RotationResult.ROTATED);
+  }
+
+  @Test
+  @DisplayName("이미 교체된 토큰을 다시 사용하면 패밀리 전체가 폐기된다")
+  void rotate_ReusedToken_RevokesFamily() {
+    // given
+    refreshTokenStore.register("family", "token-1", TTL);
+    refreshTokenStore.rotate("family", "token-1", "token-2");
+
+    // when
+    RotationResult reused = refreshTokenStore.rotate("family", "token-1", "token-3");
+
+    // then - 정상 사용자의 최신 토큰도 더 이상 사용할 수 없음
+    assertThat(reused).isEqualTo(RotationResult.REUSED);
+    assertThat(refreshTokenStore.rotate("family", "token-2", "token-4")).isEqualTo(RotationResult.UNKNOWN);
+  }
+
+  @Test
+  @DisplayName("폐기된 패밀리의 토큰은 교체할 수 없다")
+  void rotate_RevokedFamily_Unknown() {
+    // given
+    refreshTokenStore.register("family", "token-1", TTL);
+    refreshTokenStore.revokeFamily("family");
+
+    // when
+    RotationResult result = refreshTokenStore.rotate("family", "token-1", "token-2");
+
+    // then
+    assertThat(result).isEqualTo(RotationResult.UNKNOWN);
+  }
+
+  @Test
+  @DisplayName("교체해도 패밀리 만료 시각은 등록 시점 기준으로 유지된다")
+  void rotate_KeepsFamilyDeadline() {
+    // given - 7일 중 6일이 지난 뒤 교체
+    refreshTokenStore.register("family", "token-1", TTL);
+    nanos.addAndGet(Duration.ofDays(6).toNanos());
+    assertThat(refreshTokenStore.rotate("family", "token-1", "token-2")).isEqualTo(RotationResult.ROTATED);
+
+    // when - 등록 후 7일이 지남 (교체 시점 기준으로는 1일)
+    nanos.addAndGet(Duration.ofDays(1).toNanos());
+
+    // then
+    assertThat(refreshTokenStore.rotate("family", "token-2", "token-3")).isEqualTo(RotationResult.UNKNOWN);
+  }
+}
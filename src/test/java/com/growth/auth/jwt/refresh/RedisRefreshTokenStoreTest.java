@@ -0,0 +1,102 @@
+package com.growth.auth.jwt.refresh;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import com.growth.auth.jwt.refresh.RefreshTokenStore.RotationResult;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+// NOTE: Redis 없이 실행하는 계약 테스트 - Lua 스크립트에 넘기는 KEYS/ARGV 순서와 반환 코드 해석을 고정
+// - 스크립트 자체의 동작(compare-and-set, 재사용 시 삭제)은 InMemoryRefreshTokenStoreTest와 같은 시나리오
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisRefreshTokenStore 단위 테스트")
+class RedisRefreshTokenStoreTest {
+
+  private static final Duration TTL = Duration.ofDays(7);
+  private static final List<String> FAMILY_KEY = List.of("auth:refresh-family:family");
+
+  @Mock
+  private StringRedisTemplate redisTemplate;
+
+  @Mock
+  private ValueOperations<String, String> valueOperations;
+
+  @InjectMocks
+  private RedisRefreshTokenStore refreshTokenStore;
+
+  @Test
+  @DisplayName("패밀리 등록은 현재 토큰 ID를 TTL과 함께 저장한다")
+  void register_SetsCurrentTokenWithTtl() {
+    // given
+    given(redisTemplate.opsForValue()).willReturn(valueOperations);
+
+    // when
+    refreshTokenStore.register("family", "token-1", TTL);
+
+    // then
+    then(valueOperations).should().set("auth:refresh-family:family", "token-1", TTL);
+  }
+
+  @Test
+  @DisplayName("교체 스크립트에는 제시한 토큰, 다음 토큰 순서로 전달하고, 스크립트는 남은 TTL을 유지한다")
+  @SuppressWarnings("unchecked")
+  void rotate_PassesArgumentsInScriptOrder() {
+    // given
+    ArgumentCaptor<RedisScript<Long>> script = ArgumentCaptor.forClass(RedisScript.class);
+    given(redisTemplate.execute(script.capture(), eq(FAMILY_KEY), eq("token-1"), eq("token-2")))
+      .willReturn(1L);
+
+    // when
+    RotationResult result = refreshTokenStore.rotate("family", "token-1", "token-2");
+
+    // then
+    assertThat(result).isEqualTo(RotationResult.ROTATED);
+    assertThat(script.getValue().getResultType()).isEqualTo(Long.class);
+    assertThat(script.getValue().getScriptAsString())
+      .contains("redis.call('GET', KEYS[1])")
+      .contains("current == ARGV[1]")
+      .contains("redis.call('PTTL', KEYS[1])")
+      .contains("redis.call('SET', KEYS[1], ARGV[2], 'PX', remaining)")
+      .doesNotContain("ARGV[3]")
+      .contains("redis.call('DEL', KEYS[1])");
+  }
+
+  @Test
+  @DisplayName("스크립트 반환값 2는 재사용(패밀리 삭제), 0이나 응답 없음은 알 수 없는 패밀리로 해석한다")
+  @SuppressWarnings("unchecked")
+  void rotate_ScriptResult_MapsToRotationResult() {
+    // given
+    given(redisTemplate.execute(any(RedisScript.class), eq(FAMILY_KEY), anyString(), anyString()))
+      .willReturn(2L, 0L, null);
+
+    // when & then
+    assertThat(refreshTokenStore.rotate("family", "token-1", "token-3")).isEqualTo(RotationResult.REUSED);
+    assertThat(refreshTokenStore.rotate("family", "token-2", "token-4")).isEqualTo(RotationResult.UNKNOWN);
+    assertThat(refreshTokenStore.rotate("family", "token-2", "token-4")).isEqualTo(RotationResult.UNKNOWN);
+  }
+
+  @Test
+  @DisplayName("패밀리 폐기는 패밀리 키를 삭제한다")
+  void revokeFamily_DeletesKey() {
+    // when
+    refreshTokenStore.revokeFamily("family");
+
+    // then
+    then(redisTemplate).should().delete("auth:refresh-family:family");
+  }
+}
@@ -0,0 +1,53 @@
+package com.growth.auth.jwt.revocation;
+
+import static org.assertj.core.api.Assertions.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TokenRevocationRegistry 단위 테스트")
+class TokenRevocationRegistryTest {
+
+  // NOTE: 하나의 in-process broadcaster에 두 registry를 연결해서 두 개의 서버 인스턴스처럼 사용
+  private final InProcessRevocationBroadcaster broadcaster = new InProcessRevocationBroadcaster();
+  private final TokenRevocationRegistry nodeA = createRegistry();
+  private final TokenRevocationRegistry nodeB = createRegistry();
+
+  @Test
+  @DisplayName("폐기한 토큰은 다른 인스턴스에서도 폐기된 것으로 판단한다")
+  void revoke_PropagatesToOtherNodes() {
+    // given
+    Instant expiresAt = Instant.now().plus(1, ChronoUnit.HOURS);
+
+    // when
+    nodeA.revoke("revoked-jti", expiresAt);
+
+    // then
+    assertThat(nodeA.isRevoked("revoked-jti")).isTrue();
+    assertThat(nodeB.isRevoked("revoked-jti")).isTrue();
+    assertThat(nodeB.isRevoked("active-jti")).isFalse();
+  }
+
+  @Test
+  @DisplayName("만료 시간이 지난 폐기 토큰은 정리된다")
+  void prune_RemovesExpiredEntries() {
+    // given
+    Instant expiresAt = Instant.now().plus(1, ChronoUnit.HOURS);
+    nodeA.revoke("expiring-jti", expiresAt);
+    nodeA.revoke("long-lived-jti", expiresAt.plus(1, ChronoUnit.DAYS));
+
+    // when
+    nodeA.prune(expiresAt);
+
+    // then
+    assertThat(nodeA.isRevoked("expiring-jti")).isFalse();
+    assertThat(nodeA.isRevoked("long-lived-jti")).isTrue();
+  }
+
+  private TokenRevocationRegistry createRegistry() {
+    return new TokenRevocationRegistry(broadcaster, 1_000, 0.001, new SimpleMeterRegistry());
+  }
+}
@@ -5,7 +5,13 @@ import static org.assertj.core.api.Assertions.*;
 import com.growth.auth.dto.request.LoginRequestDto;
 import com.growth.auth.dto.response.LoginResponseDto;
 import com.growth.auth.dto.response.LoginResultDto;
+import com.growth.auth.dto.response.TokenResultDto;
+import com.growth.auth.jwt.domain.EncodedToken;
+import com.growth.auth.jwt.parser.JwtParser;
+import com.growth.global.common.id.UuidBytes;
+import com.growth.global.common.id.UuidV7Generator;
 import com.growth.global.exception.BadRequestException;
+import com.growth.member.cache.EmailExistenceFilter;
 import com.growth.member.domain.Member;
 import com.growth.member.repository.MemberRepository;
 import com.growth.support.IntegrationTestBase;
@@ -18,6 +24,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import java.time.Clock;
 
@@ -45,6 +52,16 @@ class AuthServiceIntegrationTest extends IntegrationTestBase {
   // NOTE: 테스트 시 고정 시각 사용
   private Clock clock;
 
+  @Autowired
+  // NOTE: 다른 인스턴스의 가입처럼 엔티티 리스너를 거치지 않고 회원을 저장할 때 사용
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private EmailExistenceFilter emailExistenceFilter;
+
+  @Autowired
+  private JwtParser jwtParser;
+
   /**
    * 테스트용 Clock 설정
    * - 테스트 시 고정 시각을 사용하여 시간 관련 테스트를 안정적으로 수행
@@ -317,4 +334,101 @@ class AuthServiceIntegrationTest extends IntegrationTestBase {
       .isInstanceOf(BadRequestException.class)
       .hasMessage("비밀번호가 일치하지 않습니다.");
   }
+
+  @Test
+  @DisplayName("다른 인스턴스에서 가입한 회원도 이메일 필터 갱신 후 로그인할 수 있다")
+  void login_MemberInsertedByAnotherInstance_SuccessAfterRefresh() {
+    // 1. JDBC로 회원 저장 (엔티티 리스너를 거치지 않으므로 이 인스턴스의 이메일 필터에는 추가되지 않음)
+    // 2. 이메일 필터 갱신 전에는 가입되지 않은 이메일로 거절되는지 확인
+    // 3. emailExistenceFilter.refresh() 호출 후 로그인 성공 확인
+
+    // given
+    String email = "other-instance@example.com";
+    String password = "password123";
+    LocalDateTime createdAt = LocalDateTime.now();
+    jdbcTemplate.update(
+      "INSERT INTO member (member_id, email, password, nickname, created_at, updated_at, is_deleted) "
+        + "VALUES (?, ?, ?, ?, ?, ?, false)",
+      UuidBytes.toBytes(UuidV7Generator.generate()),
+      email,
+      passwordEncoder.encode(password),
+      "other",
+      createdAt,
+      createdAt
+    );
+    LoginRequestDto requestDto = new LoginRequestDto(email, password);
+    assertThatThrownBy(() -> authService.login(requestDto))
+      .isInstanceOf(BadRequestException.class)
+      .hasMessage("회원 정보가 없습니다.");
+
+    // when - refresh-interval마다 실행되는 갱신
+    emailExistenceFilter.refresh();
+    LoginResultDto loginResult = authService.login(requestDto);
+
+    // then
+    assertThat(loginResult.loginResponseDto().email()).isEqualTo(email);
+  }
+
+  @Test
+  @DisplayName("Refresh Token으로 새 토큰 쌍을 발급받고, 새 Refresh Token으로 다시 교체할 수 있다")
+  void refresh_CurrentToken_RotatesTokens() {
+    // given
+    LoginResultDto loginResult = loginAsNewMember();
+
+    // when
+    TokenResultDto rotated = authService.refresh(loginResult.refreshToken());
+    TokenResultDto rotatedAgain = authService.refresh(rotated.refreshToken());
+
+    // then
+    assertThat(rotated.accessToken()).isNotBlank();
+    assertThat(rotated.refreshToken()).isNotEqualTo(loginResult.refreshToken());
+    assertThat(rotatedAgain.refreshToken()).isNotEqualTo(rotated.refreshToken());
+    // rotation으로 패밀리 만료 시각(로그인 시점 기준)이 늘어나지 않음
+    assertThat(expiresAt(rotatedAgain.refreshToken())).isEqualTo(expiresAt(loginResult.refreshToken()));
+  }
+
+  @Test
+  @DisplayName("이미 교체된 Refresh Token을 다시 사용하면 패밀리 전체가 폐기된다")
+  void refresh_ReusedToken_RevokesFamily() {
+    // given
+    LoginResultDto loginResult = loginAsNewMember();
+    TokenResultDto rotated = authService.refresh(loginResult.refreshToken());
+
+    // when & then - 탈취된 이전 토큰 재사용
+    assertThatThrownBy(() -> authService.refresh(loginResult.refreshToken()))
+      .isInstanceOf(BadRequestException.class)
+      .hasMessage("이미 사용된 Refresh Token입니다.");
+    // 정상 사용자가 가진 최신 토큰도 더 이상 사용할 수 없음
+    assertThatThrownBy(() -> authService.refresh(rotated.refreshToken()))
+      .isInstanceOf(BadRequestException.class)
+      .hasMessage("만료되었거나 폐기된 Refresh Token입니다.");
+  }
+
+  @Test
+  @DisplayName("Access Token으로는 토큰을 재발급받을 수 없다")
+  void refresh_AccessToken_ThrowsException() {
+    // given
+    LoginResultDto loginResult = loginAsNewMember();
+
+    // when & then
+    assertThatThrownBy(() -> authService.refresh(loginResult.accessToken()))
+      .isInstanceOf(BadRequestException.class)
+      .hasMessage("Refresh Token이 아닙니다.");
+  }
+
+  private Instant expiresAt(String token) {
+    return jwtParser.verify(EncodedToken.from(token)).getExpiresAt();
+  }
+
+  private LoginResultDto loginAsNewMember() {
+    String email = "refresh@example.com";
+    String password = "password123";
+    memberRepository.save(Member
+      .builder()
+      .email(email)
+      .password(passwordEncoder.encode(password))
+      .nickname("refresh")
+      .build());
+    return authService.login(new LoginRequestDto(email, password));
+  }
 }
@@ -14,7 +14,9 @@ import com.growth.auth.jwt.domain.TokenType;
 import com.growth.auth.jwt.domain.UserIdentity;
 import com.growth.auth.jwt.service.JwtService;
 import com.growth.global.exception.BadRequestException;
+import com.growth.member.cache.EmailExistenceFilter;
 import com.growth.member.domain.Member;
+import com.growth.member.repository.LastLoginWriteBuffer;
 import com.growth.member.repository.MemberRepository;
 import com.growth.support.UnitTestBase;
 import java.time.Clock;
@@ -27,6 +29,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 // 📌 Question: 회원가입 Service 단위 테스트는 추가적으로 작성할 필요가 없는건지??
@@ -51,6 +54,13 @@ class AuthServiceTest extends UnitTestBase {
   @Mock
   private JwtService jwtService;
 
+  @Mock
+  private LastLoginWriteBuffer lastLoginWriteBuffer;
+
+  // NOTE: 기본값(false)이면 "가입되었을 수도 있음"으로 처리되어 항상 DB 조회로 넘어감
+  @Mock
+  private EmailExistenceFilter emailExistenceFilter;
+
   @Mock
   private Clock clock;
 
@@ -122,6 +132,72 @@ class AuthServiceTest extends UnitTestBase {
     then(passwordEncoder).should().matches(password, encodedPassword);
     then(jwtService).should().generateToken(any(UserIdentity.class), eq(TokenType.ACCESS));
     then(jwtService).should().generateToken(any(UserIdentity.class), eq(TokenType.REFRESH));
+    // - 마지막 로그인 시간은 write-behind 버퍼에 기록
+    then(lastLoginWriteBuffer).should().record(member.getMemberId(), response.lastLoginAt());
+  }
+
+  @Test
+  @DisplayName("저장된 해시가 현재 설정보다 약하면 로그인 성공 시 재해싱한다")
+  void authenticate_WeakHash_Rehashes() {
+    // given
+    String email = "test@example.com";
+    String password = "password123";
+    String legacyPassword = "$2a$04$legacyHash";
+    String rehashedPassword = "{bcrypt}$2a$12$rehashed";
+
+    Member member = Member
+      .builder()
+      .email(email)
+      .password(legacyPassword)
+      .nickname("testuser")
+      .build();
+
+    given(memberRepository.findByEmail(email)).willReturn(Optional.of(member));
+    given(passwordEncoder.matches(password, legacyPassword)).willReturn(true);
+    given(passwordEncoder.upgradeEncoding(legacyPassword)).willReturn(true);
+    given(passwordEncoder.encode(password)).willReturn(rehashedPassword);
+    given(clock.instant()).willReturn(Instant.parse("2025-11-26T12:00:00Z"));
+    given(clock.getZone()).willReturn(ZoneId.of("UTC"));
+
+    // when
+    authService.authenticateAndUpdateLastLogin(new LoginRequestDto(email, password));
+
+    // then
+    // - 그 사이 비밀번호가 바뀌지 않았을 때만 교체되도록 기존 해시를 조건으로 전달
+    then(memberRepository).should().updatePassword(member.getMemberId(), legacyPassword, rehashedPassword);
+  }
+
+  @Test
+  @DisplayName("재해싱한 비밀번호를 저장하지 못해도 로그인은 성공한다")
+  void authenticate_RehashUpdateFails_StillAuthenticates() {
+    // given
+    String email = "test@example.com";
+    String password = "password123";
+    String legacyPassword = "$2a$04$legacyHash";
+    String rehashedPassword = "{bcrypt}$2a$12$rehashed";
+
+    Member member = Member
+      .builder()
+      .email(email)
+      .password(legacyPassword)
+      .nickname("testuser")
+      .build();
+
+    given(memberRepository.findByEmail(email)).willReturn(Optional.of(member));
+    given(passwordEncoder.matches(password, legacyPassword)).willReturn(true);
+    given(passwordEncoder.upgradeEncoding(legacyPassword)).willReturn(true);
+    given(passwordEncoder.encode(password)).willReturn(rehashedPassword);
+    given(memberRepository.updatePassword(member.getMemberId(), legacyPassword, rehashedPassword))
+      .willThrow(new CannotAcquireLockException("Lock wait timeout exceeded"));
+    given(clock.instant()).willReturn(Instant.parse("2025-11-26T12:00:00Z"));
+    given(clock.getZone()).willReturn(ZoneId.of("UTC"));
+
+    // when
+    Member authenticated = authService.authenticateAndUpdateLastLogin(new LoginRequestDto(email, password));
+
+    // then
+    assertThat(authenticated).isSameAs(member);
+    then(lastLoginWriteBuffer).should().record(member.getMemberId(), member.getLastLoginAt());
   }
 
   @Test
@@ -0,0 +1,79 @@
+package com.growth.global.common.id;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("UuidV7Generator 단위 테스트")
+class UuidV7GeneratorTest {
+
+    private static final long NOW = 1_764_158_400_000L; // 2025-11-26T12:00:00Z
+
+    private final AtomicLong clock = new AtomicLong(NOW);
+    private final UuidV7Generator generator = new UuidV7Generator(clock::get, new Random(42));
+
+    @Test
+    @DisplayName("버전 7, RFC 변형이며 앞 48bit에 밀리초 타임스탬프를 담는다")
+    void next_LayoutMatchesRfc() {
+        // when
+        UUID uuid = generator.next();
+
+        // then
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(uuid.getMostSignificantBits() >>> 16).isEqualTo(NOW);
+    }
+
+    @Test
+    @DisplayName("같은 밀리초 안에서도, 카운터가 넘쳐도 항상 증가한다")
+    void next_SameMillisecond_Increasing() {
+        // given
+        UUID previous = generator.next();
+
+        // when & then - 카운터(12bit) 범위를 넘길 만큼 발급
+        for (int i = 0; i < 10_000; i++) {
+            UUID current = generator.next();
+            assertThat(compareAsBinary(current, previous)).isPositive();
+            assertThat(current.version()).isEqualTo(7);
+            previous = current;
+        }
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 가도 이전 값보다 작은 값을 만들지 않는다")
+    void next_ClockMovesBackwards_StillIncreasing() {
+        // given
+        UUID before = generator.next();
+
+        // when
+        clock.set(NOW - 10_000);
+        UUID after = generator.next();
+
+        // then
+        assertThat(compareAsBinary(after, before)).isPositive();
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 새 타임스탬프로 발급한다")
+    void next_LaterMillisecond_UsesNewTimestamp() {
+        // given
+        generator.next();
+
+        // when
+        clock.set(NOW + 1_000);
+        UUID uuid = generator.next();
+
+        // then
+        assertThat(uuid.getMostSignificantBits() >>> 16).isEqualTo(NOW + 1_000);
+    }
+
+    // NOTE: BINARY(16) 컬럼은 부호 없는 바이트 순서로 정렬되므로 같은 기준으로 비교
+    private static int compareAsBinary(UUID left, UUID right) {
+        int result = Long.compareUnsigned(left.getMostSignificantBits(), right.getMostSignificantBits());
+        return result != 0 ? result : Long.compareUnsigned(left.getLeastSignificantBits(), right.getLeastSignificantBits());
+    }
+}
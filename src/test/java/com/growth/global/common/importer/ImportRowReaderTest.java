@@ -0,0 +1,96 @@
+package com.growth.global.common.importer;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ImportRowReader 단위 테스트")
+class ImportRowReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("NDJSON은 한 줄씩 읽고, 빈 줄은 건너뛰며, 깨진 줄은 실패 행으로 반환한다")
+    void next_Ndjson() throws IOException {
+        // given
+        String body = """
+                {"name":"a","count":1}
+
+                {"name":"b",
+                {"name":"c","count":3}
+                """;
+
+        // when
+        List<ImportRow<Sample>> rows = readAll(body, ImportFormat.NDJSON);
+
+        // then
+        assertThat(rows).hasSize(3);
+        assertThat(rows.get(0).line()).isEqualTo(1);
+        assertThat(rows.get(0).value()).isEqualTo(new Sample("a", 1));
+        assertThat(rows.get(1).line()).isEqualTo(3);
+        assertThat(rows.get(1).error()).startsWith("JSON 형식이 올바르지 않습니다");
+        assertThat(rows.get(2).line()).isEqualTo(4);
+        assertThat(rows.get(2).value()).isEqualTo(new Sample("c", 3));
+    }
+
+    @Test
+    @DisplayName("CSV는 헤더로 필드를 매핑하고, 따옴표 안의 쉼표/줄바꿈/따옴표를 값으로 읽는다")
+    void next_CsvQuoted() throws IOException {
+        // given
+        String body = "name,count\r\n"
+                + "\"x, \"\"quoted\"\"\",1\r\n"
+                + "\"multi\nline\",2\n";
+
+        // when
+        List<ImportRow<Sample>> rows = readAll(body, ImportFormat.CSV);
+
+        // then
+        assertThat(rows).extracting(ImportRow::value).containsExactly(
+                new Sample("x, \"quoted\"", 1),
+                new Sample("multi\nline", 2)
+        );
+    }
+
+    @Test
+    @DisplayName("CSV의 빈 필드는 null이 되고, 필드 수가 헤더와 다르면 실패 행으로 반환한다")
+    void next_CsvEmptyAndMismatch() throws IOException {
+        // given
+        String body = """
+                name,count
+                ,5
+                a,1,extra
+                b,2
+                """;
+
+        // when
+        List<ImportRow<Sample>> rows = readAll(body, ImportFormat.CSV);
+
+        // then
+        assertThat(rows).hasSize(3);
+        assertThat(rows.get(0).value()).isEqualTo(new Sample(null, 5));
+        assertThat(rows.get(1).error()).startsWith("CSV 필드 수가 헤더와 다릅니다");
+        assertThat(rows.get(2).value()).isEqualTo(new Sample("b", 2));
+    }
+
+    private List<ImportRow<Sample>> readAll(String body, ImportFormat format) throws IOException {
+        List<ImportRow<Sample>> rows = new ArrayList<>();
+        try (ImportRowReader<Sample> reader = new ImportRowReader<>(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), format, Sample.class, objectMapper)) {
+            ImportRow<Sample> row;
+            while ((row = reader.next()) != null) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    record Sample(String name, Integer count) {
+    }
+}
@@ -0,0 +1,64 @@
+package com.growth.global.common.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("BloomFilter 단위 테스트")
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("넣은 키는 항상 있다고 판단한다 (false negative 없음)")
+    void mightContain_InsertedKeys_AlwaysTrue() {
+        // given
+        BloomFilter bloomFilter = BloomFilter.create(10_000, 0.01);
+        String[] keys = new String[10_000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = UUID.randomUUID().toString();
+            bloomFilter.put(keys[i]);
+        }
+
+        // when & then
+        for (String key : keys) {
+            assertThat(bloomFilter.mightContain(key)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("넣지 않은 키의 false positive 비율은 목표치 근처로 유지된다")
+    void mightContain_AbsentKeys_FalsePositiveRateBounded() {
+        // given
+        BloomFilter bloomFilter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            bloomFilter.put("revoked-" + i);
+        }
+
+        // when
+        int falsePositives = 0;
+        int trials = 100_000;
+        for (int i = 0; i < trials; i++) {
+            if (bloomFilter.mightContain("active-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // then - 목표 1%, 여유를 두고 3% 미만
+        assertThat((double) falsePositives / trials).isLessThan(0.03);
+    }
+
+    @Test
+    @DisplayName("켜진 비트 수로 넣은 원소 수를 추정한다")
+    void approximateElementCount_NearInsertedCount() {
+        // given
+        BloomFilter bloomFilter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 5_000; i++) {
+            bloomFilter.put("member-" + i);
+        }
+
+        // when & then
+        assertThat(BloomFilter.create(10_000, 0.01).approximateElementCount()).isZero();
+        assertThat(bloomFilter.approximateElementCount()).isBetween(4_750L, 5_250L);
+    }
+}
@@ -0,0 +1,72 @@
+package com.growth.global.common.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("StripedTokenBuckets 단위 테스트")
+class StripedTokenBucketsTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+
+    // NOTE: 5회 연속 허용, 60초 동안 다시 5개 충전 (12초에 1개)
+    private final StripedTokenBuckets buckets = new StripedTokenBuckets(1 << 16, 5, 60_000, now::get);
+
+    @Test
+    @DisplayName("capacity만큼 허용한 뒤 거절하고, 다음 토큰까지 남은 시간을 알려준다")
+    void tryAcquire_Exhausted_Rejects() {
+        // when & then
+        for (int expectedRemaining = 4; expectedRemaining >= 0; expectedRemaining--) {
+            assertThat(buckets.tryAcquire("test@example.com")).isEqualTo(expectedRemaining);
+        }
+        long rejected = buckets.tryAcquire("test@example.com");
+        assertThat(rejected).isNegative();
+        assertThat(-rejected).isEqualTo(12_000L);
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 토큰이 다시 충전된다")
+    void tryAcquire_AfterRefill_Allows() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            buckets.tryAcquire("test@example.com");
+        }
+
+        // when
+        now.addAndGet(12_000);
+
+        // then
+        assertThat(buckets.tryAcquire("test@example.com")).isEqualTo(0);
+        assertThat(buckets.tryAcquire("test@example.com")).isNegative();
+    }
+
+    @Test
+    @DisplayName("다른 키는 서로의 허용량에 영향을 주지 않는다")
+    void tryAcquire_DifferentKeys_Independent() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            buckets.tryAcquire("attacker@example.com");
+        }
+
+        // when & then
+        assertThat(buckets.tryAcquire("attacker@example.com")).isNegative();
+        assertThat(buckets.tryAcquire("victim@example.com")).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("hashCode가 같은 키도 서로 다른 버킷을 쓴다")
+    void tryAcquire_EqualHashCodeKeys_Independent() {
+        // given - "Aa"와 "BB"는 String.hashCode()가 같음, 시드를 고정해서 결과를 재현
+        assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+        StripedTokenBuckets seeded = new StripedTokenBuckets(1 << 16, 5, 60_000, now::get, 42L);
+        for (int i = 0; i < 5; i++) {
+            seeded.tryAcquire("Aa");
+        }
+
+        // when & then
+        assertThat(seeded.tryAcquire("Aa")).isNegative();
+        assertThat(seeded.tryAcquire("BB")).isEqualTo(4);
+    }
+}
@@ -0,0 +1,38 @@
+package com.growth.global.security;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("BCryptStrengthCalibrator 단위 테스트")
+class BCryptStrengthCalibratorTest {
+
+    @Test
+    @DisplayName("목표 시간이 매우 짧으면 최소 strength를 사용한다")
+    void calibrate_TinyBudget_ReturnsMinStrength() {
+        // when
+        int strength = BCryptStrengthCalibrator.calibrate(Duration.ZERO, 4, 6);
+
+        // then
+        assertThat(strength).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("목표 시간이 충분하면 최대 strength를 넘지 않는다")
+    void calibrate_LargeBudget_CappedAtMaxStrength() {
+        // when
+        int strength = BCryptStrengthCalibrator.calibrate(Duration.ofMinutes(1), 4, 6);
+
+        // then
+        assertThat(strength).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("strength 범위가 잘못되면 예외가 발생한다")
+    void calibrate_InvalidRange_ThrowsException() {
+        assertThatThrownBy(() -> BCryptStrengthCalibrator.calibrate(Duration.ofMillis(250), 12, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,103 @@
+package com.growth.global.security;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.growth.global.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@DisplayName("BoundedPasswordEncoder 단위 테스트")
+class BoundedPasswordEncoderTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService callers = Executors.newFixedThreadPool(2);
+
+    private final BoundedPasswordEncoder boundedPasswordEncoder = new BoundedPasswordEncoder(
+            new BlockingPasswordEncoder(release),
+            1,
+            1,
+            5_000,
+            meterRegistry
+    );
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+        boundedPasswordEncoder.destroy();
+    }
+
+    @Test
+    @DisplayName("해싱 스레드와 큐가 모두 차면 대기하지 않고 즉시 거절한다")
+    void encode_QueueFull_RejectsImmediately() throws Exception {
+        // given - 스레드 1개는 실행 중, 큐 1칸은 대기 중
+        callers.submit(() -> boundedPasswordEncoder.encode("running"));
+        callers.submit(() -> boundedPasswordEncoder.encode("queued"));
+        awaitQueueDepth(1);
+
+        // when & then
+        assertThatThrownBy(() -> boundedPasswordEncoder.encode("rejected"))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(meterRegistry.get("password.hashing.rejected").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("여유가 있으면 위임한 인코더의 결과를 그대로 반환한다")
+    void matches_Available_DelegatesResult() {
+        // given
+        release.countDown();
+
+        // when & then
+        assertThat(boundedPasswordEncoder.encode("password123")).isEqualTo("encoded:password123");
+        assertThat(boundedPasswordEncoder.matches("password123", "encoded:password123")).isTrue();
+    }
+
+    @Test
+    @DisplayName("여러 비밀번호를 한 번에 해싱하면 입력 순서대로 결과를 반환한다")
+    void encodeAll_PreservesOrder() {
+        // given
+        release.countDown();
+
+        // when & then
+        assertThat(boundedPasswordEncoder.encodeAll(List.of("a", "b", "c")))
+                .containsExactly("encoded:a", "encoded:b", "encoded:c");
+    }
+
+    private void awaitQueueDepth(double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            if (meterRegistry.get("executor.queued").gauge().value() >= expected) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+        fail("해싱 작업이 큐에 쌓이지 않았습니다.");
+    }
+
+    private record BlockingPasswordEncoder(CountDownLatch release) implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "encoded:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.equals(encode(rawPassword));
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.growth.global.seed;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.growth.global.seed.SyntheticDataGenerator.SeedMember;
+import com.growth.global.seed.SyntheticDataGenerator.SeedRoom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SyntheticDataGenerator 단위 테스트")
+class SyntheticDataGeneratorTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final Duration SPAN = Duration.ofDays(365);
+
+    @Test
+    @DisplayName("같은 seed로 만들면 식별자까지 같은 데이터를 같은 순서로 만든다")
+    void generate_SameSeed_SameData() {
+        // when
+        Generated first = generate(42, 2_000);
+        Generated second = generate(42, 2_000);
+        Generated other = generate(7, 2_000);
+
+        // then
+        assertThat(second.members()).isEqualTo(first.members());
+        assertThat(second.rooms()).isEqualTo(first.rooms());
+        assertThat(other.members()).isNotEqualTo(first.members());
+    }
+
+    @Test
+    @DisplayName("회원은 가입 순서대로 식별자와 가입 시간이 증가하고, 식별자의 시간은 가입 시간과 같다")
+    void generate_MembersOrderedByCreatedAt() {
+        // when
+        List<SeedMember> members = generate(42, 2_000).members();
+
+        // then
+        assertThat(members).hasSize(2_000);
+        assertThat(members).extracting(SeedMember::email).doesNotHaveDuplicates();
+        for (int i = 1; i < members.size(); i++) {
+            assertThat(members.get(i).createdAt()).isAfterOrEqualTo(members.get(i - 1).createdAt());
+            assertThat(members.get(i).memberId()).isGreaterThan(members.get(i - 1).memberId());
+        }
+        SeedMember last = members.get(members.size() - 1);
+        assertThat(last.memberId().getMostSignificantBits() >>> 16)
+                .isEqualTo(last.createdAt().toInstant(ZoneOffset.UTC).toEpochMilli());
+        assertThat(last.createdAt()).isBefore(START.plus(SPAN));
+    }
+
+    @Test
+    @DisplayName("숙소 값은 DTO 제약을 만족하고, 호스트 이후에 등록된다")
+    void generate_RoomsWithinConstraints() {
+        // when
+        Generated generated = generate(42, 5_000);
+
+        // then
+        List<SeedRoom> rooms = generated.rooms();
+        assertThat(rooms).isNotEmpty();
+        assertThat(rooms).allSatisfy(room -> {
+            assertThat(room.title()).isNotBlank();
+            assertThat(room.address()).isNotBlank();
+            assertThat(room.price()).isBetween(10_000, 3_000_000);
+            assertThat(room.maxGuest()).isBetween(1, 12);
+        });
+        // NOTE: 호스트 비율 0.2, 호스트당 평균 약 2.2개 -> 회원 5000명이면 숙소 약 2200개
+        assertThat(rooms.size()).isBetween(1_500, 3_000);
+        assertThat(rooms.stream().map(SeedRoom::hostId).distinct().count()).isBetween(800L, 1_200L);
+    }
+
+    private Generated generate(long seed, long memberCount) {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(seed, START, SPAN, memberCount, 0.2, "seed.example.com");
+        List<SeedMember> members = new ArrayList<>();
+        List<SeedRoom> rooms = new ArrayList<>();
+        while (generator.hasNextMember()) {
+            SeedMember member = generator.nextMember();
+            members.add(member);
+            for (SeedRoom room : generator.roomsOf(member)) {
+                assertThat(room.createdAt()).isAfterOrEqualTo(member.createdAt());
+                rooms.add(room);
+            }
+        }
+        return new Generated(members, rooms);
+    }
+
+    private record Generated(List<SeedMember> members, List<SeedRoom> rooms) {
+    }
+}
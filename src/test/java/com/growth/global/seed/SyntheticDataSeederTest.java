@@ -0,0 +1,89 @@
+package com.growth.global.seed;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.growth.member.domain.Member;
+import com.growth.member.repository.MemberRepository;
+import com.growth.support.IntegrationTestBase;
+import java.time.LocalDate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionOperations;
+
+@DisplayName("SyntheticDataSeeder 통합 테스트")
+class SyntheticDataSeederTest extends IntegrationTestBase {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionOperations transactionOperations;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    @DisplayName("설정한 수만큼 회원을 저장하고, 숙소는 저장된 회원을 호스트로 참조한다")
+    void seed_WritesMembersAndRooms() {
+        // given - batch-size보다 많은 회원으로 여러 묶음을 저장
+        SyntheticDataSeeder seeder = seeder(50, 7);
+
+        // when
+        seeder.seed();
+        entityManager.clear();
+
+        // then
+        assertThat(count("SELECT COUNT(*) FROM member")).isEqualTo(50);
+        assertThat(count("SELECT COUNT(*) FROM room")).isPositive();
+        assertThat(count("SELECT COUNT(*) FROM room r LEFT JOIN member m ON r.host_id = m.member_id WHERE m.member_id IS NULL"))
+                .isZero();
+
+        Member member = memberRepository.findByEmail("user0@seed.example.com").orElseThrow();
+        assertThat(passwordEncoder.matches("password123", member.getPassword())).isTrue();
+    }
+
+    @Test
+    @DisplayName("이미 채워져 있으면 다시 저장하지 않는다")
+    void seed_AlreadySeeded_Skips() {
+        // given
+        seeder(20, 7).seed();
+
+        // when
+        seeder(20, 7).seed();
+
+        // then
+        assertThat(count("SELECT COUNT(*) FROM member")).isEqualTo(20);
+    }
+
+    private SyntheticDataSeeder seeder(long members, int batchSize) {
+        return new SyntheticDataSeeder(
+                jdbcTemplate,
+                transactionOperations,
+                passwordEncoder,
+                applicationContext,
+                members,
+                0.5,
+                42,
+                batchSize,
+                LocalDate.of(2024, 1, 1),
+                365,
+                "seed.example.com",
+                "password123",
+                false
+        );
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}
@@ -0,0 +1,85 @@
+package com.growth.member.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.growth.global.common.id.UuidBytes;
+import com.growth.global.common.id.UuidV7Generator;
+import com.growth.member.domain.Member;
+import com.growth.member.repository.MemberRepository;
+import com.growth.support.IntegrationTestBase;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DisplayName("EmailExistenceFilter 통합 테스트")
+class EmailExistenceFilterTest extends IntegrationTestBase {
+
+    @Autowired
+    private EmailExistenceFilter emailExistenceFilter;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("저장된 회원의 이메일은 가입되지 않았다고 판단하지 않는다")
+    void definitelyNotRegistered_SavedMember_False() {
+        // given
+        memberRepository.save(createMember("member@example.com"));
+
+        // when & then - flush 전에도 바로 반영
+        assertThat(emailExistenceFilter.definitelyNotRegistered("member@example.com")).isFalse();
+        assertThat(emailExistenceFilter.definitelyNotRegistered("Member@Example.com")).isFalse();
+        assertThat(emailExistenceFilter.definitelyNotRegistered("never-registered@example.com")).isTrue();
+    }
+
+    @Test
+    @DisplayName("재생성하면 member 테이블의 이메일로 다시 채워진다")
+    void rebuild_StreamsMemberTable() {
+        // given
+        memberRepository.saveAndFlush(createMember("streamed@example.com"));
+
+        // when
+        emailExistenceFilter.rebuild();
+
+        // then
+        assertThat(emailExistenceFilter.definitelyNotRegistered("streamed@example.com")).isFalse();
+        assertThat(emailExistenceFilter.definitelyNotRegistered("never-registered@example.com")).isTrue();
+    }
+
+    @Test
+    @DisplayName("갱신하면 마지막으로 읽은 created_at 이후에 다른 인스턴스에서 가입한 이메일이 추가된다")
+    void refresh_MemberInsertedByAnotherInstance_Added() {
+        // given - 엔티티 리스너를 거치지 않는 저장 (다른 인스턴스의 가입)
+        LocalDateTime createdAt = LocalDateTime.now();
+        jdbcTemplate.update(
+                "INSERT INTO member (member_id, email, password, nickname, created_at, updated_at, is_deleted) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, false)",
+                UuidBytes.toBytes(UuidV7Generator.generate()),
+                "Other-Instance@example.com",
+                "encodedPassword",
+                "other",
+                createdAt,
+                createdAt
+        );
+        assertThat(emailExistenceFilter.definitelyNotRegistered("other-instance@example.com")).isTrue();
+
+        // when
+        emailExistenceFilter.refresh();
+
+        // then
+        assertThat(emailExistenceFilter.definitelyNotRegistered("other-instance@example.com")).isFalse();
+    }
+
+    private Member createMember(String email) {
+        return Member.builder()
+                .email(email)
+                .password("encodedPassword")
+                .nickname("testuser")
+                .build();
+    }
+}
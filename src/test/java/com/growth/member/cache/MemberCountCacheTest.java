@@ -0,0 +1,72 @@
+package com.growth.member.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.growth.member.dto.request.MemberSearchCondition;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("MemberCountCache 단위 테스트")
+class MemberCountCacheTest {
+
+    private final AtomicInteger countQueries = new AtomicInteger();
+
+    @Test
+    @DisplayName("조건이 없거나 생성일 범위만 있으면 같은 조건의 개수를 다시 세지 않는다")
+    void get_DateRangeOnly_Cached() {
+        // given
+        MemberCountCache cache = create(true);
+        MemberSearchCondition all = new MemberSearchCondition();
+        MemberSearchCondition range = MemberSearchCondition.builder().startDate("2025-11-01").endDate("2025-11-30").build();
+
+        // when
+        cache.get(all, this::count);
+        cache.get(all, this::count);
+        cache.get(range, this::count);
+        long cached = cache.get(range, this::count);
+
+        // then
+        assertThat(countQueries).hasValue(2);
+        assertThat(cached).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("이메일/닉네임 조건이 있으면 매번 센다")
+    void get_LikeCondition_NotCached() {
+        // given
+        MemberCountCache cache = create(true);
+        MemberSearchCondition condition = MemberSearchCondition.builder().nickname("tester").build();
+
+        // when
+        cache.get(condition, this::count);
+        cache.get(condition, this::count);
+
+        // then
+        assertThat(countQueries).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("비활성화하면 항상 센다")
+    void get_Disabled_NotCached() {
+        // given
+        MemberCountCache cache = create(false);
+
+        // when
+        cache.get(new MemberSearchCondition(), this::count);
+        cache.get(new MemberSearchCondition(), this::count);
+
+        // then
+        assertThat(countQueries).hasValue(2);
+    }
+
+    private long count() {
+        return countQueries.incrementAndGet();
+    }
+
+    private MemberCountCache create(boolean enabled) {
+        return new MemberCountCache(enabled, Duration.ofMinutes(1), 100, new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,83 @@
+package com.growth.member.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.growth.global.common.id.UuidBytes;
+import com.growth.member.domain.Member;
+import com.growth.member.repository.MemberRepository;
+import com.growth.support.IntegrationTestBase;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DisplayName("MemberExistenceCache 통합 테스트")
+class MemberExistenceCacheTest extends IntegrationTestBase {
+
+    @Autowired
+    private MemberExistenceCache memberExistenceCache;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("존재하는 회원은 캐시해서 다시 조회하지 않는다")
+    void exists_Positive_Cached() {
+        // given
+        Member member = saveMember("cached@example.com");
+        assertThat(memberExistenceCache.exists(member.getMemberId())).isTrue();
+
+        // when - 엔티티 리스너를 거치지 않고 DB에서만 탈퇴 처리
+        setDeleted(member.getMemberId(), true);
+
+        // then
+        assertThat(memberExistenceCache.exists(member.getMemberId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("없는 회원은 캐시하지 않으므로 다음 확인 때 다시 조회한다")
+    void exists_Negative_NotCached() {
+        // given
+        Member member = saveMember("negative@example.com");
+        setDeleted(member.getMemberId(), true);
+        assertThat(memberExistenceCache.exists(member.getMemberId())).isFalse();
+
+        // when
+        setDeleted(member.getMemberId(), false);
+
+        // then
+        assertThat(memberExistenceCache.exists(member.getMemberId())).isTrue();
+        assertThat(memberExistenceCache.exists(UUID.randomUUID())).isFalse();
+    }
+
+    @Test
+    @DisplayName("엔티티로 탈퇴 처리하면 캐시에서 바로 제외된다")
+    void exists_SoftDeleted_Invalidated() {
+        // given
+        Member member = saveMember("deleted@example.com");
+        assertThat(memberExistenceCache.exists(member.getMemberId())).isTrue();
+
+        // when
+        member.markAsDeleted();
+        entityManager.flush();
+
+        // then
+        assertThat(memberExistenceCache.exists(member.getMemberId())).isFalse();
+    }
+
+    private Member saveMember(String email) {
+        return memberRepository.saveAndFlush(Member.builder()
+                .email(email)
+                .password("encodedPassword")
+                .nickname("tester")
+                .build());
+    }
+
+    private void setDeleted(UUID memberId, boolean deleted) {
+        jdbcTemplate.update("UPDATE member SET is_deleted = ? WHERE member_id = ?", deleted, UuidBytes.toBytes(memberId));
+    }
+}
@@ -0,0 +1,76 @@
+package com.growth.member.controller;
+
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.growth.auth.jwt.domain.TokenType;
+import com.growth.auth.jwt.domain.UserIdentity;
+import com.growth.auth.jwt.service.JwtService;
+import com.growth.support.IntegrationTestBase;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+@DisplayName("회원 관리자 API 권한 테스트")
+@TestPropertySource(properties = "auth.admin-member-ids=" + MemberAdminApiSecurityTest.ADMIN_ID)
+class MemberAdminApiSecurityTest extends IntegrationTestBase {
+
+    static final String ADMIN_ID = "0193a1b2-0000-7000-8000-000000000001";
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private JwtService jwtService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        // MockMvc 설정 (Spring Security 필터 적용)
+        this.mockMvc = MockMvcBuilders
+                .webAppContextSetup(webApplicationContext)
+                .apply(springSecurity())
+                .build();
+    }
+
+    @Test
+    @DisplayName("일반 회원은 회원 내보내기를 호출할 수 없다")
+    void export_OrdinaryMember_ReturnsForbidden() throws Exception {
+        mockMvc.perform(get("/api/members/export")
+                        .header("Authorization", "Bearer " + accessToken(UUID.randomUUID())))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("관리자로 설정된 회원은 회원 내보내기를 호출할 수 있다")
+    void export_AdminMember_Streams() throws Exception {
+        mockMvc.perform(get("/api/members/export")
+                        .header("Authorization", "Bearer " + accessToken(UUID.fromString(ADMIN_ID))))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted());
+    }
+
+    @Test
+    @DisplayName("일반 회원은 회원 대량 등록을 호출할 수 없다")
+    void import_OrdinaryMember_ReturnsForbidden() throws Exception {
+        mockMvc.perform(post("/api/members/import")
+                        .header("Authorization", "Bearer " + accessToken(UUID.randomUUID()))
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"email\":\"bulk@example.com\",\"nickname\":\"bulk\",\"password\":\"password123!\"}\n"))
+                .andExpect(status().isForbidden());
+    }
+
+    private String accessToken(UUID memberId) {
+        return jwtService.generateToken(UserIdentity.of(memberId, memberId + "@example.com"), TokenType.ACCESS).getValue();
+    }
+}
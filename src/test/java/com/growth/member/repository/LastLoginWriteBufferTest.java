@@ -0,0 +1,67 @@
+package com.growth.member.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.growth.member.domain.Member;
+import com.growth.support.IntegrationTestBase;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@DisplayName("LastLoginWriteBuffer 통합 테스트")
+class LastLoginWriteBufferTest extends IntegrationTestBase {
+
+    @Autowired
+    private LastLoginWriteBuffer lastLoginWriteBuffer;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    @DisplayName("같은 회원의 여러 로그인은 가장 최근 시간 하나로 합쳐져 반영된다")
+    void flush_CoalescesToLatest() {
+        // given
+        Member member = saveMember();
+        LocalDateTime first = LocalDateTime.of(2025, 11, 26, 12, 0, 0);
+        LocalDateTime latest = first.plusMinutes(10);
+
+        lastLoginWriteBuffer.record(member.getMemberId(), first);
+        lastLoginWriteBuffer.record(member.getMemberId(), latest);
+        lastLoginWriteBuffer.record(member.getMemberId(), first.plusMinutes(5));
+
+        // when
+        lastLoginWriteBuffer.flush();
+        entityManager.clear();
+
+        // then
+        Member found = memberRepository.findById(member.getMemberId()).orElseThrow();
+        assertThat(found.getLastLoginAt()).isEqualTo(latest);
+    }
+
+    @Test
+    @DisplayName("flush 전에는 DB에 반영되지 않는다")
+    void record_BeforeFlush_NotWritten() {
+        // given
+        Member member = saveMember();
+
+        // when
+        lastLoginWriteBuffer.record(member.getMemberId(), LocalDateTime.of(2025, 11, 26, 12, 0, 0));
+        entityManager.clear();
+
+        // then
+        Member found = memberRepository.findById(member.getMemberId()).orElseThrow();
+        assertThat(found.getLastLoginAt()).isNull();
+
+        // 다음 테스트에 남지 않도록 비움
+        lastLoginWriteBuffer.flush();
+    }
+
+    private Member saveMember() {
+        return memberRepository.saveAndFlush(Member.builder()
+                .email("test@example.com")
+                .password("encodedPassword")
+                .nickname("testuser")
+                .build());
+    }
+}
@@ -0,0 +1,138 @@
+package com.growth.member.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.growth.global.common.id.UuidBytes;
+import com.growth.global.common.id.UuidV7Generator;
+import com.growth.member.domain.Member;
+import com.growth.member.dto.request.MemberSearchCondition;
+import com.growth.member.dto.response.MemberSummaryDto;
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 회원 목록 조회의 엔티티 조회 + 매핑 방식과 생성자 projection 방식 비교 벤치마크
+ * - 실행: ./gradlew benchmark (기본 test 태스크에서는 제외)
+ * - 같은 페이지를 반복 조회하면서 요청 스레드 할당량(bytes/page)과 평균 시간(us/page)을 출력
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@ActiveProfiles("test")
+@DisplayName("회원 목록 projection 벤치마크")
+class MemberProjectionBenchmarkTest {
+
+    private static final int ROWS = 20_000;
+    private static final int PAGE_SIZE = 50;
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 1_000;
+
+    private static final MemberSearchCondition NO_CONDITION = new MemberSearchCondition();
+
+    private final com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeAll
+    void seed() {
+        List<Object[]> rows = new ArrayList<>(ROWS);
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+        for (int i = 0; i < ROWS; i++) {
+            Timestamp createdAt = Timestamp.valueOf(base.plusSeconds(i));
+            rows.add(new Object[]{
+                    UuidBytes.toBytes(UuidV7Generator.generate()),
+                    "bench" + i + "@example.com",
+                    "$2a$10$abcdefghijklmnopqrstuuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ01",
+                    "bench" + i,
+                    createdAt,
+                    createdAt
+            });
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO member (member_id, email, password, nickname, created_at, updated_at, is_deleted) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, false)",
+                rows
+        );
+    }
+
+    @AfterAll
+    void cleanUp() {
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("생성자 projection은 엔티티 조회 + 매핑보다 페이지당 할당량이 적다")
+    void projection_AllocatesLessThanEntity() {
+        // 이전 방식: 트랜잭션 안에서 엔티티 페이지를 읽고 응답 DTO로 매핑
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Supplier<List<MemberSummaryDto>> entityPage = () -> transaction.execute(status ->
+                memberRepository.searchMembers(NO_CONDITION, PageRequest.of(10, PAGE_SIZE)).getContent().stream()
+                        .map(MemberProjectionBenchmarkTest::toSummary)
+                        .toList());
+        Supplier<List<MemberSummaryDto>> projectionPage = () ->
+                memberRepository.searchMemberSummaries(NO_CONDITION, PageRequest.of(10, PAGE_SIZE)).getContent();
+
+        Result entity = measure(entityPage);
+        Result projection = measure(projectionPage);
+
+        System.out.printf("%n[member page, %d rows/page, %d members]%n", PAGE_SIZE, ROWS);
+        System.out.printf("entity + mapping : %,12d bytes/page %,10.1f us/page%n", entity.bytesPerPage(), entity.microsPerPage());
+        System.out.printf("projection       : %,12d bytes/page %,10.1f us/page%n", projection.bytesPerPage(), projection.microsPerPage());
+
+        assertThat(projectionPage.get()).hasSize(PAGE_SIZE);
+        assertThat(projection.bytesPerPage()).isLessThan(entity.bytesPerPage());
+    }
+
+    private Result measure(Supplier<List<MemberSummaryDto>> page) {
+        for (int i = 0; i < WARMUP; i++) {
+            page.get();
+        }
+        long threadId = Thread.currentThread().threadId();
+        long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            page.get();
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        return new Result(allocated / ITERATIONS, elapsed / 1_000.0 / ITERATIONS);
+    }
+
+    private static MemberSummaryDto toSummary(Member member) {
+        return new MemberSummaryDto(
+                member.getMemberId(),
+                member.getEmail(),
+                member.getNickname(),
+                member.getCreatedAt(),
+                member.getLastLoginAt()
+        );
+    }
+
+
+    private record Result(long bytesPerPage, double microsPerPage) {}
+}
@@ -0,0 +1,173 @@
+package com.growth.member.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.growth.global.common.response.CursorPage;
+import com.growth.member.domain.Member;
+import com.growth.member.dto.request.MemberSearchCondition;
+import com.growth.member.dto.response.MemberSummaryDto;
+import com.growth.support.IntegrationTestBase;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+@DisplayName("MemberRepositoryImpl 통합 테스트")
+class MemberRepositoryImplTest extends IntegrationTestBase {
+
+    private static final MemberSearchCondition NO_CONDITION = new MemberSearchCondition();
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @BeforeEach
+    void setUp() {
+        List<String> emails = List.of("e@example.com", "a@example.com", "g@example.com", "c@example.com",
+                "f@example.com", "b@example.com", "d@example.com");
+        for (String email : emails) {
+            memberRepository.saveAndFlush(Member.builder()
+                    .email(email)
+                    .password("encodedPassword")
+                    .nickname(email.startsWith("g") ? "other" : "tester")
+                    .build());
+        }
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("기본 정렬(생성일 내림차순)로 커서를 따라가면 한 번에 조회한 결과와 같다")
+    void searchMembersByCursor_DefaultSort_WalksAllRows() {
+        // given
+        List<UUID> expected = memberRepository.searchMembersByCursor(NO_CONDITION, Sort.unsorted(), null, 100)
+                .content().stream().map(Member::getMemberId).toList();
+
+        // when
+        List<CursorPage<Member>> pages = walk(NO_CONDITION, Sort.unsorted(), 3);
+
+        // then
+        assertThat(pages).extracting(page -> page.content().size()).containsExactly(3, 3, 1);
+        assertThat(pages).extracting(CursorPage::hasNext).containsExactly(true, true, false);
+        assertThat(pages.get(2).nextCursor()).isNull();
+        List<Member> members = pages.stream().flatMap(page -> page.content().stream()).toList();
+        assertThat(members).extracting(Member::getMemberId).containsExactlyElementsOf(expected).hasSize(7);
+        assertThat(members).extracting(Member::getCreatedAt).isSortedAccordingTo((left, right) -> right.compareTo(left));
+    }
+
+    @Test
+    @DisplayName("검색 조건과 다른 정렬 키(email 오름차순)로도 빠짐없이 이어서 조회한다")
+    void searchMembersByCursor_EmailAscending_WithCondition() {
+        // given
+        MemberSearchCondition condition = MemberSearchCondition.builder().nickname("tester").build();
+
+        // when
+        List<CursorPage<Member>> pages = walk(condition, Sort.by("email"), 2);
+
+        // then
+        assertThat(pages.stream().flatMap(page -> page.content().stream()))
+                .extracting(Member::getEmail)
+                .containsExactly("a@example.com", "b@example.com", "c@example.com",
+                        "d@example.com", "e@example.com", "f@example.com");
+    }
+
+    @Test
+    @DisplayName("다른 정렬 조건으로 만든 커서는 사용할 수 없다")
+    void searchMembersByCursor_SortMismatch_ThrowsException() {
+        // given
+        String cursor = memberRepository.searchMembersByCursor(NO_CONDITION, Sort.by("email"), null, 2).nextCursor();
+
+        // when & then
+        assertThatThrownBy(() -> memberRepository.searchMembersByCursor(NO_CONDITION, Sort.unsorted(), cursor, 2))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("커서의 정렬 조건이 요청과 다릅니다.");
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 예외가 발생한다")
+    void searchMembersByCursor_MalformedCursor_ThrowsException() {
+        assertThatThrownBy(() -> memberRepository.searchMembersByCursor(NO_CONDITION, Sort.unsorted(), "not-a-cursor", 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("이메일/닉네임 부분 문자열 검색은 n-gram 색인 후보 중 실제로 포함하는 회원만 반환한다")
+    void findByCondition_SubstringSearch() {
+        // when
+        List<Member> byEmail = memberRepository.findByCondition(MemberSearchCondition.builder().email("c@exam").build());
+        List<Member> byNickname = memberRepository.findByCondition(MemberSearchCondition.builder().nickname("othe").build());
+        List<Member> shortKeyword = memberRepository.findByCondition(MemberSearchCondition.builder().email("g@").build());
+        List<Member> none = memberRepository.findByCondition(MemberSearchCondition.builder().email("zzz").build());
+
+        // then
+        assertThat(byEmail).extracting(Member::getEmail).containsExactly("c@example.com");
+        assertThat(byNickname).extracting(Member::getEmail).containsExactly("g@example.com");
+        assertThat(shortKeyword).extracting(Member::getEmail).containsExactly("g@example.com");
+        assertThat(none).isEmpty();
+    }
+
+    @Test
+    @DisplayName("offset 페이징은 마지막 페이지에서도 전체 개수를 올바르게 계산한다")
+    void searchMembers_LastPage_TotalFromContent() {
+        // when
+        Page<Member> firstPage = memberRepository.searchMembers(NO_CONDITION, PageRequest.of(0, 5));
+        Page<Member> lastPage = memberRepository.searchMembers(NO_CONDITION, PageRequest.of(1, 5));
+        Page<Member> notFull = memberRepository.searchMembers(NO_CONDITION, PageRequest.of(0, 10));
+
+        // then
+        assertThat(firstPage.getTotalElements()).isEqualTo(7);
+        assertThat(lastPage.getContent()).hasSize(2);
+        assertThat(lastPage.getTotalElements()).isEqualTo(7);
+        assertThat(notFull.getTotalElements()).isEqualTo(7);
+        assertThat(notFull.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("요약 projection은 엔티티 조회와 같은 순서/개수로 반환한다")
+    void searchMemberSummaries_SameAsEntityPage() {
+        // given
+        PageRequest pageable = PageRequest.of(0, 5, Sort.by("email"));
+
+        // when
+        Page<Member> entities = memberRepository.searchMembers(NO_CONDITION, pageable);
+        Page<MemberSummaryDto> summaries = memberRepository.searchMemberSummaries(NO_CONDITION, pageable);
+
+        // then
+        assertThat(summaries.getTotalElements()).isEqualTo(entities.getTotalElements());
+        assertThat(summaries.getContent()).extracting(MemberSummaryDto::memberId)
+                .containsExactlyElementsOf(entities.getContent().stream().map(Member::getMemberId).toList());
+        assertThat(memberRepository.findSummariesByCondition(MemberSearchCondition.builder().nickname("other").build()))
+                .extracting(MemberSummaryDto::email)
+                .containsExactly("g@example.com");
+    }
+
+    @Test
+    @DisplayName("Slice 조회는 다음 페이지 여부만 판단한다")
+    void searchMembersSlice_HasNext() {
+        // when
+        Slice<Member> first = memberRepository.searchMembersSlice(NO_CONDITION, PageRequest.of(0, 4));
+        Slice<Member> second = memberRepository.searchMembersSlice(NO_CONDITION, PageRequest.of(1, 4));
+
+        // then
+        assertThat(first.getContent()).hasSize(4);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getContent()).hasSize(3);
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    private List<CursorPage<Member>> walk(MemberSearchCondition condition, Sort sort, int size) {
+        List<CursorPage<Member>> pages = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<Member> page = memberRepository.searchMembersByCursor(condition, sort, cursor, size);
+            pages.add(page);
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return pages;
+    }
+}
@@ -0,0 +1,60 @@
+package com.growth.member.search;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.growth.member.search.MemberNgramIndex.Field;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("NgramTable 단위 테스트")
+class NgramTableTest {
+
+    private final NgramTable table = new NgramTable();
+
+    private final UUID alice = UUID.randomUUID();
+    private final UUID bob = UUID.randomUUID();
+    private final UUID carol = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        table.add(alice, "alice@example.com", "Alice");
+        table.add(bob, "bob@example.org", "bobby");
+        table.add(carol, "carol@sample.com", "caroline");
+    }
+
+    @Test
+    @DisplayName("검색어의 모든 trigram을 가진 회원만 대소문자 구분 없이 후보로 반환한다")
+    void candidates_SubstringMatch() {
+        assertThat(table.candidates(Field.EMAIL, "EXAMPLE", 100)).containsExactlyInAnyOrder(alice, bob);
+        assertThat(table.candidates(Field.EMAIL, "ample.com", 100)).containsExactlyInAnyOrder(alice, carol);
+        assertThat(table.candidates(Field.NICKNAME, "bob", 100)).containsExactly(bob);
+        assertThat(table.candidates(Field.NICKNAME, "xyz", 100)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("검색어가 trigram보다 짧으면 색인으로 좁힐 수 없다")
+    void candidates_ShortKeyword_ReturnsNull() {
+        assertThat(table.candidates(Field.EMAIL, "co", 100)).isNull();
+    }
+
+    @Test
+    @DisplayName("후보가 상한을 넘으면 색인으로 좁히지 않는다")
+    void candidates_TooMany_ReturnsNull() {
+        assertThat(table.candidates(Field.EMAIL, ".com", 1)).isNull();
+        assertThat(table.candidates(Field.EMAIL, ".com", 2)).containsExactlyInAnyOrder(alice, carol);
+    }
+
+    @Test
+    @DisplayName("탈퇴한 회원은 후보에서 제외되고 다시 추가되지 않는다")
+    void remove_ExcludedFromCandidates() {
+        // when
+        table.remove(alice);
+        table.add(alice, "alice@example.com", "Alice");
+
+        // then
+        assertThat(table.candidates(Field.EMAIL, "example", 100)).containsExactly(bob);
+        assertThat(table.size()).isEqualTo(2);
+    }
+}
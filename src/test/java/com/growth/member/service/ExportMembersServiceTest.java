@@ -0,0 +1,108 @@
+package com.growth.member.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.growth.member.domain.Member;
+import com.growth.member.dto.request.MemberExportFormat;
+import com.growth.member.dto.request.MemberSearchCondition;
+import com.growth.member.repository.MemberRepository;
+import com.growth.support.IntegrationTestBase;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@DisplayName("ExportMembersService 통합 테스트")
+class ExportMembersServiceTest extends IntegrationTestBase {
+
+    @Autowired
+    private ExportMembersService exportMembersService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        saveMember("plain@example.com", "plain");
+        saveMember("quote@example.com", "say \"hi\", bye");
+        saveMember("formula@example.com", "=HYPERLINK(\"x\")");
+        saveMember("other@test.com", "other");
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("NDJSON은 한 줄에 회원 하나씩, 비밀번호 없이 쓴다")
+    void export_Ndjson() throws Exception {
+        // given
+        MemberSearchCondition condition = MemberSearchCondition.builder().email("example").build();
+
+        // when
+        String output = export(condition, MemberExportFormat.NDJSON);
+
+        // then
+        List<String> lines = output.lines().toList();
+        assertThat(lines).hasSize(3);
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertThat(first.has("memberId")).isTrue();
+        assertThat(first.has("password")).isFalse();
+        assertThat(first.get("lastLoginAt").isNull()).isTrue();
+        assertThat(lines.stream().map(this::email))
+                .containsExactlyInAnyOrder("plain@example.com", "quote@example.com", "formula@example.com");
+    }
+
+    @Test
+    @DisplayName("CSV는 따옴표/쉼표를 이스케이프하고 수식으로 시작하는 값을 무력화한다")
+    void export_Csv() throws Exception {
+        // when
+        String output = export(new MemberSearchCondition(), MemberExportFormat.CSV);
+
+        // then
+        List<String> lines = output.lines().toList();
+        assertThat(lines).hasSize(5);
+        assertThat(lines.get(0)).isEqualTo("memberId,email,nickname,createdAt,lastLoginAt");
+        assertThat(output).contains(",quote@example.com,\"say \"\"hi\"\", bye\",");
+        assertThat(output).contains(",formula@example.com,\"'=HYPERLINK(\"\"x\"\")\",");
+        assertThat(output).doesNotContain("encodedPassword");
+    }
+
+    @Test
+    @DisplayName("내보낸 엔티티는 영속성 컨텍스트에 남지 않는다")
+    void export_DetachesRows() throws Exception {
+        // when
+        export(new MemberSearchCondition(), MemberExportFormat.CSV);
+
+        // then
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    private String export(MemberSearchCondition condition, MemberExportFormat format) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportMembersService.export(condition, format, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private String email(String line) {
+        try {
+            return objectMapper.readTree(line).get("email").asText();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void saveMember(String email, String nickname) {
+        memberRepository.saveAndFlush(Member.builder()
+                .email(email)
+                .password("encodedPassword")
+                .nickname(nickname)
+                .build());
+    }
+}
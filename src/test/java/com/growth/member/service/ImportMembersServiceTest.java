@@ -0,0 +1,91 @@
+package com.growth.member.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.growth.global.common.importer.ImportFailure;
+import com.growth.global.common.importer.ImportFormat;
+import com.growth.global.common.importer.ImportResult;
+import com.growth.global.security.BoundedPasswordEncoder;
+import com.growth.member.domain.Member;
+import com.growth.member.repository.MemberRepository;
+import com.growth.support.IntegrationTestBase;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@DisplayName("ImportMembersService 통합 테스트")
+class ImportMembersServiceTest extends IntegrationTestBase {
+
+    @Autowired
+    private ImportMembersService importMembersService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @Test
+    @DisplayName("올바른 행만 등록하고, 실패한 행은 행 번호와 사유를 반환한다")
+    void importMembers_Ndjson_ReportsFailedRows() throws Exception {
+        // given
+        memberRepository.saveAndFlush(Member.builder()
+                .email("existing@example.com")
+                .password("encodedPassword")
+                .nickname("existing")
+                .build());
+        String body = """
+                {"email":"first@example.com","password":"password123","nickname":"first"}
+                {"email":"second@example.com","password":"password456","nickname":"second"}
+                {"email":"not-an-email","password":"password123","nickname":"invalid"}
+                {"email":"FIRST@example.com","password":"password123","nickname":"again"}
+                {"email":"existing@example.com","password":"password123","nickname":"taken"}
+                {"email":"broken@example.com",
+                """;
+
+        // when
+        ImportResult result = importMembersService.importMembers(toStream(body), ImportFormat.NDJSON);
+        entityManager.clear();
+
+        // then
+        assertThat(result.total()).isEqualTo(6);
+        assertThat(result.succeeded()).isEqualTo(2);
+        assertThat(result.failed()).isEqualTo(4);
+        assertThat(result.failures()).extracting(ImportFailure::line).containsExactly(3L, 4L, 5L, 6L);
+        assertThat(result.failures().get(0).reason()).contains("올바른 이메일 형식이 아닙니다.");
+        assertThat(result.failures().get(1).reason()).isEqualTo("이미 존재하는 이메일입니다");
+        assertThat(result.failures().get(2).reason()).isEqualTo("이미 존재하는 이메일입니다");
+
+        Member first = memberRepository.findByEmail("first@example.com").orElseThrow();
+        assertThat(first.getNickname()).isEqualTo("first");
+        assertThat(passwordEncoder.matches("password123", first.getPassword())).isTrue();
+        assertThat(memberRepository.findByEmail("second@example.com")).isPresent();
+        assertThat(memberRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("CSV 파일도 헤더로 필드를 매핑해서 등록한다")
+    void importMembers_Csv() throws Exception {
+        // given
+        String body = """
+                email,password,nickname
+                csv1@example.com,password123,"csv, one"
+                csv2@example.com,,csv2
+                """;
+
+        // when
+        ImportResult result = importMembersService.importMembers(toStream(body), ImportFormat.CSV);
+        entityManager.clear();
+
+        // then
+        assertThat(result.succeeded()).isEqualTo(1);
+        assertThat(result.failures()).extracting(ImportFailure::line).containsExactly(2L);
+        assertThat(memberRepository.findByEmail("csv1@example.com").orElseThrow().getNickname()).isEqualTo("csv, one");
+    }
+
+    private static ByteArrayInputStream toStream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,113 @@
+package com.growth.member.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.growth.global.exception.BadRequestException;
+import com.growth.member.dto.request.SignUpMemberRequestDto;
+import com.growth.member.repository.MemberRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 동시 회원가입 테스트
+ * - 각 요청이 실제로 커밋되어야 하므로 IntegrationTestBase(테스트 트랜잭션 롤백)를 쓰지 않고 직접 정리
+ * - 실행된 SQL 수는 Hibernate 통계로 확인
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@DisplayName("SignUpMemberService 동시성 테스트")
+class SignUpMemberServiceConcurrencyTest {
+
+    private static final int CONCURRENCY = 8;
+
+    @Autowired
+    private SignUpMemberService signUpMemberService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("회원가입은 중복 확인 조회 없이 INSERT 한 번으로 처리된다")
+    void signUp_SingleStatement() {
+        // when
+        signUpMemberService.signUp(new SignUpMemberRequestDto("single@example.com", "password123", "single"));
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 이메일로 동시에 가입하면 하나만 성공하고 나머지는 중복 이메일로 거절된다")
+    void signUp_ConcurrentSameEmail_OnlyOneSucceeds() throws Exception {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < CONCURRENCY; i++) {
+            SignUpMemberRequestDto requestDto = new SignUpMemberRequestDto("race@example.com", "password123", "racer" + i);
+            futures.add(executor.submit(() -> {
+                start.await();
+                return signUpMemberService.signUp(requestDto);
+            }));
+        }
+
+        // when
+        start.countDown();
+        int succeeded = 0;
+        int duplicated = 0;
+        try {
+            for (Future<?> future : futures) {
+                try {
+                    future.get(30, TimeUnit.SECONDS);
+                    succeeded++;
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause())
+                            .isInstanceOf(BadRequestException.class)
+                            .hasMessage("이미 존재하는 이메일입니다");
+                    duplicated++;
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then - 요청마다 INSERT 한 번만 실행 (사전 조회 없음)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(CONCURRENCY);
+        assertThat(succeeded).isEqualTo(1);
+        assertThat(duplicated).isEqualTo(CONCURRENCY - 1);
+        assertThat(memberRepository.count()).isEqualTo(1);
+    }
+}
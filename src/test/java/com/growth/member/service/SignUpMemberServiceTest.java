@@ -0,0 +1,80 @@
+package com.growth.member.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+import com.growth.global.exception.BadRequestException;
+import com.growth.member.domain.Member;
+import com.growth.member.dto.request.SignUpMemberRequestDto;
+import com.growth.member.repository.MemberRepository;
+import com.growth.support.UnitTestBase;
+import java.sql.SQLException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SignUpMemberService 단위 테스트")
+class SignUpMemberServiceTest extends UnitTestBase {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @InjectMocks
+    private SignUpMemberService signUpMemberService;
+
+    private final SignUpMemberRequestDto requestDto = new SignUpMemberRequestDto(
+            "test@example.com",
+            "password123",
+            "testuser"
+    );
+
+    @Test
+    @DisplayName("MySQL 중복 키 오류(1062)는 유니크 키 이름과 관계없이 이메일 중복으로 처리한다")
+    void signUp_MySqlDuplicateEntry_ThrowsBadRequest() {
+        // given - 예전 ddl-auto가 만든 UK 이름
+        given(passwordEncoder.encode("password123")).willReturn("encodedPassword");
+        given(memberRepository.insert(any(Member.class))).willThrow(violation(
+                new SQLException("Duplicate entry 'test@example.com' for key 'UK6dotkott2kjsp8vw4d0m25fb7'", "23000", 1062),
+                "UK6dotkott2kjsp8vw4d0m25fb7"
+        ));
+
+        // when & then
+        assertThatThrownBy(() -> signUpMemberService.signUp(requestDto))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("이미 존재하는 이메일입니다");
+    }
+
+    @Test
+    @DisplayName("중복 키가 아닌 무결성 오류(NOT NULL 등)는 그대로 던진다")
+    void signUp_OtherIntegrityViolation_Rethrows() {
+        // given - SQLState는 중복 키와 같은 23000
+        given(passwordEncoder.encode("password123")).willReturn("encodedPassword");
+        DataIntegrityViolationException notNull = violation(
+                new SQLException("Column 'nickname' cannot be null", "23000", 1048),
+                null
+        );
+        given(memberRepository.insert(any(Member.class))).willThrow(notNull);
+
+        // when & then
+        assertThatThrownBy(() -> signUpMemberService.signUp(requestDto))
+                .isSameAs(notNull);
+    }
+
+    private static DataIntegrityViolationException violation(SQLException sqlException, String constraintName) {
+        return new DataIntegrityViolationException(
+                "could not execute statement",
+                new ConstraintViolationException("could not execute statement", sqlException, constraintName)
+        );
+    }
+}
@@ -0,0 +1,87 @@
+package com.growth.room.catalog;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RoomColumns 단위 테스트")
+class RoomColumnsTest {
+
+  private static final RoomFacetFilter NO_FILTER = new RoomFacetFilter(null, null, null, null);
+
+  // NOTE: 가격 구간 5만원 x 4칸 (마지막 칸은 15만원 이상), 인원 구간 1~3명 이상
+  private final RoomColumns columns = new RoomColumns(50_000, 4, 3, 8);
+
+  private final UUID removedRoom = UUID.randomUUID();
+
+  @BeforeEach
+  void setUp() {
+    columns.add(UUID.randomUUID(), 40_000, 1, "서울특별시 강남구 테헤란로 1");
+    columns.add(UUID.randomUUID(), 80_000, 2, "서울특별시 마포구 양화로 2");
+    columns.add(UUID.randomUUID(), 120_000, 4, "부산광역시 해운대구 해운대로 3");
+    columns.add(UUID.randomUUID(), 300_000, 8, "제주특별자치도 서귀포시 중앙로 4");
+    columns.add(removedRoom, 90_000, 2, "서울특별시 종로구 북촌로 5");
+    columns.remove(removedRoom);
+  }
+
+  @Test
+  @DisplayName("조건이 없으면 삭제된 숙소를 뺀 전체 분포를 센다")
+  void facets_NoFilter_CountsAll() {
+    // when
+    RoomFacets facets = columns.facets(NO_FILTER);
+
+    // then
+    assertThat(facets.total()).isEqualTo(4);
+    assertThat(facets.priceCounts()).containsExactly(1, 1, 1, 1);
+    assertThat(facets.guestCounts()).containsExactly(1, 1, 2);
+    assertThat(regionCount(facets, "서울특별시")).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("각 분포는 자기 조건을 뺀 나머지 조건으로 센다")
+  void facets_Filtered_EachFacetIgnoresOwnCondition() {
+    // when - 5만원 이상, 2명 이상, 서울
+    RoomFacets facets = columns.facets(new RoomFacetFilter(50_000, null, 2, "서울특별시"));
+
+    // then
+    assertThat(facets.total()).isEqualTo(1);
+    // 가격 분포: 2명 이상 + 서울 -> 8만원 하나
+    assertThat(facets.priceCounts()).containsExactly(0, 1, 0, 0);
+    // 인원 분포: 5만원 이상 + 서울 -> 2명 하나
+    assertThat(facets.guestCounts()).containsExactly(0, 1, 0);
+    // 지역 분포: 5만원 이상 + 2명 이상 -> 서울, 부산, 제주 하나씩
+    assertThat(regionCount(facets, "서울특별시")).isEqualTo(1);
+    assertThat(regionCount(facets, "부산광역시")).isEqualTo(1);
+    assertThat(regionCount(facets, "제주특별자치도")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("모르는 지역이면 결과가 없다")
+  void facets_UnknownRegion_Empty() {
+    assertThat(columns.facets(new RoomFacetFilter(null, null, null, "경기도")).total()).isZero();
+  }
+
+  @Test
+  @DisplayName("지역 수가 최대값을 넘으면 기타로 모은다")
+  void add_OverMaxRegions_GroupedAsOther() {
+    // given - 기타 포함 2개까지
+    RoomColumns small = new RoomColumns(50_000, 4, 3, 2);
+    small.add(UUID.randomUUID(), 10_000, 1, "서울특별시 강남구");
+    small.add(UUID.randomUUID(), 10_000, 1, "부산광역시 해운대구");
+
+    // when
+    RoomFacets facets = small.facets(NO_FILTER);
+
+    // then
+    assertThat(regionCount(facets, "서울특별시")).isEqualTo(1);
+    assertThat(regionCount(facets, RoomColumns.OTHER_REGION)).isEqualTo(1);
+  }
+
+  private static int regionCount(RoomFacets facets, String region) {
+    int index = facets.regions().indexOf(region);
+    return index < 0 ? 0 : facets.regionCounts()[index];
+  }
+}
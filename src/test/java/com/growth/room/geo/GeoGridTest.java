@@ -0,0 +1,88 @@
+package com.growth.room.geo;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("GeoGrid 단위 테스트")
+class GeoGridTest {
+
+  // NOTE: 서울시청 기준
+  private static final double LATITUDE = 37.5665;
+  private static final double LONGITUDE = 126.9780;
+
+  private final GeoGrid grid = new GeoGrid(0.02);
+
+  @Test
+  @DisplayName("반경 안의 숙소만 가까운 순서로 반환한다")
+  void nearest_WithinRadius_SortedByDistance() {
+    // given - 북쪽으로 약 1km, 3km, 10km
+    UUID near = UUID.randomUUID();
+    UUID middle = UUID.randomUUID();
+    UUID far = UUID.randomUUID();
+    grid.add(middle, LATITUDE + 0.027, LONGITUDE);
+    grid.add(far, LATITUDE + 0.09, LONGITUDE);
+    grid.add(near, LATITUDE + 0.009, LONGITUDE);
+
+    // when
+    List<GeoHit> hits = grid.nearest(GeoBox.around(LATITUDE, LONGITUDE, 5_000), LATITUDE, LONGITUDE, 5_000, 10);
+
+    // then
+    assertThat(hits).extracting(GeoHit::roomId).containsExactly(near, middle);
+    assertThat(hits.get(0).distanceMeters()).isBetween(950.0, 1_050.0);
+  }
+
+  @Test
+  @DisplayName("limit개를 넘으면 가장 가까운 limit개만 반환한다")
+  void nearest_OverLimit_KeepsClosest() {
+    // given - 동쪽으로 0.001도 간격, 칸 경계를 여러 번 넘음
+    UUID[] ids = new UUID[50];
+    for (int i = 0; i < ids.length; i++) {
+      ids[i] = UUID.randomUUID();
+      grid.add(ids[i], LATITUDE, LONGITUDE + 0.001 * (i + 1));
+    }
+
+    // when
+    List<GeoHit> hits = grid.nearest(GeoBox.around(LATITUDE, LONGITUDE, 10_000), LATITUDE, LONGITUDE, 10_000, 3);
+
+    // then
+    assertThat(hits).extracting(GeoHit::roomId).containsExactly(ids[0], ids[1], ids[2]);
+  }
+
+  @Test
+  @DisplayName("영역 검색은 영역 밖의 숙소를 제외한다")
+  void nearest_Box_ExcludesOutside() {
+    // given
+    UUID inside = UUID.randomUUID();
+    UUID outside = UUID.randomUUID();
+    grid.add(inside, 37.55, 126.99);
+    grid.add(outside, 37.55, 127.01);
+
+    // when
+    GeoBox box = new GeoBox(37.54, 126.98, 37.56, 127.00);
+    List<GeoHit> hits = grid.nearest(box, box.centerLatitude(), box.centerLongitude(), Double.POSITIVE_INFINITY, 10);
+
+    // then
+    assertThat(hits).extracting(GeoHit::roomId).containsExactly(inside);
+  }
+
+  @Test
+  @DisplayName("같은 숙소가 두 번 들어 있어도 결과에는 한 번만 나온다")
+  void nearest_DuplicatedEntries_ReturnedOnce() {
+    // given - add는 중복을 거르고, append는 거르지 않음
+    UUID roomId = UUID.randomUUID();
+    grid.add(roomId, LATITUDE, LONGITUDE);
+    grid.add(roomId, LATITUDE, LONGITUDE);
+    grid.append(roomId, LATITUDE, LONGITUDE);
+
+    // when
+    List<GeoHit> hits = grid.nearest(GeoBox.around(LATITUDE, LONGITUDE, 1_000), LATITUDE, LONGITUDE, 1_000, 10);
+
+    // then
+    assertThat(grid.size()).isEqualTo(2);
+    assertThat(hits).extracting(GeoHit::roomId).containsExactly(roomId);
+  }
+}
@@ -0,0 +1,55 @@
+package com.growth.room.geo;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("GeoLayers 단위 테스트")
+class GeoLayersTest {
+
+  private static final GeoBox KOREA = new GeoBox(33, 124, 39, 131);
+
+  private final GeoLayers layers = new GeoLayers(new GeoGrid(0.02), new TilePyramid(4, 14));
+
+  @Test
+  @DisplayName("전체 읽기 중에 리스너로 먼저 들어온 숙소는 DB에서 다시 읽어도 한 번만 센다")
+  void append_AddedWhileLoading_CountedOnce() {
+    // given
+    UUID roomId = UUID.randomUUID();
+    layers.add(roomId, 37.56, 126.97, 80_000);
+
+    // when
+    layers.append(roomId, 37.56, 126.97, 80_000);
+    layers.append(UUID.randomUUID(), 37.57, 126.98, 90_000);
+    layers.finishLoading();
+
+    // then
+    assertThat(layers.size()).isEqualTo(2);
+    assertThat(layers.clusters(6, KOREA, 1024)).extracting(TileCluster::count).containsExactly(2);
+    // 격자 검색은 중복 제거를 하지 않으므로 색인에 한 번만 들어갔는지 결과로 확인
+    assertThat(layers.nearest(KOREA, 37.56, 126.97, 50_000, 10))
+      .extracting(GeoHit::roomId)
+      .doesNotHaveDuplicates()
+      .contains(roomId);
+  }
+
+  @Test
+  @DisplayName("전체 읽기로 들어온 숙소를 리스너가 다시 추가해도 한 번만 센다")
+  void add_AfterAppend_CountedOnce() {
+    // given
+    UUID roomId = UUID.randomUUID();
+    layers.append(roomId, 37.56, 126.97, 80_000);
+
+    // when
+    layers.add(roomId, 37.56, 126.97, 80_000);
+    layers.finishLoading();
+
+    // then
+    assertThat(layers.size()).isEqualTo(1);
+    List<TileCluster> clusters = layers.clusters(6, KOREA, 1024);
+    assertThat(clusters).extracting(TileCluster::count).containsExactly(1);
+  }
+}
@@ -0,0 +1,61 @@
+package com.growth.room.geo;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TilePyramid 단위 테스트")
+class TilePyramidTest {
+
+  private final TilePyramid pyramid = new TilePyramid(4, 14);
+
+  @Test
+  @DisplayName("좌표를 Web Mercator 타일 번호로 변환한다")
+  void tile_SeoulCityHall() {
+    assertThat(TilePyramid.tileX(126.9780, 10)).isEqualTo(873);
+    assertThat(TilePyramid.tileY(37.5665, 10)).isEqualTo(396);
+  }
+
+  @Test
+  @DisplayName("같은 타일의 숙소는 숙소 수, 무게중심, 가격 범위로 합쳐진다")
+  void clusters_SameTile_Aggregated() {
+    // given - 서울 2곳, 부산 1곳
+    pyramid.add(37.56, 126.97, 80_000);
+    pyramid.add(37.58, 126.99, 200_000);
+    pyramid.add(35.18, 129.07, 150_000);
+
+    // when
+    List<TileCluster> clusters = pyramid.clusters(6, new GeoBox(33, 124, 39, 131), 1024);
+
+    // then
+    assertThat(clusters).hasSize(2);
+    TileCluster seoul = clusters.stream().filter(c -> c.count() == 2).findFirst().orElseThrow();
+    assertThat(seoul.latitude()).isCloseTo(37.57, within(1e-9));
+    assertThat(seoul.longitude()).isCloseTo(126.98, within(1e-9));
+    assertThat(seoul.minPrice()).isEqualTo(80_000);
+    assertThat(seoul.maxPrice()).isEqualTo(200_000);
+  }
+
+  @Test
+  @DisplayName("집계 범위 밖의 줌 레벨은 가장 가까운 레벨로 응답하고 영역 밖 타일은 제외한다")
+  void clusters_ZoomOutOfRange_UsesNearestLevel() {
+    // given
+    pyramid.add(37.56, 126.97, 80_000);
+    pyramid.add(35.18, 129.07, 150_000);
+
+    // when - 서울 주변만
+    List<TileCluster> clusters = pyramid.clusters(18, new GeoBox(37.55, 126.96, 37.57, 126.98), 1024);
+
+    // then
+    assertThat(clusters).extracting(TileCluster::zoom, TileCluster::count).containsExactly(tuple(14, 1));
+  }
+
+  @Test
+  @DisplayName("영역에 걸친 타일이 최대 개수보다 많으면 예외가 발생한다")
+  void clusters_TooManyTiles_ThrowsException() {
+    assertThatThrownBy(() -> pyramid.clusters(14, new GeoBox(33, 124, 39, 131), 1024))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+}
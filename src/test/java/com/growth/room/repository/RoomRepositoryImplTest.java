@@ -0,0 +1,142 @@
+package com.growth.room.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.growth.global.common.response.CursorPage;
+import com.growth.member.domain.Member;
+import com.growth.member.repository.MemberRepository;
+import com.growth.room.domain.Room;
+import com.growth.room.dto.request.CreateRoomRequestDto;
+import com.growth.room.dto.request.RoomSearchCondition;
+import com.growth.room.dto.response.RoomSummaryDto;
+import com.growth.support.IntegrationTestBase;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+
+@DisplayName("RoomRepositoryImpl 통합 테스트")
+class RoomRepositoryImplTest extends IntegrationTestBase {
+
+  private static final RoomSearchCondition NO_CONDITION = new RoomSearchCondition();
+
+  @Autowired
+  private RoomRepository roomRepository;
+
+  @Autowired
+  private MemberRepository memberRepository;
+
+  private Member host;
+
+  @BeforeEach
+  void setUp() {
+    host = memberRepository.saveAndFlush(Member.builder()
+      .email("host@example.com")
+      .password("encodedPassword")
+      .nickname("host")
+      .build());
+
+    saveRoom("강남 원룸", "서울특별시 강남구 테헤란로 1", 80_000, 2);
+    saveRoom("마포 아파트", "서울특별시 마포구 양화로 2", 120_000, 4);
+    saveRoom("해운대 오션뷰", "부산광역시 해운대구 해운대로 3", 150_000, 6);
+    saveRoom("서귀포 펜션", "제주특별자치도 서귀포시 중앙로 4", 120_000, 8);
+    saveRoom("종로 한옥", "서울특별시 종로구 북촌로 5", 200_000, 4);
+    saveRoom("강남 오피스텔", "서울특별시 강남구 역삼로 6", 60_000, 1);
+    Room deleted = saveRoom("삭제된 숙소", "서울특별시 강남구 삭제로 7", 70_000, 4);
+    deleted.markAsDeleted();
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  @Test
+  @DisplayName("가격 오름차순으로 커서를 따라가면 삭제된 숙소를 빼고 가격, ID 순서대로 모두 조회한다")
+  void searchRoomsByCursor_PriceAscending_WalksAllRows() {
+    // when
+    List<CursorPage<RoomSummaryDto>> pages = walk(NO_CONDITION, Sort.by("price"), 2);
+
+    // then
+    assertThat(pages).extracting(CursorPage::hasNext).containsExactly(true, true, false);
+    List<RoomSummaryDto> rooms = pages.stream().flatMap(page -> page.content().stream()).toList();
+    assertThat(rooms).extracting(RoomSummaryDto::price)
+      .containsExactly(60_000, 80_000, 120_000, 120_000, 150_000, 200_000);
+    assertThat(rooms).extracting(RoomSummaryDto::hostId).containsOnly(host.getMemberId());
+    assertThat(rooms).extracting(RoomSummaryDto::roomId).doesNotHaveDuplicates();
+  }
+
+  @Test
+  @DisplayName("기본 정렬(생성일 내림차순)로 커서를 따라가면 한 번에 조회한 결과와 같다")
+  void searchRoomsByCursor_DefaultSort_MatchesSinglePage() {
+    // given
+    List<UUID> expected = roomRepository.searchRoomsByCursor(NO_CONDITION, Sort.unsorted(), null, 100)
+      .content().stream().map(RoomSummaryDto::roomId).toList();
+
+    // when
+    List<CursorPage<RoomSummaryDto>> pages = walk(NO_CONDITION, Sort.unsorted(), 4);
+
+    // then
+    assertThat(pages.stream().flatMap(page -> page.content().stream()))
+      .extracting(RoomSummaryDto::roomId)
+      .containsExactlyElementsOf(expected)
+      .hasSize(6);
+  }
+
+  @Test
+  @DisplayName("가격 범위, 숙박 인원, 주소 앞부분 조건을 함께 적용한다")
+  void searchRoomsByCursor_Conditions() {
+    // given
+    RoomSearchCondition condition = RoomSearchCondition.builder()
+      .minPrice(70_000)
+      .maxPrice(200_000)
+      .guests(3)
+      .address("서울특별시")
+      .build();
+
+    // when
+    List<CursorPage<RoomSummaryDto>> pages = walk(condition, Sort.by(Sort.Direction.DESC, "price"), 1);
+
+    // then
+    assertThat(pages.stream().flatMap(page -> page.content().stream()))
+      .extracting(RoomSummaryDto::title)
+      .containsExactly("종로 한옥", "마포 아파트");
+  }
+
+  @Test
+  @DisplayName("다른 정렬 조건으로 만든 커서는 사용할 수 없다")
+  void searchRoomsByCursor_SortMismatch_ThrowsException() {
+    // given
+    String cursor = roomRepository.searchRoomsByCursor(NO_CONDITION, Sort.by("price"), null, 2).nextCursor();
+
+    // when & then
+    assertThatThrownBy(() -> roomRepository.searchRoomsByCursor(NO_CONDITION, Sort.unsorted(), cursor, 2))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("커서의 정렬 조건이 요청과 다릅니다.");
+  }
+
+  private List<CursorPage<RoomSummaryDto>> walk(RoomSearchCondition condition, Sort sort, int size) {
+    List<CursorPage<RoomSummaryDto>> pages = new ArrayList<>();
+    String cursor = null;
+    do {
+      CursorPage<RoomSummaryDto> page = roomRepository.searchRoomsByCursor(condition, sort, cursor, size);
+      pages.add(page);
+      cursor = page.nextCursor();
+    } while (cursor != null);
+    return pages;
+  }
+
+  private Room saveRoom(String title, String address, int price, int maxGuest) {
+    return roomRepository.saveAndFlush(Room.from(
+      CreateRoomRequestDto.builder()
+        .title(title)
+        .description("설명")
+        .address(address)
+        .price(price)
+        .maxGuest(maxGuest)
+        .build(),
+      host
+    ));
+  }
+}
@@ -0,0 +1,145 @@
+package com.growth.room.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.growth.global.common.response.CursorPage;
+import com.growth.global.seed.SyntheticDataSeeder;
+import com.growth.room.dto.request.RoomSearchCondition;
+import com.growth.room.dto.response.RoomSummaryDto;
+import java.time.LocalDate;
+import java.util.Arrays;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * 숙소 검색(keyset + projection) 지연 시간 벤치마크
+ * - 실행: ./gradlew benchmark -Pbenchmark.room-search.members=450000 (호스트당 평균 약 2.2개 -> 숙소 약 100만 개)
+ * - SyntheticDataSeeder로 같은 seed의 데이터를 채운 뒤, 검색 유형별로 요청 하나의 p50/p99를 출력
+ * - H2(in-memory) 기준이므로 절대값보다 유형 간 비교와 깊은 페이지에서도 지연이 일정한지를 확인하는 용도
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@ActiveProfiles("test")
+@DisplayName("숙소 검색 벤치마크")
+class RoomSearchBenchmarkTest {
+
+  private static final long MEMBERS = Long.getLong("benchmark.room-search.members", 450_000);
+  private static final int PAGE_SIZE = 20;
+  private static final int WARMUP = 200;
+  private static final int ITERATIONS = 2_000;
+
+  @Autowired
+  private RoomRepository roomRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private TransactionOperations transactionOperations;
+
+  @Autowired
+  private PasswordEncoder passwordEncoder;
+
+  @Autowired
+  private ApplicationContext applicationContext;
+
+  private long rooms;
+
+  @BeforeAll
+  void seed() {
+    new SyntheticDataSeeder(
+      jdbcTemplate,
+      transactionOperations,
+      passwordEncoder,
+      applicationContext,
+      MEMBERS,
+      1.0,
+      42,
+      5_000,
+      LocalDate.of(2024, 1, 1),
+      365,
+      "seed.example.com",
+      "password123",
+      false
+    ).seed();
+    rooms = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM room", Long.class);
+  }
+
+  @AfterAll
+  void cleanUp() {
+    jdbcTemplate.update("DELETE FROM room");
+    jdbcTemplate.update("DELETE FROM member");
+  }
+
+  @Test
+  @DisplayName("검색 유형별 p50/p99 - 커서를 따라 깊은 페이지까지 읽어도 지연이 일정하다")
+  void searchRooms_Latency() {
+    System.out.printf("%n[room search, %d rows/page, %,d rooms]%n", PAGE_SIZE, rooms);
+
+    Result latest = measure("최신순, 조건 없음", new RoomSearchCondition(), Sort.by(Sort.Direction.DESC, "createdAt"));
+    Result cheapest = measure("가격순, 5~15만원, 4인 이상", RoomSearchCondition.builder()
+      .minPrice(50_000)
+      .maxPrice(150_000)
+      .guests(4)
+      .build(), Sort.by("price"));
+    Result region = measure("가격순, 제주 서귀포시", RoomSearchCondition.builder()
+      .address("제주특별자치도 서귀포시")
+      .build(), Sort.by("price"));
+    Result large = measure("최신순, 10인 이상", RoomSearchCondition.builder()
+      .guests(10)
+      .build(), Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    assertThat(latest.pages()).isPositive();
+    assertThat(cheapest.pages()).isPositive();
+    assertThat(region.pages()).isPositive();
+    assertThat(large.pages()).isPositive();
+  }
+
+  /**
+   * 같은 검색을 커서를 따라 계속 다음 페이지로 넘기면서(끝나면 첫 페이지부터) 요청마다 시간을 잰다.
+   */
+  private Result measure(String name, RoomSearchCondition condition, Sort sort) {
+    String cursor = null;
+    for (int i = 0; i < WARMUP; i++) {
+      cursor = roomRepository.searchRoomsByCursor(condition, sort, cursor, PAGE_SIZE).nextCursor();
+    }
+
+    long[] nanos = new long[ITERATIONS];
+    int pages = 0;
+    cursor = null;
+    for (int i = 0; i < ITERATIONS; i++) {
+      long startedAt = System.nanoTime();
+      CursorPage<RoomSummaryDto> page = roomRepository.searchRoomsByCursor(condition, sort, cursor, PAGE_SIZE);
+      nanos[i] = System.nanoTime() - startedAt;
+      if (!page.content().isEmpty()) {
+        pages++;
+      }
+      cursor = page.nextCursor();
+    }
+
+    Arrays.sort(nanos);
+    Result result = new Result(pages, percentile(nanos, 0.50), percentile(nanos, 0.99));
+    System.out.printf("%-24s p50 %,8.1f us  p99 %,8.1f us%n", name, result.p50Micros(), result.p99Micros());
+    return result;
+  }
+
+  private static double percentile(long[] sorted, double percentile) {
+    int index = (int) Math.ceil(percentile * sorted.length) - 1;
+    return sorted[Math.max(0, index)] / 1_000.0;
+  }
+
+  private record Result(int pages, double p50Micros, double p99Micros) {}
+}
@@ -0,0 +1,139 @@
+package com.growth.room.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.growth.global.exception.BadRequestException;
+import com.growth.member.domain.Member;
+import com.growth.member.repository.MemberRepository;
+import com.growth.room.domain.Room;
+import com.growth.room.dto.request.CreateRoomRequestDto;
+import com.growth.room.dto.response.NearbyRoomDto;
+import com.growth.room.geo.RoomGeoIndex;
+import com.growth.room.repository.RoomRepository;
+import com.growth.support.IntegrationTestBase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DisplayName("FindNearbyRoomsService 통합 테스트")
+class FindNearbyRoomsServiceTest extends IntegrationTestBase {
+
+  // NOTE: 서울시청 기준
+  private static final double LATITUDE = 37.5665;
+  private static final double LONGITUDE = 126.9780;
+
+  @Autowired
+  private FindNearbyRoomsService findNearbyRoomsService;
+
+  @Autowired
+  private RoomGeoIndex roomGeoIndex;
+
+  @Autowired
+  private RoomRepository roomRepository;
+
+  @Autowired
+  private MemberRepository memberRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private Member host;
+
+  @BeforeEach
+  void setUp() {
+    host = memberRepository.saveAndFlush(Member.builder()
+      .email("host@example.com")
+      .password("encodedPassword")
+      .nickname("host")
+      .build());
+
+    // 북쪽으로 약 1km, 3km, 10km / 위치 없음 / 삭제됨
+    saveRoom("시청 1km", LATITUDE + 0.009, LONGITUDE);
+    saveRoom("시청 3km", LATITUDE + 0.027, LONGITUDE);
+    saveRoom("시청 10km", LATITUDE + 0.09, LONGITUDE);
+    saveRoom("위치 없음", null, null);
+    Room deleted = saveRoom("삭제된 숙소", LATITUDE + 0.001, LONGITUDE);
+    deleted.markAsDeleted();
+    entityManager.flush();
+    entityManager.clear();
+
+    // NOTE: 테스트 트랜잭션은 커밋되지 않아 리스너가 색인에 추가하지 않으므로, 같은 트랜잭션에서 색인을 다시 만듦
+    roomGeoIndex.rebuild();
+  }
+
+  @Test
+  @DisplayName("반경 안의 숙소를 가까운 순서로 조회하고 위치 없는/삭제된 숙소는 제외한다")
+  void findNearby_WithinRadius_SortedByDistance() {
+    // when
+    List<NearbyRoomDto> rooms = findNearbyRoomsService.findNearby(LATITUDE, LONGITUDE, 5, 20);
+
+    // then
+    assertThat(rooms).extracting(NearbyRoomDto::title).containsExactly("시청 1km", "시청 3km");
+    assertThat(rooms.get(0).distanceMeters()).isBetween(950L, 1_050L);
+    assertThat(rooms.get(0).hostId()).isEqualTo(host.getMemberId());
+  }
+
+  @Test
+  @DisplayName("영역 검색은 영역 안의 숙소를 영역 중심에서 가까운 순서로 조회한다")
+  void findInBox_ReturnsRoomsInside() {
+    // when
+    List<NearbyRoomDto> rooms = findNearbyRoomsService.findInBox(LATITUDE, LONGITUDE - 0.01, LATITUDE + 0.1, LONGITUDE + 0.01, 20);
+
+    // then - 영역 중심은 시청에서 북쪽으로 약 5.5km
+    assertThat(rooms).extracting(NearbyRoomDto::title).containsExactly("시청 3km", "시청 10km", "시청 1km");
+  }
+
+  @Test
+  @DisplayName("색인을 쓸 수 없으면 DB에서 같은 결과를 조회한다")
+  void findNearby_IndexDisabled_FallsBackToDatabase() {
+    // given
+    RoomGeoIndex disabled = new RoomGeoIndex(jdbcTemplate, false, 0.02, 4, 14, 1000, new SimpleMeterRegistry());
+    FindNearbyRoomsService fallback = new FindNearbyRoomsService(disabled, roomRepository, 50, 1.0);
+
+    // when
+    List<NearbyRoomDto> rooms = fallback.findNearby(LATITUDE, LONGITUDE, 5, 20);
+
+    // then
+    assertThat(rooms).extracting(NearbyRoomDto::title).containsExactly("시청 1km", "시청 3km");
+  }
+
+  @Test
+  @DisplayName("반경이 최대값을 넘으면 예외가 발생한다")
+  void findNearby_RadiusTooLarge_ThrowsException() {
+    assertThatThrownBy(() -> findNearbyRoomsService.findNearby(LATITUDE, LONGITUDE, 500, 20))
+      .isInstanceOf(BadRequestException.class);
+  }
+
+  @Test
+  @DisplayName("위도와 경도 중 하나만 입력하면 숙소 등록 요청 검증에 실패한다")
+  void createRoomRequest_UnpairedLocation_Invalid() {
+    CreateRoomRequestDto request = CreateRoomRequestDto.builder()
+      .title("숙소")
+      .address("서울특별시 중구 세종대로 110")
+      .price(100_000)
+      .maxGuest(2)
+      .latitude(LATITUDE)
+      .build();
+
+    assertThat(request.isLocationPaired()).isFalse();
+  }
+
+  private Room saveRoom(String title, Double latitude, Double longitude) {
+    return roomRepository.saveAndFlush(Room.from(
+      CreateRoomRequestDto.builder()
+        .title(title)
+        .description("설명")
+        .address("서울특별시 중구 세종대로 110")
+        .price(100_000)
+        .maxGuest(2)
+        .latitude(latitude)
+        .longitude(longitude)
+        .build(),
+      host
+    ));
+  }
+}
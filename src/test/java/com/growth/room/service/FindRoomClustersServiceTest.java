@@ -0,0 +1,90 @@
+package com.growth.room.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.growth.global.exception.BadRequestException;
+import com.growth.member.domain.Member;
+import com.growth.member.repository.MemberRepository;
+import com.growth.room.domain.Room;
+import com.growth.room.dto.request.CreateRoomRequestDto;
+import com.growth.room.dto.response.RoomClusterDto;
+import com.growth.room.geo.RoomGeoIndex;
+import com.growth.room.repository.RoomRepository;
+import com.growth.support.IntegrationTestBase;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@DisplayName("FindRoomClustersService 통합 테스트")
+class FindRoomClustersServiceTest extends IntegrationTestBase {
+
+  @Autowired
+  private FindRoomClustersService findRoomClustersService;
+
+  @Autowired
+  private RoomGeoIndex roomGeoIndex;
+
+  @Autowired
+  private RoomRepository roomRepository;
+
+  @Autowired
+  private MemberRepository memberRepository;
+
+  private Member host;
+
+  @BeforeEach
+  void setUp() {
+    host = memberRepository.saveAndFlush(Member.builder()
+      .email("host@example.com")
+      .password("encodedPassword")
+      .nickname("host")
+      .build());
+
+    saveRoom(37.56, 126.97, 80_000);
+    saveRoom(37.58, 126.99, 200_000);
+    saveRoom(35.18, 129.07, 150_000);
+    Room deleted = saveRoom(37.57, 126.98, 1_000_000);
+    deleted.markAsDeleted();
+    entityManager.flush();
+    entityManager.clear();
+
+    // NOTE: 테스트 트랜잭션은 커밋되지 않아 리스너가 집계에 추가하지 않으므로, 같은 트랜잭션에서 다시 만듦
+    roomGeoIndex.rebuild();
+  }
+
+  @Test
+  @DisplayName("지도 영역의 타일별 숙소 수와 가격 범위를 조회하고 삭제된 숙소는 제외한다")
+  void findClusters_CountryView_AggregatesPerTile() {
+    // when
+    List<RoomClusterDto> clusters = findRoomClustersService.findClusters(6, 33, 124, 39, 131);
+
+    // then
+    assertThat(clusters)
+      .extracting(RoomClusterDto::count, RoomClusterDto::minPrice, RoomClusterDto::maxPrice)
+      .containsExactlyInAnyOrder(tuple(2, 80_000, 200_000), tuple(1, 150_000, 150_000));
+  }
+
+  @Test
+  @DisplayName("영역에 비해 줌 레벨이 너무 높으면 예외가 발생한다")
+  void findClusters_TooManyTiles_ThrowsException() {
+    assertThatThrownBy(() -> findRoomClustersService.findClusters(14, 33, 124, 39, 131))
+      .isInstanceOf(BadRequestException.class);
+  }
+
+  private Room saveRoom(double latitude, double longitude, int price) {
+    return roomRepository.saveAndFlush(Room.from(
+      CreateRoomRequestDto.builder()
+        .title("숙소")
+        .description("설명")
+        .address("서울특별시 중구 세종대로 110")
+        .price(price)
+        .maxGuest(2)
+        .latitude(latitude)
+        .longitude(longitude)
+        .build(),
+      host
+    ));
+  }
+}
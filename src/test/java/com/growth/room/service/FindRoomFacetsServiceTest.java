@@ -0,0 +1,98 @@
+package com.growth.room.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.growth.global.exception.BadRequestException;
+import com.growth.member.domain.Member;
+import com.growth.member.repository.MemberRepository;
+import com.growth.room.catalog.RoomCatalog;
+import com.growth.room.domain.Room;
+import com.growth.room.dto.request.CreateRoomRequestDto;
+import com.growth.room.dto.request.RoomFacetCondition;
+import com.growth.room.dto.response.RoomFacetsDto;
+import com.growth.room.repository.RoomRepository;
+import com.growth.support.IntegrationTestBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@DisplayName("FindRoomFacetsService 통합 테스트")
+class FindRoomFacetsServiceTest extends IntegrationTestBase {
+
+  @Autowired
+  private FindRoomFacetsService findRoomFacetsService;
+
+  @Autowired
+  private RoomCatalog roomCatalog;
+
+  @Autowired
+  private RoomRepository roomRepository;
+
+  @Autowired
+  private MemberRepository memberRepository;
+
+  private Member host;
+
+  @BeforeEach
+  void setUp() {
+    host = memberRepository.saveAndFlush(Member.builder()
+      .email("host@example.com")
+      .password("encodedPassword")
+      .nickname("host")
+      .build());
+
+    saveRoom("서울특별시 강남구 테헤란로 1", 30_000, 2);
+    saveRoom("서울특별시 마포구 양화로 2", 70_000, 4);
+    saveRoom("부산광역시 해운대구 해운대로 3", 150_000, 6);
+    Room deleted = saveRoom("서울특별시 종로구 북촌로 4", 50_000, 2);
+    deleted.markAsDeleted();
+    entityManager.flush();
+    entityManager.clear();
+
+    // NOTE: 테스트 트랜잭션은 커밋되지 않아 리스너가 카탈로그에 추가하지 않으므로, 같은 트랜잭션에서 다시 만듦
+    roomCatalog.rebuild();
+  }
+
+  @Test
+  @DisplayName("조건에 맞는 숙소 수와 분포를 조회하고 삭제된 숙소는 제외한다")
+  void findFacets_Filtered_CountsMatchingRooms() {
+    // when
+    RoomFacetsDto facets = findRoomFacetsService.findFacets(RoomFacetCondition.builder()
+      .guests(3)
+      .region("서울특별시")
+      .build());
+
+    // then
+    assertThat(facets.total()).isEqualTo(1);
+    assertThat(facets.regions())
+      .extracting(RoomFacetsDto.RegionBucket::region, RoomFacetsDto.RegionBucket::count)
+      .containsExactlyInAnyOrder(tuple("서울특별시", 1), tuple("부산광역시", 1));
+    // 가격 분포는 인원/지역 조건만 적용 - 7만원 숙소 하나 (2만원 폭 기준 세 번째 구간)
+    assertThat(facets.prices().get(3).count()).isEqualTo(1);
+    assertThat(facets.prices()).extracting(RoomFacetsDto.PriceBucket::count).containsOnly(0, 1);
+  }
+
+  @Test
+  @DisplayName("최소 가격이 최대 가격보다 크면 예외가 발생한다")
+  void findFacets_InvalidPriceRange_ThrowsException() {
+    assertThatThrownBy(() -> findRoomFacetsService.findFacets(RoomFacetCondition.builder()
+      .minPrice(100_000)
+      .maxPrice(50_000)
+      .build()))
+      .isInstanceOf(BadRequestException.class);
+  }
+
+  private Room saveRoom(String address, int price, int maxGuest) {
+    return roomRepository.saveAndFlush(Room.from(
+      CreateRoomRequestDto.builder()
+        .title("숙소")
+        .description("설명")
+        .address(address)
+        .price(price)
+        .maxGuest(maxGuest)
+        .build(),
+      host
+    ));
+  }
+}
@@ -0,0 +1,63 @@
+package com.growth.room.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.growth.global.common.importer.ImportFailure;
+import com.growth.global.common.importer.ImportFormat;
+import com.growth.global.common.importer.ImportResult;
+import com.growth.member.domain.Member;
+import com.growth.member.repository.MemberRepository;
+import com.growth.room.domain.Room;
+import com.growth.room.repository.RoomRepository;
+import com.growth.support.IntegrationTestBase;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@DisplayName("ImportRoomsService 통합 테스트")
+class ImportRoomsServiceTest extends IntegrationTestBase {
+
+  @Autowired
+  private ImportRoomsService importRoomsService;
+
+  @Autowired
+  private MemberRepository memberRepository;
+
+  @Autowired
+  private RoomRepository roomRepository;
+
+  @Test
+  @DisplayName("제목이 컬럼 길이를 넘는 행만 실패로 보고하고, 같은 묶음의 나머지 숙소는 등록한다")
+  void importRooms_OversizedTitle_ReportsOnlyThatRow() throws Exception {
+    // given
+    Member host = memberRepository.saveAndFlush(Member.builder()
+      .email("host@example.com")
+      .password("encodedPassword")
+      .nickname("host")
+      .build());
+    String body = """
+      {"title":"대량 등록 숙소 A","address":"서울특별시 강남구 테헤란로 1","price":50000,"maxGuest":2}
+      {"title":"%s","address":"서울특별시 강남구 테헤란로 2","price":60000,"maxGuest":2}
+      {"title":"대량 등록 숙소 C","address":"서울특별시 강남구 테헤란로 3","price":70000,"maxGuest":4}
+      """.formatted("가".repeat(256));
+
+    // when
+    ImportResult result = importRoomsService.importRooms(toStream(body), ImportFormat.NDJSON, host.getMemberId());
+    entityManager.clear();
+
+    // then
+    assertThat(result.total()).isEqualTo(3);
+    assertThat(result.succeeded()).isEqualTo(2);
+    assertThat(result.failures()).extracting(ImportFailure::line).containsExactly(2L);
+    assertThat(result.failures().get(0).reason()).contains("숙소 이름은 255자 이하여야 합니다.");
+    assertThat(roomRepository.findAll())
+      .extracting(Room::getTitle)
+      .containsExactlyInAnyOrder("대량 등록 숙소 A", "대량 등록 숙소 C");
+  }
+
+  private static ByteArrayInputStream toStream(String body) {
+    return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,119 @@
+package com.growth.room.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.growth.global.common.response.CursorPage;
+import com.growth.global.exception.BadRequestException;
+import com.growth.member.domain.Member;
+import com.growth.member.repository.MemberRepository;
+import com.growth.room.domain.Room;
+import com.growth.room.dto.request.CreateRoomRequestDto;
+import com.growth.room.dto.response.TextSearchRoomDto;
+import com.growth.room.repository.RoomRepository;
+import com.growth.room.text.RoomTextIndex;
+import com.growth.support.IntegrationTestBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@DisplayName("SearchRoomsByTextService 통합 테스트")
+class SearchRoomsByTextServiceTest extends IntegrationTestBase {
+
+  @Autowired
+  private SearchRoomsByTextService searchRoomsByTextService;
+
+  @Autowired
+  private RoomTextIndex roomTextIndex;
+
+  @Autowired
+  private RoomRepository roomRepository;
+
+  @Autowired
+  private MemberRepository memberRepository;
+
+  private Member host;
+
+  @BeforeEach
+  void setUp() {
+    host = memberRepository.saveAndFlush(Member.builder()
+      .email("host@example.com")
+      .password("encodedPassword")
+      .nickname("host")
+      .build());
+  }
+
+  @Test
+  @DisplayName("제목/설명이 일치하는 숙소를 관련도순으로 조회하고 삭제된 숙소는 제외한다")
+  void searchByText_MatchingRooms_OrderedByScore() {
+    // given
+    Room titleMatch = saveRoom("해운대 오션뷰 아파트", "역에서 가까운 숙소");
+    Room descriptionMatch = saveRoom("부산 시내 원룸", "창밖으로 오션뷰가 보입니다");
+    saveRoom("북촌 한옥 스테이", "조용한 골목");
+    Room deleted = saveRoom("광안리 오션뷰", "바다 앞");
+    deleted.markAsDeleted();
+    entityManager.flush();
+    entityManager.clear();
+    // NOTE: 테스트 트랜잭션은 커밋되지 않아 리스너가 색인하지 않으므로, 같은 트랜잭션에서 다시 만듦
+    roomTextIndex.rebuild();
+
+    // when
+    CursorPage<TextSearchRoomDto> page = searchRoomsByTextService.searchByText("오션뷰", null, 20);
+
+    // then
+    assertThat(page.content())
+      .extracting(TextSearchRoomDto::roomId)
+      .containsExactly(titleMatch.getRoomId(), descriptionMatch.getRoomId());
+    assertThat(page.hasNext()).isFalse();
+  }
+
+  @Test
+  @DisplayName("다음 페이지는 nextCursor로 이어서 조회한다")
+  void searchByText_NextCursor_ContinuesFromOffset() {
+    // given
+    saveRoom("수영장 풀빌라 A", null);
+    saveRoom("수영장 풀빌라 B", null);
+    saveRoom("수영장 풀빌라 C", null);
+    entityManager.clear();
+    roomTextIndex.rebuild();
+
+    // when
+    CursorPage<TextSearchRoomDto> first = searchRoomsByTextService.searchByText("풀빌라", null, 2);
+    CursorPage<TextSearchRoomDto> second = searchRoomsByTextService.searchByText("풀빌라", first.nextCursor(), 2);
+
+    // then
+    assertThat(first.content()).hasSize(2);
+    assertThat(first.hasNext()).isTrue();
+    assertThat(second.content()).hasSize(1);
+    assertThat(second.hasNext()).isFalse();
+    assertThat(second.content().get(0).roomId())
+      .isNotIn(first.content().stream().map(TextSearchRoomDto::roomId).toList());
+  }
+
+  @Test
+  @DisplayName("검색어가 비어 있으면 예외가 발생한다")
+  void searchByText_BlankQuery_ThrowsException() {
+    assertThatThrownBy(() -> searchRoomsByTextService.searchByText(" ", null, 20))
+      .isInstanceOf(BadRequestException.class);
+  }
+
+  @Test
+  @DisplayName("커서 형식이 잘못되면 예외가 발생한다")
+  void searchByText_InvalidCursor_ThrowsException() {
+    assertThatThrownBy(() -> searchRoomsByTextService.searchByText("풀빌라", "abc", 20))
+      .isInstanceOf(BadRequestException.class);
+  }
+
+  private Room saveRoom(String title, String description) {
+    return roomRepository.saveAndFlush(Room.from(
+      CreateRoomRequestDto.builder()
+        .title(title)
+        .description(description)
+        .address("서울특별시 강남구 테헤란로 1")
+        .price(50_000)
+        .maxGuest(2)
+        .build(),
+      host
+    ));
+  }
+}
@@ -0,0 +1,146 @@
+package com.growth.room.text;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.FSDirectory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("RoomTextStore 단위 테스트")
+class RoomTextStoreTest {
+
+  private final UUID oceanRoom = UUID.randomUUID();
+  private final UUID hanokRoom = UUID.randomUUID();
+  private final UUID poolRoom = UUID.randomUUID();
+
+  private RoomTextStore store;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    store = new RoomTextStore(new ByteBuffersDirectory());
+    store.upsert(oceanRoom, "해운대 바다 전망 아파트", "해변까지 걸어서 5분", 1);
+    store.upsert(hanokRoom, "북촌 한옥 스테이", "조용한 골목의 전통 가옥", 1);
+    store.upsert(poolRoom, "수영장 있는 풀빌라", "바다는 보이지 않지만 전망이 좋은 숙소", 1);
+    store.refresh(true);
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    store.close();
+  }
+
+  @Test
+  @DisplayName("검색어는 AND로 묶고 제목/설명 어디에 있어도 찾는다")
+  void search_Terms_MatchesTitleOrDescription() {
+    assertThat(roomIds(store.search("바다 전망", 0, 10))).containsExactlyInAnyOrder(oceanRoom, poolRoom);
+    assertThat(roomIds(store.search("바다 한옥", 0, 10))).isEmpty();
+  }
+
+  @Test
+  @DisplayName("따옴표로 감싼 구문은 단어가 이어진 숙소만 찾는다")
+  void search_Phrase_MatchesAdjacentTerms() {
+    assertThat(roomIds(store.search("\"바다 전망\"", 0, 10))).containsExactly(oceanRoom);
+    assertThat(roomIds(store.search("\"전망 바다\"", 0, 10))).isEmpty();
+  }
+
+  @Test
+  @DisplayName("끝에 *를 붙이면 접두어로 찾는다")
+  void search_Prefix_MatchesTermsStartingWith() {
+    assertThat(roomIds(store.search("해운*", 0, 10))).containsExactly(oceanRoom);
+  }
+
+  @Test
+  @DisplayName("조사가 붙은 검색어도 형태소 단위로 찾는다")
+  void search_WithParticle_MatchesStem() {
+    assertThat(roomIds(store.search("한옥에서", 0, 10))).containsExactly(hanokRoom);
+  }
+
+  @Test
+  @DisplayName("설명보다 제목에 일치하는 숙소의 점수가 높다")
+  void search_TitleMatch_RanksHigher() {
+    // given
+    UUID descriptionOnly = UUID.randomUUID();
+    store.upsert(descriptionOnly, "도심 아파트", "한옥 마을 근처", 1);
+    store.refresh(true);
+
+    // when
+    List<RoomTextHit> hits = store.search("한옥", 0, 10);
+
+    // then
+    assertThat(roomIds(hits)).containsExactly(hanokRoom, descriptionOnly);
+    assertThat(hits.get(0).score()).isGreaterThan(hits.get(1).score());
+  }
+
+  @Test
+  @DisplayName("offset 이후의 결과만 반환한다")
+  void search_Offset_SkipsLeadingHits() {
+    // given
+    List<RoomTextHit> all = store.search("바다", 0, 10);
+
+    // when & then
+    assertThat(store.search("바다", 1, 10)).containsExactlyElementsOf(all.subList(1, all.size()));
+    assertThat(store.search("바다", 5, 10)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("같은 숙소를 다시 색인하면 새 내용으로 바뀐다")
+  void upsert_SameRoom_ReplacesDocument() {
+    // when
+    store.upsert(hanokRoom, "서촌 한옥 독채", null, 1);
+    store.refresh(true);
+
+    // then
+    assertThat(roomIds(store.search("서촌", 0, 10))).containsExactly(hanokRoom);
+    assertThat(store.search("북촌", 0, 10)).isEmpty();
+    assertThat(store.size()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("이전 세대에 색인된 숙소만 지운다")
+  void deleteOlderThan_RemovesStaleGeneration() {
+    // given - 재생성으로 두 숙소만 다시 색인
+    store.upsert(oceanRoom, "해운대 바다 전망 아파트", "해변까지 걸어서 5분", 2);
+    store.upsert(poolRoom, "수영장 있는 풀빌라", "바다는 보이지 않지만 전망이 좋은 숙소", 2);
+
+    // when
+    store.deleteOlderThan(2);
+    store.refresh(true);
+
+    // then
+    assertThat(store.search("한옥", 0, 10)).isEmpty();
+    assertThat(store.size()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("커밋한 색인과 커밋 데이터는 다시 열어도 남아 있고, 커밋하지 않은 변경은 남지 않는다")
+  void commit_Reopen_RestoresCommittedIndex(@TempDir Path directory) throws IOException {
+    // given
+    UUID committed = UUID.randomUUID();
+    UUID uncommitted = UUID.randomUUID();
+    try (RoomTextStore disk = new RoomTextStore(FSDirectory.open(directory))) {
+      disk.upsert(committed, "광안리 오션뷰", null, 1);
+      disk.commit(Map.of("watermark", "2025-11-26T12:00"));
+      disk.upsert(uncommitted, "광안리 루프탑", null, 1);
+    }
+
+    // when
+    try (RoomTextStore reopened = new RoomTextStore(FSDirectory.open(directory))) {
+      // then
+      assertThat(reopened.committedData()).containsEntry("watermark", "2025-11-26T12:00");
+      assertThat(roomIds(reopened.search("광안리", 0, 10))).containsExactly(committed);
+    }
+  }
+
+  private static List<UUID> roomIds(List<RoomTextHit> hits) {
+    return hits.stream().map(RoomTextHit::roomId).toList();
+  }
+}